@@ -0,0 +1,94 @@
+package co.orquex.sagas.benchmark;
+
+import co.orquex.sagas.core.context.DefaultGlobalContext;
+import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.task.jsonata.JSONata4JActivity;
+import co.orquex.sagas.task.jsonata.JSONataExpressionCache;
+import com.api.jsonata4java.expressions.Expressions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the parsing and the evaluation of typical JSONata expressions separately: {@code parse}
+ * parses the expression on every call as the activity did before the {@link
+ * JSONataExpressionCache}, {@code evaluate} evaluates an expression taken from the cache, and
+ * {@code execute} runs the whole {@link JSONata4JActivity}.
+ *
+ * <p>Run with {@code java -jar orquex-sagas-benchmark/target/benchmarks.jar JSONataBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSONataBenchmark {
+
+  private static final Map<String, String> EXPRESSIONS =
+      Map.of(
+          "path", "payload.orders[status = 'PAID'].id",
+          "transform",
+              "{ 'customer': payload.customer.name, 'items': payload.orders.{ 'id': id, 'total':"
+                  + " quantity * price } }",
+          "aggregate", "$sum(payload.orders.(quantity * price))");
+
+  @Param({"path", "transform", "aggregate"})
+  String expression;
+
+  ObjectMapper objectMapper;
+  JSONataExpressionCache cache;
+  JSONata4JActivity activity;
+  String text;
+  String base64;
+  JsonNode input;
+  TaskRequest request;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    objectMapper = new ObjectMapper();
+    cache = new JSONataExpressionCache();
+    activity = new JSONata4JActivity(new DefaultGlobalContext(new ConcurrentHashMap<>()), objectMapper, cache);
+    text = EXPRESSIONS.get(expression);
+    base64 = Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    final var orders = new ArrayList<HashMap<String, Serializable>>();
+    for (var i = 0; i < 20; i++) {
+      final var order = new HashMap<String, Serializable>();
+      order.put("id", "order-" + i);
+      order.put("status", i % 2 == 0 ? "PAID" : "PENDING");
+      order.put("quantity", i + 1);
+      order.put("price", 9.99);
+      orders.add(order);
+    }
+    final var payload = new HashMap<String, Serializable>();
+    payload.put("customer", new HashMap<>(Map.of("name", "Fred Smith")));
+    payload.put("orders", orders);
+    input = objectMapper.valueToTree(Map.of("payload", payload, "metadata", Map.of()));
+    request = new TaskRequest("transaction", Map.of(JSONata4JActivity.EXPRESSION, base64), payload);
+    cache.precompile(text, UnaryOperator.identity());
+  }
+
+  @Benchmark
+  public JsonNode parse() throws Exception {
+    return Expressions.parse(text).evaluate(input);
+  }
+
+  @Benchmark
+  public JsonNode evaluate() throws Exception {
+    return cache.get(text, UnaryOperator.identity()).evaluate(input);
+  }
+
+  @Benchmark
+  public Map<String, Serializable> execute() {
+    return activity.execute(request);
+  }
+}
@@ -0,0 +1,74 @@
+package co.orquex.sagas.benchmark;
+
+import co.orquex.sagas.domain.utils.Maps;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the metadata merges performed by a saga: the flow, stage, task and processor metadata
+ * merged on top of the request metadata, with {@link Maps#merge(Map, Map)} and with a copy of the
+ * map on every merge as the previous implementation did.
+ *
+ * <p>Run with the GC profiler to compare the allocated bytes per operation: {@code java -jar
+ * orquex-sagas-benchmark/target/benchmarks.jar MapMergeBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapMergeBenchmark {
+
+  @Param({"16", "256"})
+  int entries;
+
+  @Param({"24"})
+  int merges;
+
+  @Param({"layered", "copy"})
+  String merge;
+
+  Map<String, Serializable> metadata;
+  Map<String, Serializable>[] overrides;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    metadata = new HashMap<>();
+    for (var i = 0; i < entries; i++) {
+      metadata.put("key-" + i, "value-" + i);
+    }
+    overrides = new Map[merges];
+    for (var i = 0; i < merges; i++) {
+      overrides[i] = Map.of("key-" + (i % entries), i, "stage-" + i, "stage", "task", "task-" + i);
+    }
+  }
+
+  @Benchmark
+  public Serializable mergeSaga() {
+    var merged = metadata;
+    Serializable last = null;
+    for (final var override : overrides) {
+      merged =
+          switch (merge) {
+            case "layered" -> Maps.merge(merged, override);
+            case "copy" -> copy(merged, override);
+            default -> throw new IllegalArgumentException("Unknown merge " + merge);
+          };
+      // Every task reads some of its metadata
+      last = merged.get("task");
+    }
+    return last;
+  }
+
+  private static Map<String, Serializable> copy(
+      Map<String, Serializable> left, Map<String, Serializable> right) {
+    final var merged = new HashMap<>(left);
+    merged.putAll(right);
+    return merged;
+  }
+}
@@ -0,0 +1,184 @@
+package co.orquex.sagas.benchmark;
+
+import co.orquex.sagas.domain.codec.BinarySagaCodec;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.jackson.OrquexJacksonModule;
+import co.orquex.sagas.domain.stage.Activity;
+import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.StageRequest;
+import co.orquex.sagas.domain.task.CompensationTask;
+import co.orquex.sagas.domain.task.TaskProcessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the encode and decode time of a {@link StageRequest} with the binary codec, Java
+ * serialization and Jackson JSON. The encoded size of each format is reported as the {@code bytes}
+ * secondary result of the encode benchmark.
+ *
+ * <p>Run with {@code java -jar orquex-sagas-benchmark/target/benchmarks.jar SagaCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SagaCodecBenchmark {
+
+  @Param({"binary", "java", "jackson"})
+  String codec;
+
+  Codec encoder;
+  StageRequest request;
+  byte[] encoded;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    encoder =
+        switch (codec) {
+          case "binary" -> binaryCodec();
+          case "java" -> javaCodec();
+          case "jackson" -> jacksonCodec();
+          default -> throw new IllegalArgumentException("Unknown codec " + codec);
+        };
+    request = stageRequest();
+    encoded = encoder.encode(request);
+  }
+
+  @Benchmark
+  public byte[] encode(EncodedSize encodedSize) throws Exception {
+    return encoder.encode(request);
+  }
+
+  @Benchmark
+  public StageRequest decode() throws Exception {
+    return encoder.decode(encoded);
+  }
+
+  private static Codec binaryCodec() {
+    final var binaryCodec = new BinarySagaCodec();
+    return new Codec() {
+      @Override
+      public byte[] encode(StageRequest request) {
+        return binaryCodec.encode(request);
+      }
+
+      @Override
+      public StageRequest decode(byte[] bytes) {
+        return binaryCodec.decode(bytes, StageRequest.class);
+      }
+    };
+  }
+
+  private static Codec javaCodec() {
+    return new Codec() {
+      @Override
+      public byte[] encode(StageRequest request) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var output = new ObjectOutputStream(bytes)) {
+          output.writeObject(request);
+        }
+        return bytes.toByteArray();
+      }
+
+      @Override
+      public StageRequest decode(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (final var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (StageRequest) input.readObject();
+        }
+      }
+    };
+  }
+
+  private static Codec jacksonCodec() {
+    final var mapper = new ObjectMapper();
+    mapper.registerModule(new OrquexJacksonModule());
+    mapper.registerModule(new JavaTimeModule());
+    return new Codec() {
+      @Override
+      public byte[] encode(StageRequest request) throws IOException {
+        return mapper.writeValueAsBytes(request);
+      }
+
+      @Override
+      public StageRequest decode(byte[] bytes) throws IOException {
+        return mapper.readValue(bytes, StageRequest.class);
+      }
+    };
+  }
+
+  private static StageRequest stageRequest() {
+    final List<ActivityTask> activityTasks = new ArrayList<>();
+    for (var i = 0; i < 3; i++) {
+      activityTasks.add(
+          new ActivityTask(
+              "task-" + i,
+              "Task " + i,
+              "task-implementation-" + i,
+              new TaskProcessor("pre-processor", Map.of("expression", "$.order")),
+              null,
+              new CompensationTask("compensation-" + i, null, null, null, null),
+              Map.of("timeout", 5000)));
+    }
+    final var activity =
+        new Activity(
+            "activity-stage",
+            "Activity stage",
+            Map.of("owner", "orders"),
+            null,
+            activityTasks,
+            true,
+            "next-stage",
+            true);
+    final Map<String, Serializable> items = new HashMap<>();
+    final Map<String, Serializable> payload = new HashMap<>();
+    for (var i = 0; i < 10; i++) {
+      items.put("sku-" + i, i * 10);
+      payload.put("field-" + i, "value-" + i);
+    }
+    payload.put("orderId", UUID.randomUUID().toString());
+    payload.put("amount", 125.75);
+    payload.put("paid", true);
+    payload.put("items", (Serializable) items);
+    payload.put("tags", new ArrayList<>(List.of("priority", "gift")));
+    return new StageRequest(
+        UUID.randomUUID().toString(),
+        activity,
+        new ExecutionRequest("flow-id", "correlation-id", Map.of("tenant", "acme"), payload));
+  }
+
+  /** Reports the encoded size of the request next to the timings. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class EncodedSize {
+
+    /** Encoded size of the request in bytes. */
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void setUp(SagaCodecBenchmark benchmark) {
+      bytes = benchmark.encoded.length;
+    }
+  }
+
+  private interface Codec {
+
+    byte[] encode(StageRequest request) throws Exception;
+
+    StageRequest decode(byte[] bytes) throws Exception;
+  }
+}
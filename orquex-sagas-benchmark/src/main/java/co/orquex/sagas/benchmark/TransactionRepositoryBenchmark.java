@@ -0,0 +1,121 @@
+package co.orquex.sagas.benchmark;
+
+import co.orquex.sagas.core.repository.IndexedInMemoryTransactionRepository;
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the flow ID and correlation ID lookups performed on every workflow execution and stage
+ * hop, with one million retained transactions.
+ *
+ * <p>Run with {@code java -jar orquex-sagas-benchmark/target/benchmarks.jar
+ * TransactionRepositoryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TransactionRepositoryBenchmark {
+
+  private static final String FLOW_ID = "benchmark-flow";
+
+  @Param({"1000000"})
+  int transactions;
+
+  @Param({"indexed", "scan"})
+  String repository;
+
+  TransactionRepository transactionRepository;
+  Transaction[] saved;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    transactionRepository =
+        switch (repository) {
+          case "indexed" -> new IndexedInMemoryTransactionRepository(Duration.ofMinutes(10));
+          case "scan" -> new ScanTransactionRepository();
+          default -> throw new IllegalArgumentException("Unknown repository " + repository);
+        };
+    final var now = Instant.now();
+    saved = new Transaction[transactions];
+    for (var i = 0; i < transactions; i++) {
+      saved[i] =
+          transactionRepository.save(
+              new Transaction(
+                  UUID.randomUUID().toString(),
+                  FLOW_ID,
+                  correlationId(i),
+                  null,
+                  Status.IN_PROGRESS,
+                  now,
+                  now,
+                  null));
+    }
+  }
+
+  @Benchmark
+  public Optional<Transaction> findByFlowIdAndCorrelationId() {
+    final var i = ThreadLocalRandom.current().nextInt(transactions);
+    return transactionRepository.findByFlowIdAndCorrelationId(FLOW_ID, correlationId(i));
+  }
+
+  @Benchmark
+  public boolean existsByFlowIdAndCorrelationId() {
+    final var i = ThreadLocalRandom.current().nextInt(transactions);
+    return transactionRepository.existsByFlowIdAndCorrelationId(FLOW_ID, correlationId(i));
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Transaction save() {
+    // Updates a retained transaction so the repository size stays constant
+    final var i = ThreadLocalRandom.current().nextInt(transactions);
+    return transactionRepository.save(saved[i].withStatus(Status.IN_PROGRESS));
+  }
+
+  private static String correlationId(int i) {
+    return "correlation-" + i;
+  }
+
+  /** Baseline that scans every transaction, as the sample repositories do. */
+  static class ScanTransactionRepository implements TransactionRepository {
+
+    private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Transaction> findById(String id) {
+      return Optional.ofNullable(transactions.get(id));
+    }
+
+    @Override
+    public boolean existsByFlowIdAndCorrelationId(String flowId, String correlationId) {
+      return findByFlowIdAndCorrelationId(flowId, correlationId).isPresent();
+    }
+
+    @Override
+    public Optional<Transaction> findByFlowIdAndCorrelationId(
+        String flowId, String correlationId) {
+      return transactions.values().stream()
+          .filter(t -> t.flowId().equals(flowId) && t.correlationId().equals(correlationId))
+          .findFirst();
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+      transactions.put(transaction.transactionId(), transaction);
+      return transaction;
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package co.orquex.sagas.core.claimcheck;
+
+import co.orquex.sagas.domain.api.BlobStore;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ClaimCheck;
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces the payload values larger than a threshold by a {@link ClaimCheck}, storing the values
+ * in a {@link BlobStore}.
+ *
+ * <p>Byte arrays and strings are stored as is, other values are stored with Java serialization.
+ * Numbers, booleans, characters and enums are never offloaded. The size of a string is measured in
+ * UTF-8 bytes. Other values are serialized to a stream that only counts the bytes and stops at the
+ * threshold, the serialized bytes are materialized only for the values that are offloaded.
+ */
+public class ClaimCheckOffloader {
+
+  private final BlobStore blobStore;
+  private final long threshold;
+
+  /**
+   * Creates an offloader.
+   *
+   * @param blobStore the store of the offloaded values
+   * @param threshold size in bytes above which a value is offloaded
+   */
+  public ClaimCheckOffloader(final BlobStore blobStore, final long threshold) {
+    this.blobStore = Preconditions.checkArgumentNotNull(blobStore, "Blob store cannot be null");
+    Preconditions.checkArgument(threshold > 0, "Claim check threshold must be greater than zero");
+    this.threshold = threshold;
+  }
+
+  /**
+   * Offloads the values of the map larger than the threshold.
+   *
+   * @param payload the payload to offload
+   * @return the same map if nothing was offloaded, or a new map with the claim checks
+   */
+  public Map<String, Serializable> offload(final Map<String, Serializable> payload) {
+    if (payload == null || payload.isEmpty()) {
+      return payload;
+    }
+    Map<String, Serializable> result = null;
+    for (final var entry : payload.entrySet()) {
+      final var value = entry.getValue();
+      final var claimCheck = offload(value);
+      if (claimCheck != value) {
+        if (result == null) {
+          result = new HashMap<>(payload);
+        }
+        result.put(entry.getKey(), claimCheck);
+      }
+    }
+    return result == null ? payload : result;
+  }
+
+  /**
+   * Offloads the value if it is larger than the threshold.
+   *
+   * @param value the value to offload
+   * @return a {@link ClaimCheck} of the value, or the value itself if it is not offloaded
+   */
+  public Serializable offload(final Serializable value) {
+    return switch (value) {
+      case null -> null;
+      case ClaimCheck claimCheck -> claimCheck;
+      case Number number -> number;
+      case Boolean bool -> bool;
+      case Character character -> character;
+      case Enum<?> enumeration -> enumeration;
+      case byte[] bytes -> store(value, bytes, ClaimCheck.Kind.BINARY);
+      case String string -> {
+        // A string has at least one UTF-8 byte and at most three per char
+        if ((long) string.length() * 3 <= threshold) {
+          yield string;
+        }
+        yield store(value, string.getBytes(StandardCharsets.UTF_8), ClaimCheck.Kind.TEXT);
+      }
+      default -> {
+        if (serializesWithin(value, threshold)) {
+          yield value;
+        }
+        yield store(value, serialize(value), ClaimCheck.Kind.OBJECT);
+      }
+    };
+  }
+
+  /**
+   * Resolves the claim checks of the map lazily, each claim check is read from the blob store the
+   * first time its value is read, so the values a task never reads are never loaded.
+   *
+   * @param payload the payload with claim checks
+   * @return the same map if it has no claim checks, or a read-only view with the original values
+   * @throws WorkflowException when a value of the view is read, if its blob cannot be resolved
+   */
+  public Map<String, Serializable> resolve(final Map<String, Serializable> payload) {
+    if (payload == null || payload.values().stream().noneMatch(ClaimCheck.class::isInstance)) {
+      return payload;
+    }
+    return new ResolvingPayload(payload, blobStore);
+  }
+
+  private Serializable store(Serializable value, byte[] content, ClaimCheck.Kind kind) {
+    if (content.length <= threshold) {
+      return value;
+    }
+    return new ClaimCheck(blobStore.put(content), kind, content.length);
+  }
+
+  /**
+   * Read-only view of a payload that resolves each claim check the first time its value is read,
+   * and keeps the resolved value for the following reads. It is serialized as a copy with every
+   * value resolved.
+   */
+  static final class ResolvingPayload extends AbstractMap<String, Serializable>
+      implements Serializable {
+
+    @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+    private final transient Map<String, Serializable> payload;
+    private final transient BlobStore blobStore;
+    private final transient Map<String, Serializable> resolved = new ConcurrentHashMap<>();
+
+    private ResolvingPayload(Map<String, Serializable> payload, BlobStore blobStore) {
+      this.payload = payload;
+      this.blobStore = blobStore;
+    }
+
+    @Override
+    public Serializable get(Object key) {
+      return resolve(key, payload.get(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return payload.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return payload.size();
+    }
+
+    @Override
+    public Set<Entry<String, Serializable>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, Serializable>> iterator() {
+          final var entries = payload.entrySet().iterator();
+          return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+              return entries.hasNext();
+            }
+
+            @Override
+            public Entry<String, Serializable> next() {
+              return new ResolvingEntry(entries.next());
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return payload.size();
+        }
+      };
+    }
+
+    /**
+     * @return the claim check of every value resolved so far, by identity of the resolved value
+     */
+    Map<Serializable, ClaimCheck> resolvedClaimChecks() {
+      final Map<Serializable, ClaimCheck> claimChecks = new IdentityHashMap<>();
+      resolved.forEach((key, value) -> claimChecks.put(value, (ClaimCheck) payload.get(key)));
+      return claimChecks;
+    }
+
+    private Serializable resolve(Object key, Serializable value) {
+      if (value instanceof ClaimCheck claimCheck) {
+        return resolved.computeIfAbsent((String) key, k -> claimCheck.resolve(blobStore));
+      }
+      return value;
+    }
+
+    @Serial
+    private Object writeReplace() {
+      return new HashMap<>(this);
+    }
+
+    private final class ResolvingEntry implements Entry<String, Serializable> {
+
+      private final Entry<String, Serializable> entry;
+
+      private ResolvingEntry(Entry<String, Serializable> entry) {
+        this.entry = entry;
+      }
+
+      @Override
+      public String getKey() {
+        return entry.getKey();
+      }
+
+      @Override
+      public Serializable getValue() {
+        return resolve(entry.getKey(), entry.getValue());
+      }
+
+      @Override
+      public Serializable setValue(Serializable value) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        return o instanceof Entry<?, ?> other
+            && Objects.equals(getKey(), other.getKey())
+            && Objects.equals(getValue(), other.getValue());
+      }
+
+      @Override
+      public int hashCode() {
+        return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+      }
+    }
+  }
+
+  /** Serializes the value without keeping the bytes, stopping once the limit is exceeded. */
+  private static boolean serializesWithin(Serializable value, long limit) {
+    final var counter = new CountingOutputStream(limit);
+    try (final var output = new ObjectOutputStream(counter)) {
+      output.writeObject(value);
+    } catch (LimitExceededException e) {
+      return false;
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to serialize value of type '%s'".formatted(value.getClass().getName()), e);
+    }
+    return counter.count <= limit;
+  }
+
+  private static byte[] serialize(Serializable value) {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to serialize value of type '%s'".formatted(value.getClass().getName()), e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static final class CountingOutputStream extends OutputStream {
+
+    private final long limit;
+    private long count;
+
+    private CountingOutputStream(long limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      add(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      add(len);
+    }
+
+    private void add(int length) throws LimitExceededException {
+      count += length;
+      if (count > limit) {
+        throw new LimitExceededException();
+      }
+    }
+  }
+
+  /** Thrown by the counting stream to stop serializing a value that is offloaded anyway. */
+  private static final class LimitExceededException extends IOException {
+
+    @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+    private LimitExceededException() {
+      super("Serialized size limit exceeded");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package co.orquex.sagas.core.claimcheck;
+
+import co.orquex.sagas.domain.api.TaskExecutor;
+import co.orquex.sagas.domain.execution.ClaimCheck;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link TaskExecutor} decorator that offloads the large values of the task responses.
+ *
+ * <p>The response values larger than the threshold of the {@link ClaimCheckOffloader} are replaced
+ * by a {@link ClaimCheck} before they reach the next stage, so the following requests, checkpoints,
+ * compensations and events carry the reference instead of the value. The task receives a view of
+ * the request payload that resolves each claim check the first time its value is read, so task
+ * implementations always read the original values, and the values they never read are not loaded.
+ * A resolved value returned as is by the task keeps its claim check instead of being stored again.
+ * The decorator is registered with the key of the decorated executor.
+ */
+public class ClaimCheckTaskExecutor implements TaskExecutor {
+
+  private final TaskExecutor delegate;
+  private final ClaimCheckOffloader offloader;
+
+  public ClaimCheckTaskExecutor(final TaskExecutor delegate, final ClaimCheckOffloader offloader) {
+    this.delegate = Preconditions.checkArgumentNotNull(delegate, "Task executor cannot be null");
+    this.offloader =
+        Preconditions.checkArgumentNotNull(offloader, "Claim check offloader cannot be null");
+  }
+
+  @Override
+  public Map<String, Serializable> execute(
+      String transactionId, Task task, ExecutionRequest request) {
+    final var payload = request.payload();
+    final var resolved = offloader.resolve(payload);
+    final var executionRequest = resolved == payload ? request : request.withPayload(resolved);
+    final var response = delegate.execute(transactionId, task, executionRequest);
+    return offloader.offload(keepClaimChecks(resolved, response));
+  }
+
+  @Override
+  public CompletableFuture<Map<String, Serializable>> executeAsync(
+      String transactionId, Task task, ExecutionRequest request) {
+    final var payload = request.payload();
+    final var resolved = offloader.resolve(payload);
+    final var executionRequest = resolved == payload ? request : request.withPayload(resolved);
+    return delegate
+        .executeAsync(transactionId, task, executionRequest)
+        .thenApply(response -> offloader.offload(keepClaimChecks(resolved, response)));
+  }
+
+  @Override
+  public String getKey() {
+    return delegate.getKey();
+  }
+
+  /** Replaces the resolved values returned as is by the task with their claim checks. */
+  private static Map<String, Serializable> keepClaimChecks(
+      Map<String, Serializable> resolved, Map<String, Serializable> response) {
+    if (!(resolved instanceof ClaimCheckOffloader.ResolvingPayload resolvingPayload)
+        || response == null
+        || response.isEmpty()) {
+      return response;
+    }
+    // Only the values read by the task can be returned as is
+    final var claimChecks = resolvingPayload.resolvedClaimChecks();
+    if (claimChecks.isEmpty()) {
+      return response;
+    }
+    Map<String, Serializable> result = null;
+    for (final var entry : response.entrySet()) {
+      final var claimCheck = claimChecks.get(entry.getValue());
+      if (claimCheck != null) {
+        if (result == null) {
+          result = new HashMap<>(response);
+        }
+        result.put(entry.getKey(), claimCheck);
+      }
+    }
+    return result == null ? response : result;
+  }
+}
@@ -0,0 +1,220 @@
+package co.orquex.sagas.core.claimcheck;
+
+import co.orquex.sagas.domain.api.BlobStore;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link BlobStore} that keeps every blob in a file of a local directory.
+ *
+ * <p>Blobs are content-addressed, the ID is the SHA-256 of the content, so the same document
+ * offloaded by several tasks or transactions is stored once. Files are written to a temporary file
+ * and moved into place, readers never see a partially written blob.
+ *
+ * <p>Since a blob can be referenced by several transactions, blobs are not deleted when a
+ * transaction completes. When a retention is configured, the blobs that were not stored nor read
+ * for longer than the retention are deleted by a background sweep started with {@link #start()},
+ * or with {@link #deleteExpired()}. Storing the same content again or reading a blob renews it. The
+ * retention must be longer than the time a transaction can be resumed or compensated.
+ */
+@Slf4j
+public class FileSystemBlobStore implements BlobStore, AutoCloseable {
+
+  private static final Pattern BLOB_ID = Pattern.compile("[0-9a-f]{64}");
+
+  private final Path directory;
+  private final Duration retention;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * Creates a blob store that never deletes the blobs by itself.
+   *
+   * @param directory the directory of the blobs, created if it does not exist
+   */
+  public FileSystemBlobStore(final Path directory) {
+    this(directory, null);
+  }
+
+  /**
+   * Creates a blob store that deletes the expired blobs, periodically once started.
+   *
+   * @param directory the directory of the blobs, created if it does not exist
+   * @param retention time a blob is kept since it was last stored or read, also used as the
+   *     interval between two sweeps, {@code null} to keep the blobs forever
+   */
+  public FileSystemBlobStore(final Path directory, final Duration retention) {
+    Preconditions.checkArgumentNotNull(directory, "Blob store directory cannot be null");
+    Preconditions.checkArgument(
+        retention == null || (!retention.isNegative() && !retention.isZero()),
+        "Blob retention must be positive");
+    try {
+      this.directory = Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to create blob store directory '%s'".formatted(directory), e);
+    }
+    this.retention = retention;
+  }
+
+  /** Starts deleting the expired blobs periodically, has no effect when there is no retention. */
+  public synchronized void start() {
+    if (retention == null || scheduler != null) {
+      return;
+    }
+    final var threadFactory = Thread.ofPlatform().name("blob-store-sweeper").daemon().factory();
+    scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    final var interval = retention.toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::safeDeleteExpired, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public String put(byte[] content) {
+    Preconditions.checkArgumentNotNull(content, "Blob content cannot be null");
+    final var id = HexFormat.of().formatHex(sha256(content));
+    final var file = directory.resolve(id);
+    if (Files.exists(file)) {
+      renew(file);
+      return id;
+    }
+    try {
+      final var temporary = Files.createTempFile(directory, id, ".tmp");
+      try {
+        Files.write(temporary, content);
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (FileAlreadyExistsException e) {
+      // Stored concurrently with the same content
+      log.trace("Blob '{}' already stored", id);
+    } catch (IOException e) {
+      throw new WorkflowException("Unable to store blob '%s'".formatted(id), e);
+    }
+    return id;
+  }
+
+  @Override
+  public byte[] get(String id) {
+    final var file = resolve(id);
+    try {
+      final var content = Files.readAllBytes(file);
+      if (retention != null) {
+        // A blob still read by a transaction is kept
+        renew(file);
+      }
+      return content;
+    } catch (NoSuchFileException e) {
+      throw new WorkflowException("Blob '%s' not found".formatted(id));
+    } catch (IOException e) {
+      throw new WorkflowException("Unable to read blob '%s'".formatted(id), e);
+    }
+  }
+
+  @Override
+  public void delete(String id) {
+    try {
+      Files.deleteIfExists(resolve(id));
+    } catch (IOException e) {
+      throw new WorkflowException("Unable to delete blob '%s'".formatted(id), e);
+    }
+  }
+
+  /**
+   * Deletes the blobs that were not stored for longer than the retention.
+   *
+   * @return the number of deleted blobs, always zero when there is no retention
+   * @throws WorkflowException if the directory cannot be listed
+   */
+  public int deleteExpired() {
+    if (retention == null) {
+      return 0;
+    }
+    final var expiredBefore = FileTime.from(Instant.now().minus(retention));
+    var deleted = 0;
+    try (final var files = Files.newDirectoryStream(directory)) {
+      for (final var file : files) {
+        if (BLOB_ID.matcher(file.getFileName().toString()).matches()
+            && deleteIfExpired(file, expiredBefore)) {
+          deleted++;
+        }
+      }
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to list blob store directory '%s'".formatted(directory), e);
+    }
+    return deleted;
+  }
+
+  /** Stops the periodic deletion of the expired blobs, the blobs are kept. */
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  private boolean deleteIfExpired(Path file, FileTime expiredBefore) {
+    try {
+      return Files.getLastModifiedTime(file).compareTo(expiredBefore) < 0
+          && Files.deleteIfExists(file);
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      log.warn("Unable to delete expired blob '{}'", file.getFileName(), e);
+      return false;
+    }
+  }
+
+  private void renew(Path file) {
+    try {
+      Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+    } catch (IOException e) {
+      // The blob keeps its previous expiration
+      log.warn("Unable to renew blob '{}'", file.getFileName(), e);
+    }
+  }
+
+  private void safeDeleteExpired() {
+    try {
+      final var deleted = deleteExpired();
+      if (deleted > 0) {
+        log.debug("Blob store deleted {} expired blobs", deleted);
+      }
+    } catch (RuntimeException e) {
+      log.error("Blob store failed to delete the expired blobs", e);
+    }
+  }
+
+  private Path resolve(String id) {
+    // Only IDs generated by this store are accepted, they cannot escape the directory
+    Preconditions.checkArgument(id != null && BLOB_ID.matcher(id).matches(), "Invalid blob ID");
+    return directory.resolve(id);
+  }
+
+  private static byte[] sha256(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package co.orquex.sagas.core.compensation;
+
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background process that completes the compensations left behind by a failed or interrupted
+ * rollback.
+ *
+ * <p>On every scan it picks up the compensations in {@link Status#ERROR} and the ones in {@link
+ * Status#IN_PROGRESS} whose last update is older than the stall timeout, and executes them again
+ * with the same logic of the {@link DefaultCompensationExecutor}. Each re-drive is a single
+ * attempt, the retry configuration of the compensation tasks is left out, and a compensation that
+ * fails again is re-driven by the scheduler of the re-driver after an exponential backoff, instead
+ * of blocking a thread waiting for it, until the maximum number of attempts is reached.
+ *
+ * <p>The attempts are tracked in memory, so they start over when the application restarts. The
+ * attempts of the compensations that are no longer in {@link Status#ERROR} or {@link
+ * Status#IN_PROGRESS} are evicted on every scan, the ones that exhausted their attempts are kept
+ * while the compensation remains in error so it is not re-driven again.
+ *
+ * <p>The compensation repository must support {@link CompensationRepository#findByStatus(Status)},
+ * the periodic scan stops at the first scan of a repository that does not.
+ */
+@Slf4j
+public class CompensationReDriver implements AutoCloseable {
+
+  private final DefaultCompensationExecutor compensationExecutor;
+  private final CompensationRepository compensationRepository;
+  private final CompensationReDriverConfiguration configuration;
+  private final Clock clock;
+  private final Map<String, Attempt> attempts = new ConcurrentHashMap<>();
+  private ScheduledExecutorService scheduler;
+
+  public CompensationReDriver(
+      final DefaultCompensationExecutor compensationExecutor,
+      final CompensationRepository compensationRepository,
+      final CompensationReDriverConfiguration configuration) {
+    this(compensationExecutor, compensationRepository, configuration, Clock.systemUTC());
+  }
+
+  CompensationReDriver(
+      final DefaultCompensationExecutor compensationExecutor,
+      final CompensationRepository compensationRepository,
+      final CompensationReDriverConfiguration configuration,
+      final Clock clock) {
+    this.compensationExecutor =
+        Preconditions.checkArgumentNotNull(
+            compensationExecutor, "Compensation executor cannot be null");
+    this.compensationRepository =
+        Preconditions.checkArgumentNotNull(
+            compensationRepository, "Compensation repository cannot be null");
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    this.clock = clock;
+  }
+
+  /** Starts scanning the compensation repository periodically. */
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    final var threadFactory = Thread.ofPlatform().name("compensation-re-driver").daemon().factory();
+    scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    final var interval = configuration.interval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::safeRun, interval, interval, TimeUnit.MILLISECONDS);
+    log.debug("Compensation re-driver started with interval {}ms", interval);
+  }
+
+  /** Stops the periodic scan, a re-drive in progress is interrupted. */
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+      log.debug("Compensation re-driver stopped");
+    }
+  }
+
+  /**
+   * Scans the compensation repository once and re-drives the compensations that are due.
+   *
+   * @return the number of compensations that were completed by this scan
+   * @throws UnsupportedOperationException if the repository cannot find compensations by status
+   */
+  public int run() {
+    compensationRepository.flush();
+    final var now = clock.instant();
+    final Set<String> pending = new HashSet<>();
+    var completed = 0;
+    for (final var compensation : compensationRepository.findByStatus(Status.ERROR)) {
+      pending.add(compensation.id());
+      completed += redrive(compensation, now);
+    }
+    final var stalledBefore = now.minus(configuration.stallTimeout());
+    for (final var compensation : compensationRepository.findByStatus(Status.IN_PROGRESS)) {
+      pending.add(compensation.id());
+      if (compensation.updatedAt() == null || compensation.updatedAt().isBefore(stalledBefore)) {
+        completed += redrive(compensation, now);
+      }
+    }
+    // Completed, deleted or manually fixed compensations are no longer tracked
+    attempts.keySet().retainAll(pending);
+    return completed;
+  }
+
+  private void safeRun() {
+    try {
+      final var completed = run();
+      if (completed > 0) {
+        log.info("Compensation re-driver completed {} compensations", completed);
+      }
+    } catch (UnsupportedOperationException e) {
+      log.error(
+          "Compensation re-driver stopped, the compensation repository cannot find compensations"
+              + " by status",
+          e);
+      close();
+    } catch (RuntimeException e) {
+      log.error("Compensation re-driver scan failed", e);
+    }
+  }
+
+  private void safeRetry(final Compensation compensation, final Attempt attempt) {
+    // Skip the retry when a scan re-drove the compensation first or it is no longer pending
+    if (attempts.get(compensation.id()) != attempt) {
+      return;
+    }
+    try {
+      if (execute(compensation, attempt, clock.instant()) > 0) {
+        log.info(
+            "Compensation re-driver completed compensation task '{}' for transaction '{}'",
+            compensation.task(),
+            compensation.transactionId());
+      }
+    } catch (RuntimeException e) {
+      log.error(
+          "Compensation re-driver retry failed for compensation task '{}'", compensation.task(), e);
+    }
+  }
+
+  private int redrive(final Compensation compensation, final Instant now) {
+    final var attempt = attempts.get(compensation.id());
+    if (attempt != null) {
+      if (attempt.count() >= configuration.maxAttempts()) {
+        return 0;
+      }
+      if (now.isBefore(attempt.nextAttemptAt())) {
+        return 0;
+      }
+    }
+    return execute(compensation, attempt, now);
+  }
+
+  private int execute(final Compensation compensation, final Attempt attempt, final Instant now) {
+    final var transactionId = compensation.transactionId();
+    log.debug(
+        "Re-driving compensation task '{}' in status '{}' for transaction '{}'",
+        compensation.task(),
+        compensation.status(),
+        transactionId);
+    final var inProgress = compensation.withStatus(Status.IN_PROGRESS);
+    compensationRepository.save(inProgress);
+    final var result = compensationExecutor.compensate(transactionId, inProgress, false);
+    compensationRepository.save(result);
+    if (result.status() == Status.COMPLETED) {
+      attempts.remove(compensation.id());
+      return 1;
+    }
+    final var count = attempt == null ? 1 : attempt.count() + 1;
+    if (count >= configuration.maxAttempts()) {
+      log.warn(
+          "Compensation task '{}' for transaction '{}' exhausted {} re-drive attempts",
+          compensation.task(),
+          transactionId,
+          count);
+      attempts.put(compensation.id(), new Attempt(count, Instant.MAX));
+      return 0;
+    }
+    final var backoff = backoff(count);
+    final var next = new Attempt(count, now.plus(backoff));
+    attempts.put(compensation.id(), next);
+    schedule(result, next, backoff);
+    return 0;
+  }
+
+  private synchronized void schedule(
+      final Compensation compensation, final Attempt attempt, final Duration backoff) {
+    // Without a scheduler the compensation is re-driven by the first scan after the backoff
+    if (scheduler != null) {
+      scheduler.schedule(
+          () -> safeRetry(compensation, attempt), backoff.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private Duration backoff(final int count) {
+    final var initialBackoff = configuration.initialBackoff();
+    // Cap the shift to avoid overflowing on a large number of attempts
+    final var multiplier = 1L << Math.min(count - 1, 30);
+    final var backoff = initialBackoff.multipliedBy(multiplier);
+    return backoff.compareTo(configuration.maxBackoff()) > 0 ? configuration.maxBackoff() : backoff;
+  }
+
+  private record Attempt(int count, Instant nextAttemptAt) {}
+}
@@ -0,0 +1,42 @@
+package co.orquex.sagas.core.compensation;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Duration;
+
+/**
+ * Configuration record for the compensation re-driver.
+ *
+ * @param interval time between two consecutive scans of the compensation repository
+ * @param stallTimeout time after which a compensation still in progress is considered stalled
+ * @param maxAttempts maximum number of times a compensation is re-driven before giving up
+ * @param initialBackoff time to wait before re-driving a compensation that failed once
+ * @param maxBackoff upper bound of the exponential backoff between re-drive attempts
+ * @see CompensationReDriver
+ */
+public record CompensationReDriverConfiguration(
+    Duration interval,
+    Duration stallTimeout,
+    int maxAttempts,
+    Duration initialBackoff,
+    Duration maxBackoff) {
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public CompensationReDriverConfiguration {
+    Preconditions.checkArgumentNotNull(interval, "Re-drive interval cannot be null");
+    Preconditions.checkArgument(
+        !interval.isNegative() && !interval.isZero(), "Re-drive interval must be positive");
+    Preconditions.checkArgumentNotNull(stallTimeout, "Stall timeout cannot be null");
+    Preconditions.checkArgument(!stallTimeout.isNegative(), "Stall timeout cannot be negative");
+    Preconditions.checkArgument(maxAttempts > 0, "Max attempts must be greater than zero");
+    Preconditions.checkArgumentNotNull(initialBackoff, "Initial backoff cannot be null");
+    Preconditions.checkArgument(!initialBackoff.isNegative(), "Initial backoff cannot be negative");
+    Preconditions.checkArgumentNotNull(maxBackoff, "Max backoff cannot be null");
+    Preconditions.checkArgument(
+        maxBackoff.compareTo(initialBackoff) >= 0,
+        "Max backoff cannot be lower than the initial backoff");
+  }
+}
@@ -1,5 +1,9 @@
 package co.orquex.sagas.core.compensation;
 
+import co.orquex.sagas.core.resilience.impl.InMemoryCircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.impl.InMemoryHedgeStateManager;
+import co.orquex.sagas.core.resilience.impl.InMemoryRetryStateManager;
+import co.orquex.sagas.core.task.TaskExecutorService;
 import co.orquex.sagas.domain.api.CompensationExecutor;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.context.GlobalContext;
@@ -8,8 +12,8 @@ import co.orquex.sagas.domain.api.repository.CompensationRepository;
 import co.orquex.sagas.domain.api.repository.TaskRepository;
 import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.execution.ExecutionRequest;
-import co.orquex.sagas.domain.task.Task;
 import co.orquex.sagas.domain.task.TaskProcessor;
+import co.orquex.sagas.domain.transaction.Compensation;
 import co.orquex.sagas.domain.transaction.Status;
 import java.io.Serializable;
 import java.util.Map;
@@ -19,15 +23,39 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Default implementation of the CompensationExecutor interface. It is responsible for executing
  * compensations for a given task sequentially and synchronously.
+ *
+ * <p>Compensation tasks are executed through {@link
+ * TaskExecutorService#executeResilientTask(String, String, ExecutionRequest, boolean)}, so the
+ * circuit breaker and hedge configurations of the tasks are honored. Their retry configuration is
+ * left out, so a failing compensation does not block the thread waiting between attempts: it is
+ * left in {@link Status#ERROR} after a single attempt and retried with backoff by the {@link
+ * CompensationReDriver}.
  */
 @Slf4j
 @RequiredArgsConstructor
 public class DefaultCompensationExecutor implements CompensationExecutor {
 
-  private final Registry<TaskExecutor> taskExecutorRegistry;
-  private final TaskRepository taskRepository;
-  private final CompensationRepository compensationRepository;
-  private final GlobalContext globalContext;
+  private final TaskExecutorService taskExecutorService;
+  protected final CompensationRepository compensationRepository;
+  protected final GlobalContext globalContext;
+
+  public DefaultCompensationExecutor(
+      final Registry<TaskExecutor> taskExecutorRegistry,
+      final TaskRepository taskRepository,
+      final CompensationRepository compensationRepository,
+      final GlobalContext globalContext) {
+    // Compensations are never memoized nor coalesced, rolling back must always reach the service
+    this(
+        TaskExecutorService.builder()
+            .taskExecutorRegistry(taskExecutorRegistry)
+            .taskRepository(taskRepository)
+            .retryStateManager(new InMemoryRetryStateManager())
+            .circuitBreakerStateManager(new InMemoryCircuitBreakerStateManager())
+            .hedgeStateManager(new InMemoryHedgeStateManager())
+            .build(),
+        compensationRepository,
+        globalContext);
+  }
 
   /**
    * Executes the compensations for the given transaction ID.
@@ -38,6 +66,8 @@ public class DefaultCompensationExecutor implements CompensationExecutor {
   @Override
   public void execute(String transactionId) {
     try {
+      // Compensations registered by the stages could still be buffered by the repository
+      compensationRepository.flush();
       final var compensations = compensationRepository.findByTransactionId(transactionId);
       for (final var compensation : compensations) {
         log.debug(
@@ -54,100 +84,111 @@ public class DefaultCompensationExecutor implements CompensationExecutor {
           continue;
         }
         // Update the status of compensation to IN_PROGRESS
-        compensationRepository.save(compensation.withStatus(Status.IN_PROGRESS));
-        try {
-          var executionRequest =
-              new ExecutionRequest(
-                  compensation.flowId(),
-                  compensation.correlationId(),
-                  compensation.metadata(),
-                  compensation.request());
-          // Pre-process the payload with a task
-          final var preProcessor = compensation.preProcessor();
-          if (preProcessor != null) {
-            log.debug(
-                "Executing compensation pre-processor '{}' for compensation task '{}' and transaction '{}'",
-                preProcessor.task(),
-                compensation.task(),
-                transactionId);
-            final var preProcessorPayload =
-                executeProcessor(transactionId, preProcessor, executionRequest);
-            executionRequest = executionRequest.withPayload(preProcessorPayload);
-          }
-
-          // Execute the task with the pre-processed payload if any or the original payload
-          var compensationResponse =
-              executeTask(transactionId, compensation.task(), executionRequest);
-
-          // Post-process the response with a task if any and update the response
-          final var postProcessor = compensation.postProcessor();
-          if (postProcessor != null) {
-            log.debug(
-                "Executing compensation post-processor '{}' for compensation task '{}' and transaction '{}'",
-                postProcessor.task(),
-                compensation.task(),
-                transactionId);
-            compensationResponse =
-                executeProcessor(
-                    transactionId,
-                    postProcessor,
-                    executionRequest.withPayload(compensationResponse));
-          }
-          log.trace(
-              "Compensation response for transaction '{}' and task '{}': {}",
-              transactionId,
-              compensation.task(),
-              compensationResponse);
-          log.debug(
-              "Compensation executed for transaction '{}' and task '{}'",
-              transactionId,
-              compensation.task());
-          // Update the status of compensation to COMPLETED
-          compensationRepository.save(compensation.withStatus(Status.COMPLETED));
-        } catch (WorkflowException e) {
-          // Update the status of compensation to ERROR
-          log.error(
-              "Compensation execution failed for transaction '{}' and task '{}'",
-              transactionId,
-              compensation.task());
-          compensationRepository.save(compensation.withStatus(Status.ERROR));
-        }
+        final var inProgress = compensation.withStatus(Status.IN_PROGRESS);
+        compensationRepository.save(inProgress);
+        // Update the status of compensation to COMPLETED or ERROR
+        compensationRepository.save(compensate(transactionId, inProgress));
       }
     } finally {
       globalContext.remove(transactionId);
     }
   }
 
-  protected Map<String, Serializable> executeTask(
-      String transactionId, String taskId, ExecutionRequest request) {
-    final var task = getTask(taskId);
-    final var taskExecutor = getTaskExecutor(task);
-    return taskExecutor.execute(transactionId, task, request);
+  /**
+   * Executes a single compensation, including its pre-processor and post-processor if any, in a
+   * single attempt. The status of the compensation is not persisted by this method.
+   *
+   * @param transactionId the ID of the transaction the compensation belongs to
+   * @param compensation the compensation to execute
+   * @return the compensation with {@link Status#COMPLETED} status if it succeeded or {@link
+   *     Status#ERROR} otherwise
+   */
+  protected Compensation compensate(String transactionId, Compensation compensation) {
+    return compensate(transactionId, compensation, false);
   }
 
-  protected Map<String, Serializable> executeProcessor(
-      final String transactionId, final TaskProcessor processor, final ExecutionRequest request) {
-    return this.executeTask(
-        transactionId, processor.task(), request.mergeMetadata(processor.metadata()));
+  /**
+   * Executes a single compensation, optionally leaving out the retry configuration of its tasks.
+   *
+   * @param transactionId the ID of the transaction the compensation belongs to
+   * @param compensation the compensation to execute
+   * @param retry whether the retry configuration of the tasks is applied, the caller is
+   *     responsible for retrying the compensation otherwise
+   * @return the compensation with {@link Status#COMPLETED} status if it succeeded or {@link
+   *     Status#ERROR} otherwise
+   * @see #compensate(String, Compensation)
+   */
+  protected Compensation compensate(
+      String transactionId, Compensation compensation, boolean retry) {
+    try {
+      var executionRequest =
+          new ExecutionRequest(
+              compensation.flowId(),
+              compensation.correlationId(),
+              compensation.metadata(),
+              compensation.request());
+      // Pre-process the payload with a task
+      final var preProcessor = compensation.preProcessor();
+      if (preProcessor != null) {
+        log.debug(
+            "Executing compensation pre-processor '{}' for compensation task '{}' and transaction '{}'",
+            preProcessor.task(),
+            compensation.task(),
+            transactionId);
+        final var preProcessorPayload =
+            executeProcessor(transactionId, preProcessor, executionRequest, retry);
+        executionRequest = executionRequest.withPayload(preProcessorPayload);
+      }
+
+      // Execute the task with the pre-processed payload if any or the original payload
+      var compensationResponse =
+          executeTask(transactionId, compensation.task(), executionRequest, retry);
+
+      // Post-process the response with a task if any and update the response
+      final var postProcessor = compensation.postProcessor();
+      if (postProcessor != null) {
+        log.debug(
+            "Executing compensation post-processor '{}' for compensation task '{}' and transaction '{}'",
+            postProcessor.task(),
+            compensation.task(),
+            transactionId);
+        compensationResponse =
+            executeProcessor(
+                transactionId,
+                postProcessor,
+                executionRequest.withPayload(compensationResponse),
+                retry);
+      }
+      log.trace(
+          "Compensation response for transaction '{}' and task '{}': {}",
+          transactionId,
+          compensation.task(),
+          compensationResponse);
+      log.debug(
+          "Compensation executed for transaction '{}' and task '{}'",
+          transactionId,
+          compensation.task());
+      return compensation.withStatus(Status.COMPLETED);
+    } catch (WorkflowException e) {
+      log.error(
+          "Compensation execution failed for transaction '{}' and task '{}'",
+          transactionId,
+          compensation.task());
+      return compensation.withStatus(Status.ERROR);
+    }
   }
 
-  protected Task getTask(String taskId) {
-    return taskRepository
-        .findById(taskId)
-        .orElseThrow(
-            () ->
-                new WorkflowException(
-                    "Task '%s' not found when trying to perform compensation".formatted(taskId)));
+  protected Map<String, Serializable> executeTask(
+      String transactionId, String taskId, ExecutionRequest request, boolean retry) {
+    return taskExecutorService.executeResilientTask(transactionId, taskId, request, retry);
   }
 
-  protected TaskExecutor getTaskExecutor(Task task) {
-    final var executorId = task.configuration().executor();
-    return taskExecutorRegistry
-        .get(executorId)
-        .orElseThrow(
-            () ->
-                new WorkflowException(
-                    "Task executor '%s' not found when trying to perform compensation"
-                        .formatted(executorId)));
+  protected Map<String, Serializable> executeProcessor(
+      final String transactionId,
+      final TaskProcessor processor,
+      final ExecutionRequest request,
+      final boolean retry) {
+    return this.executeTask(
+        transactionId, processor.task(), request.mergeMetadata(processor.metadata()), retry);
   }
 }
@@ -0,0 +1,171 @@
+package co.orquex.sagas.core.compensation;
+
+import static co.orquex.sagas.domain.utils.Preconditions.checkArgument;
+
+import co.orquex.sagas.core.task.TaskExecutorService;
+import co.orquex.sagas.domain.api.TaskExecutor;
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.registry.Registry;
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.api.repository.TaskRepository;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compensation executor that rolls back independent compensations in parallel.
+ *
+ * <p>Compensations are grouped by the stage that registered them. Compensations within the same
+ * stage depend on each other and are executed one after another in reverse registration order,
+ * while the different groups are executed concurrently on virtual threads. The number of
+ * compensations running at the same time is bounded by {@code maxConcurrency}. Compensations
+ * without a stage are considered dependent on each other and form a single group.
+ *
+ * <p>Status updates are batched: all pending compensations are marked as {@link
+ * Status#IN_PROGRESS} in a single {@link CompensationRepository#saveAll(List)} call, and their
+ * final statuses are saved in another one once every group has finished.
+ */
+@Slf4j
+public class ParallelCompensationExecutor extends DefaultCompensationExecutor {
+
+  private static final Comparator<Compensation> REVERSE_REGISTRATION_ORDER =
+      Comparator.comparing(
+              Compensation::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+          .reversed();
+
+  private final int maxConcurrency;
+
+  public ParallelCompensationExecutor(
+      final Registry<TaskExecutor> taskExecutorRegistry,
+      final TaskRepository taskRepository,
+      final CompensationRepository compensationRepository,
+      final GlobalContext globalContext,
+      final int maxConcurrency) {
+    super(taskExecutorRegistry, taskRepository, compensationRepository, globalContext);
+    checkArgument(maxConcurrency > 0, "Max concurrency must be greater than zero");
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public ParallelCompensationExecutor(
+      final TaskExecutorService taskExecutorService,
+      final CompensationRepository compensationRepository,
+      final GlobalContext globalContext,
+      final int maxConcurrency) {
+    super(taskExecutorService, compensationRepository, globalContext);
+    checkArgument(maxConcurrency > 0, "Max concurrency must be greater than zero");
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Executes the compensations for the given transaction ID, running the compensations of
+   * different stages in parallel.
+   *
+   * @param transactionId the ID of the transaction for which compensations need to be executed
+   */
+  @Override
+  public void execute(String transactionId) {
+    try {
+      // Compensations registered by the stages could still be buffered by the repository
+      compensationRepository.flush();
+      final var pending = new ArrayList<Compensation>();
+      for (final var compensation : compensationRepository.findByTransactionId(transactionId)) {
+        if (compensation.status() != Status.CREATED) {
+          log.debug(
+              "Skipping already completed compensation task '{}' for transaction '{}'",
+              compensation.task(),
+              transactionId);
+          continue;
+        }
+        pending.add(compensation.withStatus(Status.IN_PROGRESS));
+      }
+      if (pending.isEmpty()) {
+        return;
+      }
+      compensationRepository.saveAll(pending);
+
+      final var groups = groupByStage(pending);
+      log.debug(
+          "Executing {} compensations in {} groups for transaction '{}'",
+          pending.size(),
+          groups.size(),
+          transactionId);
+      final var results = new ConcurrentLinkedQueue<Compensation>();
+      final var permits = new Semaphore(maxConcurrency);
+      final var factory = Thread.ofVirtual().name("compensation-", 0).factory();
+      try (final var executor = Executors.newThreadPerTaskExecutor(factory)) {
+        for (final var group : groups) {
+          executor.submit(() -> compensateGroup(transactionId, group, permits, results));
+        }
+      }
+      compensationRepository.saveAll(List.copyOf(results));
+    } finally {
+      globalContext.remove(transactionId);
+    }
+  }
+
+  private void compensateGroup(
+      final String transactionId,
+      final List<Compensation> group,
+      final Semaphore permits,
+      final Collection<Compensation> results) {
+    for (final var compensation : group) {
+      log.debug(
+          "Executing compensation task '{}' of stage '{}' for transaction '{}'",
+          compensation.task(),
+          compensation.stageId(),
+          transactionId);
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.error(
+            "Compensation execution interrupted for transaction '{}' and task '{}'",
+            transactionId,
+            compensation.task());
+        results.add(compensation.withStatus(Status.ERROR));
+        continue;
+      }
+      try {
+        results.add(compensate(transactionId, compensation));
+      } catch (RuntimeException e) {
+        // Keep the group going, the remaining compensations of the stage must still be executed
+        log.error(
+            "Unexpected error executing compensation for transaction '{}' and task '{}'",
+            transactionId,
+            compensation.task(),
+            e);
+        results.add(compensation.withStatus(Status.ERROR));
+      } finally {
+        permits.release();
+      }
+    }
+  }
+
+  private static Collection<List<Compensation>> groupByStage(
+      final List<Compensation> compensations) {
+    // LinkedHashMap allows the null key used by compensations without stage
+    final Map<String, List<Compensation>> groups = new LinkedHashMap<>();
+    for (final var compensation : compensations) {
+      groups.computeIfAbsent(compensation.stageId(), k -> new ArrayList<>()).add(compensation);
+    }
+    // Reverse first so compensations registered at the same instant keep the reverse order
+    groups
+        .values()
+        .forEach(
+            group -> {
+              Collections.reverse(group);
+              group.sort(REVERSE_REGISTRATION_ORDER);
+            });
+    return groups.values();
+  }
+}
@@ -0,0 +1,218 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.context.TransactionContext;
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Transaction;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * In-memory {@link GlobalContext} that evicts the contexts of abandoned transactions.
+ *
+ * <p>Contexts are normally removed when their transaction completes or is compensated, but a
+ * dropped checkpoint event or a node crashing in the middle of a saga leaves them behind. When a
+ * context is created it gets the expiration of its {@link Transaction#expiresAt()} plus a grace
+ * time, or the default TTL if the transaction is not found or does not expire. Expired contexts
+ * are evicted by a background scan started with {@link #start()}, or with {@link
+ * #evictExpired()}. When the maximum number of contexts is exceeded, the contexts closest to their
+ * expiration are evicted first.
+ */
+@Slf4j
+public class ExpiringGlobalContext implements GlobalContext, AutoCloseable {
+
+  private final TransactionRepository transactionRepository;
+  private final ExpiringGlobalContextConfiguration configuration;
+  private final Clock clock;
+  private final Map<String, Entry> contexts = new ConcurrentHashMap<>();
+  private final NavigableSet<Expiry> expiries =
+      new ConcurrentSkipListSet<>(
+          Comparator.comparing(Expiry::expiresAt).thenComparing(Expiry::transactionId));
+  private final AtomicLong expirations = new AtomicLong();
+  private final AtomicLong sizeEvictions = new AtomicLong();
+  private ScheduledExecutorService scheduler;
+
+  public ExpiringGlobalContext(
+      final TransactionRepository transactionRepository,
+      final ExpiringGlobalContextConfiguration configuration) {
+    this(transactionRepository, configuration, Clock.systemUTC());
+  }
+
+  ExpiringGlobalContext(
+      final TransactionRepository transactionRepository,
+      final ExpiringGlobalContextConfiguration configuration,
+      final Clock clock) {
+    this.transactionRepository =
+        Preconditions.checkArgumentNotNull(
+            transactionRepository, "Transaction repository cannot be null");
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    this.clock = clock;
+  }
+
+  @Override
+  @NonNull
+  public TransactionContext get(@NonNull String transactionId) {
+    final var existing = contexts.get(transactionId);
+    if (existing != null) {
+      return existing.context();
+    }
+    // Look up the transaction outside the map lock
+    final var expiresAt = expiryOf(transactionId);
+    final var created =
+        contexts.computeIfAbsent(
+            transactionId,
+            id -> {
+              expiries.add(new Expiry(expiresAt, id));
+              return new Entry(new DefaultTransactionContext(new ConcurrentHashMap<>()), expiresAt);
+            });
+    if (contexts.size() > configuration.maxEntries()) {
+      evictOverflow();
+    }
+    return created.context();
+  }
+
+  @Override
+  public void remove(@NonNull String transactionId) {
+    final var entry = contexts.remove(transactionId);
+    if (entry != null) {
+      expiries.remove(new Expiry(entry.expiresAt(), transactionId));
+    }
+    log.debug("Transaction '{}' context removed: {}", transactionId, entry != null);
+  }
+
+  /** Starts evicting the expired contexts periodically. */
+  public synchronized void start() {
+    if (scheduler != null) {
+      return;
+    }
+    final var threadFactory = Thread.ofPlatform().name("global-context-expiry").daemon().factory();
+    scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    final var interval = configuration.expiryInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::safeEvictExpired, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /** Stops the periodic eviction, the contexts are kept. */
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+      scheduler = null;
+    }
+  }
+
+  /**
+   * Evicts every context whose expiration has elapsed.
+   *
+   * @return the number of evicted contexts
+   */
+  public int evictExpired() {
+    final var now = clock.instant();
+    var evicted = 0;
+    while (true) {
+      final var expiry = expiries.pollFirst();
+      if (expiry == null) {
+        break;
+      }
+      if (expiry.expiresAt().isAfter(now)) {
+        // Not expired yet, put it back and stop
+        expiries.add(expiry);
+        break;
+      }
+      if (evict(expiry)) {
+        evicted++;
+      }
+    }
+    if (evicted > 0) {
+      expirations.addAndGet(evicted);
+      log.warn("Evicted {} expired transaction contexts", evicted);
+    }
+    return evicted;
+  }
+
+  /**
+   * @return the number of contexts currently kept
+   */
+  public int size() {
+    return contexts.size();
+  }
+
+  /**
+   * @return the total number of contexts evicted because they expired
+   */
+  public long expirations() {
+    return expirations.get();
+  }
+
+  /**
+   * @return the total number of contexts evicted because the maximum number was exceeded
+   */
+  public long sizeEvictions() {
+    return sizeEvictions.get();
+  }
+
+  private void evictOverflow() {
+    while (contexts.size() > configuration.maxEntries()) {
+      final var expiry = expiries.pollFirst();
+      if (expiry == null) {
+        return;
+      }
+      if (evict(expiry)) {
+        sizeEvictions.incrementAndGet();
+        log.warn(
+            "Transaction '{}' context evicted, the maximum of {} contexts was exceeded",
+            expiry.transactionId(),
+            configuration.maxEntries());
+      }
+    }
+  }
+
+  private boolean evict(Expiry expiry) {
+    final var evicted = new boolean[1];
+    // Only evict the entry the expiry was registered for
+    contexts.computeIfPresent(
+        expiry.transactionId(),
+        (id, entry) -> {
+          if (Objects.equals(entry.expiresAt(), expiry.expiresAt())) {
+            evicted[0] = true;
+            return null;
+          }
+          return entry;
+        });
+    return evicted[0];
+  }
+
+  private Instant expiryOf(String transactionId) {
+    return transactionRepository
+        .findById(transactionId)
+        .map(Transaction::expiresAt)
+        .map(expiresAt -> expiresAt.plus(configuration.grace()))
+        .orElseGet(() -> clock.instant().plus(configuration.defaultTtl()));
+  }
+
+  private void safeEvictExpired() {
+    try {
+      evictExpired();
+    } catch (RuntimeException e) {
+      log.error("Global context expiry scan failed", e);
+    }
+  }
+
+  private record Entry(TransactionContext context, Instant expiresAt) {}
+
+  private record Expiry(Instant expiresAt, String transactionId) {}
+}
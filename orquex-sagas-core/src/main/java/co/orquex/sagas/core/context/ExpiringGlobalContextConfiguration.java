@@ -0,0 +1,35 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Duration;
+
+/**
+ * Configuration record for the expiring global context.
+ *
+ * @param maxEntries maximum number of transaction contexts kept at the same time
+ * @param defaultTtl time to live of a context whose transaction is not found or does not expire
+ * @param grace time a context is kept after the expiration of its transaction
+ * @param expiryInterval time between two consecutive scans of the expired contexts
+ * @see ExpiringGlobalContext
+ */
+public record ExpiringGlobalContextConfiguration(
+    int maxEntries, Duration defaultTtl, Duration grace, Duration expiryInterval) {
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public ExpiringGlobalContextConfiguration {
+    Preconditions.checkArgument(maxEntries > 0, "Max entries must be greater than zero");
+    Preconditions.checkArgumentNotNull(defaultTtl, "Default TTL cannot be null");
+    Preconditions.checkArgument(
+        !defaultTtl.isNegative() && !defaultTtl.isZero(), "Default TTL must be positive");
+    Preconditions.checkArgumentNotNull(grace, "Grace cannot be null");
+    Preconditions.checkArgument(!grace.isNegative(), "Grace cannot be negative");
+    Preconditions.checkArgumentNotNull(expiryInterval, "Expiry interval cannot be null");
+    Preconditions.checkArgument(
+        !expiryInterval.isNegative() && !expiryInterval.isZero(),
+        "Expiry interval must be positive");
+  }
+}
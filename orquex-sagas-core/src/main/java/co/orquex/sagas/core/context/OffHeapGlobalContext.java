@@ -0,0 +1,117 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.context.TransactionContext;
+import co.orquex.sagas.domain.codec.BinarySagaCodec;
+import co.orquex.sagas.domain.codec.SagaCodec;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@link GlobalContext} that keeps the large context values outside the Java heap.
+ *
+ * <p>Tasks use the transaction context to keep intermediate data, often large lookup tables, for
+ * the whole duration of the saga. A value whose encoded size reaches the threshold is encoded with
+ * the {@link SagaCodec} and copied to a fixed-size region of direct memory, or of a memory-mapped
+ * file when a directory is configured, and only its location is kept on the heap. Smaller values
+ * stay on the heap as they are. Every {@link TransactionContext#get(String)} of an off-heap value
+ * decodes a new copy, so changes to the returned value must be put back to be kept.
+ *
+ * <p>When the off-heap memory is full the values stay on the heap. The memory of a context is
+ * freed when it is removed, cleared, or its values are replaced; the region itself is released
+ * when the context is garbage-collected.
+ */
+@Slf4j
+public class OffHeapGlobalContext implements GlobalContext {
+
+  private final OffHeapGlobalContextConfiguration configuration;
+  private final SagaCodec codec;
+  private final OffHeapValueStore store;
+  private final Map<String, TransactionContext> contexts = new ConcurrentHashMap<>();
+  private final AtomicLong rejections = new AtomicLong();
+
+  public OffHeapGlobalContext(final OffHeapGlobalContextConfiguration configuration) {
+    this(configuration, new BinarySagaCodec());
+  }
+
+  public OffHeapGlobalContext(
+      final OffHeapGlobalContextConfiguration configuration, final SagaCodec codec) {
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    this.codec = Preconditions.checkArgumentNotNull(codec, "Codec cannot be null");
+    this.store = new OffHeapValueStore(configuration);
+  }
+
+  @Override
+  @NonNull
+  public TransactionContext get(@NonNull String transactionId) {
+    return contexts.computeIfAbsent(
+        transactionId, id -> new OffHeapTransactionContext(this, codec, store));
+  }
+
+  @Override
+  public void remove(@NonNull String transactionId) {
+    final var transactionContext = contexts.remove(transactionId);
+    if (transactionContext != null) {
+      transactionContext.clear();
+    }
+    log.debug("Transaction '{}' context removed: {}", transactionId, transactionContext != null);
+  }
+
+  /**
+   * @return the off-heap bytes used by the values, rounded up to whole blocks
+   */
+  public long usedBytes() {
+    return store.usedBytes();
+  }
+
+  /**
+   * @return the total size of the off-heap memory
+   */
+  public long capacityBytes() {
+    return store.capacityBytes();
+  }
+
+  /**
+   * @return the number of large values kept on the heap because the off-heap memory was full
+   */
+  public long rejections() {
+    return rejections.get();
+  }
+
+  /** Returns the value to keep in the context index: the value itself or its off-heap slot. */
+  Object offload(Serializable value) {
+    if (isSmall(value)) {
+      return value;
+    }
+    final var bytes = codec.encode(value);
+    if (bytes.length < configuration.thresholdBytes()) {
+      return value;
+    }
+    final var slot = store.write(bytes);
+    if (slot == null) {
+      rejections.incrementAndGet();
+      log.warn(
+          "Global context off-heap memory is full, keeping value of {} bytes on the heap",
+          bytes.length);
+      return value;
+    }
+    return slot;
+  }
+
+  /** Skips the encoding of the values that are always under the threshold. */
+  private boolean isSmall(Serializable value) {
+    return switch (value) {
+      case Number ignored -> true;
+      case Boolean ignored -> true;
+      // A character takes at most three bytes in UTF-8
+      case String string -> string.length() * 3L < configuration.thresholdBytes();
+      default -> false;
+    };
+  }
+}
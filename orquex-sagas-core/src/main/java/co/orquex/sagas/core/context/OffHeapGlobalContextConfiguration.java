@@ -0,0 +1,46 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.nio.file.Path;
+
+/**
+ * Configuration record for the off-heap global context.
+ *
+ * @param thresholdBytes encoded size from which a context value is moved off-heap
+ * @param capacityBytes total size of the off-heap memory, rounded down to a multiple of the block
+ *     size
+ * @param blockSize size of the blocks the off-heap memory is divided into
+ * @param directory directory of the memory-mapped file, or {@code null} to use direct memory
+ * @see OffHeapGlobalContext
+ */
+public record OffHeapGlobalContextConfiguration(
+    int thresholdBytes, long capacityBytes, int blockSize, Path directory) {
+
+  public static final int DEFAULT_THRESHOLD_BYTES = 16 * 1024;
+  public static final int DEFAULT_BLOCK_SIZE = 4 * 1024;
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public OffHeapGlobalContextConfiguration {
+    Preconditions.checkArgument(thresholdBytes >= 0, "Threshold bytes cannot be negative");
+    Preconditions.checkArgument(blockSize > 0, "Block size must be greater than zero");
+    Preconditions.checkArgument(
+        capacityBytes >= blockSize, "Capacity bytes must be at least one block");
+    Preconditions.checkArgument(
+        capacityBytes <= Integer.MAX_VALUE, "Capacity bytes cannot exceed 2GB");
+  }
+
+  /**
+   * Creates a configuration that stores the values in direct memory.
+   *
+   * @param capacityBytes total size of the off-heap memory
+   * @return the configuration with the default threshold and block size
+   */
+  public static OffHeapGlobalContextConfiguration direct(long capacityBytes) {
+    return new OffHeapGlobalContextConfiguration(
+        DEFAULT_THRESHOLD_BYTES, capacityBytes, DEFAULT_BLOCK_SIZE, null);
+  }
+}
@@ -0,0 +1,86 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.core.context.OffHeapValueStore.Slot;
+import co.orquex.sagas.domain.api.context.TransactionContext;
+import co.orquex.sagas.domain.codec.SagaCodec;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link TransactionContext} that keeps the large values in an {@link OffHeapValueStore}.
+ *
+ * <p>Only the index of the values is kept on the heap. Values are encoded outside the lock, and
+ * the slot of a replaced or removed value is freed while holding it, so a reader never copies
+ * blocks that were reused by another value.
+ *
+ * <p>Every value other than a string, number or boolean is encoded on put, so a value with a nested
+ * value that cannot be serialized is rejected whatever its size. A value stored off-heap is copied
+ * on put and every get decodes a new copy, while a value kept on the heap, under the threshold or
+ * when the off-heap memory is full, is stored by reference. Changes to a value must therefore be
+ * put back to be kept, and a value must not be changed after it is put.
+ */
+class OffHeapTransactionContext implements TransactionContext {
+
+  private final OffHeapGlobalContext globalContext;
+  private final SagaCodec codec;
+  private final OffHeapValueStore store;
+  private final Map<String, Object> values = new HashMap<>();
+
+  OffHeapTransactionContext(
+      OffHeapGlobalContext globalContext, SagaCodec codec, OffHeapValueStore store) {
+    this.globalContext = globalContext;
+    this.codec = codec;
+    this.store = store;
+  }
+
+  @Override
+  public Serializable get(String key) {
+    final byte[] bytes;
+    synchronized (this) {
+      final var value = values.get(key);
+      if (!(value instanceof Slot slot)) {
+        return (Serializable) value;
+      }
+      bytes = store.read(slot);
+    }
+    return codec.decode(bytes, Serializable.class);
+  }
+
+  @Override
+  public void put(String key, Serializable value) {
+    final var stored = value == null ? null : offload(key, value);
+    synchronized (this) {
+      free(values.put(key, stored));
+    }
+  }
+
+  @Override
+  public void remove(String key) {
+    synchronized (this) {
+      free(values.remove(key));
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    values.values().forEach(this::free);
+    values.clear();
+  }
+
+  private Object offload(String key, Serializable value) {
+    try {
+      return globalContext.offload(value);
+    } catch (WorkflowException e) {
+      throw new WorkflowException(
+          "Value of key '%s' cannot be stored in the transaction context".formatted(key), e);
+    }
+  }
+
+  private void free(Object value) {
+    if (value instanceof Slot slot) {
+      store.free(slot);
+    }
+  }
+}
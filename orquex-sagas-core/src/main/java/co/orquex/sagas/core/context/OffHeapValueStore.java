@@ -0,0 +1,127 @@
+package co.orquex.sagas.core.context;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fixed-size region of direct or memory-mapped memory divided into blocks of the same size.
+ *
+ * <p>A value is written to as many free blocks as it needs, not necessarily contiguous, so the
+ * region never has to be compacted. The free blocks are tracked in a bit set. Reads and writes use
+ * the absolute bulk methods of the buffer, which do not change its position, so values in
+ * different blocks can be copied concurrently.
+ */
+@Slf4j
+class OffHeapValueStore {
+
+  private final ByteBuffer buffer;
+  private final int blockSize;
+  private final int blocks;
+  private final BitSet used;
+  private int usedBlocks;
+
+  OffHeapValueStore(OffHeapGlobalContextConfiguration configuration) {
+    this.blockSize = configuration.blockSize();
+    this.blocks = (int) (configuration.capacityBytes() / blockSize);
+    this.used = new BitSet(blocks);
+    final var capacity = blocks * blockSize;
+    this.buffer =
+        configuration.directory() == null
+            ? ByteBuffer.allocateDirect(capacity)
+            : map(configuration, capacity);
+  }
+
+  /**
+   * Copies the value to free blocks.
+   *
+   * @param bytes the encoded value
+   * @return the slot of the value, or {@code null} if there are not enough free blocks
+   */
+  Slot write(byte[] bytes) {
+    final var count = Math.max(1, (bytes.length + blockSize - 1) / blockSize);
+    final var indexes = allocate(count);
+    if (indexes == null) {
+      return null;
+    }
+    for (var i = 0; i < count; i++) {
+      final var offset = i * blockSize;
+      buffer.put(indexes[i] * blockSize, bytes, offset, Math.min(blockSize, bytes.length - offset));
+    }
+    return new Slot(indexes, bytes.length);
+  }
+
+  /** Copies the value of the slot back to the heap. */
+  byte[] read(Slot slot) {
+    final var bytes = new byte[slot.length()];
+    final var indexes = slot.blocks();
+    for (var i = 0; i < indexes.length; i++) {
+      final var offset = i * blockSize;
+      buffer.get(indexes[i] * blockSize, bytes, offset, Math.min(blockSize, bytes.length - offset));
+    }
+    return bytes;
+  }
+
+  /** Returns the blocks of the slot to the free blocks. */
+  synchronized void free(Slot slot) {
+    for (final var index : slot.blocks()) {
+      used.clear(index);
+    }
+    usedBlocks -= slot.blocks().length;
+  }
+
+  synchronized long usedBytes() {
+    return (long) usedBlocks * blockSize;
+  }
+
+  long capacityBytes() {
+    return (long) blocks * blockSize;
+  }
+
+  private synchronized int[] allocate(int count) {
+    if (blocks - usedBlocks < count) {
+      return null;
+    }
+    final var indexes = new int[count];
+    var index = 0;
+    for (var i = 0; i < count; i++) {
+      index = used.nextClearBit(index);
+      used.set(index);
+      indexes[i] = index;
+    }
+    usedBlocks += count;
+    return indexes;
+  }
+
+  private static ByteBuffer map(OffHeapGlobalContextConfiguration configuration, int capacity) {
+    try {
+      final var directory = Files.createDirectories(configuration.directory());
+      final var file = Files.createTempFile(directory, "global-context", ".bin");
+      try (final var channel =
+          FileChannel.open(
+              file,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.DELETE_ON_CLOSE)) {
+        // The mapping stays valid after the channel is closed and the file is deleted
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+      }
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to map global context file in '%s'".formatted(configuration.directory()), e);
+    }
+  }
+
+  /**
+   * Location of a value in the store.
+   *
+   * @param blocks indexes of the blocks holding the value, in order
+   * @param length size of the value in bytes
+   */
+  record Slot(int[] blocks, int length) {}
+}
@@ -0,0 +1,265 @@
+package co.orquex.sagas.core.flow;
+
+import static co.orquex.sagas.core.stage.strategy.impl.EvaluationProcessingStrategy.EXPRESSION;
+
+import co.orquex.sagas.core.task.DefaultTaskExecutor;
+import co.orquex.sagas.core.task.TaskExecutorService;
+import co.orquex.sagas.domain.api.TaskImplementation;
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.registry.Registry;
+import co.orquex.sagas.domain.api.repository.FlowRepository;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.flow.Flow;
+import co.orquex.sagas.domain.stage.Activity;
+import co.orquex.sagas.domain.stage.Evaluation;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.task.TaskProcessor;
+import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.domain.utils.Maps;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms up the registered flows before the first saga is executed.
+ *
+ * <p>Walks every stage of the flows returned by {@link FlowRepository#findAll()} and, for every
+ * task they reference, resolves the task and its executor and calls {@link
+ * TaskImplementation#precompile(TaskRequest)} with the metadata the task would be executed with, so
+ * scripts and expressions are compiled before the first request instead of during it.
+ * Optionally, the deterministic tasks are executed a few times with an empty payload to warm up
+ * the execution path; their failures are ignored since the payload is synthetic.
+ *
+ * <p>A {@link FlowRepository} that does not support {@link FlowRepository#findAll()} is reported
+ * as a warm-up failure, so no flow is warmed up.
+ *
+ * <p>The metadata of the request is not known at startup, so a task whose script or expression
+ * only comes with the request is compiled on its first execution.
+ */
+@Slf4j
+public class FlowWarmUp {
+
+  private final FlowRepository flowRepository;
+  private final TaskExecutorService taskExecutorService;
+  private final Registry<TaskImplementation> taskImplementationRegistry;
+  private final GlobalContext globalContext;
+  private final FlowWarmUpConfiguration configuration;
+  private volatile boolean ready;
+
+  public FlowWarmUp(
+      final FlowRepository flowRepository,
+      final TaskExecutorService taskExecutorService,
+      final Registry<TaskImplementation> taskImplementationRegistry,
+      final GlobalContext globalContext,
+      final FlowWarmUpConfiguration configuration) {
+    this.flowRepository =
+        Preconditions.checkArgumentNotNull(flowRepository, "Flow repository cannot be null");
+    this.taskExecutorService =
+        Preconditions.checkArgumentNotNull(
+            taskExecutorService, "Task executor service cannot be null");
+    this.taskImplementationRegistry =
+        Preconditions.checkArgumentNotNull(
+            taskImplementationRegistry, "Task implementation registry cannot be null");
+    this.globalContext =
+        Preconditions.checkArgumentNotNull(globalContext, "Global context cannot be null");
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+  }
+
+  /**
+   * Warms up all the flows, once it completes {@link #isReady()} returns {@code true}.
+   *
+   * @return the result of the warm-up
+   * @throws WorkflowException if the warm-up failed and it is configured to fail on errors
+   */
+  public Result run() {
+    final var start = System.nanoTime();
+    final var warmUp = new Run();
+    final var flows = findFlows(warmUp);
+    for (final var flow : flows) {
+      warmUp(flow, warmUp);
+    }
+    final var dryRuns = dryRun(warmUp.deterministic);
+    final var result =
+        new Result(
+            flows.size(),
+            warmUp.tasks,
+            dryRuns,
+            List.copyOf(warmUp.failures),
+            Duration.ofNanos(System.nanoTime() - start));
+    if (!result.failures().isEmpty()) {
+      result.failures().forEach(failure -> log.warn("Warm-up failure: {}", failure));
+      if (configuration.failOnError()) {
+        throw new WorkflowException(
+            "Warm-up failed with %d failures".formatted(result.failures().size()));
+      }
+    }
+    log.info(
+        "Warm-up of {} flows and {} tasks completed in {}ms",
+        result.flows(),
+        result.tasks(),
+        result.duration().toMillis());
+    ready = true;
+    return result;
+  }
+
+  /** Returns the flows to warm up, a repository that cannot list them is a warm-up failure. */
+  private List<Flow> findFlows(Run run) {
+    try {
+      return flowRepository.findAll();
+    } catch (UnsupportedOperationException e) {
+      run.failures.add("flows cannot be listed: %s".formatted(e.getMessage()));
+      return List.of();
+    }
+  }
+
+  /**
+   * @return whether the warm-up has completed
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  private void warmUp(final Flow flow, final Run run) {
+    for (final var stage : flow.stages().values()) {
+      final var stageMetadata = Maps.merge(flow.metadata(), stage.getMetadata());
+      final var location = "flow '%s' stage '%s'".formatted(flow.id(), stage.getId());
+      if (stage instanceof Activity activity) {
+        for (final var activityTask : activity.getActivityTasks()) {
+          final var metadata = Maps.merge(stageMetadata, activityTask.metadata());
+          warmUpProcessor(flow, location, activityTask.preProcessor(), metadata, run);
+          warmUpTask(flow, location, activityTask.task(), metadata, run);
+          warmUpProcessor(flow, location, activityTask.postProcessor(), metadata, run);
+          final var compensation = activityTask.compensation();
+          if (compensation != null) {
+            final var compensationMetadata = Maps.merge(metadata, compensation.metadata());
+            warmUpProcessor(flow, location, compensation.preProcessor(), compensationMetadata, run);
+            warmUpTask(flow, location, compensation.task(), compensationMetadata, run);
+            warmUpProcessor(
+                flow, location, compensation.postProcessor(), compensationMetadata, run);
+          }
+        }
+      } else if (stage instanceof Evaluation evaluation) {
+        final var evaluationTask = evaluation.getEvaluationTask();
+        for (final var condition : evaluation.getConditions()) {
+          final Map<String, Serializable> expression =
+              Collections.singletonMap(EXPRESSION, condition.expression());
+          final var metadata = Maps.merge(stageMetadata, expression, evaluationTask.metadata());
+          warmUpProcessor(flow, location, evaluationTask.preProcessor(), metadata, run);
+          warmUpTask(flow, location, evaluationTask.task(), metadata, run);
+        }
+      }
+    }
+  }
+
+  private void warmUpProcessor(
+      final Flow flow,
+      final String location,
+      final TaskProcessor processor,
+      final Map<String, Serializable> metadata,
+      final Run run) {
+    if (processor != null) {
+      warmUpTask(flow, location, processor.task(), Maps.merge(metadata, processor.metadata()), run);
+    }
+  }
+
+  private void warmUpTask(
+      final Flow flow,
+      final String location,
+      final String taskId,
+      final Map<String, Serializable> metadata,
+      final Run run) {
+    run.tasks++;
+    final var task = taskExecutorService.taskRepository().findById(taskId).orElse(null);
+    if (task == null) {
+      run.failures.add("%s: task '%s' not found".formatted(location, taskId));
+      return;
+    }
+    final var executorId = task.configuration().executor();
+    final var executor = taskExecutorService.taskExecutorRegistry().get(executorId).orElse(null);
+    if (executor == null) {
+      run.failures.add(
+          "%s: task executor '%s' of task '%s' not registered"
+              .formatted(location, executorId, taskId));
+      return;
+    }
+    final var implementation = taskImplementationRegistry.get(task.implementation()).orElse(null);
+    if (implementation == null) {
+      // Other executors may run the implementation out of this application
+      if (executor instanceof DefaultTaskExecutor) {
+        run.failures.add(
+            "%s: implementation '%s' of task '%s' not found"
+                .formatted(location, task.implementation(), taskId));
+      }
+      return;
+    }
+    // The task metadata overrides the metadata of the request, as the executor merges them
+    final var taskMetadata = Maps.merge(metadata, task.metadata());
+    try {
+      implementation.precompile(
+          new TaskRequest(null, taskMetadata, Map.of(), task.configuration().parameters()));
+    } catch (RuntimeException e) {
+      run.failures.add(
+          "%s: task '%s' cannot be precompiled: %s".formatted(location, taskId, e.getMessage()));
+      return;
+    }
+    if (task.configuration().deterministic()) {
+      run.deterministic.add(new DryRun(flow.id(), task, metadata));
+    }
+  }
+
+  private int dryRun(final List<DryRun> dryRuns) {
+    final var iterations = configuration.dryRunIterations();
+    if (iterations == 0 || dryRuns.isEmpty()) {
+      return 0;
+    }
+    final var transactionId = "warm-up-" + UUID.randomUUID();
+    var executions = 0;
+    try {
+      for (var i = 0; i < iterations; i++) {
+        for (final var dryRun : dryRuns) {
+          final var request =
+              new ExecutionRequest(
+                  dryRun.flowId(), transactionId, dryRun.metadata(), new HashMap<>());
+          try {
+            taskExecutorService.executeTask(transactionId, dryRun.task(), request);
+          } catch (RuntimeException e) {
+            log.debug("Dry run of task '{}' failed: {}", dryRun.task().id(), e.getMessage());
+          }
+          executions++;
+        }
+      }
+    } finally {
+      globalContext.remove(transactionId);
+    }
+    return executions;
+  }
+
+  /**
+   * Result of a warm-up.
+   *
+   * @param flows number of flows warmed up
+   * @param tasks number of task references resolved, a task used twice is counted twice
+   * @param dryRuns number of synthetic executions
+   * @param failures the tasks that could not be resolved or precompiled
+   * @param duration time spent warming up
+   */
+  public record Result(
+      int flows, int tasks, int dryRuns, List<String> failures, Duration duration) {}
+
+  private record DryRun(String flowId, Task task, Map<String, Serializable> metadata) {}
+
+  private static final class Run {
+    private final List<String> failures = new ArrayList<>();
+    private final List<DryRun> deterministic = new ArrayList<>();
+    private int tasks;
+  }
+}
@@ -0,0 +1,24 @@
+package co.orquex.sagas.core.flow;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+
+/**
+ * Configuration record for the flow warm-up.
+ *
+ * @param dryRunIterations number of synthetic executions of every deterministic task, zero to
+ *     disable the dry run
+ * @param failOnError whether the warm-up fails when a flow references a task that cannot be
+ *     resolved or precompiled, instead of only logging it
+ * @see FlowWarmUp
+ */
+public record FlowWarmUpConfiguration(int dryRunIterations, boolean failOnError) {
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public FlowWarmUpConfiguration {
+    Preconditions.checkArgument(dryRunIterations >= 0, "Dry run iterations cannot be negative");
+  }
+}
@@ -1,7 +1,7 @@
 package co.orquex.sagas.core.flow;
 
 import static co.orquex.sagas.domain.utils.Maps.merge;
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 
 import co.orquex.sagas.domain.api.CompensationExecutor;
 import co.orquex.sagas.domain.api.Executable;
@@ -15,7 +15,7 @@ import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.execution.ExecutionResponse;
 import co.orquex.sagas.domain.flow.Flow;
 import co.orquex.sagas.domain.stage.Stage;
-import co.orquex.sagas.domain.stage.StageResponse;
+import co.orquex.sagas.domain.stage.StageRequest;
 import co.orquex.sagas.domain.transaction.Status;
 import co.orquex.sagas.domain.transaction.Transaction;
 import java.io.Serializable;
@@ -23,12 +23,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Synchronous workflow executor that orchestrates saga workflows using an orchestration pattern.
  * Handles workflow execution, transaction management, and resume-from-failure capabilities through
- * checkpoint recovery. Each workflow stage is executed synchronously with configurable timeouts.
+ * checkpoint recovery. The caller waits for the workflow with a configurable timeout, while its
+ * stages are chained on the executor without holding its threads while their tasks are in flight.
  *
  * @see AbstractWorkflowExecutor
  */
@@ -182,10 +184,13 @@ public class WorkflowExecutor extends AbstractWorkflowExecutor
     final var flowConfiguration = flow.configuration();
     // Register the transaction
     var transaction = initializeTransaction(flow, executionRequest);
-    // Submit the flow execution to the executor
-    final Future<Map<String, Serializable>> future =
-        executor.submit(
-            createExecutionCallable(transaction, flow, executionRequest, startingStage));
+    final var initialTransaction = transaction;
+    // Start the flow execution on the executor
+    final var future =
+        CompletableFuture.supplyAsync(
+                () -> executeStages(initialTransaction, flow, executionRequest, startingStage),
+                executor)
+            .thenCompose(Function.identity());
     final var timeout = flowConfiguration.timeout();
 
     try {
@@ -224,66 +229,81 @@ public class WorkflowExecutor extends AbstractWorkflowExecutor
   }
 
   /**
-   * Creates a callable that executes the workflow stages sequentially starting from a specified
-   * stage. This method implements the core workflow execution logic as a Callable that can be
-   * submitted to an ExecutorService. It handles stage-by-stage execution, circular reference
-   * detection, metadata merging, and payload transformation through the workflow chain.
+   * Starts the workflow stages sequentially from a specified stage. It handles stage-by-stage
+   * execution, circular reference detection, metadata merging, and payload transformation through
+   * the workflow chain.
+   *
+   * <p>Each stage is started with {@link StageExecutor#executeAsync(StageRequest)} and the next one
+   * is started on the executor once it completes, so no thread of the executor is held while the
+   * tasks of a stage are in flight.
    *
    * @param transaction the current transaction context for the workflow execution
    * @param flow the workflow flow definition containing all stage definitions
    * @param executionRequest the original execution request with initial metadata and payload
    * @param startingStage the stage to begin execution from (supports both new and resume scenarios)
-   * @return a callable that when executed returns the final workflow payload
+   * @return a future of the final workflow payload
    */
-  private Callable<Map<String, Serializable>> createExecutionCallable(
+  private CompletableFuture<Map<String, Serializable>> executeStages(
       final Transaction transaction,
       final Flow flow,
       final ExecutionRequest executionRequest,
       final Stage startingStage) {
-    return () -> {
-      final var callStack = new HashMap<String, String>();
-      final var flowId = executionRequest.flowId();
-      final var correlationId = executionRequest.correlationId();
-      var metadata = executionRequest.metadata();
-      var payload = executionRequest.payload();
-      var nextStageId = startingStage.getId(); // Use the starting stage ID
-      // Iterate over stages to execute each one.
-      while (nonNull(nextStageId) && !nextStageId.isEmpty()) {
-        // Check for circular execution
-        if (callStack.putIfAbsent(nextStageId, nextStageId) != null) {
-          throw new WorkflowException(
-              "Circular execution detected in flow '%s' at stage '%s'."
-                  .formatted(flowId, nextStageId));
-        }
-        // Get the next stage
-        final var stage = getStage(flow, nextStageId);
-        // Prepare the stage metadata merging the request metadata with the flow and stage metadata
-        final var stageMetadata = merge(metadata, flow.metadata(), stage.getMetadata());
-        final var stageExecutionRequest =
-            new ExecutionRequest(flowId, correlationId, stageMetadata, payload);
-        // Execute stage
-        final var stageResponse = executeStage(transaction, stage, stageExecutionRequest);
-        payload = stageResponse.payload();
-        nextStageId = stageResponse.outgoing();
-        metadata = Collections.emptyMap(); // Reset metadata to avoid leaking sensitive information
-      }
-      return payload;
-    };
+    final var callStack = new HashMap<String, String>();
+    return executeStages(
+        transaction,
+        flow,
+        callStack,
+        executionRequest.metadata(),
+        executionRequest.payload(),
+        executionRequest,
+        startingStage.getId()); // Use the starting stage ID
   }
 
-  /**
-   * Executes a single workflow stage and returns the stage response. This method creates a stage
-   * request from the provided parameters and delegates the actual execution to the configured stage
-   * executor.
-   *
-   * @param transaction the current transaction providing context and tracking information
-   * @param stage the stage definition containing type, configuration, and execution parameters
-   * @param request the execution request with current metadata and payload for this stage
-   * @return the stage response containing output payload and next stage reference
-   */
-  private StageResponse executeStage(
-      Transaction transaction, Stage stage, ExecutionRequest request) {
-    final var stageRequest = getStageRequest(transaction.transactionId(), stage, request);
-    return stageExecutor.execute(stageRequest);
+  private CompletableFuture<Map<String, Serializable>> executeStages(
+      final Transaction transaction,
+      final Flow flow,
+      final Map<String, String> callStack,
+      final Map<String, Serializable> metadata,
+      final Map<String, Serializable> payload,
+      final ExecutionRequest executionRequest,
+      final String nextStageId) {
+    if (isNull(nextStageId) || nextStageId.isEmpty()) {
+      return CompletableFuture.completedFuture(payload);
+    }
+    final var flowId = executionRequest.flowId();
+    final var correlationId = executionRequest.correlationId();
+    // Check for circular execution
+    if (callStack.putIfAbsent(nextStageId, nextStageId) != null) {
+      return CompletableFuture.failedFuture(
+          new WorkflowException(
+              "Circular execution detected in flow '%s' at stage '%s'."
+                  .formatted(flowId, nextStageId)));
+    }
+    final StageRequest stageRequest;
+    try {
+      // Get the next stage
+      final var stage = getStage(flow, nextStageId);
+      // Prepare the stage metadata merging the request metadata with the flow and stage metadata
+      final var stageMetadata = merge(metadata, flow.metadata(), stage.getMetadata());
+      final var stageExecutionRequest =
+          new ExecutionRequest(flowId, correlationId, stageMetadata, payload);
+      stageRequest = getStageRequest(transaction.transactionId(), stage, stageExecutionRequest);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    // Execute stage, the metadata is reset to avoid leaking sensitive information
+    return stageExecutor
+        .executeAsync(stageRequest)
+        .thenComposeAsync(
+            stageResponse ->
+                executeStages(
+                    transaction,
+                    flow,
+                    callStack,
+                    Collections.emptyMap(),
+                    stageResponse.payload(),
+                    executionRequest,
+                    stageResponse.outgoing()),
+            executor);
   }
 }
@@ -0,0 +1,216 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.api.repository.CheckpointHistoryRepository;
+import co.orquex.sagas.domain.api.repository.CheckpointRepository;
+import co.orquex.sagas.domain.api.repository.FlowRepository;
+import co.orquex.sagas.domain.stage.Stage;
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.transaction.CheckpointDelta;
+import co.orquex.sagas.domain.transaction.MapDelta;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.utils.LruCache;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link CheckpointRepository} that stores the checkpoints as a delta-encoded history.
+ *
+ * <p>Every saved checkpoint is appended to the {@link CheckpointHistoryRepository} as a {@link
+ * CheckpointDelta} holding only the metadata, payload and response keys that changed since the
+ * previous checkpoint of the transaction, and the stage ID instead of the stage. Every {@code
+ * snapshotInterval} entries the full maps are stored, which bounds the number of entries applied to
+ * rebuild a checkpoint. The incoming stage of a rebuilt checkpoint is looked up by ID in the {@link
+ * FlowRepository}.
+ *
+ * <p>The last checkpoint of the running transactions is kept in memory to compute the deltas, it is
+ * released when the transaction completes, fails or is canceled, and rebuilt from the history if
+ * the transaction is resumed. At most {@code maxCachedTransactions} checkpoints are kept, the least
+ * recently used ones are evicted and rebuilt from the history when needed again, so transactions
+ * that never finish do not grow the memory without bound. The saves of a transaction are
+ * serialized by a {@link StripedLock} on the transaction ID, which is held while the delta is
+ * appended, so lookups never wait for the history repository.
+ */
+public class DeltaCheckpointRepository implements CheckpointRepository {
+
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 16;
+  public static final int DEFAULT_MAX_CACHED_TRANSACTIONS = 10_000;
+
+  private final CheckpointHistoryRepository historyRepository;
+  private final FlowRepository flowRepository;
+  private final int snapshotInterval;
+  private final LruCache<String, Entry> lastEntries;
+  private final StripedLock lock = new StripedLock();
+
+  public DeltaCheckpointRepository(
+      final CheckpointHistoryRepository historyRepository, final FlowRepository flowRepository) {
+    this(historyRepository, flowRepository, DEFAULT_SNAPSHOT_INTERVAL);
+  }
+
+  public DeltaCheckpointRepository(
+      final CheckpointHistoryRepository historyRepository,
+      final FlowRepository flowRepository,
+      final int snapshotInterval) {
+    this(historyRepository, flowRepository, snapshotInterval, DEFAULT_MAX_CACHED_TRANSACTIONS);
+  }
+
+  /**
+   * Creates a repository.
+   *
+   * @param historyRepository repository the deltas are appended to
+   * @param flowRepository repository the incoming stages are looked up in
+   * @param snapshotInterval number of entries between two snapshots
+   * @param maxCachedTransactions maximum number of transactions whose last checkpoint is kept in
+   *     memory
+   */
+  public DeltaCheckpointRepository(
+      final CheckpointHistoryRepository historyRepository,
+      final FlowRepository flowRepository,
+      final int snapshotInterval,
+      final int maxCachedTransactions) {
+    this.historyRepository =
+        Preconditions.checkArgumentNotNull(
+            historyRepository, "Checkpoint history repository cannot be null");
+    this.flowRepository =
+        Preconditions.checkArgumentNotNull(flowRepository, "Flow repository cannot be null");
+    Preconditions.checkArgument(
+        snapshotInterval > 0, "Snapshot interval must be greater than zero");
+    this.snapshotInterval = snapshotInterval;
+    Preconditions.checkArgument(
+        maxCachedTransactions > 0, "Max cached transactions must be greater than zero");
+    this.lastEntries = new LruCache<>(maxCachedTransactions);
+  }
+
+  @Override
+  public Checkpoint save(Checkpoint checkpoint) {
+    Preconditions.checkArgumentNotNull(checkpoint, "Checkpoint cannot be null");
+    final var transactionId = checkpoint.transactionId();
+    lock.run(
+        transactionId,
+        () -> {
+          final var previous =
+              lastEntries.get(transactionId).or(() -> rebuild(transactionId)).orElse(null);
+          final var entry = append(previous, checkpoint);
+          // Finished transactions are rebuilt from the history if they are resumed
+          if (isFinished(checkpoint)) {
+            lastEntries.remove(transactionId);
+          } else {
+            lastEntries.put(transactionId, entry);
+          }
+        });
+    return checkpoint;
+  }
+
+  @Override
+  public Optional<Checkpoint> findByTransactionId(String transactionId) {
+    return lastEntries
+        .get(transactionId)
+        .or(() -> rebuild(transactionId))
+        .map(e -> withIncoming(e.checkpoint()));
+  }
+
+  /**
+   * Rebuilds every checkpoint saved for a transaction.
+   *
+   * @param transactionId the transaction ID
+   * @return the checkpoints in the order they were saved
+   */
+  public List<Checkpoint> findHistoryByTransactionId(String transactionId) {
+    final var checkpoints = new ArrayList<Checkpoint>();
+    Checkpoint previous = null;
+    for (final var delta : historyRepository.findByTransactionId(transactionId)) {
+      previous = apply(delta.snapshot() ? null : previous, delta);
+      checkpoints.add(withIncoming(previous));
+    }
+    return checkpoints;
+  }
+
+  private Entry append(Entry previous, Checkpoint checkpoint) {
+    final var sequence = previous == null ? 0 : previous.sequence() + 1;
+    final var snapshot =
+        previous == null || sequence - previous.snapshotSequence() >= snapshotInterval;
+    final var base = snapshot ? null : previous.checkpoint();
+    final var delta =
+        CheckpointDelta.builder()
+            .transactionId(checkpoint.transactionId())
+            .sequence(sequence)
+            .snapshot(snapshot)
+            .status(checkpoint.status())
+            .flowId(checkpoint.flowId())
+            .correlationId(checkpoint.correlationId())
+            .stageId(checkpoint.stageId())
+            .metadata(MapDelta.of(base == null ? null : base.metadata(), checkpoint.metadata()))
+            .payload(MapDelta.of(base == null ? null : base.payload(), checkpoint.payload()))
+            .response(MapDelta.of(base == null ? null : base.response(), checkpoint.response()))
+            .outgoing(checkpoint.outgoing())
+            .createdAt(checkpoint.createdAt())
+            .updatedAt(checkpoint.updatedAt())
+            .build();
+    historyRepository.append(delta);
+    return new Entry(
+        apply(base, delta), sequence, snapshot ? sequence : previous.snapshotSequence());
+  }
+
+  private Optional<Entry> rebuild(String transactionId) {
+    Entry entry = null;
+    for (final var delta : historyRepository.findFromLastSnapshot(transactionId)) {
+      final var previous = delta.snapshot() || entry == null ? null : entry.checkpoint();
+      final var snapshotSequence =
+          delta.snapshot() || entry == null ? delta.sequence() : entry.snapshotSequence();
+      entry = new Entry(apply(previous, delta), delta.sequence(), snapshotSequence);
+    }
+    return Optional.ofNullable(entry);
+  }
+
+  private static Checkpoint apply(Checkpoint previous, CheckpointDelta delta) {
+    return Checkpoint.builder()
+        .transactionId(delta.transactionId())
+        .status(delta.status())
+        .flowId(delta.flowId())
+        .correlationId(delta.correlationId())
+        .stageId(delta.stageId())
+        .metadata(MapDelta.apply(delta.metadata(), previous == null ? null : previous.metadata()))
+        .payload(MapDelta.apply(delta.payload(), previous == null ? null : previous.payload()))
+        .response(MapDelta.apply(delta.response(), previous == null ? null : previous.response()))
+        .outgoing(delta.outgoing())
+        .createdAt(delta.createdAt())
+        .updatedAt(delta.updatedAt())
+        .build();
+  }
+
+  private Checkpoint withIncoming(Checkpoint checkpoint) {
+    final Stage incoming =
+        checkpoint.flowId() == null || checkpoint.stageId() == null
+            ? null
+            : flowRepository
+                .findById(checkpoint.flowId())
+                .map(flow -> flow.stages().get(checkpoint.stageId()))
+                .orElse(null);
+    return Checkpoint.builder()
+        .transactionId(checkpoint.transactionId())
+        .status(checkpoint.status())
+        .flowId(checkpoint.flowId())
+        .correlationId(checkpoint.correlationId())
+        .stageId(checkpoint.stageId())
+        .metadata(checkpoint.metadata())
+        .payload(checkpoint.payload())
+        .response(checkpoint.response())
+        .outgoing(checkpoint.outgoing())
+        .incoming(incoming)
+        .createdAt(checkpoint.createdAt())
+        .updatedAt(checkpoint.updatedAt())
+        .build();
+  }
+
+  private static boolean isFinished(Checkpoint checkpoint) {
+    return switch (checkpoint.status()) {
+      case ERROR, CANCELED -> true;
+      case COMPLETED -> checkpoint.outgoing() == null;
+      default -> false;
+    };
+  }
+
+  /** Last rebuilt checkpoint of a transaction, without its incoming stage. */
+  private record Entry(Checkpoint checkpoint, long sequence, long snapshotSequence) {}
+}
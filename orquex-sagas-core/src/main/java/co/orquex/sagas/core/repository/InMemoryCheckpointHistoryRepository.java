@@ -0,0 +1,79 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.api.repository.CheckpointHistoryRepository;
+import co.orquex.sagas.domain.transaction.CheckpointDelta;
+import co.orquex.sagas.domain.utils.LruCache;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory {@link CheckpointHistoryRepository} that keeps the entries of each transaction in the
+ * order they were appended.
+ *
+ * <p>The histories of at most {@code maxTransactions} transactions are retained, once the limit is
+ * reached appending to a new transaction discards the history of the transaction that was least
+ * recently appended to or read.
+ */
+public class InMemoryCheckpointHistoryRepository implements CheckpointHistoryRepository {
+
+  public static final int DEFAULT_MAX_TRANSACTIONS = 10_000;
+
+  private final LruCache<String, List<CheckpointDelta>> histories;
+
+  public InMemoryCheckpointHistoryRepository() {
+    this(DEFAULT_MAX_TRANSACTIONS);
+  }
+
+  /**
+   * Creates a repository that retains the histories of a bounded number of transactions.
+   *
+   * @param maxTransactions maximum number of transactions whose history is retained
+   */
+  public InMemoryCheckpointHistoryRepository(final int maxTransactions) {
+    Preconditions.checkArgument(
+        maxTransactions > 0, "Max transactions must be greater than zero");
+    this.histories = new LruCache<>(maxTransactions);
+  }
+
+  @Override
+  public CheckpointDelta append(CheckpointDelta checkpointDelta) {
+    Preconditions.checkArgumentNotNull(checkpointDelta, "Checkpoint delta cannot be null");
+    final List<CheckpointDelta> history;
+    // Create the history of a transaction only once
+    synchronized (histories) {
+      history = histories.computeIfAbsent(checkpointDelta.transactionId(), k -> new ArrayList<>());
+    }
+    synchronized (history) {
+      history.add(checkpointDelta);
+    }
+    return checkpointDelta;
+  }
+
+  @Override
+  public List<CheckpointDelta> findByTransactionId(String transactionId) {
+    return histories
+        .get(transactionId)
+        .map(
+            history -> {
+              synchronized (history) {
+                return List.copyOf(history);
+              }
+            })
+        .orElse(List.of());
+  }
+
+  /**
+   * @return the number of transactions whose history is retained
+   */
+  public int size() {
+    return histories.size();
+  }
+
+  /**
+   * @return the number of histories discarded to respect the maximum number of transactions
+   */
+  public long evictions() {
+    return histories.evictions();
+  }
+}
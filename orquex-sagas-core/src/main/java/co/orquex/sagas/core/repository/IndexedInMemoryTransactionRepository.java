@@ -0,0 +1,199 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory {@link TransactionRepository} with a secondary index on flow ID and correlation ID.
+ *
+ * <p>Transactions are stored by ID, and a composite-key index maps each flow ID and correlation ID
+ * pair to its transaction ID, so {@link #findByFlowIdAndCorrelationId(String, String)} and {@link
+ * #existsByFlowIdAndCorrelationId(String, String)} are O(1) lookups instead of a scan. Both maps
+ * are updated under a lock striped by transaction ID, so saves of different transactions do not
+ * contend and readers never see one index without the other.
+ *
+ * <p>Transactions saved as {@link Status#COMPLETED} or {@link Status#CANCELED} are evicted once
+ * the retention time has elapsed. Eviction is amortized on {@link #save(Transaction)} and can also
+ * be triggered with {@link #evictExpired()}. Failed transactions are retained so they can be
+ * resumed.
+ */
+@Slf4j
+public class IndexedInMemoryTransactionRepository implements TransactionRepository {
+
+  public static final int DEFAULT_STRIPES = StripedLock.DEFAULT_STRIPES;
+
+  /** Maximum number of expired transactions evicted by a single save. */
+  private static final int EVICTIONS_PER_SAVE = 8;
+
+  private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+  private final Map<FlowCorrelationKey, String> transactionIds = new ConcurrentHashMap<>();
+  private final Queue<Expiration> expirations = new ConcurrentLinkedQueue<>();
+  private final StripedLock lock;
+  private final Duration completedRetention;
+  private final Clock clock;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Creates a repository that evicts finished transactions after the given retention.
+   *
+   * @param completedRetention time a completed or canceled transaction is kept after its last
+   *     update
+   */
+  public IndexedInMemoryTransactionRepository(final Duration completedRetention) {
+    this(completedRetention, DEFAULT_STRIPES, Clock.systemUTC());
+  }
+
+  /**
+   * Creates a repository that evicts finished transactions after the given retention.
+   *
+   * @param completedRetention time a completed or canceled transaction is kept after its last
+   *     update
+   * @param stripes number of locks used to serialize the saves, rounded up to a power of two
+   * @param clock clock used to compute the expirations
+   */
+  public IndexedInMemoryTransactionRepository(
+      final Duration completedRetention, final int stripes, final Clock clock) {
+    Preconditions.checkArgumentNotNull(completedRetention, "Completed retention cannot be null");
+    Preconditions.checkArgument(
+        !completedRetention.isNegative(), "Completed retention cannot be negative");
+    this.completedRetention = completedRetention;
+    this.clock = Preconditions.checkArgumentNotNull(clock, "Clock cannot be null");
+    this.lock = new StripedLock(stripes);
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    return Optional.ofNullable(transactions.get(id));
+  }
+
+  @Override
+  public boolean existsByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    return transactionIds.containsKey(new FlowCorrelationKey(flowId, correlationId));
+  }
+
+  @Override
+  public Optional<Transaction> findByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    final var transactionId = transactionIds.get(new FlowCorrelationKey(flowId, correlationId));
+    return transactionId == null ? Optional.empty() : findById(transactionId);
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    Preconditions.checkArgumentNotNull(transaction, "Transaction cannot be null");
+    final var transactionId = transaction.transactionId();
+    lock.run(
+        transactionId,
+        () -> {
+          final var previous = transactions.put(transactionId, transaction);
+          final var key = new FlowCorrelationKey(transaction.flowId(), transaction.correlationId());
+          if (previous != null) {
+            final var previousKey =
+                new FlowCorrelationKey(previous.flowId(), previous.correlationId());
+            if (!previousKey.equals(key)) {
+              transactionIds.remove(previousKey, transactionId);
+            }
+          }
+          transactionIds.put(key, transactionId);
+        });
+    if (isFinished(transaction)) {
+      expirations.add(new Expiration(transaction, expirationOf(transaction)));
+    }
+    evict(EVICTIONS_PER_SAVE);
+    return transaction;
+  }
+
+  /**
+   * Evicts every finished transaction whose retention has elapsed.
+   *
+   * @return the number of evicted transactions
+   */
+  public int evictExpired() {
+    return evict(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the number of transactions currently retained
+   */
+  public int size() {
+    return transactions.size();
+  }
+
+  /**
+   * @return the total number of evicted transactions
+   */
+  public long evictions() {
+    return evictions.get();
+  }
+
+  private int evict(int limit) {
+    // A single thread evicts at a time, the others skip it instead of waiting
+    if (!evictionLock.tryLock()) {
+      return 0;
+    }
+    var evicted = 0;
+    try {
+      final var now = clock.instant();
+      while (evicted < limit) {
+        final var expiration = expirations.peek();
+        if (expiration == null || expiration.expiresAt().isAfter(now)) {
+          break;
+        }
+        expirations.poll();
+        if (evict(expiration)) {
+          evicted++;
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+    if (evicted > 0) {
+      evictions.addAndGet(evicted);
+      log.trace("Evicted {} finished transactions", evicted);
+    }
+    return evicted;
+  }
+
+  private boolean evict(Expiration expiration) {
+    final var transaction = expiration.transaction();
+    final var transactionId = transaction.transactionId();
+    return lock.call(
+        transactionId,
+        () -> {
+          // Only evict if the transaction was not saved again since it was scheduled for eviction
+          if (!transactions.remove(transactionId, transaction)) {
+            return false;
+          }
+          transactionIds.remove(
+              new FlowCorrelationKey(transaction.flowId(), transaction.correlationId()),
+              transactionId);
+          return true;
+        });
+  }
+
+  private Instant expirationOf(Transaction transaction) {
+    final var updatedAt = transaction.updatedAt() != null ? transaction.updatedAt() : clock.instant();
+    return updatedAt.plus(completedRetention);
+  }
+
+  private static boolean isFinished(Transaction transaction) {
+    return transaction.status() == Status.COMPLETED || transaction.status() == Status.CANCELED;
+  }
+
+  private record FlowCorrelationKey(String flowId, String correlationId) {}
+
+  private record Expiration(Transaction transaction, Instant expiresAt) {}
+}
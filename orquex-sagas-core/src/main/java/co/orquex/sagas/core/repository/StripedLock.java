@@ -0,0 +1,71 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Set of locks striped by key, so the saves of the same key are serialized while the saves of
+ * different keys rarely contend.
+ */
+public final class StripedLock {
+
+  public static final int DEFAULT_STRIPES = 64;
+
+  private final ReentrantLock[] locks;
+
+  public StripedLock() {
+    this(DEFAULT_STRIPES);
+  }
+
+  /**
+   * Creates a set of locks.
+   *
+   * @param stripes number of locks, rounded up to a power of two
+   */
+  public StripedLock(final int stripes) {
+    Preconditions.checkArgument(stripes > 0, "Stripes must be greater than zero");
+    var size = 1;
+    while (size < stripes) {
+      size <<= 1;
+    }
+    this.locks = new ReentrantLock[size];
+    for (var i = 0; i < size; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Runs the action holding the lock of the given key.
+   *
+   * @param key the key
+   * @param action the action to run
+   */
+  public void run(String key, Runnable action) {
+    call(
+        key,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * Computes a result holding the lock of the given key.
+   *
+   * @param key the key
+   * @param action the action computing the result
+   * @return the result of the action
+   * @param <T> the type of the result
+   */
+  public <T> T call(String key, Supplier<T> action) {
+    final var hash = key.hashCode();
+    final var lock = locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
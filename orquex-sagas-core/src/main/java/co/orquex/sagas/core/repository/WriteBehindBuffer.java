@@ -0,0 +1,265 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffer of pending saves shared by the write-behind repositories.
+ *
+ * <p>Saves of the same key are coalesced, only the latest version is written. The buffer is
+ * written as a single batch when it reaches the maximum batch size, on the thread of the save that
+ * filled it, or by a background thread once the maximum delay has elapsed. Batches are written one
+ * at a time, and the entries of the batch being written remain visible to the readers until the
+ * write completes.
+ *
+ * <p>Each save gets a future completed once its entry, or a newer version of it, is written. When a
+ * batch cannot be written the futures of its entries complete with the exception, which is also
+ * thrown to the caller of {@link #flush()} but not to the save that filled the buffer, and the
+ * entries are buffered again, unless a newer version was saved meanwhile. Once the buffer holds the
+ * maximum buffer size, saves of entries that are not buffered are rejected until a write succeeds.
+ *
+ * <p>An optional index maps a secondary key of the entries to their key, so the buffered entry of a
+ * secondary key is found with {@link #findIndexed(Object)} without scanning the buffer.
+ *
+ * @param <T> the type of the buffered entries
+ */
+@Slf4j
+final class WriteBehindBuffer<T> implements AutoCloseable {
+
+  private final String name;
+  private final WriteBehindConfiguration configuration;
+  private final Function<T, String> keyFunction;
+  private final Consumer<List<T>> writer;
+  private final Function<T, Object> indexFunction;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ScheduledExecutorService scheduler;
+  private Map<String, Pending<T>> pending = new LinkedHashMap<>();
+  private Map<String, Pending<T>> inFlight = Map.of();
+  private Map<Object, String> pendingIndex = new HashMap<>();
+  private Map<Object, String> inFlightIndex = Map.of();
+  private boolean closed;
+
+  WriteBehindBuffer(
+      final String name,
+      final WriteBehindConfiguration configuration,
+      final Function<T, String> keyFunction,
+      final Consumer<List<T>> writer) {
+    this(name, configuration, keyFunction, writer, null);
+  }
+
+  WriteBehindBuffer(
+      final String name,
+      final WriteBehindConfiguration configuration,
+      final Function<T, String> keyFunction,
+      final Consumer<List<T>> writer,
+      final Function<T, Object> indexFunction) {
+    this.name = name;
+    this.configuration = configuration;
+    this.keyFunction = keyFunction;
+    this.writer = writer;
+    this.indexFunction = indexFunction;
+    final var threadFactory = Thread.ofPlatform().name(name + "-write-behind").daemon().factory();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    final var delay = configuration.maxDelay().toNanos();
+    scheduler.scheduleWithFixedDelay(this::safeFlush, delay, delay, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Buffers the entry, writing the buffer when it reaches the maximum batch size.
+   *
+   * @param entry the entry to buffer
+   * @return a future completed once the entry is written, or exceptionally if its write fails
+   * @throws WorkflowException if the buffer is closed, or full and the entry is not buffered
+   */
+  CompletableFuture<Void> add(final T entry) {
+    final boolean full;
+    final CompletableFuture<Void> written;
+    synchronized (this) {
+      if (closed) {
+        throw new WorkflowException("Write-behind %s repository is closed".formatted(name));
+      }
+      final var key = keyFunction.apply(entry);
+      final var previous = pending.get(key);
+      if (previous == null && pending.size() >= configuration.maxBufferSize()) {
+        throw new WorkflowException("Write-behind %s repository buffer is full".formatted(name));
+      }
+      // A coalesced save is written with the previous one, so they share the same future
+      written = previous != null ? previous.written() : new CompletableFuture<>();
+      pending.put(key, new Pending<>(entry, written));
+      if (indexFunction != null) {
+        if (previous != null) {
+          pendingIndex.remove(indexFunction.apply(previous.entry()), key);
+        }
+        pendingIndex.put(indexFunction.apply(entry), key);
+      }
+      full = pending.size() >= configuration.maxBatchSize();
+    }
+    if (full) {
+      // The failure is reported to the entries of the batch, not to the save that filled it
+      safeFlush();
+    }
+    return written;
+  }
+
+  /**
+   * @param key the key of the entry
+   * @return the latest buffered version of the entry, or empty if it is not buffered
+   */
+  synchronized Optional<T> get(final String key) {
+    final var entry = pending.get(key);
+    return Optional.ofNullable(entry != null ? entry : inFlight.get(key)).map(Pending::entry);
+  }
+
+  /**
+   * @param indexKey the secondary key of the entry
+   * @return the latest buffered entry with the secondary key, or empty if there is none
+   * @throws IllegalStateException if the buffer has no index
+   */
+  synchronized Optional<T> findIndexed(final Object indexKey) {
+    if (indexFunction == null) {
+      throw new IllegalStateException("Write-behind %s buffer has no index".formatted(name));
+    }
+    final var key = pendingIndex.get(indexKey);
+    if (key != null) {
+      return Optional.of(pending.get(key).entry());
+    }
+    final var inFlightKey = inFlightIndex.get(indexKey);
+    if (inFlightKey == null || pending.containsKey(inFlightKey)) {
+      // A newer version of the entry in flight is buffered under another secondary key
+      return Optional.empty();
+    }
+    return Optional.ofNullable(inFlight.get(inFlightKey)).map(Pending::entry);
+  }
+
+  /**
+   * @param filter the condition the entries must match
+   * @return the latest buffered version of the matching entries, in the order they were buffered
+   */
+  synchronized List<T> find(final Predicate<T> filter) {
+    final Map<String, Pending<T>> entries = new LinkedHashMap<>(inFlight);
+    entries.putAll(pending);
+    final List<T> result = new ArrayList<>();
+    for (final var pendingEntry : entries.values()) {
+      if (filter.test(pendingEntry.entry())) {
+        result.add(pendingEntry.entry());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Drops the buffered entries matching the filter, waiting for the batch being written.
+   *
+   * @param filter the condition the entries must match
+   */
+  void discard(final Predicate<T> filter) {
+    writeLock.lock();
+    try {
+      synchronized (this) {
+        final var entries = pending.entrySet().iterator();
+        while (entries.hasNext()) {
+          final var entry = entries.next();
+          if (filter.test(entry.getValue().entry())) {
+            entries.remove();
+            unindex(entry.getKey(), entry.getValue().entry());
+            // The discarded entry will never be written
+            entry.getValue().written().complete(null);
+          }
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Writes the buffered entries as a single batch.
+   *
+   * @throws RuntimeException the exception of the writer if the batch cannot be written
+   */
+  void flush() {
+    writeLock.lock();
+    try {
+      final List<T> batch;
+      synchronized (this) {
+        if (pending.isEmpty()) {
+          return;
+        }
+        inFlight = pending;
+        pending = new LinkedHashMap<>();
+        inFlightIndex = pendingIndex;
+        pendingIndex = new HashMap<>();
+        batch = inFlight.values().stream().map(Pending::entry).toList();
+      }
+      try {
+        writer.accept(batch);
+        log.trace("Write-behind {} repository wrote {} entries", name, batch.size());
+        inFlight.values().forEach(entry -> entry.written().complete(null));
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          // Newer versions saved while the batch was being written take precedence
+          inFlight.forEach(
+              (key, entry) -> {
+                final var retry = new Pending<>(entry.entry(), new CompletableFuture<Void>());
+                if (pending.putIfAbsent(key, retry) == null && indexFunction != null) {
+                  pendingIndex.put(indexFunction.apply(entry.entry()), key);
+                }
+              });
+        }
+        inFlight.values().forEach(entry -> entry.written().completeExceptionally(e));
+        throw e;
+      } finally {
+        synchronized (this) {
+          inFlight = Map.of();
+          inFlightIndex = Map.of();
+        }
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /** Stops the background writes and writes the buffered entries. */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    // The writer is not interrupted, a write in progress completes before the final flush
+    scheduler.shutdown();
+    flush();
+  }
+
+  private void unindex(final String key, final T entry) {
+    if (indexFunction != null) {
+      pendingIndex.remove(indexFunction.apply(entry), key);
+    }
+  }
+
+  private void safeFlush() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Write-behind {} repository failed to write the buffered entries", name, e);
+    }
+  }
+
+  private record Pending<T>(T entry, CompletableFuture<Void> written) {}
+}
@@ -0,0 +1,107 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link CompensationRepository} decorator that buffers the saves and writes them to the delegate
+ * in batches through {@link CompensationRepository#saveAll(List)}.
+ *
+ * <p>Successive saves of the same compensation are coalesced, so only its latest status is
+ * written. The buffer is written when it reaches the maximum batch size, when the maximum delay has
+ * elapsed, and on {@link #flush()} or {@link #close()}. The compensation executors flush the
+ * repository before reading the compensations of a transaction, and {@link
+ * #findByTransactionId(String)} merges the buffered compensations with the stored ones, so the
+ * compensations of a stage are never missed by its rollback.
+ *
+ * <p>A failed write does not fail the saves, its compensations stay buffered and are written again
+ * later. {@link #saveAsync(Compensation)} reports whether a compensation was written. Saves of new
+ * compensations are rejected while the buffer holds the maximum buffer size.
+ *
+ * <p>Buffered compensations are lost if the process stops before they are written, the maximum
+ * delay bounds the window of saves that can be lost.
+ */
+public class WriteBehindCompensationRepository implements CompensationRepository, AutoCloseable {
+
+  private final CompensationRepository delegate;
+  private final WriteBehindBuffer<Compensation> buffer;
+
+  public WriteBehindCompensationRepository(
+      final CompensationRepository delegate, final WriteBehindConfiguration configuration) {
+    this.delegate = Preconditions.checkArgumentNotNull(delegate, "Delegate cannot be null");
+    Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    this.buffer =
+        new WriteBehindBuffer<>("compensation", configuration, Compensation::id, delegate::saveAll);
+  }
+
+  @Override
+  public List<Compensation> findByTransactionId(String transactionId) {
+    final var buffered =
+        buffer.find(compensation -> transactionId.equals(compensation.transactionId()));
+    final var stored = delegate.findByTransactionId(transactionId);
+    if (buffered.isEmpty()) {
+      return stored;
+    }
+    final Map<String, Compensation> compensations = new LinkedHashMap<>();
+    stored.forEach(compensation -> compensations.put(compensation.id(), compensation));
+    buffered.forEach(compensation -> compensations.put(compensation.id(), compensation));
+    return new ArrayList<>(compensations.values());
+  }
+
+  /** Writes the buffered compensations before querying the delegate. */
+  @Override
+  public List<Compensation> findByStatus(Status status) {
+    buffer.flush();
+    return delegate.findByStatus(status);
+  }
+
+  @Override
+  public Compensation save(Compensation compensation) {
+    Preconditions.checkArgumentNotNull(compensation, "Compensation cannot be null");
+    buffer.add(compensation);
+    return compensation;
+  }
+
+  /**
+   * Buffers the save of the compensation.
+   *
+   * @param compensation the compensation to save
+   * @return a future completed once the compensation is written to the delegate, or exceptionally
+   *     if its write fails
+   */
+  public CompletableFuture<Compensation> saveAsync(Compensation compensation) {
+    Preconditions.checkArgumentNotNull(compensation, "Compensation cannot be null");
+    return buffer.add(compensation).thenApply(written -> compensation);
+  }
+
+  @Override
+  public List<Compensation> saveAll(List<Compensation> compensations) {
+    compensations.forEach(this::save);
+    return compensations;
+  }
+
+  @Override
+  public void flush() {
+    buffer.flush();
+    delegate.flush();
+  }
+
+  @Override
+  public void deleteByTransactionId(String transactionId) {
+    buffer.discard(compensation -> transactionId.equals(compensation.transactionId()));
+    delegate.deleteByTransactionId(transactionId);
+  }
+
+  /** Writes the buffered compensations and stops the background writes. */
+  @Override
+  public void close() {
+    buffer.close();
+  }
+}
@@ -0,0 +1,57 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Duration;
+
+/**
+ * Configuration record for the write-behind repositories.
+ *
+ * @param maxBatchSize number of buffered entries that triggers a write
+ * @param maxDelay maximum time an entry stays buffered before it is written
+ * @param maxBufferSize maximum number of buffered entries, reached when the writes fail, beyond
+ *     which the saves of new entries are rejected
+ * @see WriteBehindTransactionRepository
+ * @see WriteBehindCompensationRepository
+ */
+public record WriteBehindConfiguration(int maxBatchSize, Duration maxDelay, int maxBufferSize) {
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(10);
+  public static final int DEFAULT_BUFFERED_BATCHES = 16;
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public WriteBehindConfiguration {
+    Preconditions.checkArgument(maxBatchSize > 0, "Max batch size must be greater than zero");
+    Preconditions.checkArgumentNotNull(maxDelay, "Max delay cannot be null");
+    Preconditions.checkArgument(
+        !maxDelay.isNegative() && !maxDelay.isZero(), "Max delay must be positive");
+    Preconditions.checkArgument(
+        maxBufferSize >= maxBatchSize, "Max buffer size cannot be lower than the max batch size");
+  }
+
+  /**
+   * Creates a configuration that buffers up to {@value #DEFAULT_BUFFERED_BATCHES} batches.
+   *
+   * @param maxBatchSize number of buffered entries that triggers a write
+   * @param maxDelay maximum time an entry stays buffered before it is written
+   */
+  public WriteBehindConfiguration(int maxBatchSize, Duration maxDelay) {
+    this(
+        maxBatchSize,
+        maxDelay,
+        (int) Math.min(Integer.MAX_VALUE, (long) maxBatchSize * DEFAULT_BUFFERED_BATCHES));
+  }
+
+  /**
+   * Creates a configuration with the default batch size and delay.
+   *
+   * @return the default configuration
+   */
+  public static WriteBehindConfiguration defaults() {
+    return new WriteBehindConfiguration(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+  }
+}
@@ -0,0 +1,105 @@
+package co.orquex.sagas.core.repository;
+
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Transaction;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link TransactionRepository} decorator that buffers the saves and writes them to the delegate
+ * in batches through {@link TransactionRepository#saveAll(List)}.
+ *
+ * <p>Successive saves of the same transaction are coalesced, so only its latest status is written.
+ * The buffer is written when it reaches the maximum batch size, when the maximum delay has elapsed,
+ * and on {@link #flush()} or {@link #close()}. Reads look up the buffered transactions before the
+ * delegate, so a transaction is visible as soon as it is saved. The buffered transactions are
+ * indexed by flow ID and correlation ID, so those lookups do not scan the buffer.
+ *
+ * <p>A failed write does not fail the saves, its transactions stay buffered and are written again
+ * later. {@link #saveAsync(Transaction)} reports whether a transaction was written. Saves of new
+ * transactions are rejected while the buffer holds the maximum buffer size.
+ *
+ * <p>Buffered transactions are lost if the process stops before they are written, the maximum delay
+ * bounds the window of saves that can be lost.
+ */
+public class WriteBehindTransactionRepository implements TransactionRepository, AutoCloseable {
+
+  private final TransactionRepository delegate;
+  private final WriteBehindBuffer<Transaction> buffer;
+
+  public WriteBehindTransactionRepository(
+      final TransactionRepository delegate, final WriteBehindConfiguration configuration) {
+    this.delegate = Preconditions.checkArgumentNotNull(delegate, "Delegate cannot be null");
+    Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    this.buffer =
+        new WriteBehindBuffer<>(
+            "transaction",
+            configuration,
+            Transaction::transactionId,
+            delegate::saveAll,
+            transaction ->
+                new FlowCorrelationKey(transaction.flowId(), transaction.correlationId()));
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    return buffer.get(id).or(() -> delegate.findById(id));
+  }
+
+  @Override
+  public boolean existsByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    return findBuffered(flowId, correlationId).isPresent()
+        || delegate.existsByFlowIdAndCorrelationId(flowId, correlationId);
+  }
+
+  @Override
+  public Optional<Transaction> findByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    return findBuffered(flowId, correlationId)
+        .or(() -> delegate.findByFlowIdAndCorrelationId(flowId, correlationId));
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    Preconditions.checkArgumentNotNull(transaction, "Transaction cannot be null");
+    buffer.add(transaction);
+    return transaction;
+  }
+
+  /**
+   * Buffers the save of the transaction.
+   *
+   * @param transaction the transaction to save
+   * @return a future completed once the transaction is written to the delegate, or exceptionally
+   *     if its write fails
+   */
+  public CompletableFuture<Transaction> saveAsync(Transaction transaction) {
+    Preconditions.checkArgumentNotNull(transaction, "Transaction cannot be null");
+    return buffer.add(transaction).thenApply(written -> transaction);
+  }
+
+  @Override
+  public List<Transaction> saveAll(List<Transaction> transactions) {
+    transactions.forEach(this::save);
+    return transactions;
+  }
+
+  @Override
+  public void flush() {
+    buffer.flush();
+    delegate.flush();
+  }
+
+  /** Writes the buffered transactions and stops the background writes. */
+  @Override
+  public void close() {
+    buffer.close();
+  }
+
+  private Optional<Transaction> findBuffered(String flowId, String correlationId) {
+    return buffer.findIndexed(new FlowCorrelationKey(flowId, correlationId));
+  }
+
+  private record FlowCorrelationKey(String flowId, String correlationId) {}
+}
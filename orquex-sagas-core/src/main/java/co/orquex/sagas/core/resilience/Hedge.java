@@ -0,0 +1,38 @@
+package co.orquex.sagas.core.resilience;
+
+import co.orquex.sagas.core.resilience.impl.HedgeImpl;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Interface for the hedging mechanism that reduces tail latency by issuing a duplicate request
+ * when the first one is slower than expected.
+ *
+ * <p>Whichever response arrives first is returned and the other execution is cancelled. Only
+ * idempotent operations can be hedged, since they might be executed twice.
+ *
+ * @see HedgeConfiguration
+ * @see HedgeImpl
+ */
+public interface Hedge {
+
+  /**
+   * Creates a new Hedge instance with the specified configuration.
+   *
+   * @param configuration the hedge configuration defining behavior
+   * @return a new Hedge instance
+   */
+  static Hedge of(HedgeConfiguration configuration) {
+    return new HedgeImpl(configuration);
+  }
+
+  /**
+   * Executes the provided supplier, issuing a hedged execution if it does not complete within the
+   * configured delay.
+   *
+   * @param supplier the idempotent operation to execute
+   * @return the result of the first execution that completes successfully
+   */
+  Map<String, Serializable> call(Supplier<Map<String, Serializable>> supplier);
+}
@@ -0,0 +1,31 @@
+package co.orquex.sagas.core.resilience;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Duration;
+
+/**
+ * Configuration record for the hedging mechanism.
+ *
+ * @param task the name of the task to be hedged, used as key for the latency and metrics state
+ * @param delay maximum time to wait for the first response before issuing the hedge
+ * @param adaptiveDelay whether to issue the hedge once the call passes the observed p95 latency
+ * @param stateManager manager for the observed latencies and hedge metrics
+ * @see Hedge
+ * @see HedgeStateManager
+ */
+public record HedgeConfiguration(
+    String task, Duration delay, boolean adaptiveDelay, HedgeStateManager stateManager) {
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public HedgeConfiguration {
+    Preconditions.checkArgumentNotEmpty(task, "Task name cannot be null or empty");
+    Preconditions.checkArgumentNotNull(delay, "Hedge delay cannot be null");
+    Preconditions.checkArgument(
+        !delay.isNegative() && !delay.isZero(), "Hedge delay must be positive");
+    Preconditions.checkArgumentNotNull(stateManager, "State manager cannot be null");
+  }
+}
@@ -0,0 +1,63 @@
+package co.orquex.sagas.core.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Interface for managing the state of hedged executions. It keeps track of the observed latencies
+ * used to compute the adaptive hedge delay, and the metrics of the hedges fired and won.
+ *
+ * <p>Implementations can store state in memory, database, cache, or other storage mechanisms
+ * depending on persistence requirements.
+ */
+public interface HedgeStateManager {
+
+  /**
+   * Records the latency of a successful execution.
+   *
+   * @param name the hedge state name
+   * @param latency the observed latency
+   */
+  void recordLatency(String name, Duration latency);
+
+  /**
+   * Gets the observed p95 latency.
+   *
+   * @param name the hedge state name
+   * @return the p95 latency, or empty if there are not enough samples to compute it
+   */
+  Optional<Duration> p95(String name);
+
+  /**
+   * Increments the number of hedges fired and returns the new value.
+   *
+   * @param name the hedge state name
+   * @return the number of hedges fired after increment
+   */
+  long incrementFired(String name);
+
+  /**
+   * Increments the number of hedges won, in other words, the hedges whose response arrived before
+   * the one of the first execution, and returns the new value.
+   *
+   * @param name the hedge state name
+   * @return the number of hedges won after increment
+   */
+  long incrementWon(String name);
+
+  /**
+   * Gets the number of hedges fired.
+   *
+   * @param name the hedge state name
+   * @return the number of hedges fired
+   */
+  long fired(String name);
+
+  /**
+   * Gets the number of hedges won.
+   *
+   * @param name the hedge state name
+   * @return the number of hedges won
+   */
+  long won(String name);
+}
@@ -0,0 +1,145 @@
+package co.orquex.sagas.core.resilience.impl;
+
+import co.orquex.sagas.core.resilience.Hedge;
+import co.orquex.sagas.core.resilience.HedgeConfiguration;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the Hedge interface that executes the supplier on a virtual thread and, if it
+ * has not completed after the hedge delay, issues a second execution. The first successful result
+ * is returned and the pending execution is cancelled by interrupting its thread.
+ *
+ * <p>If the first execution to complete fails while the other is still running, the result of the
+ * remaining execution is awaited; if both fail, the first failure is propagated.
+ *
+ * <p>Thread-safe implementation that can handle concurrent hedged operations.
+ *
+ * @see Hedge
+ * @see HedgeConfiguration
+ * @see HedgeStateManager
+ */
+@Slf4j
+public class HedgeImpl implements Hedge {
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hedge-", 0).factory());
+
+  private final HedgeConfiguration configuration;
+
+  /**
+   * Constructs a HedgeImpl with the specified configuration.
+   *
+   * @param configuration the hedge configuration defining behavior
+   * @throws IllegalArgumentException if configuration is null
+   */
+  public HedgeImpl(HedgeConfiguration configuration) {
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Hedge configuration cannot be null");
+  }
+
+  /**
+   * Executes the provided supplier issuing a hedge if the first execution does not complete within
+   * the hedge delay.
+   *
+   * @param supplier the idempotent operation to execute
+   * @return the result of the first execution that completes successfully
+   * @throws WorkflowException if the calling thread is interrupted while waiting
+   */
+  @Override
+  public Map<String, Serializable> call(Supplier<Map<String, Serializable>> supplier) {
+    final var task = configuration.task();
+    final var stateManager = configuration.stateManager();
+    final var completionService = new ExecutorCompletionService<Map<String, Serializable>>(EXECUTOR);
+    final var primaryStart = System.nanoTime();
+    final var primary = completionService.submit(supplier::get);
+    final var delay = hedgeDelay();
+    Future<Map<String, Serializable>> hedge = null;
+    long hedgeStart = 0L;
+    try {
+      var completed = completionService.poll(delay.toNanos(), TimeUnit.NANOSECONDS);
+      if (completed == null) {
+        log.debug("Hedge '{}' fired after {}ms", task, delay.toMillis());
+        stateManager.incrementFired(task);
+        hedgeStart = System.nanoTime();
+        hedge = completionService.submit(supplier::get);
+        completed = completionService.take();
+      }
+      try {
+        return handleCompleted(completed, hedge, primaryStart, hedgeStart);
+      } catch (ExecutionException e) {
+        if (hedge == null) {
+          throw unwrap(e);
+        }
+        log.debug("Hedge '{}' first execution to complete failed, awaiting the other one", task);
+        try {
+          return handleCompleted(completionService.take(), hedge, primaryStart, hedgeStart);
+        } catch (ExecutionException ignored) {
+          throw unwrap(e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WorkflowException("Hedge '%s' was interrupted".formatted(task));
+    } finally {
+      primary.cancel(true);
+      if (hedge != null) {
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Returns the time to wait before issuing the hedge, the observed p95 latency when the adaptive
+   * delay is enabled and lower than the configured delay, otherwise the configured delay.
+   */
+  private Duration hedgeDelay() {
+    final var delay = configuration.delay();
+    if (!configuration.adaptiveDelay()) {
+      return delay;
+    }
+    return configuration
+        .stateManager()
+        .p95(configuration.task())
+        .filter(p95 -> p95.compareTo(delay) < 0)
+        .orElse(delay);
+  }
+
+  private Map<String, Serializable> handleCompleted(
+      Future<Map<String, Serializable>> completed,
+      Future<Map<String, Serializable>> hedge,
+      long primaryStart,
+      long hedgeStart)
+      throws ExecutionException, InterruptedException {
+    final var result = completed.get();
+    final var task = configuration.task();
+    final var stateManager = configuration.stateManager();
+    if (completed == hedge) {
+      log.debug("Hedge '{}' won", task);
+      stateManager.incrementWon(task);
+      stateManager.recordLatency(task, Duration.ofNanos(System.nanoTime() - hedgeStart));
+    } else {
+      stateManager.recordLatency(task, Duration.ofNanos(System.nanoTime() - primaryStart));
+    }
+    return result;
+  }
+
+  private static RuntimeException unwrap(ExecutionException e) {
+    if (e.getCause() instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    return new WorkflowException(e.getCause().getMessage());
+  }
+}
@@ -0,0 +1,107 @@
+package co.orquex.sagas.core.resilience.impl;
+
+import co.orquex.sagas.core.resilience.HedgeStateManager;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory implementation of HedgeStateManager that keeps a sliding window with the most recent
+ * latencies of each task and the hedge counters using thread-safe concurrent data structures.
+ *
+ * <p>The p95 latency is computed from the last {@value #WINDOW_SIZE} samples, and only once at
+ * least {@value #MIN_SAMPLES} samples are recorded. All state is lost when the application
+ * terminates.
+ *
+ * <p>Thread-safe and supports concurrent access from multiple threads.
+ *
+ * @see HedgeStateManager
+ */
+public class InMemoryHedgeStateManager implements HedgeStateManager {
+
+  static final int WINDOW_SIZE = 128;
+  static final int MIN_SAMPLES = 20;
+
+  private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> fired = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> won = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordLatency(String name, Duration latency) {
+    if (name == null || latency == null) {
+      return; // Ignore null values silently
+    }
+    latencies.computeIfAbsent(name, key -> new LatencyWindow()).add(latency.toNanos());
+  }
+
+  @Override
+  public Optional<Duration> p95(String name) {
+    if (name == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(latencies.get(name))
+        .flatMap(window -> window.percentile(0.95))
+        .map(Duration::ofNanos);
+  }
+
+  @Override
+  public long incrementFired(String name) {
+    return increment(fired, name);
+  }
+
+  @Override
+  public long incrementWon(String name) {
+    return increment(won, name);
+  }
+
+  @Override
+  public long fired(String name) {
+    return value(fired, name);
+  }
+
+  @Override
+  public long won(String name) {
+    return value(won, name);
+  }
+
+  private static long increment(Map<String, AtomicLong> counters, String name) {
+    if (name == null) {
+      return 0L;
+    }
+    return counters.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+  }
+
+  private static long value(Map<String, AtomicLong> counters, String name) {
+    if (name == null) {
+      return 0L;
+    }
+    return Optional.ofNullable(counters.get(name)).map(AtomicLong::get).orElse(0L);
+  }
+
+  /** Fixed size ring buffer with the latest latencies in nanoseconds. */
+  private static final class LatencyWindow {
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private long count;
+
+    synchronized void add(long nanos) {
+      samples[(int) (count++ % WINDOW_SIZE)] = nanos;
+    }
+
+    Optional<Long> percentile(double percentile) {
+      final long[] sorted;
+      synchronized (this) {
+        if (count < MIN_SAMPLES) {
+          return Optional.empty();
+        }
+        sorted = Arrays.copyOf(samples, (int) Math.min(count, WINDOW_SIZE));
+      }
+      Arrays.sort(sorted);
+      final var index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return Optional.of(sorted[Math.max(index, 0)]);
+    }
+  }
+}
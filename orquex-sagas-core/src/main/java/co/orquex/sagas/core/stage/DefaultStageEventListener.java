@@ -13,6 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Default implementation of the {@link EventListener} interface for handling stage requests and
  * executing with the appropriate stage executor.
+ *
+ * <p>The stage is started with {@link StageExecutor#executeAsync(StageRequest)}, so the thread
+ * delivering the events is not held while its tasks are in flight.
  */
 @Slf4j
 public class DefaultStageEventListener implements EventListener<StageRequest> {
@@ -40,7 +43,19 @@ public class DefaultStageEventListener implements EventListener<StageRequest> {
     stageRegistry
         .get(impl)
         .ifPresentOrElse(
-            stageExecutor -> stageExecutor.execute(request),
+            stageExecutor ->
+                stageExecutor
+                    .executeAsync(request)
+                    .whenComplete(
+                        (response, throwable) -> {
+                          if (throwable != null) {
+                            log.error(
+                                "Stage '{}' of transaction '{}' failed",
+                                stage.getId(),
+                                request.transactionId(),
+                                throwable);
+                          }
+                        }),
             () -> log.error("Stage executor '{}' not found", impl));
   }
 
@@ -4,10 +4,17 @@ import co.orquex.sagas.domain.api.StageExecutor;
 import co.orquex.sagas.domain.api.StageProcessingStrategy;
 import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.stage.*;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** Default implementation of the {@link StageExecutor}. */
+/**
+ * Default implementation of the {@link StageExecutor}.
+ *
+ * <p>{@link #executeAsync(StageRequest)} starts the stage with {@link
+ * StageProcessingStrategy#processAsync}, so the calling thread is not held while its tasks are in
+ * flight when the strategy supports it.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class DefaultStageExecutor implements StageExecutor {
@@ -36,6 +43,27 @@ public class DefaultStageExecutor implements StageExecutor {
     };
   }
 
+  @Override
+  public CompletableFuture<StageResponse> executeAsync(StageRequest stageRequest) {
+    final var request = stageRequest.executionRequest();
+    final var stage = stageRequest.stage();
+    log.trace(
+        "Starting stage '{}' for flow '{}' and correlation ID '{}'",
+        stage.getName(),
+        request.flowId(),
+        request.correlationId());
+    return switch (stage) {
+      case Activity activity ->
+          activityStrategy.processAsync(stageRequest.transactionId(), activity, request);
+      case Evaluation evaluation ->
+          evaluationStrategy.processAsync(stageRequest.transactionId(), evaluation, request);
+      default ->
+          CompletableFuture.failedFuture(
+              new WorkflowException(
+                  "Unexpected stage '%s' at flow '%s'".formatted(stage, request.flowId())));
+    };
+  }
+
   @Override
   public String getKey() {
     return DEFAULT_SYNC_STAGE_EXECUTOR_KEY;
@@ -10,6 +10,8 @@ import co.orquex.sagas.domain.stage.Stage;
 import co.orquex.sagas.domain.stage.StageResponse;
 import co.orquex.sagas.domain.transaction.Checkpoint;
 import co.orquex.sagas.domain.transaction.Status;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -20,33 +22,71 @@ public class EventHandlerProcessingStrategy<S extends Stage> implements StagePro
 
   @Override
   public StageResponse process(String transactionId, S stage, ExecutionRequest request) {
-    final var checkpointBuilder =
-        Checkpoint.builder()
-            .transactionId(transactionId)
-            .flowId(request.flowId())
-            .correlationId(request.correlationId())
-            .stageId(stage.getId())
-            .metadata(request.metadata())
-            .payload(request.payload())
-            .incoming(stage);
+    final var checkpointBuilder = checkpointBuilder(transactionId, stage, request);
     try {
       workflowEventPublisher.publish(
           new EventMessage<>(checkpointBuilder.status(Status.IN_PROGRESS).build()));
       final var response = strategy.process(transactionId, stage, request);
-      workflowEventPublisher.publish(
-          new EventMessage<>(
-              checkpointBuilder
-                  .status(Status.COMPLETED)
-                  .response(response.payload())
-                  .outgoing(response.outgoing())
-                  .build()));
+      publishCompleted(checkpointBuilder, response);
       return response;
     } catch (WorkflowException e) {
-      workflowEventPublisher.publish(
-          new EventMessage<>(
-              checkpointBuilder.status(Status.ERROR).build(),
-              Error.builder().message(e.getMessage()).build()));
+      publishError(checkpointBuilder, e);
       throw e;
     }
   }
+
+  /**
+   * Starts the processing of the stage with the decorated strategy, the completed or error
+   * checkpoint is published once it completes.
+   */
+  @Override
+  public CompletableFuture<StageResponse> processAsync(
+      String transactionId, S stage, ExecutionRequest request) {
+    final var checkpointBuilder = checkpointBuilder(transactionId, stage, request);
+    workflowEventPublisher.publish(
+        new EventMessage<>(checkpointBuilder.status(Status.IN_PROGRESS).build()));
+    return strategy
+        .processAsync(transactionId, stage, request)
+        .whenComplete(
+            (response, throwable) -> {
+              if (throwable == null) {
+                publishCompleted(checkpointBuilder, response);
+                return;
+              }
+              final var cause =
+                  throwable instanceof CompletionException ? throwable.getCause() : throwable;
+              if (cause instanceof WorkflowException e) {
+                publishError(checkpointBuilder, e);
+              }
+            });
+  }
+
+  private Checkpoint.CheckpointBuilder checkpointBuilder(
+      String transactionId, S stage, ExecutionRequest request) {
+    return Checkpoint.builder()
+        .transactionId(transactionId)
+        .flowId(request.flowId())
+        .correlationId(request.correlationId())
+        .stageId(stage.getId())
+        .metadata(request.metadata())
+        .payload(request.payload());
+  }
+
+  private void publishCompleted(
+      Checkpoint.CheckpointBuilder checkpointBuilder, StageResponse response) {
+    workflowEventPublisher.publish(
+        new EventMessage<>(
+            checkpointBuilder
+                .status(Status.COMPLETED)
+                .response(response.payload())
+                .outgoing(response.outgoing())
+                .build()));
+  }
+
+  private void publishError(Checkpoint.CheckpointBuilder checkpointBuilder, WorkflowException e) {
+    workflowEventPublisher.publish(
+        new EventMessage<>(
+            checkpointBuilder.status(Status.ERROR).build(),
+            Error.builder().message(e.getMessage()).build()));
+  }
 }
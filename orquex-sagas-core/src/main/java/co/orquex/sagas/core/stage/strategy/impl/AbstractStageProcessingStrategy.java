@@ -13,6 +13,7 @@ import co.orquex.sagas.domain.stage.Stage;
 import co.orquex.sagas.domain.task.TaskProcessor;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Abstract base class for stage processing strategies with built-in resilient task execution.
@@ -53,6 +54,16 @@ public abstract class AbstractStageProcessingStrategy<S extends Stage>
             taskExecutorRegistry, taskRepository, retryStateManager, circuitBreakerStateManager);
   }
 
+  /**
+   * Creates a new strategy instance sharing the provided task executor service, so the resilience
+   * state is the same for every strategy that uses it.
+   *
+   * @param taskExecutorService service used to execute the tasks of the stage
+   */
+  protected AbstractStageProcessingStrategy(final TaskExecutorService taskExecutorService) {
+    this.taskExecutorService = taskExecutorService;
+  }
+
   /**
    * Executes a task with resilience patterns automatically applied based on task configuration.
    *
@@ -88,4 +99,32 @@ public abstract class AbstractStageProcessingStrategy<S extends Stage>
     return this.executeTask(
         transactionId, processor.task(), request.mergeMetadata(processor.metadata()));
   }
+
+  /**
+   * Starts a task with resilience patterns applied based on task configuration.
+   *
+   * @param transactionId unique identifier for the transaction context
+   * @param taskId identifier of the task to execute
+   * @param request execution request containing flow context, metadata, and payload
+   * @return a future of the execution result, see {@link
+   *     TaskExecutorService#executeResilientTaskAsync(String, String, ExecutionRequest)}
+   */
+  protected CompletableFuture<Map<String, Serializable>> executeTaskAsync(
+      String transactionId, String taskId, ExecutionRequest request) {
+    return taskExecutorService.executeResilientTaskAsync(transactionId, taskId, request);
+  }
+
+  /**
+   * Starts a task processor with resilience patterns applied.
+   *
+   * @param transactionId unique identifier for the transaction context
+   * @param processor task processor containing task ID and additional metadata
+   * @param request execution request to be merged with processor metadata
+   * @return a future of the execution result
+   */
+  protected CompletableFuture<Map<String, Serializable>> executeProcessorAsync(
+      final String transactionId, final TaskProcessor processor, final ExecutionRequest request) {
+    return this.executeTaskAsync(
+        transactionId, processor.task(), request.mergeMetadata(processor.metadata()));
+  }
 }
@@ -2,6 +2,7 @@ package co.orquex.sagas.core.stage.strategy.impl;
 
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
+import co.orquex.sagas.core.task.TaskExecutorService;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.registry.Registry;
 import co.orquex.sagas.domain.api.repository.TaskRepository;
@@ -9,6 +10,7 @@ import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.stage.Activity;
 import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.MergePolicy;
 import co.orquex.sagas.domain.stage.StageResponse;
 import co.orquex.sagas.domain.transaction.Compensation;
 import co.orquex.sagas.domain.transaction.Status;
@@ -17,9 +19,10 @@ import java.io.Serializable;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -29,6 +32,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<Activity> {
 
+  private static final ThreadFactory ACTIVITY_THREADS =
+      Thread.ofVirtual().name("activity-", 0).factory();
+  private static final Executor ACTIVITY_EXECUTOR =
+      command -> ACTIVITY_THREADS.newThread(command).start();
+
   private final Consumer<Compensation> compensationConsumer;
 
   public ActivityProcessingStrategy(
@@ -41,55 +49,97 @@ public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<
     this.compensationConsumer = compensationConsumer;
   }
 
+  public ActivityProcessingStrategy(
+      final TaskExecutorService taskExecutorService,
+      final Consumer<Compensation> compensationConsumer) {
+    super(taskExecutorService);
+    this.compensationConsumer = compensationConsumer;
+  }
+
   /**
-   * Processes an activity within a workflow.
+   * Processes an activity within a workflow, waiting for the tasks in flight.
    *
    * @param transactionId The ID of the transaction.
    * @param activity The activity to be processed.
    * @param executionRequest The stage execution request.
    * @return The merged response of the executed tasks.
+   * @see #processAsync(String, Activity, ExecutionRequest)
    */
   @Override
   public StageResponse process(
       String transactionId, Activity activity, ExecutionRequest executionRequest) {
+    try {
+      return processAsync(transactionId, activity, executionRequest).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw handleWorkflowException(e);
+    }
+  }
+
+  /**
+   * Starts the processing of an activity within a workflow.
+   *
+   * <p>The tasks are started with {@link #executeTaskAsync(String, String, ExecutionRequest)}, so
+   * the calling thread is not held while a task without synchronous resilience patterns is in
+   * flight. The tasks of a parallel activity are started on virtual threads, so tasks whose
+   * implementation blocks still run concurrently.
+   *
+   * @param transactionId The ID of the transaction.
+   * @param activity The activity to be processed.
+   * @param executionRequest The stage execution request.
+   * @return A future of the merged response of the executed tasks.
+   */
+  @Override
+  public CompletableFuture<StageResponse> processAsync(
+      String transactionId, Activity activity, ExecutionRequest executionRequest) {
     log.debug(
         "Executing activity stage '{}' for flow '{}' and correlation ID '{}'",
         activity.getName(),
         executionRequest.flowId(),
         executionRequest.correlationId());
-    // Define the payload to be returned on the StageResponse
-    Optional<Map<String, Serializable>> payload;
     // Check if not a parallel execution
-    if (!activity.isParallel()) {
-      payload = executeSequentially(activity, transactionId, executionRequest);
-    } else {
-      payload = executeInParallel(activity, transactionId, executionRequest);
-    }
-
-    return StageResponse.builder()
-        .transactionId(transactionId)
-        .outgoing(activity.getOutgoing())
-        .payload(payload.orElse(Collections.emptyMap()))
-        .build();
+    final CompletableFuture<Optional<Map<String, Serializable>>> payload =
+        activity.isParallel()
+            ? executeInParallel(activity, transactionId, executionRequest)
+            : executeSequentially(activity, transactionId, executionRequest);
+    return payload.thenApply(
+        result ->
+            StageResponse.builder()
+                .transactionId(transactionId)
+                .outgoing(activity.getOutgoing())
+                .payload(result.orElse(Collections.emptyMap()))
+                .build());
   }
 
   /**
-   * Executes the tasks of an activity sequentially.
+   * Executes the tasks of an activity sequentially, each one once the previous one completes.
    *
    * @param activity The activity whose tasks are to be executed.
    * @param transactionId The ID of the transaction.
    * @param updatedRequest The updated execution request.
-   * @return The payload resulting from the execution of the tasks.
+   * @return A future of the payload resulting from the execution of the tasks.
    */
-  private Optional<Map<String, Serializable>> executeSequentially(
+  private CompletableFuture<Optional<Map<String, Serializable>>> executeSequentially(
       Activity activity, String transactionId, ExecutionRequest updatedRequest) {
-    return activity.getActivityTasks().stream()
-        .map(
-            handleAllOrNothingActivityTaskSequentialExecution(
-                activity.isAllOrNothing(), transactionId, updatedRequest))
-        .filter(Objects::nonNull)
-        .filter(m -> !m.isEmpty())
-        .reduce(Maps::merge);
+    final var activityTasks = activity.getActivityTasks();
+    final List<Map<String, Serializable>> results = new ArrayList<>(activityTasks.size());
+    var future = CompletableFuture.<Void>completedFuture(null);
+    for (final var activityTask : activityTasks) {
+      future =
+          future
+              .thenCompose(
+                  previous ->
+                      processActivityTask(
+                          transactionId, activity.getId(), activityTask, updatedRequest))
+              .handle(handleAllOrNothingActivityTaskSequentialExecution(activity.isAllOrNothing()))
+              .thenAccept(results::add);
+    }
+    return future.thenApply(completed -> mergeResults(activity, results));
   }
 
   /**
@@ -98,52 +148,107 @@ public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<
    * @param activity The activity whose tasks are to be executed.
    * @param transactionId The ID of the transaction.
    * @param updatedRequest The updated execution request.
-   * @return The payload resulting from the execution of the tasks.
+   * @return A future of the payload resulting from the execution of the tasks.
    */
-  private Optional<Map<String, Serializable>> executeInParallel(
+  private CompletableFuture<Optional<Map<String, Serializable>>> executeInParallel(
       Activity activity, String transactionId, ExecutionRequest updatedRequest) {
-    final Function<ActivityTask, Supplier<Map<String, Serializable>>> createSubtask =
-        activityTask -> () -> processActivityTask(transactionId, activityTask, updatedRequest);
-    final var factory = Thread.ofVirtual().name("activity-", 0).factory();
-    try (final var executor = Executors.newThreadPerTaskExecutor(factory)) {
-      @SuppressWarnings("unchecked")
-      final CompletableFuture<Map<String, Serializable>>[] subtasks =
-          activity.getActivityTasks().stream()
-              .map(createSubtask)
-              .map(supplier -> CompletableFuture.supplyAsync(supplier, executor))
-              .map(handleAllOrNothingActivityTaskParallelExecution(activity.isAllOrNothing()))
-              .toArray(CompletableFuture[]::new);
-      CompletableFuture.allOf(subtasks);
-      return Arrays.stream(subtasks)
-          .map(CompletableFuture::join)
-          .filter(m -> m != null && !m.isEmpty())
-          .reduce(Maps::merge);
-    } catch (CompletionException e) {
-      throw handleWorkflowException(e);
+    final Function<ActivityTask, CompletableFuture<Map<String, Serializable>>> startSubtask =
+        activityTask ->
+            CompletableFuture.supplyAsync(
+                    () ->
+                        processActivityTask(
+                            transactionId, activity.getId(), activityTask, updatedRequest),
+                    ACTIVITY_EXECUTOR)
+                .thenCompose(Function.identity());
+    @SuppressWarnings("unchecked")
+    final CompletableFuture<Map<String, Serializable>>[] subtasks =
+        activity.getActivityTasks().stream()
+            .map(startSubtask)
+            .map(handleAllOrNothingActivityTaskParallelExecution(activity.isAllOrNothing()))
+            .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(subtasks)
+        .thenApply(
+            completed -> {
+              final List<Map<String, Serializable>> results = new ArrayList<>(subtasks.length);
+              for (final var subtask : subtasks) {
+                results.add(subtask.join());
+              }
+              return mergeResults(activity, results);
+            });
+  }
+
+  /**
+   * Merges the results of the activity tasks into a single payload in one pass, following the
+   * {@link MergePolicy} of the activity. The resulting map is pre-sized with the total number of
+   * entries, so it never needs to be rehashed while the results are copied into it.
+   *
+   * @param activity The activity whose tasks were executed.
+   * @param results The payload of each activity task, in the order of declaration of the tasks;
+   *     {@code null} or empty for the tasks that did not return anything.
+   * @return The merged payload, or empty if no task returned a payload.
+   */
+  private static Optional<Map<String, Serializable>> mergeResults(
+      Activity activity, List<Map<String, Serializable>> results) {
+    final var mergePolicy = activity.getMergePolicy();
+    var entries = 0;
+    Map<String, Serializable> single = null;
+    var nonEmpty = 0;
+    for (final var result : results) {
+      if (result != null && !result.isEmpty()) {
+        entries += result.size();
+        single = result;
+        nonEmpty++;
+      }
+    }
+    if (entries == 0) {
+      return Optional.empty();
+    }
+    // A single result is passed as it is, so a JSON-native payload is not converted
+    if (nonEmpty == 1 && mergePolicy != MergePolicy.NAMESPACED) {
+      return Optional.of(single);
+    }
+    final Map<String, Serializable> payload =
+        HashMap.newHashMap(mergePolicy == MergePolicy.NAMESPACED ? results.size() : entries);
+    for (var i = 0; i < results.size(); i++) {
+      final var result = results.get(i);
+      if (result == null || result.isEmpty()) {
+        continue;
+      }
+      switch (mergePolicy) {
+        case LAST_WINS -> payload.putAll(result);
+        case FIRST_WINS -> result.forEach(payload::putIfAbsent);
+        case NAMESPACED ->
+            payload.put(
+                activity.getActivityTasks().get(i).id(),
+                result instanceof Serializable serializable ? serializable : new HashMap<>(result));
+      }
     }
+    return Optional.of(payload);
   }
 
   /**
    * Handles the execution of an activity task sequentially.
    *
    * @param allOrNothing A flag indicating whether all tasks should be executed or none.
-   * @param transactionId The ID of the transaction.
-   * @param request The execution request.
-   * @return A function that processes an activity task.
+   * @return A function that handles the result of an activity task, an empty result replaces a
+   *     workflow failure unless all or nothing.
    */
-  private Function<ActivityTask, Map<String, Serializable>>
-      handleAllOrNothingActivityTaskSequentialExecution(
-          final boolean allOrNothing, final String transactionId, final ExecutionRequest request) {
-    return activityTask -> {
-      try {
-        return processActivityTask(transactionId, activityTask, request);
-      } catch (WorkflowException e) {
-        if (allOrNothing) {
-          log.debug("Handling activity task sequential execution when all or nothing", e);
-          throw e;
+  private static BiFunction<Map<String, Serializable>, Throwable, Map<String, Serializable>>
+      handleAllOrNothingActivityTaskSequentialExecution(final boolean allOrNothing) {
+    return (result, throwable) -> {
+      if (throwable == null) {
+        return result;
+      }
+      final var cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+      if (cause instanceof WorkflowException) {
+        if (!allOrNothing) {
+          return Collections.emptyMap();
         }
-        return Collections.emptyMap();
+        log.debug("Handling activity task sequential execution when all or nothing", cause);
       }
+      throw throwable instanceof CompletionException completionException
+          ? completionException
+          : new CompletionException(throwable);
     };
   }
 
@@ -153,8 +258,7 @@ public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<
    * @param allOrNothing A flag indicating whether all tasks should be executed or none.
    * @return A function that processes a future resulting from the execution of an activity task.
    */
-  private static Function<
-          CompletableFuture<Map<String, Serializable>>, CompletableFuture<Map<?, ?>>>
+  private static UnaryOperator<CompletableFuture<Map<String, Serializable>>>
       handleAllOrNothingActivityTaskParallelExecution(final boolean allOrNothing) {
     return future ->
         future.handle(
@@ -172,56 +276,90 @@ public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<
   }
 
   /**
-   * Processes an activity task.
+   * Starts the processing of an activity task: its pre-processor, the task and its post-processor,
+   * each one once the previous one completes.
    *
    * @param transactionId The ID of the transaction.
+   * @param stageId The ID of the activity stage the task belongs to.
    * @param activityTask The activity task to be processed.
    * @param executionRequest The execution request.
-   * @return The payload resulting from the processing of the activity task.
+   * @return A future of the payload resulting from the processing of the activity task.
    */
-  private Map<String, Serializable> processActivityTask(
-      String transactionId, ActivityTask activityTask, ExecutionRequest executionRequest) {
+  private CompletableFuture<Map<String, Serializable>> processActivityTask(
+      String transactionId,
+      String stageId,
+      ActivityTask activityTask,
+      ExecutionRequest executionRequest) {
     // Merge metadata of the activity task with the current executionRequest
-    executionRequest = executionRequest.mergeMetadata(activityTask.metadata());
+    final var request = executionRequest.mergeMetadata(activityTask.metadata());
     // Pre-process the payload with a task
     final var preProcessor = activityTask.preProcessor();
+    final CompletableFuture<ExecutionRequest> preProcessed;
     if (preProcessor != null) {
       log.debug(
           "Executing pre-processor '{}' for task '{}'", preProcessor.task(), activityTask.task());
-      final var preProcessorPayload =
-          executeProcessor(transactionId, preProcessor, executionRequest);
-      executionRequest = executionRequest.withPayload(preProcessorPayload);
+      preProcessed =
+          executeProcessorAsync(transactionId, preProcessor, request)
+              .thenApply(request::withPayload);
+    } else {
+      preProcessed = CompletableFuture.completedFuture(request);
     }
-    log.debug(
-        "Executing activity task '{}' at flow '{}' with correlation ID '{}'",
-        activityTask.name(),
-        executionRequest.flowId(),
-        executionRequest.correlationId());
-    // Execute the task with the pre-processed payload
-    final var taskResponse = executeTask(transactionId, activityTask.task(), executionRequest);
+    return preProcessed.thenCompose(
+        taskRequest -> {
+          log.debug(
+              "Executing activity task '{}' at flow '{}' with correlation ID '{}'",
+              activityTask.name(),
+              taskRequest.flowId(),
+              taskRequest.correlationId());
+          // Execute the task with the pre-processed payload
+          return executeTaskAsync(transactionId, activityTask.task(), taskRequest)
+              .thenCompose(
+                  taskResponse ->
+                      postProcess(transactionId, stageId, activityTask, taskRequest, taskResponse));
+        });
+  }
+
+  /**
+   * Publishes the compensation of an executed activity task and post-processes its response.
+   *
+   * @param transactionId The ID of the transaction.
+   * @param stageId The ID of the activity stage the task belongs to.
+   * @param activityTask The executed activity task.
+   * @param executionRequest The execution request of the task.
+   * @param taskResponse The response of the task.
+   * @return A future of the post-processed payload, or of the response without post-processor.
+   */
+  private CompletableFuture<Map<String, Serializable>> postProcess(
+      String transactionId,
+      String stageId,
+      ActivityTask activityTask,
+      ExecutionRequest executionRequest,
+      Map<String, Serializable> taskResponse) {
     // Publish the compensation event once the task is executed
-    publishCompensation(transactionId, activityTask, executionRequest, taskResponse);
+    publishCompensation(transactionId, stageId, activityTask, executionRequest, taskResponse);
     // Post process the payload, generating a new one
     final var postProcessor = activityTask.postProcessor();
     if (postProcessor != null) {
       log.debug(
           "Executing post-processor '{}' for task '{}'", postProcessor.task(), activityTask.task());
-      return executeProcessor(
+      return executeProcessorAsync(
           transactionId, postProcessor, executionRequest.withPayload(taskResponse));
     }
-    return taskResponse;
+    return CompletableFuture.completedFuture(taskResponse);
   }
 
   /**
    * Publish the compensation tasks of an executed activity.
    *
    * @param transactionId The ID of the transaction.
+   * @param stageId The ID of the activity stage that registered the compensation.
    * @param activityTask The activity task for which the compensation is to be executed.
    * @param executionRequest The execution request.
    * @param taskResponse The response of the task.
    */
   private void publishCompensation(
       final String transactionId,
+      final String stageId,
       final ActivityTask activityTask,
       final ExecutionRequest executionRequest,
       final Map<String, Serializable> taskResponse) {
@@ -238,6 +376,7 @@ public class ActivityProcessingStrategy extends AbstractStageProcessingStrategy<
               UUID.randomUUID().toString(),
               transactionId,
               executionRequest.flowId(),
+              stageId,
               executionRequest.correlationId(),
               compensationProcessor.task(),
               metadata,
@@ -2,6 +2,7 @@ package co.orquex.sagas.core.stage.strategy.impl;
 
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
+import co.orquex.sagas.core.task.TaskExecutorService;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.registry.Registry;
 import co.orquex.sagas.domain.api.repository.TaskRepository;
@@ -11,6 +12,7 @@ import co.orquex.sagas.domain.stage.Evaluation;
 import co.orquex.sagas.domain.stage.EvaluationTask;
 import co.orquex.sagas.domain.stage.StageResponse;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 
@@ -40,6 +42,15 @@ public class EvaluationProcessingStrategy extends AbstractStageProcessingStrateg
     super(taskExecutorRegistry, taskRepository, retryStateManager, circuitBreakerStateManager);
   }
 
+  /**
+   * Constructor for the EvaluationProcessingStrategy sharing a task executor service.
+   *
+   * @param taskExecutorService Service used to execute the evaluation tasks.
+   */
+  public EvaluationProcessingStrategy(final TaskExecutorService taskExecutorService) {
+    super(taskExecutorService);
+  }
+
   /**
    * Processes the evaluation stage of a workflow.
    *
@@ -47,8 +58,8 @@ public class EvaluationProcessingStrategy extends AbstractStageProcessingStrateg
    * the default outgoing stage.
    *
    * <pre>
-   * It then iterates over each condition in the evaluation stage. For each condition:
-   * - It merges the metadata of the evaluation stage with the execution executionRequest.
+   * It merges the metadata of the evaluation stage with the execution executionRequest once, and
+   * then iterates over each condition in the evaluation stage. For each condition:
    * - It adds the condition's expression to the metadata of the execution executionRequest.
    * - It calls the `processEvaluationTask` method to execute the evaluation task associated with the current condition.
    * - It checks if the `RESULT` key exists in the response map and if its value is a Boolean. If the value is `true`, it means the condition is met. In this case, the method sets the outgoing stage to the one specified in the current condition and breaks the loop.
@@ -74,14 +85,15 @@ public class EvaluationProcessingStrategy extends AbstractStageProcessingStrateg
         executionRequest.flowId(),
         executionRequest.correlationId());
     var outgoing = evaluation.getDefaultOutgoing();
+    final var stageRequest = executionRequest.mergeMetadata(evaluation.getMetadata());
 
     for (Condition condition : evaluation.getConditions()) {
       // add the condition expression to the metadata
-      executionRequest = executionRequest.mergeMetadata(evaluation.getMetadata());
-      executionRequest.metadata().put(EXPRESSION, condition.expression());
+      final var conditionRequest =
+          stageRequest.mergeMetadata(Collections.singletonMap(EXPRESSION, condition.expression()));
       // Call task
       var response =
-          processEvaluationTask(transactionId, evaluation.getEvaluationTask(), executionRequest);
+          processEvaluationTask(transactionId, evaluation.getEvaluationTask(), conditionRequest);
       // get the evaluation result
       if (response.containsKey(RESULT)
           && response.get(RESULT) instanceof Boolean result
@@ -1,5 +1,6 @@
 package co.orquex.sagas.core.task;
 
+import co.orquex.sagas.domain.api.AsyncTaskImplementation;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.registry.Registry;
@@ -10,9 +11,17 @@ import co.orquex.sagas.domain.task.TaskRequest;
 import co.orquex.sagas.domain.utils.Maps;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Executes the tasks with the {@link TaskImplementation} registered with their implementation key.
+ *
+ * <p>{@link #executeAsync(String, Task, ExecutionRequest)} returns the future of an {@link
+ * AsyncTaskImplementation} without waiting for it, any other implementation is executed by the
+ * calling thread.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class DefaultTaskExecutor implements TaskExecutor {
@@ -22,20 +31,46 @@ public class DefaultTaskExecutor implements TaskExecutor {
   @Override
   public Map<String, Serializable> execute(
       String transactionId, Task task, ExecutionRequest executionRequest) {
+    return getImplementation(task).execute(toTaskRequest(transactionId, task, executionRequest));
+  }
+
+  @Override
+  public CompletableFuture<Map<String, Serializable>> executeAsync(
+      String transactionId, Task task, ExecutionRequest executionRequest) {
+    final TaskImplementation implementation;
+    final TaskRequest taskRequest;
+    try {
+      implementation = getImplementation(task);
+      taskRequest = toTaskRequest(transactionId, task, executionRequest);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    if (implementation instanceof AsyncTaskImplementation asyncImplementation) {
+      return asyncImplementation.executeAsync(taskRequest);
+    }
+    try {
+      return CompletableFuture.completedFuture(implementation.execute(taskRequest));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private TaskImplementation getImplementation(Task task) {
+    return taskRegistry
+        .get(task.implementation())
+        .orElseThrow(
+            () ->
+                new WorkflowException(
+                    "Task '%s' implementation not found".formatted(task.implementation())));
+  }
 
-    final var implementation =
-        taskRegistry
-            .get(task.implementation())
-            .orElseThrow(
-                () ->
-                    new WorkflowException(
-                        "Task '%s' implementation not found".formatted(task.implementation())));
+  private TaskRequest toTaskRequest(
+      String transactionId, Task task, ExecutionRequest executionRequest) {
     // merge the task metadata with the current request metadata
     final var metadata = Maps.merge(executionRequest.metadata(), task.metadata());
     final var payload = executionRequest.payload();
-    final var taskRequest = new TaskRequest(transactionId, metadata, payload);
     log.trace("Task '{}' contains metadata: {} and payload: {}", task.id(), metadata, payload);
-    return implementation.execute(taskRequest);
+    return new TaskRequest(transactionId, metadata, payload, task.configuration().parameters());
   }
 
   @Override
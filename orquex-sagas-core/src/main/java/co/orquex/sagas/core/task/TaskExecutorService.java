@@ -1,6 +1,7 @@
 package co.orquex.sagas.core.task;
 
 import co.orquex.sagas.core.resilience.*;
+import co.orquex.sagas.core.resilience.impl.InMemoryHedgeStateManager;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.registry.Registry;
 import co.orquex.sagas.domain.api.repository.TaskRepository;
@@ -8,44 +9,64 @@ import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.task.Task;
 import co.orquex.sagas.domain.task.resilience.TaskCircuitBreakerConfiguration;
+import co.orquex.sagas.domain.task.resilience.TaskHedgeConfiguration;
 import co.orquex.sagas.domain.task.resilience.TaskResilienceConfiguration;
 import co.orquex.sagas.domain.task.resilience.TaskRetryConfiguration;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
 
 /**
- * Service for executing tasks with optional resilience patterns (retry and circuit breaker).
+ * Service for executing tasks with optional resilience patterns (hedge, retry and circuit breaker).
  *
  * <p>Provides two execution modes:
  *
  * <ul>
  *   <li><strong>Direct:</strong> Simple task execution without resilience
- *   <li><strong>Resilient:</strong> Automatic retry and circuit breaker based on task configuration
+ *   <li><strong>Resilient:</strong> Automatic hedge, retry and circuit breaker based on task
+ *       configuration
  * </ul>
  *
  * <p>Resilient execution automatically applies retry and circuit breaker patterns when configured,
  * ensuring robust and fault-tolerant task execution.
  *
+ * <p>Instances are created with {@link #of(Registry, TaskRepository, RetryStateManager,
+ * CircuitBreakerStateManager)} or with the {@link #builder()}, where a state manager, cache or
+ * single-flight that is not set leaves its pattern out.
+ *
  * @since 1.0.0
  * @see TaskExecutor
  * @see Task
  * @see TaskResilienceConfiguration
+ * @see Hedge
  * @see Retry
  * @see CircuitBreaker
  */
+@Slf4j
+@Builder
 public record TaskExecutorService(
     Registry<TaskExecutor> taskExecutorRegistry,
     TaskRepository taskRepository,
     RetryStateManager retryStateManager,
-    CircuitBreakerStateManager circuitBreakerStateManager) {
+    CircuitBreakerStateManager circuitBreakerStateManager,
+    HedgeStateManager hedgeStateManager,
+    TaskResultCache taskResultCache,
+    TaskSingleFlight taskSingleFlight) {
+
+  private static final Set<String> WARNED = ConcurrentHashMap.newKeySet();
 
   /**
    * Factory method for creating a TaskExecutorService instance.
    *
    * <p>This is the preferred way to create service instances as it encapsulates the construction
-   * logic and provides a clean API.
+   * logic and provides a clean API. The hedge, memoization and single-flight use in-memory state;
+   * use the {@link #builder()} to provide other state or to leave them out.
    *
    * @param taskExecutorRegistry registry containing available task executors. Must not be null.
    * @param taskRepository repository for retrieving task definitions. Must not be null.
@@ -61,8 +82,15 @@ public record TaskExecutorService(
       TaskRepository taskRepository,
       RetryStateManager retryStateManager,
       CircuitBreakerStateManager circuitBreakerStateManager) {
-    return new TaskExecutorService(
-        taskExecutorRegistry, taskRepository, retryStateManager, circuitBreakerStateManager);
+    return builder()
+        .taskExecutorRegistry(taskExecutorRegistry)
+        .taskRepository(taskRepository)
+        .retryStateManager(retryStateManager)
+        .circuitBreakerStateManager(circuitBreakerStateManager)
+        .hedgeStateManager(new InMemoryHedgeStateManager())
+        .taskResultCache(new TaskResultCache())
+        .taskSingleFlight(new TaskSingleFlight())
+        .build();
   }
 
   /**
@@ -117,6 +145,25 @@ public record TaskExecutorService(
     return taskExecutor.execute(transactionId, task, request);
   }
 
+  /**
+   * Starts a task directly, without resilience patterns, and returns the future of its result.
+   *
+   * <p>The calling thread is not blocked while the task is in flight when its executor and
+   * implementation support it, see {@link TaskExecutor#executeAsync(String, Task,
+   * ExecutionRequest)}. The resilient execution waits for the result, since its patterns block the
+   * calling thread.
+   *
+   * @param transactionId unique identifier for the transaction context
+   * @param task the task instance to execute
+   * @param request execution request containing flow context, metadata, and payload
+   * @return a future completed with the execution result, or exceptionally if it fails
+   * @throws WorkflowException if no executor is registered for the task's executor type
+   */
+  public CompletableFuture<Map<String, Serializable>> executeTaskAsync(
+      String transactionId, Task task, ExecutionRequest request) {
+    return getTaskExecutor(task).executeAsync(transactionId, task, request);
+  }
+
   /**
    * Executes a task with automatic resilience patterns applied based on the task's configuration.
    *
@@ -125,6 +172,8 @@ public record TaskExecutorService(
    *
    * <ol>
    *   <li><strong>Base Execution:</strong> The core task execution logic
+   *   <li><strong>Hedge Wrapper:</strong> Applied if {@link TaskHedgeConfiguration} is present and
+   *       the task is idempotent
    *   <li><strong>Retry Wrapper:</strong> Applied if {@link TaskRetryConfiguration} is present
    *   <li><strong>Circuit Breaker Wrapper:</strong> Applied if {@link
    *       TaskCircuitBreakerConfiguration} is present
@@ -143,6 +192,11 @@ public record TaskExecutorService(
    *   <li>If only retry is configured, applies retry only
    *   <li>If only circuit breaker is configured, applies circuit breaker only
    *   <li>If both are configured, applies retry first, then circuit breaker
+   *   <li>If hedge is configured for an idempotent task, each attempt is hedged individually
+   *   <li>If single-flight is enabled for an idempotent task, an execution with the same metadata
+   *       and payload of one in flight waits for its result instead of executing any of the above
+   *   <li>If memoization is configured for a deterministic task, a memoized result for the same
+   *       metadata and payload is returned without executing any of the above
    * </ul>
    *
    * @param transactionId unique identifier for the transaction context. Used for correlation and
@@ -164,8 +218,33 @@ public record TaskExecutorService(
    */
   public Map<String, Serializable> executeResilientTask(
       String transactionId, String taskId, ExecutionRequest request) {
+    return executeResilientTask(transactionId, taskId, request, true);
+  }
+
+  /**
+   * Executes a task with the resilience patterns of its configuration, optionally leaving out the
+   * retry.
+   *
+   * <p>Callers that schedule their own retries pass {@code false}, so a failed attempt is reported
+   * immediately instead of blocking the calling thread during the wait between retries.
+   *
+   * @param transactionId unique identifier for the transaction context
+   * @param taskId identifier of the task to execute. Must correspond to a task in the repository.
+   * @param request execution request containing flow context, metadata, and payload
+   * @param retry whether the retry configuration of the task is applied
+   * @return the execution result after applying configured resilience patterns
+   * @throws WorkflowException if the task is not found, its executor is not registered or its
+   *     execution fails
+   * @see #executeResilientTask(String, String, ExecutionRequest)
+   */
+  public Map<String, Serializable> executeResilientTask(
+      String transactionId, String taskId, ExecutionRequest request, boolean retry) {
+    return executeResilientTask(transactionId, taskId, getTask(taskId), request, retry);
+  }
+
+  private Map<String, Serializable> executeResilientTask(
+      String transactionId, String taskId, Task task, ExecutionRequest request, boolean retry) {
 
-    final var task = getTask(taskId);
     final var resilienceConfig = task.configuration().resilience();
 
     // Create TaskExecutionContext for resilience configuration
@@ -176,16 +255,101 @@ public record TaskExecutorService(
     final Supplier<Map<String, Serializable>> baseExecution =
         () -> executeTask(transactionId, task, request);
 
-    // Apply retry wrapper if configuration exists: r(X)
+    // Apply hedge wrapper if configuration exists and the task is idempotent: h(X)
+    final var hedgeWrapped = applyHedgeIfConfigured(task, resilienceConfig, baseExecution);
+
+    // Apply retry wrapper around hedge: r(h(X))
     final var retryWrapped =
-        applyRetryIfConfigured(taskId, context, resilienceConfig, baseExecution);
+        retry
+            ? applyRetryIfConfigured(taskId, context, resilienceConfig, hedgeWrapped)
+            : hedgeWrapped;
 
-    // Apply circuit breaker wrapper around retry: cb(r(X))
+    // Apply circuit breaker wrapper around retry: cb(r(h(X)))
     final var circuitBreakerWrapped =
         applyCircuitBreakerIfConfigured(taskId, request, context, resilienceConfig, retryWrapped);
 
+    // Apply single-flight around circuit breaker, an in-flight execution is shared: s(cb(r(h(X))))
+    final var singleFlightWrapped =
+        applySingleFlightIfConfigured(task, request, circuitBreakerWrapped);
+
+    // Apply memoization around everything, a memoized result skips the execution: m(s(...))
+    final var memoized = applyMemoizationIfConfigured(task, request, singleFlightWrapped);
+
     // Execute the composed function
-    return circuitBreakerWrapped.get();
+    return memoized.get();
+  }
+
+  /**
+   * Starts a task with the resilience patterns of its configuration and returns the future of its
+   * result.
+   *
+   * <p>A task without hedge, retry, circuit breaker, single-flight nor memoization is started with
+   * {@link #executeTaskAsync(String, Task, ExecutionRequest)}, so the calling thread is not blocked
+   * while it is in flight. Those patterns are synchronous, so a task using any of them is executed
+   * on the calling thread and a completed future is returned.
+   *
+   * @param transactionId unique identifier for the transaction context
+   * @param taskId identifier of the task to execute. Must correspond to a task in the repository.
+   * @param request execution request containing flow context, metadata, and payload
+   * @return a future completed with the execution result, or exceptionally if it fails
+   * @see #executeResilientTask(String, String, ExecutionRequest)
+   */
+  public CompletableFuture<Map<String, Serializable>> executeResilientTaskAsync(
+      String transactionId, String taskId, ExecutionRequest request) {
+    try {
+      final var task = getTask(taskId);
+      if (usesNoPattern(task)) {
+        return executeTaskAsync(transactionId, task, request);
+      }
+      return CompletableFuture.completedFuture(
+          executeResilientTask(transactionId, taskId, task, request, true));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private boolean usesNoPattern(Task task) {
+    final var configuration = task.configuration();
+    final var resilience = configuration.resilience();
+    return (resilience == null
+            || (resilience.hedge() == null
+                && resilience.retry() == null
+                && resilience.circuitBreaker() == null))
+        && (!configuration.singleFlight() || taskSingleFlight == null)
+        && (configuration.memoization() == null || taskResultCache == null);
+  }
+
+  /**
+   * Applies hedge configuration if present and the task is idempotent, otherwise returns identity
+   * function.
+   */
+  private Supplier<Map<String, Serializable>> applyHedgeIfConfigured(
+      Task task,
+      TaskResilienceConfiguration resilienceConfig,
+      Supplier<Map<String, Serializable>> taskExecution) {
+
+    final Optional<TaskHedgeConfiguration> hedgeConfig =
+        Optional.ofNullable(resilienceConfig).map(TaskResilienceConfiguration::hedge);
+
+    if (hedgeConfig.isEmpty()) {
+      // Identity function - no hedge configuration
+      return taskExecution;
+    }
+
+    if (!task.configuration().idempotent()) {
+      warnOnce("Hedge ignored for task '{}' since it is not declared idempotent", task.id());
+      return taskExecution;
+    }
+
+    final var hedgeConfiguration =
+        new HedgeConfiguration(
+            task.id(),
+            hedgeConfig.get().delay(),
+            hedgeConfig.get().adaptiveDelay(),
+            hedgeStateManager);
+
+    final var hedge = Hedge.of(hedgeConfiguration);
+    return () -> hedge.call(taskExecution);
   }
 
   /** Applies retry configuration if present, otherwise returns identity function. */
@@ -253,6 +417,60 @@ public record TaskExecutorService(
     return () -> circuitBreaker.call(retryWrappedExecution);
   }
 
+  /**
+   * Applies single-flight if enabled and the task is idempotent, otherwise returns identity
+   * function.
+   */
+  private Supplier<Map<String, Serializable>> applySingleFlightIfConfigured(
+      Task task, ExecutionRequest request, Supplier<Map<String, Serializable>> taskExecution) {
+
+    final var configuration = task.configuration();
+    if (!configuration.singleFlight() || taskSingleFlight == null) {
+      // Identity function - no single-flight configuration
+      return taskExecution;
+    }
+
+    if (!configuration.idempotent()) {
+      warnOnce(
+          "Single-flight ignored for task '{}' since it is not declared idempotent", task.id());
+      return taskExecution;
+    }
+
+    return () -> taskSingleFlight.execute(task, request, taskExecution);
+  }
+
+  /**
+   * Applies memoization if configured and the task is deterministic, otherwise returns identity
+   * function.
+   */
+  private Supplier<Map<String, Serializable>> applyMemoizationIfConfigured(
+      Task task, ExecutionRequest request, Supplier<Map<String, Serializable>> taskExecution) {
+
+    final var configuration = task.configuration();
+    if (configuration.memoization() == null || taskResultCache == null) {
+      // Identity function - no memoization configuration
+      return taskExecution;
+    }
+
+    if (!configuration.deterministic()) {
+      warnOnce(
+          "Memoization ignored for task '{}' since it is not declared deterministic", task.id());
+      return taskExecution;
+    }
+
+    return () -> taskResultCache.computeIfAbsent(task, request, taskExecution);
+  }
+
+  /**
+   * Logs a warning about a misconfigured task the first time it is executed, rather than on every
+   * execution.
+   */
+  private static void warnOnce(String message, String taskId) {
+    if (WARNED.add(message + '\n' + taskId)) {
+      log.warn(message, taskId);
+    }
+  }
+
   private Task getTask(String taskId) {
     return taskRepository
         .findById(taskId)
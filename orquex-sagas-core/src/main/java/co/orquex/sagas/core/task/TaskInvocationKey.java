@@ -0,0 +1,135 @@
+package co.orquex.sagas.core.task;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Identifies an invocation of a task by the task ID and the metadata and payload of its request.
+ *
+ * <p>The hash is computed once by walking the metadata and payload structurally, so it is
+ * independent of the iteration order of the maps and no serialization is involved. Two keys are
+ * equal when they have the same task ID and hash, and their metadata and payload are equal.
+ *
+ * @param taskId the ID of the task
+ * @param hash the structural hash of the task ID, metadata and payload
+ * @param metadata the metadata of the request
+ * @param payload the payload of the request
+ */
+public record TaskInvocationKey(
+    String taskId,
+    long hash,
+    Map<String, Serializable> metadata,
+    Map<String, Serializable> payload) {
+
+  /**
+   * Creates the key of an invocation, the maps are referenced, not copied.
+   *
+   * @param taskId the ID of the task
+   * @param metadata the metadata of the request
+   * @param payload the payload of the request
+   * @return the invocation key
+   */
+  public static TaskInvocationKey of(
+      String taskId, Map<String, Serializable> metadata, Map<String, Serializable> payload) {
+    final var safeMetadata = metadata == null ? Map.<String, Serializable>of() : metadata;
+    final var safePayload = payload == null ? Map.<String, Serializable>of() : payload;
+    var hash = mix(Objects.hashCode(taskId));
+    hash = 31 * hash + hash(safeMetadata);
+    hash = 31 * hash + hash(safePayload);
+    return new TaskInvocationKey(taskId, mix(hash), safeMetadata, safePayload);
+  }
+
+  /**
+   * Creates a copy of this key whose maps are no longer shared with the request, so it can be kept
+   * after the request is modified.
+   *
+   * @return the key with a copy of the metadata and payload
+   */
+  public TaskInvocationKey snapshot() {
+    return new TaskInvocationKey(
+        taskId,
+        hash,
+        Collections.unmodifiableMap(new HashMap<>(metadata)),
+        Collections.unmodifiableMap(new HashMap<>(payload)));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof TaskInvocationKey other
+        && hash == other.hash
+        && Objects.equals(taskId, other.taskId)
+        && metadata.equals(other.metadata)
+        && payload.equals(other.payload);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(hash);
+  }
+
+  @Override
+  public String toString() {
+    return "TaskInvocationKey[taskId=%s, hash=%016x]".formatted(taskId, hash);
+  }
+
+  /**
+   * Computes a structural hash of the value consistent with {@code equals}: maps and sets are
+   * hashed regardless of their iteration order, lists and arrays by position.
+   */
+  static long hash(Object value) {
+    return switch (value) {
+      case null -> 0L;
+      case Map<?, ?> map -> {
+        var h = 0L;
+        for (final var entry : map.entrySet()) {
+          h += mix(31 * hash(entry.getKey()) + hash(entry.getValue()));
+        }
+        yield h;
+      }
+      case Set<?> set -> {
+        var h = 0L;
+        for (final var element : set) {
+          h += mix(hash(element));
+        }
+        yield h;
+      }
+      case List<?> list -> {
+        var h = 1L;
+        for (final var element : list) {
+          h = 31 * h + hash(element);
+        }
+        yield h;
+      }
+      case Collection<?> collection -> {
+        var h = 1L;
+        for (final var element : collection) {
+          h = 31 * h + hash(element);
+        }
+        yield h;
+      }
+      case Object array when array.getClass().isArray() ->
+          Arrays.deepHashCode(new Object[] {array});
+      default -> value.hashCode();
+    };
+  }
+
+  /** Finalization step of MurmurHash3, spreads the bits of the hash. */
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,110 @@
+package co.orquex.sagas.core.task;
+
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.task.TaskMemoizationConfiguration;
+import co.orquex.sagas.domain.utils.LruCache;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memoizes the results of deterministic tasks.
+ *
+ * <p>Each task has its own cache, bounded by the {@link TaskMemoizationConfiguration} of the task,
+ * and keyed by a {@link TaskInvocationKey} built from the metadata and payload of the request. The
+ * results are copied when they are stored and when they are returned, so the callers are free to
+ * modify them.
+ *
+ * <p>Thread-safe and supports concurrent access from multiple threads.
+ *
+ * @see TaskMemoizationConfiguration
+ * @see TaskInvocationKey
+ */
+@Slf4j
+public class TaskResultCache {
+
+  private final Map<String, LruCache<TaskInvocationKey, Map<String, Serializable>>> caches =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Gets the memoized result of the task for the request, or executes it and memoizes its result.
+   *
+   * @param task the task, which must have a memoization configuration
+   * @param request the execution request
+   * @param execution the execution of the task
+   * @return a copy of the memoized result, or the result of the execution
+   */
+  public Map<String, Serializable> computeIfAbsent(
+      Task task, ExecutionRequest request, Supplier<Map<String, Serializable>> execution) {
+    final var cache = getCache(task);
+    final var key = TaskInvocationKey.of(task.id(), request.metadata(), request.payload());
+    final var cached = cache.get(key);
+    if (cached.isPresent()) {
+      log.trace("Memoized result found for task '{}' with key '{}'", task.id(), key);
+      return new HashMap<>(cached.get());
+    }
+    final var result = execution.get();
+    if (result != null) {
+      cache.put(key.snapshot(), new HashMap<>(result));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the ratio of executions of the task served from the cache.
+   *
+   * @param taskId the ID of the task
+   * @return a value between 0 and 1, or 0 if the task has no cache
+   */
+  public double hitRatio(String taskId) {
+    return getCache(taskId).map(LruCache::hitRatio).orElse(0d);
+  }
+
+  /**
+   * Gets the number of executions of the task served from the cache.
+   *
+   * @param taskId the ID of the task
+   * @return the number of hits
+   */
+  public long hits(String taskId) {
+    return getCache(taskId).map(LruCache::hits).orElse(0L);
+  }
+
+  /**
+   * Gets the number of executions of the task not found in the cache.
+   *
+   * @param taskId the ID of the task
+   * @return the number of misses
+   */
+  public long misses(String taskId) {
+    return getCache(taskId).map(LruCache::misses).orElse(0L);
+  }
+
+  /**
+   * Removes the memoized results of the task.
+   *
+   * @param taskId the ID of the task
+   */
+  public void invalidate(String taskId) {
+    getCache(taskId).ifPresent(LruCache::clear);
+  }
+
+  private Optional<LruCache<TaskInvocationKey, Map<String, Serializable>>> getCache(
+      String taskId) {
+    return Optional.ofNullable(caches.get(taskId));
+  }
+
+  private LruCache<TaskInvocationKey, Map<String, Serializable>> getCache(Task task) {
+    return caches.computeIfAbsent(
+        task.id(),
+        id -> {
+          final var memoization = task.configuration().memoization();
+          return new LruCache<>(memoization.maxSize(), memoization.ttl());
+        });
+  }
+}
@@ -0,0 +1,110 @@
+package co.orquex.sagas.core.task;
+
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalesces concurrent executions of the same idempotent task with the same request.
+ *
+ * <p>The first execution of an invocation, identified by a {@link TaskInvocationKey} built from the
+ * task ID and the metadata and payload of the request, runs the task in the calling thread. The
+ * executions of the same invocation that start while it is in flight wait for it and receive its
+ * result, or the exception it failed with, instead of executing the task again. Once it completes,
+ * the next execution runs the task again; results are never kept, see {@link TaskResultCache} for
+ * that.
+ *
+ * <p>Every waiting execution receives its own copy of the result, so the callers are free to
+ * modify it.
+ *
+ * <p>Thread-safe and supports concurrent access from multiple threads.
+ *
+ * @see TaskInvocationKey
+ */
+@Slf4j
+public class TaskSingleFlight {
+
+  private final Map<TaskInvocationKey, CompletableFuture<Map<String, Serializable>>> inFlight =
+      new ConcurrentHashMap<>();
+  private final AtomicLong executions = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+
+  /**
+   * Executes the task, or waits for the in-flight execution of the same invocation.
+   *
+   * @param task the task
+   * @param request the execution request
+   * @param execution the execution of the task
+   * @return the result of the execution, or a copy of the result of the in-flight execution
+   */
+  public Map<String, Serializable> execute(
+      Task task, ExecutionRequest request, Supplier<Map<String, Serializable>> execution) {
+    // The key kept in the map must not change while the leader's request is modified, so the
+    // snapshot is both added and removed
+    final var key =
+        TaskInvocationKey.of(task.id(), request.metadata(), request.payload()).snapshot();
+    final var future = new CompletableFuture<Map<String, Serializable>>();
+    final var current = inFlight.putIfAbsent(key, future);
+    if (current != null) {
+      coalesced.incrementAndGet();
+      log.trace("Waiting for the in-flight execution of task '{}' with key '{}'", task.id(), key);
+      return await(current);
+    }
+    executions.incrementAndGet();
+    try {
+      final var result = execution.get();
+      future.complete(result == null ? null : new HashMap<>(result));
+      return result;
+    } catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  /**
+   * @return the number of executions that ran the task
+   */
+  public long executions() {
+    return executions.get();
+  }
+
+  /**
+   * @return the number of executions that received the result of an in-flight execution
+   */
+  public long coalesced() {
+    return coalesced.get();
+  }
+
+  /**
+   * @return the number of invocations currently in flight
+   */
+  public int inFlight() {
+    return inFlight.size();
+  }
+
+  private static Map<String, Serializable> await(
+      CompletableFuture<Map<String, Serializable>> future) {
+    try {
+      final var result = future.join();
+      return result == null ? null : new HashMap<>(result);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package co.orquex.sagas.core.claimcheck;
+
+import static co.orquex.sagas.core.fixture.TaskFixture.getTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.orquex.sagas.domain.api.TaskExecutor;
+import co.orquex.sagas.domain.execution.ClaimCheck;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClaimCheckTaskExecutorTest {
+
+  @TempDir Path directory;
+
+  FileSystemBlobStore blobStore;
+  TaskExecutor delegate;
+  ClaimCheckTaskExecutor taskExecutor;
+
+  @BeforeEach
+  void setUp() {
+    blobStore = new FileSystemBlobStore(directory);
+    delegate = mock(TaskExecutor.class);
+    when(delegate.getKey()).thenReturn("default");
+    taskExecutor = new ClaimCheckTaskExecutor(delegate, new ClaimCheckOffloader(blobStore, 1024));
+  }
+
+  @Test
+  void shouldReplaceLargeResponseValuesWithClaimChecks() {
+    final var document = "x".repeat(4096);
+    final var binary = new byte[2048];
+    final var list = new ArrayList<>(List.of(document, document));
+    when(delegate.execute(any(), any(), any()))
+        .thenReturn(
+            Map.of(
+                "document", document,
+                "binary", binary,
+                "list", list,
+                "small", "value",
+                "number", 10));
+
+    final var response = execute();
+
+    assertThat(response.get("small")).isEqualTo("value");
+    assertThat(response.get("number")).isEqualTo(10);
+    assertThat(response.get("document"))
+        .isInstanceOfSatisfying(
+            ClaimCheck.class,
+            claimCheck -> {
+              assertThat(claimCheck.kind()).isEqualTo(ClaimCheck.Kind.TEXT);
+              assertThat(claimCheck.size()).isEqualTo(4096);
+              assertThat(claimCheck.resolve(blobStore)).isEqualTo(document);
+            });
+    assertThat(((ClaimCheck) response.get("binary")).resolve(blobStore)).isEqualTo(binary);
+    assertThat(((ClaimCheck) response.get("list")).resolve(blobStore)).isEqualTo(list);
+  }
+
+  @Test
+  void shouldResolveClaimChecksOfPayload() {
+    final var document = "y".repeat(4096);
+    when(delegate.execute(any(), any(), any())).thenReturn(Map.of("document", document));
+    final var offloader = new ClaimCheckOffloader(blobStore, 1024);
+
+    final var response = execute();
+
+    assertThat(offloader.resolve(response)).isEqualTo(Map.of("document", document));
+  }
+
+  @Test
+  void shouldResolveClaimChecksBeforeExecutingTheTask() {
+    final var document = "z".repeat(4096);
+    final var offloader = new ClaimCheckOffloader(blobStore, 1024);
+    final var claimCheck = offloader.offload(document);
+    final Map<String, Serializable> payload = Map.of("document", claimCheck, "small", "value");
+    final var received = new ArrayList<ExecutionRequest>();
+    when(delegate.execute(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final ExecutionRequest request = invocation.getArgument(2);
+              received.add(request);
+              // The task returns the resolved document unchanged
+              return Map.of("echo", request.payload().get("document"));
+            });
+
+    final var request = new ExecutionRequest("flow-id", "correlation-id", Map.of(), payload);
+    final var response = taskExecutor.execute("transaction-id", getTask("task"), request);
+
+    assertThat(received.getFirst().payload())
+        .containsEntry("document", document)
+        .containsEntry("small", "value");
+    assertThat(response.get("echo")).isSameAs(claimCheck);
+  }
+
+  @Test
+  void shouldResolveOnlyTheClaimChecksReadByTheTask() {
+    final var store = spy(blobStore);
+    final var offloader = new ClaimCheckOffloader(store, 1024);
+    final var read = offloader.offload("r".repeat(4096));
+    final var unread = offloader.offload("u".repeat(4096));
+    final Map<String, Serializable> payload = Map.of("read", read, "unread", unread);
+    when(delegate.execute(any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final ExecutionRequest request = invocation.getArgument(2);
+              return Map.of("length", ((String) request.payload().get("read")).length());
+            });
+
+    final var request = new ExecutionRequest("flow-id", "correlation-id", Map.of(), payload);
+    final var response =
+        new ClaimCheckTaskExecutor(delegate, offloader)
+            .execute("transaction-id", getTask("task"), request);
+
+    assertThat(response).containsEntry("length", 4096);
+    verify(store).get(((ClaimCheck) read).blobId());
+    verify(store, never()).get(((ClaimCheck) unread).blobId());
+  }
+
+  @Test
+  void shouldOffloadTheResponseOfAnAsyncExecutionOnceItCompletes() {
+    final var future = new CompletableFuture<Map<String, Serializable>>();
+    when(delegate.executeAsync(any(), any(), any())).thenReturn(future);
+    final var request = new ExecutionRequest("flow-id", UUID.randomUUID().toString());
+
+    final var response = taskExecutor.executeAsync("transaction-id", getTask("task"), request);
+
+    assertThat(response).isNotDone();
+    future.complete(Map.of("document", "w".repeat(4096)));
+    assertThat(response.join().get("document")).isInstanceOf(ClaimCheck.class);
+  }
+
+  @Test
+  void shouldKeepResponseWhenNothingIsOffloaded() {
+    final Map<String, Serializable> original = Map.of("small", "value");
+    when(delegate.execute(any(), any(), any())).thenReturn(original);
+
+    assertThat(execute()).isSameAs(original);
+    assertThat(taskExecutor.getKey()).isEqualTo("default");
+  }
+
+  private Map<String, Serializable> execute() {
+    final var request = new ExecutionRequest("flow-id", UUID.randomUUID().toString());
+    return taskExecutor.execute(UUID.randomUUID().toString(), getTask("task"), request);
+  }
+}
@@ -0,0 +1,85 @@
+package co.orquex.sagas.core.claimcheck;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSystemBlobStoreTest {
+
+  @TempDir Path directory;
+
+  FileSystemBlobStore blobStore;
+
+  @BeforeEach
+  void setUp() {
+    blobStore = new FileSystemBlobStore(directory.resolve("blobs"));
+  }
+
+  @Test
+  void shouldStoreSameContentOnce() throws Exception {
+    final var content = "document".getBytes(StandardCharsets.UTF_8);
+
+    final var id = blobStore.put(content);
+
+    assertThat(blobStore.put(content.clone())).isEqualTo(id);
+    assertThat(blobStore.get(id)).isEqualTo(content);
+    try (final var files = Files.list(directory.resolve("blobs"))) {
+      assertThat(files).hasSize(1);
+    }
+  }
+
+  @Test
+  void shouldThrowExceptionWhenBlobIsDeleted() {
+    final var id = blobStore.put(new byte[] {1, 2, 3});
+
+    blobStore.delete(id);
+    blobStore.delete(id);
+
+    assertThatThrownBy(() -> blobStore.get(id))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Blob '%s' not found".formatted(id));
+  }
+
+  @Test
+  void shouldDeleteTheBlobsNotStoredWithinTheRetention() throws Exception {
+    try (final var expiringStore =
+        new FileSystemBlobStore(directory.resolve("expiring"), Duration.ofHours(1))) {
+      final var expired = expiringStore.put(new byte[] {1});
+      final var renewed = expiringStore.put(new byte[] {2});
+      final var recent = expiringStore.put(new byte[] {3});
+      final var read = expiringStore.put(new byte[] {4});
+      final var past = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+      Files.setLastModifiedTime(directory.resolve("expiring").resolve(expired), past);
+      Files.setLastModifiedTime(directory.resolve("expiring").resolve(renewed), past);
+      Files.setLastModifiedTime(directory.resolve("expiring").resolve(read), past);
+      // Storing the same content again or reading it renews the blob
+      expiringStore.put(new byte[] {2});
+      expiringStore.get(read);
+
+      assertThat(expiringStore.deleteExpired()).isOne();
+
+      assertThatThrownBy(() -> expiringStore.get(expired)).isInstanceOf(WorkflowException.class);
+      assertThat(expiringStore.get(renewed)).containsExactly(2);
+      assertThat(expiringStore.get(recent)).containsExactly(3);
+      assertThat(expiringStore.get(read)).containsExactly(4);
+    }
+    assertThat(blobStore.deleteExpired()).isZero();
+  }
+
+  @Test
+  void shouldRejectIdsOutsideTheStore() {
+    assertThatThrownBy(() -> blobStore.get("../secret"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid blob ID");
+  }
+}
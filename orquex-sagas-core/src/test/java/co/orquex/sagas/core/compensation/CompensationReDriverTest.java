@@ -0,0 +1,225 @@
+package co.orquex.sagas.core.compensation;
+
+import static co.orquex.sagas.core.fixture.CompensationFixture.getCompensation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CompensationReDriverTest {
+
+  static final String TRANSACTION_ID = UUID.randomUUID().toString();
+
+  @Mock DefaultCompensationExecutor compensationExecutor;
+  @Mock CompensationRepository compensationRepository;
+  @Mock Clock clock;
+
+  @Captor ArgumentCaptor<Compensation> compensationCaptor;
+
+  CompensationReDriver reDriver;
+
+  @BeforeEach
+  void setUp() {
+    final var configuration =
+        new CompensationReDriverConfiguration(
+            Duration.ofSeconds(1),
+            Duration.ofMinutes(5),
+            3,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(15));
+    reDriver =
+        new CompensationReDriver(compensationExecutor, compensationRepository, configuration, clock);
+    when(clock.instant()).thenReturn(Instant.now());
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of());
+    when(compensationRepository.findByStatus(Status.IN_PROGRESS)).thenReturn(List.of());
+  }
+
+  @Test
+  void shouldCompleteCompensationsInErrorStatus() {
+    final var compensation = getCompensation(TRANSACTION_ID, "task").withStatus(Status.ERROR);
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of(compensation));
+    when(compensationExecutor.compensate(any(), any(), eq(false)))
+        .thenAnswer(
+            invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.COMPLETED));
+
+    assertThat(reDriver.run()).isEqualTo(1);
+
+    verify(compensationRepository, times(2)).save(compensationCaptor.capture());
+    assertThat(compensationCaptor.getAllValues())
+        .extracting(Compensation::status)
+        .containsExactly(Status.IN_PROGRESS, Status.COMPLETED);
+  }
+
+  @Test
+  void shouldOnlyReDriveStalledCompensationsInProgress() {
+    final var now = Instant.now();
+    final var stalled =
+        inProgressSince(
+            getCompensation(TRANSACTION_ID, "stalled"), now.minus(Duration.ofMinutes(10)));
+    final var running =
+        inProgressSince(
+            getCompensation(TRANSACTION_ID, "running"), now.minus(Duration.ofMinutes(1)));
+    when(clock.instant()).thenReturn(now);
+    when(compensationRepository.findByStatus(Status.IN_PROGRESS))
+        .thenReturn(List.of(stalled, running));
+    when(compensationExecutor.compensate(any(), any(), eq(false)))
+        .thenAnswer(
+            invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.COMPLETED));
+
+    assertThat(reDriver.run()).isEqualTo(1);
+
+    verify(compensationExecutor).compensate(any(), compensationCaptor.capture(), eq(false));
+    assertThat(compensationCaptor.getValue().task()).isEqualTo("stalled");
+  }
+
+  @Test
+  void shouldBackOffExponentiallyAndStopAfterMaxAttempts() {
+    final var now = Instant.now();
+    final var compensation = getCompensation(TRANSACTION_ID, "task").withStatus(Status.ERROR);
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of(compensation));
+    when(compensationExecutor.compensate(any(), any(), eq(false)))
+        .thenAnswer(
+            invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.ERROR));
+
+    when(clock.instant()).thenReturn(now);
+    reDriver.run();
+    // First backoff is ten seconds
+    when(clock.instant()).thenReturn(now.plusSeconds(9));
+    reDriver.run();
+    when(clock.instant()).thenReturn(now.plusSeconds(10));
+    reDriver.run();
+    // Second backoff is capped by the max backoff of fifteen seconds
+    when(clock.instant()).thenReturn(now.plusSeconds(24));
+    reDriver.run();
+    when(clock.instant()).thenReturn(now.plusSeconds(25));
+    reDriver.run();
+    // Max attempts reached
+    when(clock.instant()).thenReturn(now.plusSeconds(3600));
+    reDriver.run();
+
+    verify(compensationExecutor, times(3)).compensate(any(), any(), eq(false));
+  }
+
+  @Test
+  void shouldRetryOnTheSchedulerOnceTheBackoffHasElapsed() {
+    final var configuration =
+        new CompensationReDriverConfiguration(
+            Duration.ofHours(1),
+            Duration.ofMinutes(5),
+            3,
+            Duration.ofMillis(10),
+            Duration.ofMillis(10));
+    final var compensation = getCompensation(TRANSACTION_ID, "task").withStatus(Status.ERROR);
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of(compensation));
+    when(compensationExecutor.compensate(any(), any(), eq(false)))
+        .thenAnswer(invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.ERROR))
+        .thenAnswer(
+            invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.COMPLETED));
+
+    try (final var scheduled =
+        new CompensationReDriver(
+            compensationExecutor, compensationRepository, configuration, clock)) {
+      scheduled.start();
+      assertThat(scheduled.run()).isZero();
+
+      await()
+          .atMost(Duration.ofSeconds(5))
+          .untilAsserted(
+              () -> verify(compensationExecutor, times(2)).compensate(any(), any(), eq(false)));
+    }
+  }
+
+  @Test
+  void shouldEvictTheAttemptsOfCompensationsThatAreNoLongerPending() {
+    final var compensation = getCompensation(TRANSACTION_ID, "task").withStatus(Status.ERROR);
+    when(compensationExecutor.compensate(any(), any(), eq(false)))
+        .thenAnswer(
+            invocation -> invocation.<Compensation>getArgument(1).withStatus(Status.ERROR));
+
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of(compensation));
+    reDriver.run();
+    // Fixed outside the re-driver, so its attempts are evicted
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of());
+    reDriver.run();
+    // Failed again by a new rollback, it is re-driven without waiting for the previous backoff
+    when(compensationRepository.findByStatus(Status.ERROR)).thenReturn(List.of(compensation));
+    reDriver.run();
+
+    verify(compensationExecutor, times(2)).compensate(any(), any(), eq(false));
+  }
+
+  @Test
+  void shouldStopScanningWhenTheRepositoryCannotFindByStatus() {
+    final var configuration =
+        new CompensationReDriverConfiguration(
+            Duration.ofMillis(10),
+            Duration.ofMinutes(5),
+            3,
+            Duration.ofMillis(10),
+            Duration.ofMillis(10));
+    when(compensationRepository.findByStatus(any())).thenCallRealMethod();
+    assertThatThrownBy(() -> reDriver.run()).isInstanceOf(UnsupportedOperationException.class);
+
+    try (final var scheduled =
+        new CompensationReDriver(
+            compensationExecutor, compensationRepository, configuration, clock)) {
+      scheduled.start();
+
+      await()
+          .during(Duration.ofMillis(200))
+          .atMost(Duration.ofSeconds(5))
+          .untilAsserted(() -> verify(compensationRepository, times(2)).findByStatus(any()));
+    }
+  }
+
+  @Test
+  void shouldThrowExceptionWhenConfigurationIsInvalid() {
+    final var interval = Duration.ZERO;
+    final var stallTimeout = Duration.ofMinutes(5);
+    final var backoff = Duration.ofSeconds(1);
+    assertThatThrownBy(
+            () -> new CompensationReDriverConfiguration(interval, stallTimeout, 3, backoff, backoff))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Re-drive interval must be positive");
+  }
+
+  private static Compensation inProgressSince(Compensation compensation, Instant updatedAt) {
+    return new Compensation(
+        compensation.id(),
+        compensation.transactionId(),
+        compensation.flowId(),
+        compensation.stageId(),
+        compensation.correlationId(),
+        compensation.task(),
+        compensation.metadata(),
+        compensation.request(),
+        compensation.response(),
+        compensation.preProcessor(),
+        compensation.postProcessor(),
+        Status.IN_PROGRESS,
+        updatedAt,
+        updatedAt);
+  }
+}
@@ -1,8 +1,11 @@
 package co.orquex.sagas.core.compensation;
 
+import static co.orquex.sagas.core.fixture.TaskFixture.getTask;
+import static co.orquex.sagas.core.fixture.TaskFixture.getTaskWithRetryConfig;
 import static co.orquex.sagas.core.fixture.TaskProcessorFixture.getTaskProcessor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -18,6 +21,7 @@ import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.task.Task;
 import co.orquex.sagas.domain.transaction.Compensation;
 import co.orquex.sagas.domain.transaction.Status;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,8 +43,7 @@ class DefaultCompensationExecutorTest {
 
   @Mock TaskExecutor taskExecutor;
 
-  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
-  Task task;
+  final Task task = getTask("task");
 
   @Captor ArgumentCaptor<Compensation> compensationCaptor;
 
@@ -52,7 +55,6 @@ class DefaultCompensationExecutorTest {
         .thenReturn(CompensationFixture.getCompensations(TRANSACTION_ID, 3));
     when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.of(taskExecutor));
     when(taskRepository.findById(anyString())).thenReturn(Optional.of(task));
-    when(task.configuration().executor()).thenReturn("task-executor");
     when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
         .thenReturn(Collections.emptyMap());
 
@@ -80,7 +82,6 @@ class DefaultCompensationExecutorTest {
     when(compensationRepository.findByTransactionId(TRANSACTION_ID))
         .thenReturn(CompensationFixture.getCompensations(TRANSACTION_ID, 3));
     when(taskRepository.findById(anyString())).thenReturn(Optional.of(task));
-    when(task.configuration().executor()).thenReturn("task-executor");
     when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.empty());
 
     assertThatCode(() -> defaultCompensationExecutor.execute(TRANSACTION_ID))
@@ -109,7 +110,6 @@ class DefaultCompensationExecutorTest {
         .thenReturn(CompensationFixture.getCompensations(TRANSACTION_ID, 3));
     when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.of(taskExecutor));
     when(taskRepository.findById(anyString())).thenReturn(Optional.of(task));
-    when(task.configuration().executor()).thenReturn("task-executor");
     when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
         .thenReturn(Collections.emptyMap())
         .thenThrow(WorkflowException.class)
@@ -146,7 +146,6 @@ class DefaultCompensationExecutorTest {
     when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
     when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.of(taskExecutor));
     when(taskRepository.findById(anyString())).thenReturn(Optional.of(task));
-    when(task.configuration().executor()).thenReturn("task-executor");
     when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
         .thenReturn(Collections.emptyMap());
 
@@ -158,4 +157,25 @@ class DefaultCompensationExecutorTest {
     verify(taskRepository, times(3)).findById(anyString());
     verify(globalContext).remove(TRANSACTION_ID);
   }
+
+  @Test
+  void shouldLeaveCompensationInErrorAfterASingleAttemptWhenTaskHasRetryConfiguration() {
+    final var compensations = List.of(CompensationFixture.getCompensation(TRANSACTION_ID, "task"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.of(taskExecutor));
+    when(taskRepository.findById(anyString()))
+        .thenReturn(Optional.of(getTaskWithRetryConfig("task", 3, Duration.ofSeconds(10))));
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenThrow(new WorkflowException("Transient error"));
+
+    // The retry is left to the re-driver instead of blocking the thread during the backoff
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5), () -> defaultCompensationExecutor.execute(TRANSACTION_ID));
+
+    verify(compensationRepository, times(2)).save(compensationCaptor.capture());
+    assertThat(compensationCaptor.getAllValues())
+        .extracting(Compensation::status)
+        .containsExactly(Status.IN_PROGRESS, Status.ERROR);
+    verify(taskExecutor).execute(anyString(), any(Task.class), any(ExecutionRequest.class));
+  }
 }
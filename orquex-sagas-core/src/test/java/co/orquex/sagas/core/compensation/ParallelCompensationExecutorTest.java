@@ -0,0 +1,230 @@
+package co.orquex.sagas.core.compensation;
+
+import static co.orquex.sagas.core.fixture.CompensationFixture.getCompensation;
+import static co.orquex.sagas.core.fixture.TaskFixture.getTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import co.orquex.sagas.domain.api.TaskExecutor;
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.registry.Registry;
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.api.repository.TaskRepository;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ParallelCompensationExecutorTest {
+
+  static final String TRANSACTION_ID = UUID.randomUUID().toString();
+
+  @Mock Registry<TaskExecutor> taskExecutorRegistry;
+  @Mock TaskRepository taskRepository;
+  @Mock CompensationRepository compensationRepository;
+  @Mock GlobalContext globalContext;
+
+  @Mock TaskExecutor taskExecutor;
+
+  @Captor ArgumentCaptor<List<Compensation>> compensationsCaptor;
+
+  @BeforeEach
+  void setUp() {
+    when(taskExecutorRegistry.get(anyString())).thenReturn(Optional.of(taskExecutor));
+    when(taskRepository.findById(anyString()))
+        .thenAnswer(invocation -> Optional.of(getTask(invocation.getArgument(0))));
+  }
+
+  @Test
+  void shouldExecuteCompensationsOfDifferentStagesInParallel() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1"),
+            getCompensation(TRANSACTION_ID, "stage-2", "task-2"),
+            getCompensation(TRANSACTION_ID, "stage-3", "task-3"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    // Each compensation waits for the others, so it only completes if all run concurrently
+    final var latch = new CountDownLatch(3);
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              latch.countDown();
+              if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new WorkflowException("Compensations were not executed in parallel");
+              }
+              return Collections.emptyMap();
+            });
+
+    newExecutor(3).execute(TRANSACTION_ID);
+
+    verify(compensationRepository, never()).save(any(Compensation.class));
+    verify(compensationRepository, times(2)).saveAll(compensationsCaptor.capture());
+    assertThat(compensationsCaptor.getAllValues().getFirst())
+        .extracting(Compensation::status)
+        .containsOnly(Status.IN_PROGRESS);
+    assertThat(compensationsCaptor.getAllValues().getLast())
+        .hasSize(3)
+        .extracting(Compensation::status)
+        .containsOnly(Status.COMPLETED);
+    verify(globalContext).remove(TRANSACTION_ID);
+  }
+
+  @Test
+  void shouldExecuteCompensationsOfTheSameStageInReverseOrder() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1"),
+            getCompensation(TRANSACTION_ID, "stage-1", "task-2"),
+            getCompensation(TRANSACTION_ID, "stage-1", "task-3"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    final var executed = new CopyOnWriteArrayList<String>();
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final Task task = invocation.getArgument(1);
+              executed.add(task.id());
+              return Collections.emptyMap();
+            });
+
+    newExecutor(3).execute(TRANSACTION_ID);
+
+    assertThat(executed).containsExactly("task-3", "task-2", "task-1");
+  }
+
+  @Test
+  void shouldBoundTheNumberOfConcurrentCompensations() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1"),
+            getCompensation(TRANSACTION_ID, "stage-2", "task-2"),
+            getCompensation(TRANSACTION_ID, "stage-3", "task-3"),
+            getCompensation(TRANSACTION_ID, "stage-4", "task-4"),
+            getCompensation(TRANSACTION_ID, "stage-5", "task-5"),
+            getCompensation(TRANSACTION_ID, "stage-6", "task-6"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              Thread.sleep(20);
+              running.decrementAndGet();
+              return Collections.<String, Serializable>emptyMap();
+            });
+
+    newExecutor(2).execute(TRANSACTION_ID);
+
+    verify(taskExecutor, times(6))
+        .execute(anyString(), any(Task.class), any(ExecutionRequest.class));
+    assertThat(maxRunning.get()).isBetween(1, 2);
+  }
+
+  @Test
+  void shouldMarkFailedCompensationsAsErrorWithoutStoppingOtherStages() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1"),
+            getCompensation(TRANSACTION_ID, "stage-2", "task-2"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final Task task = invocation.getArgument(1);
+              if (task.id().equals("task-1")) {
+                throw new WorkflowException("Compensation failed");
+              }
+              return Map.of();
+            });
+
+    newExecutor(2).execute(TRANSACTION_ID);
+
+    verify(compensationRepository, times(2)).saveAll(compensationsCaptor.capture());
+    assertThat(compensationsCaptor.getAllValues().getLast())
+        .extracting(Compensation::task, Compensation::status)
+        .containsExactlyInAnyOrder(
+            tuple("task-1", Status.ERROR), tuple("task-2", Status.COMPLETED));
+  }
+
+  @Test
+  void shouldKeepExecutingTheStageWhenACompensationThrowsAnUnexpectedException() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1"),
+            getCompensation(TRANSACTION_ID, "stage-1", "task-2"));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+    when(taskExecutor.execute(anyString(), any(Task.class), any(ExecutionRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final Task task = invocation.getArgument(1);
+              if (task.id().equals("task-2")) {
+                throw new IllegalStateException("Unexpected failure");
+              }
+              return Map.of();
+            });
+
+    newExecutor(2).execute(TRANSACTION_ID);
+
+    verify(compensationRepository, times(2)).saveAll(compensationsCaptor.capture());
+    assertThat(compensationsCaptor.getAllValues().getLast())
+        .extracting(Compensation::task, Compensation::status)
+        .containsExactlyInAnyOrder(
+            tuple("task-1", Status.COMPLETED), tuple("task-2", Status.ERROR));
+  }
+
+  @Test
+  void shouldSkipCompensationsNotInCreatedStatus() {
+    final var compensations =
+        List.of(
+            getCompensation(TRANSACTION_ID, "stage-1", "task-1").withStatus(Status.COMPLETED),
+            getCompensation(TRANSACTION_ID, "stage-2", "task-2").withStatus(Status.ERROR));
+    when(compensationRepository.findByTransactionId(TRANSACTION_ID)).thenReturn(compensations);
+
+    newExecutor(2).execute(TRANSACTION_ID);
+
+    verify(taskExecutor, never()).execute(anyString(), any(Task.class), any());
+    verify(compensationRepository, never()).saveAll(anyList());
+    verify(globalContext).remove(TRANSACTION_ID);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxConcurrencyIsNotPositive() {
+    assertThatThrownBy(() -> newExecutor(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max concurrency must be greater than zero");
+  }
+
+  private ParallelCompensationExecutor newExecutor(int maxConcurrency) {
+    return new ParallelCompensationExecutor(
+        taskExecutorRegistry,
+        taskRepository,
+        compensationRepository,
+        globalContext,
+        maxConcurrency);
+  }
+}
@@ -0,0 +1,123 @@
+package co.orquex.sagas.core.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ExpiringGlobalContextTest {
+
+  static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  TransactionRepository transactionRepository;
+  Clock clock;
+  ExpiringGlobalContext globalContext;
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository = mock(TransactionRepository.class);
+    when(transactionRepository.findById(anyString())).thenReturn(Optional.empty());
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(NOW);
+    globalContext =
+        new ExpiringGlobalContext(
+            transactionRepository,
+            new ExpiringGlobalContextConfiguration(
+                3, Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofSeconds(30)),
+            clock);
+  }
+
+  @Test
+  void shouldExpireContextAfterTransactionExpirationAndGrace() {
+    final var transactionId = transaction(NOW.plus(Duration.ofMinutes(10)));
+    globalContext.get(transactionId).put("key", "value");
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(14)));
+    assertThat(globalContext.evictExpired()).isZero();
+    assertThat(globalContext.get(transactionId).get("key")).isEqualTo("value");
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(16)));
+    assertThat(globalContext.evictExpired()).isEqualTo(1);
+    assertThat(globalContext.size()).isZero();
+    assertThat(globalContext.expirations()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldUseDefaultTtlWhenTransactionIsNotFound() {
+    globalContext.get(UUID.randomUUID().toString());
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(59)));
+    assertThat(globalContext.evictExpired()).isZero();
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(61)));
+    assertThat(globalContext.evictExpired()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictContextClosestToExpirationWhenMaxEntriesIsExceeded() {
+    final var first = transaction(NOW.plus(Duration.ofMinutes(30)));
+    final var closest = transaction(NOW.plus(Duration.ofMinutes(1)));
+    final var third = transaction(NOW.plus(Duration.ofMinutes(20)));
+    final var fourth = transaction(NOW.plus(Duration.ofMinutes(40)));
+    final var firstContext = globalContext.get(first);
+    final var closestContext = globalContext.get(closest);
+    globalContext.get(third);
+
+    globalContext.get(fourth);
+
+    assertThat(globalContext.size()).isEqualTo(3);
+    assertThat(globalContext.sizeEvictions()).isEqualTo(1);
+    assertThat(globalContext.get(first)).isSameAs(firstContext);
+    // A new context is created for the evicted transaction
+    assertThat(globalContext.get(closest)).isNotSameAs(closestContext);
+  }
+
+  @Test
+  void shouldRemoveContextAndItsExpiry() {
+    final var transactionId = transaction(NOW.plus(Duration.ofMinutes(1)));
+    globalContext.get(transactionId);
+
+    globalContext.remove(transactionId);
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(2)));
+    assertThat(globalContext.evictExpired()).isZero();
+    assertThat(globalContext.size()).isZero();
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxEntriesIsNotPositive() {
+    final var ttl = Duration.ofHours(1);
+    final var grace = Duration.ZERO;
+    assertThatThrownBy(() -> new ExpiringGlobalContextConfiguration(0, ttl, grace, ttl))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max entries must be greater than zero");
+  }
+
+  private String transaction(Instant expiresAt) {
+    final var transactionId = UUID.randomUUID().toString();
+    when(transactionRepository.findById(transactionId))
+        .thenReturn(
+            Optional.of(
+                new Transaction(
+                    transactionId,
+                    "flow-id",
+                    UUID.randomUUID().toString(),
+                    null,
+                    Status.IN_PROGRESS,
+                    NOW,
+                    NOW,
+                    expiresAt)));
+    return transactionId;
+  }
+}
@@ -0,0 +1,122 @@
+package co.orquex.sagas.core.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapGlobalContextTest {
+
+  static final int BLOCK_SIZE = 1024;
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldKeepSmallValuesOnTheHeap() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE * 8L, null);
+    final var transactionContext = globalContext.get(UUID.randomUUID().toString());
+
+    transactionContext.put("count", 10);
+    transactionContext.put("name", "value");
+
+    assertThat(transactionContext.get("count")).isEqualTo(10);
+    assertThat(transactionContext.get("name")).isEqualTo("value");
+    assertThat(globalContext.usedBytes()).isZero();
+  }
+
+  @Test
+  void shouldStoreLargeValuesOffHeap() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE * 8L, null);
+    final var transactionContext = globalContext.get(UUID.randomUUID().toString());
+    final var lookup = getLookup(100);
+
+    transactionContext.put("lookup", lookup);
+
+    assertThat(globalContext.usedBytes()).isPositive();
+    assertThat(transactionContext.get("lookup")).isEqualTo(lookup).isNotSameAs(lookup);
+  }
+
+  @Test
+  void shouldStoreLargeValuesInMappedFile() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE * 8L, directory);
+    final var transactionContext = globalContext.get(UUID.randomUUID().toString());
+    final var lookup = getLookup(100);
+
+    transactionContext.put("lookup", lookup);
+
+    assertThat(globalContext.usedBytes()).isPositive();
+    assertThat(transactionContext.get("lookup")).isEqualTo(lookup);
+  }
+
+  @Test
+  void shouldFreeOffHeapMemoryWhenValuesAreReplacedOrRemoved() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE * 8L, null);
+    final var transactionId = UUID.randomUUID().toString();
+    final var transactionContext = globalContext.get(transactionId);
+
+    transactionContext.put("lookup", getLookup(100));
+    final var used = globalContext.usedBytes();
+    transactionContext.put("lookup", getLookup(100));
+    assertThat(globalContext.usedBytes()).isEqualTo(used);
+
+    transactionContext.remove("lookup");
+    assertThat(globalContext.usedBytes()).isZero();
+
+    transactionContext.put("lookup", getLookup(100));
+    globalContext.remove(transactionId);
+    assertThat(globalContext.usedBytes()).isZero();
+  }
+
+  @Test
+  void shouldKeepValuesOnTheHeapWhenOffHeapMemoryIsFull() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE, null);
+    final var transactionContext = globalContext.get(UUID.randomUUID().toString());
+    final var lookup = getLookup(100);
+
+    transactionContext.put("lookup", lookup);
+
+    assertThat(transactionContext.get("lookup")).isSameAs(lookup);
+    assertThat(globalContext.rejections()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenANestedValueIsNotSerializable() {
+    final var globalContext = getGlobalContext(BLOCK_SIZE * 8L, null);
+    final var transactionContext = globalContext.get(UUID.randomUUID().toString());
+    final var value = new ArrayList<Object>(List.of("small", new Object()));
+
+    assertThatThrownBy(() -> transactionContext.put("value", value))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Value of key 'value' cannot be stored in the transaction context")
+        .hasRootCauseMessage("Value of type 'java.lang.Object' is not serializable");
+    assertThat(transactionContext.get("value")).isNull();
+  }
+
+  @Test
+  void shouldThrowExceptionWhenCapacityIsLessThanOneBlock() {
+    assertThatThrownBy(() -> new OffHeapGlobalContextConfiguration(0, 512, BLOCK_SIZE, null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Capacity bytes must be at least one block");
+  }
+
+  private static OffHeapGlobalContext getGlobalContext(long capacityBytes, Path directory) {
+    return new OffHeapGlobalContext(
+        new OffHeapGlobalContextConfiguration(256, capacityBytes, BLOCK_SIZE, directory));
+  }
+
+  private static HashMap<String, Serializable> getLookup(int size) {
+    final var lookup = new HashMap<String, Serializable>();
+    for (var i = 0; i < size; i++) {
+      lookup.put("key-" + i, "value-" + i);
+    }
+    return lookup;
+  }
+}
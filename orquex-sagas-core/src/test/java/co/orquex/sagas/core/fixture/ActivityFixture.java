@@ -2,6 +2,7 @@ package co.orquex.sagas.core.fixture;
 
 import co.orquex.sagas.domain.stage.Activity;
 import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.MergePolicy;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,14 @@ public final class ActivityFixture {
       String id, List<ActivityTask> activityTasks, boolean parallel, boolean allOrNothing) {
     return new Activity(id, null, null, null, activityTasks, parallel, null, allOrNothing);
   }
+
+  public static Activity getSimpleActivity(
+      String id,
+      List<ActivityTask> activityTasks,
+      boolean parallel,
+      boolean allOrNothing,
+      MergePolicy mergePolicy) {
+    return new Activity(
+        id, null, null, null, activityTasks, parallel, null, allOrNothing, mergePolicy);
+  }
 }
@@ -23,10 +23,24 @@ public class CompensationFixture {
 
   public static Compensation getCompensation(
       String transactionId, String task, TaskProcessor preProcessor, TaskProcessor postProcessor) {
+    return getCompensation(transactionId, null, task, preProcessor, postProcessor);
+  }
+
+  public static Compensation getCompensation(String transactionId, String stageId, String task) {
+    return getCompensation(transactionId, stageId, task, null, null);
+  }
+
+  public static Compensation getCompensation(
+      String transactionId,
+      String stageId,
+      String task,
+      TaskProcessor preProcessor,
+      TaskProcessor postProcessor) {
     return new Compensation(
         UUID.randomUUID().toString(),
         transactionId,
         FLOW_ID,
+        stageId,
         CORRELATION_ID,
         task,
         Collections.emptyMap(),
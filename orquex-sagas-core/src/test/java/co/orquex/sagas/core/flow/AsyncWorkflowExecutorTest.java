@@ -115,7 +115,7 @@ class AsyncWorkflowExecutorTest {
     final var transactionId = executor.execute(request);
     assertThat(transactionId).isEqualTo(transaction.transactionId());
 
-    verify(stageExecutor, timeout(100)).execute(any(StageRequest.class));
+    verify(stageExecutor, timeout(100)).executeAsync(any(StageRequest.class));
   }
 
   @Test
@@ -234,7 +234,7 @@ class AsyncWorkflowExecutorTest {
     assertThatCode(() -> executorWithCheckpoints.execute(request)).doesNotThrowAnyException();
 
     // Verify that stage executor was called (once for resume execution)
-    verify(stageExecutor, timeout(100).times(1)).execute(any(StageRequest.class));
+    verify(stageExecutor, timeout(100).times(1)).executeAsync(any(StageRequest.class));
   }
 
   @Test
@@ -275,7 +275,7 @@ class AsyncWorkflowExecutorTest {
 
     // Verify that the stage request contains the checkpoint metadata and payload
     verify(stageExecutor, timeout(100))
-        .execute(
+        .executeAsync(
             argThat(
                 stageRequest -> {
                   final var executionRequest = stageRequest.executionRequest();
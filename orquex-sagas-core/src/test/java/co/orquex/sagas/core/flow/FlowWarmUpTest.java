@@ -0,0 +1,156 @@
+package co.orquex.sagas.core.flow;
+
+import static co.orquex.sagas.core.fixture.FlowFixture.getFlow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import co.orquex.sagas.core.task.DefaultTaskExecutor;
+import co.orquex.sagas.core.task.InMemoryTaskExecutorRegistry;
+import co.orquex.sagas.core.task.InMemoryTaskImplementationRegistry;
+import co.orquex.sagas.core.task.TaskExecutorService;
+import co.orquex.sagas.domain.api.TaskImplementation;
+import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.api.repository.FlowRepository;
+import co.orquex.sagas.domain.api.repository.TaskRepository;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.task.TaskConfiguration;
+import co.orquex.sagas.domain.task.TaskRequest;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FlowWarmUpTest {
+
+  @Mock FlowRepository flowRepository;
+  @Mock TaskRepository taskRepository;
+  @Mock GlobalContext globalContext;
+  @Mock TaskImplementation activity;
+  @Mock TaskImplementation evaluator;
+
+  @Captor ArgumentCaptor<TaskRequest> requestCaptor;
+
+  TaskExecutorService taskExecutorService;
+  InMemoryTaskImplementationRegistry taskImplementationRegistry;
+
+  @BeforeEach
+  void setUp() {
+    when(activity.getKey()).thenReturn("default-activity");
+    when(evaluator.getKey()).thenReturn("default-evaluator");
+    taskImplementationRegistry =
+        InMemoryTaskImplementationRegistry.of(List.of(activity, evaluator));
+    final var taskExecutorRegistry =
+        InMemoryTaskExecutorRegistry.of(
+            List.of(new DefaultTaskExecutor(taskImplementationRegistry)));
+    taskExecutorService =
+        TaskExecutorService.builder()
+            .taskExecutorRegistry(taskExecutorRegistry)
+            .taskRepository(taskRepository)
+            .build();
+    when(flowRepository.findAll()).thenReturn(List.of(getFlow("flow-simple.json")));
+    when(taskRepository.findById("default-activity"))
+        .thenReturn(Optional.of(task("default-activity", false)));
+    when(taskRepository.findById("default-evaluator"))
+        .thenReturn(Optional.of(task("default-evaluator", true)));
+  }
+
+  @Test
+  void shouldPrecompileTasksWithTheirMetadata() {
+    final var warmUp = warmUp(new FlowWarmUpConfiguration(0, true));
+
+    final var result = warmUp.run();
+
+    assertThat(result.flows()).isEqualTo(1);
+    assertThat(result.tasks()).isEqualTo(2);
+    assertThat(result.dryRuns()).isZero();
+    assertThat(result.failures()).isEmpty();
+    assertThat(warmUp.isReady()).isTrue();
+    verify(activity).precompile(any());
+    verify(evaluator).precompile(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().metadata()).containsEntry("__expression", "true");
+    assertThat(requestCaptor.getValue().payload()).isEmpty();
+    verify(evaluator, never()).execute(any());
+  }
+
+  @Test
+  void shouldReportTasksThatCannotBeWarmedUp() {
+    when(taskRepository.findById("default-activity")).thenReturn(Optional.empty());
+    doThrow(new WorkflowException("invalid expression")).when(evaluator).precompile(any());
+
+    final var result = warmUp(new FlowWarmUpConfiguration(0, false)).run();
+
+    assertThat(result.failures())
+        .containsExactlyInAnyOrder(
+            "flow 'flow-simple' stage 'activity-stage': task 'default-activity' not found",
+            "flow 'flow-simple' stage 'evaluation-stage': task 'default-evaluator' cannot be"
+                + " precompiled: invalid expression");
+  }
+
+  @Test
+  void shouldFailWhenConfiguredToFailOnError() {
+    when(taskRepository.findById("default-activity")).thenReturn(Optional.empty());
+    final var warmUp = warmUp(new FlowWarmUpConfiguration(0, true));
+
+    assertThatThrownBy(warmUp::run)
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Warm-up failed with 1 failures");
+    assertThat(warmUp.isReady()).isFalse();
+  }
+
+  @Test
+  void shouldReportAFlowRepositoryThatCannotListTheFlows() {
+    when(flowRepository.findAll())
+        .thenThrow(new UnsupportedOperationException("finding all flows is not supported"));
+
+    final var result = warmUp(new FlowWarmUpConfiguration(0, false)).run();
+
+    assertThat(result.flows()).isZero();
+    assertThat(result.failures())
+        .containsExactly("flows cannot be listed: finding all flows is not supported");
+    final var failing = warmUp(new FlowWarmUpConfiguration(0, true));
+    assertThatThrownBy(failing::run)
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Warm-up failed with 1 failures");
+  }
+
+  @Test
+  void shouldDryRunOnlyDeterministicTasks() {
+    when(evaluator.execute(any())).thenThrow(new WorkflowException("payload required"));
+
+    final var result = warmUp(new FlowWarmUpConfiguration(3, true)).run();
+
+    assertThat(result.dryRuns()).isEqualTo(3);
+    verify(evaluator, times(3)).execute(requestCaptor.capture());
+    assertThat(requestCaptor.getValue().payload()).isEmpty();
+    assertThat(requestCaptor.getValue().metadata()).containsEntry("__expression", "true");
+    verify(activity, never()).execute(any());
+    verify(globalContext).remove(requestCaptor.getValue().transactionId());
+  }
+
+  private FlowWarmUp warmUp(FlowWarmUpConfiguration configuration) {
+    return new FlowWarmUp(
+        flowRepository,
+        taskExecutorService,
+        taskImplementationRegistry,
+        globalContext,
+        configuration);
+  }
+
+  private static Task task(String id, boolean deterministic) {
+    final var configuration = TaskConfiguration.builder().deterministic(deterministic).build();
+    return new Task(id, null, id, null, null, configuration);
+  }
+}
@@ -6,8 +6,10 @@ import static co.orquex.sagas.core.fixture.TransactionFixture.getTransaction;
 import static co.orquex.sagas.domain.transaction.Status.ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import co.orquex.sagas.domain.api.CompensationExecutor;
@@ -25,10 +27,13 @@ import co.orquex.sagas.domain.transaction.Checkpoint;
 import co.orquex.sagas.domain.transaction.Status;
 import co.orquex.sagas.domain.transaction.Transaction;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +41,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.Answers;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -49,7 +55,8 @@ class WorkflowExecutorTest {
   static final String CORRELATION_ID = UUID.randomUUID().toString();
   @Mock FlowRepository flowRepository;
   @Mock TransactionRepository transactionRepository;
-  @Mock StageExecutor stageExecutor;
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  StageExecutor stageExecutor;
   @Mock CompensationExecutor compensationExecutor;
   @Mock GlobalContext globalContext;
   @Mock CheckpointRepository checkpointRepository;
@@ -113,6 +120,38 @@ class WorkflowExecutorTest {
     verify(globalContext).remove(anyString());
   }
 
+  @Test
+  void shouldReleaseTheWorkflowThreadWhileAStageIsInFlight() throws Exception {
+    when(flowRepository.findById(FLOW_ID)).thenReturn(Optional.of(simpleFlow));
+    when(transactionRepository.findByFlowIdAndCorrelationId(eq(FLOW_ID), anyString()))
+        .thenReturn(Optional.empty());
+    when(transactionRepository.save(any(Transaction.class)))
+        .thenAnswer(AdditionalAnswers.returnsFirstArg());
+    final var inFlight = new ConcurrentLinkedQueue<CompletableFuture<StageResponse>>();
+    doAnswer(
+            invocation -> {
+              final var stageResponse = new CompletableFuture<StageResponse>();
+              inFlight.add(stageResponse);
+              return stageResponse;
+            })
+        .when(stageExecutor)
+        .executeAsync(any(StageRequest.class));
+
+    // Both flows share the single workflow thread
+    final var first =
+        CompletableFuture.supplyAsync(
+            () -> orchestratorExecutor.execute(new ExecutionRequest(FLOW_ID, "first")));
+    final var second =
+        CompletableFuture.supplyAsync(
+            () -> orchestratorExecutor.execute(new ExecutionRequest(FLOW_ID, "second")));
+
+    await().atMost(Duration.ofMillis(500)).until(() -> inFlight.size() == 2);
+    inFlight.forEach(stageResponse -> stageResponse.complete(new StageResponse("transaction")));
+    assertThat(first.get(1, TimeUnit.SECONDS)).isNotNull();
+    assertThat(second.get(1, TimeUnit.SECONDS)).isNotNull();
+    verify(stageExecutor, never()).execute(any(StageRequest.class));
+  }
+
   @Test
   void shouldThrowWorkflowExceptionWhenCircularExecution() {
     when(flowRepository.findById(FLOW_ID)).thenReturn(Optional.of(simpleFlow));
@@ -0,0 +1,222 @@
+package co.orquex.sagas.core.repository;
+
+import static co.orquex.sagas.core.fixture.FlowFixture.getFlow;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.orquex.sagas.domain.api.repository.FlowRepository;
+import co.orquex.sagas.domain.flow.Flow;
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.transaction.CheckpointDelta;
+import co.orquex.sagas.domain.transaction.Status;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeltaCheckpointRepositoryTest {
+
+  static final String TRANSACTION_ID = UUID.randomUUID().toString();
+
+  Flow flow;
+  InMemoryCheckpointHistoryRepository historyRepository;
+  DeltaCheckpointRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    flow = getFlow("flow-simple.json");
+    final var flowRepository = mock(FlowRepository.class);
+    when(flowRepository.findById(flow.id())).thenReturn(Optional.of(flow));
+    historyRepository = new InMemoryCheckpointHistoryRepository();
+    repository = new DeltaCheckpointRepository(historyRepository, flowRepository, 3);
+  }
+
+  @Test
+  void shouldStoreOnlyChangedKeysAndStageId() {
+    final var payload = payload("customer", "john", "amount", 100);
+    repository.save(checkpoint(Status.IN_PROGRESS, "evaluation-stage", payload, null, null));
+    repository.save(
+        checkpoint(
+            Status.COMPLETED,
+            "evaluation-stage",
+            payload,
+            payload("customer", "john", "amount", 100, "approved", true),
+            "activity-stage"));
+
+    final var history = historyRepository.findByTransactionId(TRANSACTION_ID);
+
+    assertThat(history).extracting(CheckpointDelta::sequence).containsExactly(0L, 1L);
+    assertThat(history.getFirst().snapshot()).isTrue();
+    assertThat(history.getLast().snapshot()).isFalse();
+    assertThat(history.getLast().payload().isEmpty()).isTrue();
+    assertThat(history.getLast().response().changed())
+        .isEqualTo(payload("customer", "john", "amount", 100, "approved", true));
+    assertThat(history.getLast().stageId()).isEqualTo("evaluation-stage");
+  }
+
+  @Test
+  void shouldRebuildExactCheckpointFromHistory() {
+    Checkpoint last = null;
+    for (var i = 0; i < 7; i++) {
+      final var payload = payload("counter", i, "constant", "value");
+      if (i % 2 == 0) {
+        payload.put("even", i);
+      }
+      last =
+          checkpoint(
+              i % 2 == 0 ? Status.IN_PROGRESS : Status.COMPLETED,
+              "activity-stage",
+              payload,
+              payload("result", i),
+              "activity-stage");
+      repository.save(last);
+    }
+    // Drop the in-memory state, as after a restart
+    final var restarted =
+        new DeltaCheckpointRepository(historyRepository, mockFlowRepository(), 3);
+
+    final var checkpoint = restarted.findByTransactionId(TRANSACTION_ID);
+
+    assertThat(checkpoint).isPresent();
+    assertThat(checkpoint.get().payload()).isEqualTo(last.payload());
+    assertThat(checkpoint.get().response()).isEqualTo(last.response());
+    assertThat(checkpoint.get().metadata()).isEqualTo(last.metadata());
+    assertThat(checkpoint.get().status()).isEqualTo(last.status());
+    assertThat(checkpoint.get().incoming()).isEqualTo(flow.stages().get("activity-stage"));
+    assertThat(historyRepository.findFromLastSnapshot(TRANSACTION_ID))
+        .extracting(CheckpointDelta::sequence)
+        .containsExactly(6L);
+  }
+
+  @Test
+  void shouldRebuildEveryCheckpointOfTheHistory() {
+    final var first =
+        checkpoint(Status.IN_PROGRESS, "evaluation-stage", payload("step", 1), null, null);
+    final var second =
+        checkpoint(
+            Status.ERROR, "evaluation-stage", payload("step", 2), payload("error", "x"), null);
+    repository.save(first);
+    repository.save(second);
+
+    final var history = repository.findHistoryByTransactionId(TRANSACTION_ID);
+
+    assertThat(history)
+        .extracting(Checkpoint::payload)
+        .containsExactly(first.payload(), second.payload());
+    assertThat(history.getLast().response()).isEqualTo(second.response());
+    assertThat(history.getFirst().response()).isNull();
+  }
+
+  @Test
+  void shouldDiscardTheLeastRecentHistoryWhenMaxTransactionsIsReached() {
+    final var boundedHistory = new InMemoryCheckpointHistoryRepository(2);
+    final var boundedRepository =
+        new DeltaCheckpointRepository(boundedHistory, mockFlowRepository(), 3);
+
+    for (final var transactionId : new String[] {"first", "second", "third"}) {
+      boundedRepository.save(
+          Checkpoint.builder()
+              .transactionId(transactionId)
+              .status(Status.IN_PROGRESS)
+              .flowId(flow.id())
+              .stageId("evaluation-stage")
+              .build());
+    }
+
+    assertThat(boundedHistory.size()).isEqualTo(2);
+    assertThat(boundedHistory.evictions()).isOne();
+    assertThat(boundedHistory.findByTransactionId("first")).isEmpty();
+    assertThat(boundedHistory.findByTransactionId("third")).hasSize(1);
+  }
+
+  @Test
+  void shouldRebuildTheCheckpointsEvictedFromMemoryWhenMaxCachedTransactionsIsReached() {
+    final var history = spy(historyRepository);
+    final var boundedRepository =
+        new DeltaCheckpointRepository(history, mockFlowRepository(), 3, 1);
+    final var first =
+        checkpoint(Status.IN_PROGRESS, "evaluation-stage", payload("step", 1), null, null);
+    boundedRepository.save(first);
+    boundedRepository.save(
+        Checkpoint.builder()
+            .transactionId("other")
+            .status(Status.IN_PROGRESS)
+            .flowId(flow.id())
+            .stageId("evaluation-stage")
+            .build());
+
+    final var second =
+        checkpoint(
+            Status.COMPLETED, "evaluation-stage", payload("step", 2), payload("ok", true), null);
+    boundedRepository.save(second);
+
+    verify(history, times(2)).findFromLastSnapshot(TRANSACTION_ID);
+    assertThat(history.findByTransactionId(TRANSACTION_ID))
+        .extracting(CheckpointDelta::sequence)
+        .containsExactly(0L, 1L);
+    assertThat(boundedRepository.findByTransactionId(TRANSACTION_ID))
+        .hasValueSatisfying(
+            checkpoint -> assertThat(checkpoint.payload()).isEqualTo(second.payload()));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxCachedTransactionsIsNotPositive() {
+    final var flowRepository = mockFlowRepository();
+    assertThatThrownBy(
+            () -> new DeltaCheckpointRepository(historyRepository, flowRepository, 3, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max cached transactions must be greater than zero");
+  }
+
+  @Test
+  void shouldThrowExceptionWhenSnapshotIntervalIsNotPositive() {
+    final var flowRepository = mockFlowRepository();
+    assertThatThrownBy(() -> new DeltaCheckpointRepository(historyRepository, flowRepository, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Snapshot interval must be greater than zero");
+  }
+
+  private FlowRepository mockFlowRepository() {
+    final var flowRepository = mock(FlowRepository.class);
+    when(flowRepository.findById(flow.id())).thenReturn(Optional.of(flow));
+    return flowRepository;
+  }
+
+  private Checkpoint checkpoint(
+      Status status,
+      String stageId,
+      Map<String, Serializable> payload,
+      Map<String, Serializable> response,
+      String outgoing) {
+    return Checkpoint.builder()
+        .transactionId(TRANSACTION_ID)
+        .status(status)
+        .flowId(flow.id())
+        .correlationId("correlation-id")
+        .stageId(stageId)
+        .metadata(payload("tenant", "acme"))
+        .payload(payload)
+        .response(response)
+        .outgoing(outgoing)
+        .createdAt(Instant.now())
+        .updatedAt(Instant.now())
+        .build();
+  }
+
+  private static Map<String, Serializable> payload(Object... keyValues) {
+    final Map<String, Serializable> payload = new HashMap<>();
+    for (var i = 0; i < keyValues.length; i += 2) {
+      payload.put((String) keyValues[i], (Serializable) keyValues[i + 1]);
+    }
+    return payload;
+  }
+}
@@ -0,0 +1,146 @@
+package co.orquex.sagas.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndexedInMemoryTransactionRepositoryTest {
+
+  static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  Clock clock;
+  IndexedInMemoryTransactionRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    clock = mock(Clock.class);
+    when(clock.instant()).thenReturn(NOW);
+    repository = new IndexedInMemoryTransactionRepository(Duration.ofMinutes(10), 4, clock);
+  }
+
+  @Test
+  void shouldFindTransactionByIdAndFlowCorrelation() {
+    final var transaction = getTransaction("flow-id", "correlation-id", Status.IN_PROGRESS);
+
+    repository.save(transaction);
+
+    assertThat(repository.findById(transaction.transactionId())).contains(transaction);
+    assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id"))
+        .contains(transaction);
+    assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "correlation-id")).isTrue();
+    assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "unknown")).isFalse();
+    assertThat(repository.findByFlowIdAndCorrelationId("unknown", "correlation-id")).isEmpty();
+  }
+
+  @Test
+  void shouldReturnLatestVersionOfTransaction() {
+    final var transaction = getTransaction("flow-id", "correlation-id", Status.IN_PROGRESS);
+    final var errored = withStatus(transaction, Status.ERROR);
+
+    repository.save(transaction);
+    repository.save(errored);
+
+    assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id"))
+        .contains(errored);
+    assertThat(repository.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictCompletedTransactionsAfterRetention() {
+    final var completed = getTransaction("flow-id", "completed", Status.COMPLETED);
+    final var errored = getTransaction("flow-id", "errored", Status.ERROR);
+    repository.save(completed);
+    repository.save(errored);
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(9)));
+    assertThat(repository.evictExpired()).isZero();
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(11)));
+    assertThat(repository.evictExpired()).isEqualTo(1);
+
+    assertThat(repository.findById(completed.transactionId())).isEmpty();
+    assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "completed")).isFalse();
+    assertThat(repository.findById(errored.transactionId())).isPresent();
+    assertThat(repository.evictions()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotEvictTransactionSavedAgainAfterCompletion() {
+    final var transaction = getTransaction("flow-id", "correlation-id", Status.COMPLETED);
+    repository.save(transaction);
+    // Resumed and saved again with a later update
+    final var resumed =
+        new Transaction(
+            transaction.transactionId(),
+            transaction.flowId(),
+            transaction.correlationId(),
+            transaction.data(),
+            Status.IN_PROGRESS,
+            transaction.startedAt(),
+            NOW.plus(Duration.ofMinutes(5)),
+            transaction.expiresAt());
+    repository.save(resumed);
+
+    when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(11)));
+
+    assertThat(repository.evictExpired()).isZero();
+    assertThat(repository.findById(transaction.transactionId())).contains(resumed);
+  }
+
+  @Test
+  void shouldKeepIndexesConsistentUnderConcurrentSaves() {
+    try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      IntStream.range(0, 1_000)
+          .forEach(
+              i ->
+                  executor.submit(
+                      () ->
+                          repository.save(
+                              getTransaction("flow-id", "correlation-" + i, Status.IN_PROGRESS))));
+    }
+
+    assertThat(repository.size()).isEqualTo(1_000);
+    IntStream.range(0, 1_000)
+        .forEach(
+            i ->
+                assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-" + i))
+                    .isPresent());
+  }
+
+  @Test
+  void shouldThrowExceptionWhenRetentionIsNegative() {
+    final var retention = Duration.ofSeconds(-1);
+    assertThatThrownBy(() -> new IndexedInMemoryTransactionRepository(retention))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Completed retention cannot be negative");
+  }
+
+  private static Transaction getTransaction(String flowId, String correlationId, Status status) {
+    return new Transaction(
+        UUID.randomUUID().toString(), flowId, correlationId, null, status, NOW, NOW, null);
+  }
+
+  private static Transaction withStatus(Transaction transaction, Status status) {
+    return new Transaction(
+        transaction.transactionId(),
+        transaction.flowId(),
+        transaction.correlationId(),
+        transaction.data(),
+        status,
+        transaction.startedAt(),
+        transaction.updatedAt(),
+        transaction.expiresAt());
+  }
+}
@@ -0,0 +1,84 @@
+package co.orquex.sagas.core.repository;
+
+import static co.orquex.sagas.core.fixture.CompensationFixture.getCompensation;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import co.orquex.sagas.domain.api.repository.CompensationRepository;
+import co.orquex.sagas.domain.transaction.Status;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindCompensationRepositoryTest {
+
+  static final String TRANSACTION_ID = UUID.randomUUID().toString();
+
+  @Mock CompensationRepository delegate;
+
+  WriteBehindCompensationRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    repository =
+        new WriteBehindCompensationRepository(
+            delegate, new WriteBehindConfiguration(10, Duration.ofHours(1)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.close();
+  }
+
+  @Test
+  void shouldMergeBufferedCompensationsWithStoredOnes() {
+    final var stored = getCompensation(TRANSACTION_ID, "stored");
+    final var updated = getCompensation(TRANSACTION_ID, "updated");
+    final var created = getCompensation(TRANSACTION_ID, "created");
+    final var completed = updated.withStatus(Status.COMPLETED);
+    when(delegate.findByTransactionId(TRANSACTION_ID)).thenReturn(List.of(stored, updated));
+
+    repository.save(completed);
+    repository.save(created);
+    repository.save(getCompensation(UUID.randomUUID().toString(), "other"));
+
+    assertThat(repository.findByTransactionId(TRANSACTION_ID))
+        .containsExactly(stored, completed, created);
+  }
+
+  @Test
+  void shouldWriteBufferedCompensationsInOneBatchOnFlush() {
+    final var first = getCompensation(TRANSACTION_ID, "first");
+    final var second = getCompensation(TRANSACTION_ID, "second");
+    final var inProgress = first.withStatus(Status.IN_PROGRESS);
+
+    repository.saveAll(List.of(first, second));
+    repository.save(inProgress);
+    verify(delegate, never()).saveAll(anyList());
+
+    repository.flush();
+
+    verify(delegate).saveAll(List.of(inProgress, second));
+    verify(delegate).flush();
+    verify(delegate, never()).save(any());
+  }
+
+  @Test
+  void shouldDiscardBufferedCompensationsOnDelete() {
+    repository.save(getCompensation(TRANSACTION_ID, "task"));
+
+    repository.deleteByTransactionId(TRANSACTION_ID);
+    repository.flush();
+
+    verify(delegate).deleteByTransactionId(TRANSACTION_ID);
+    verify(delegate, never()).saveAll(anyList());
+  }
+}
@@ -0,0 +1,181 @@
+package co.orquex.sagas.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindTransactionRepositoryTest {
+
+  IndexedInMemoryTransactionRepository delegate =
+      spy(new IndexedInMemoryTransactionRepository(Duration.ofMinutes(10)));
+  WriteBehindTransactionRepository repository;
+
+  @AfterEach
+  void tearDown() {
+    repository.close();
+  }
+
+  @Test
+  void shouldReadBufferedTransactionsBeforeTheyAreWritten() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(10));
+    final var transaction = getTransaction("correlation-id", Status.IN_PROGRESS);
+
+    repository.save(transaction);
+
+    assertThat(delegate.findById(transaction.transactionId())).isEmpty();
+    assertThat(repository.findById(transaction.transactionId())).contains(transaction);
+    assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id"))
+        .contains(transaction);
+    assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "correlation-id")).isTrue();
+    assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "unknown")).isFalse();
+  }
+
+  @Test
+  void shouldCoalesceSavesOfTheSameTransactionIntoOneBatch() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(10));
+    final var first = getTransaction("first", Status.IN_PROGRESS);
+    final var second = getTransaction("second", Status.IN_PROGRESS);
+    final var completed = withStatus(first, Status.COMPLETED);
+
+    repository.save(first);
+    repository.save(second);
+    repository.save(completed);
+    repository.flush();
+
+    verify(delegate).saveAll(List.of(completed, second));
+    verify(delegate, never()).save(first);
+    assertThat(delegate.findById(first.transactionId())).contains(completed);
+  }
+
+  @Test
+  void shouldWriteBatchWhenMaxBatchSizeIsReached() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(2));
+
+    repository.save(getTransaction("first", Status.IN_PROGRESS));
+    verify(delegate, never()).saveAll(anyList());
+    repository.save(getTransaction("second", Status.IN_PROGRESS));
+
+    verify(delegate).saveAll(anyList());
+    assertThat(delegate.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldWriteBatchWhenMaxDelayElapses() {
+    repository =
+        new WriteBehindTransactionRepository(
+            delegate, new WriteBehindConfiguration(100, Duration.ofMillis(10)));
+
+    repository.save(getTransaction("correlation-id", Status.IN_PROGRESS));
+
+    await().atMost(Duration.ofSeconds(2)).until(() -> delegate.size() == 1);
+  }
+
+  @Test
+  void shouldKeepTransactionsBufferedWhenWriteFails() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(10));
+    final var transaction = getTransaction("correlation-id", Status.IN_PROGRESS);
+    repository.save(transaction);
+    doThrow(new IllegalStateException("Unavailable"))
+        .doCallRealMethod()
+        .when(delegate)
+        .saveAll(anyList());
+
+    assertThatThrownBy(repository::flush).isInstanceOf(IllegalStateException.class);
+    assertThat(repository.findById(transaction.transactionId())).contains(transaction);
+    assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id"))
+        .contains(transaction);
+
+    repository.flush();
+    assertThat(delegate.findById(transaction.transactionId())).contains(transaction);
+  }
+
+  @Test
+  void shouldReportWriteFailuresToTheBufferedTransactionsOnly() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(2));
+    doThrow(new IllegalStateException("Unavailable"))
+        .doCallRealMethod()
+        .when(delegate)
+        .saveAll(anyList());
+    final var first = repository.saveAsync(getTransaction("first", Status.IN_PROGRESS));
+    final var second = getTransaction("second", Status.IN_PROGRESS);
+
+    assertThatCode(() -> repository.save(second)).doesNotThrowAnyException();
+    assertThat(first)
+        .failsWithin(Duration.ZERO)
+        .withThrowableThat()
+        .withCauseInstanceOf(IllegalStateException.class);
+    assertThat(repository.findById(second.transactionId())).contains(second);
+
+    final var third = repository.saveAsync(getTransaction("third", Status.IN_PROGRESS));
+    assertThat(third).isCompleted();
+    assertThat(delegate.findById(second.transactionId())).contains(second);
+  }
+
+  @Test
+  void shouldRejectNewTransactionsWhenTheBufferIsFull() {
+    repository =
+        new WriteBehindTransactionRepository(
+            delegate, new WriteBehindConfiguration(1, Duration.ofHours(1), 2));
+    doThrow(new IllegalStateException("Unavailable")).when(delegate).saveAll(anyList());
+    final var transaction = getTransaction("first", Status.IN_PROGRESS);
+    repository.save(transaction);
+    repository.save(getTransaction("second", Status.IN_PROGRESS));
+
+    assertThatThrownBy(() -> repository.save(getTransaction("third", Status.IN_PROGRESS)))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Write-behind transaction repository buffer is full");
+    final var completed = transaction.withStatus(Status.COMPLETED);
+    assertThatCode(() -> repository.save(completed)).doesNotThrowAnyException();
+    assertThat(repository.findById(transaction.transactionId())).contains(completed);
+
+    doCallRealMethod().when(delegate).saveAll(anyList());
+  }
+
+  @Test
+  void shouldWriteBufferedTransactionsOnClose() {
+    repository = new WriteBehindTransactionRepository(delegate, configuration(10));
+    final var transaction = getTransaction("correlation-id", Status.IN_PROGRESS);
+    repository.save(transaction);
+
+    repository.close();
+
+    assertThat(delegate.findById(transaction.transactionId())).contains(transaction);
+    assertThatThrownBy(() -> repository.save(transaction))
+        .hasMessage("Write-behind transaction repository is closed");
+  }
+
+  private static WriteBehindConfiguration configuration(int maxBatchSize) {
+    return new WriteBehindConfiguration(maxBatchSize, Duration.ofHours(1));
+  }
+
+  private static Transaction getTransaction(String correlationId, Status status) {
+    final var now = Instant.now();
+    return new Transaction(
+        UUID.randomUUID().toString(), "flow-id", correlationId, null, status, now, now, null);
+  }
+
+  private static Transaction withStatus(Transaction transaction, Status status) {
+    return new Transaction(
+        transaction.transactionId(),
+        transaction.flowId(),
+        transaction.correlationId(),
+        transaction.data(),
+        status,
+        transaction.startedAt(),
+        transaction.updatedAt(),
+        transaction.expiresAt());
+  }
+}
@@ -0,0 +1,180 @@
+package co.orquex.sagas.core.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.core.resilience.impl.InMemoryHedgeStateManager;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Hedge Implementation Tests")
+class HedgeTest {
+
+  private static final String TASK_NAME = "test-task";
+
+  private HedgeStateManager stateManager;
+
+  @BeforeEach
+  void setUp() {
+    stateManager = new InMemoryHedgeStateManager();
+  }
+
+  @Test
+  @DisplayName("Should not fire a hedge when the call completes within the delay")
+  void shouldNotFireHedgeWhenCallIsFast() {
+    final var hedge = Hedge.of(configuration(Duration.ofSeconds(5)));
+    final var calls = new AtomicInteger();
+
+    final var result =
+        hedge.call(
+            () -> {
+              calls.incrementAndGet();
+              return Map.of("result", "fast");
+            });
+
+    assertThat(result).containsEntry("result", "fast");
+    assertThat(calls).hasValue(1);
+    assertThat(stateManager.fired(TASK_NAME)).isZero();
+    assertThat(stateManager.won(TASK_NAME)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should fire a hedge and return its response when it arrives first")
+  void shouldReturnHedgeResponseWhenItArrivesFirst() {
+    final var hedge = Hedge.of(configuration(Duration.ofMillis(50)));
+    final var calls = new AtomicInteger();
+    final var primaryInterrupted = new CountDownLatch(1);
+
+    final var result =
+        hedge.call(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                try {
+                  Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                  primaryInterrupted.countDown();
+                  Thread.currentThread().interrupt();
+                }
+                return Map.of("result", "primary");
+              }
+              return Map.of("result", "hedge");
+            });
+
+    assertThat(result).containsEntry("result", "hedge");
+    assertThat(calls).hasValue(2);
+    assertThat(stateManager.fired(TASK_NAME)).isOne();
+    assertThat(stateManager.won(TASK_NAME)).isOne();
+    assertThat(awaitQuietly(primaryInterrupted)).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should return the primary response when it arrives before the hedge")
+  void shouldReturnPrimaryResponseWhenItArrivesFirst() {
+    final var hedge = Hedge.of(configuration(Duration.ofMillis(20)));
+    final var calls = new AtomicInteger();
+
+    final var result =
+        hedge.call(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                sleep(Duration.ofMillis(100));
+                return Map.of("result", "primary");
+              }
+              sleep(Duration.ofSeconds(10));
+              return Map.of("result", "hedge");
+            });
+
+    assertThat(result).containsEntry("result", "primary");
+    assertThat(stateManager.fired(TASK_NAME)).isOne();
+    assertThat(stateManager.won(TASK_NAME)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should await the hedge when the primary call fails after it was fired")
+  void shouldAwaitHedgeWhenPrimaryFails() {
+    final var hedge = Hedge.of(configuration(Duration.ofMillis(20)));
+    final var calls = new AtomicInteger();
+
+    final var result =
+        hedge.call(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                sleep(Duration.ofMillis(50));
+                throw new WorkflowException("primary failed");
+              }
+              sleep(Duration.ofMillis(100));
+              return Map.of("result", "hedge");
+            });
+
+    assertThat(result).containsEntry("result", "hedge");
+    assertThat(stateManager.won(TASK_NAME)).isOne();
+  }
+
+  @Test
+  @DisplayName("Should propagate the exception when the call fails before the delay")
+  void shouldPropagateExceptionWhenCallFailsBeforeDelay() {
+    final var hedge = Hedge.of(configuration(Duration.ofSeconds(5)));
+    final Supplier<Map<String, Serializable>> failing =
+        () -> {
+          throw new WorkflowException("failure");
+        };
+
+    assertThatThrownBy(() -> hedge.call(failing))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("failure");
+    assertThat(stateManager.fired(TASK_NAME)).isZero();
+  }
+
+  @Test
+  @DisplayName("Should use the observed p95 latency when the adaptive delay is enabled")
+  void shouldUseObservedP95WhenAdaptiveDelayIsEnabled() {
+    for (var i = 0; i < 100; i++) {
+      stateManager.recordLatency(TASK_NAME, Duration.ofMillis(10));
+    }
+    final var hedge =
+        Hedge.of(new HedgeConfiguration(TASK_NAME, Duration.ofSeconds(10), true, stateManager));
+    final var calls = new AtomicInteger();
+
+    final var result =
+        hedge.call(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                sleep(Duration.ofSeconds(10));
+                return Map.of("result", "primary");
+              }
+              return Map.of("result", "hedge");
+            });
+
+    assertThat(result).containsEntry("result", "hedge");
+    assertThat(stateManager.fired(TASK_NAME)).isOne();
+  }
+
+  private HedgeConfiguration configuration(Duration delay) {
+    return new HedgeConfiguration(TASK_NAME, delay, false, stateManager);
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static boolean awaitQuietly(CountDownLatch latch) {
+    try {
+      return latch.await(5, java.util.concurrent.TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package co.orquex.sagas.core.resilience.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryHedgeStateManagerTest {
+
+  static final String HEDGE_NAME = "test-hedge";
+
+  InMemoryHedgeStateManager stateManager;
+
+  @BeforeEach
+  void setUp() {
+    stateManager = new InMemoryHedgeStateManager();
+  }
+
+  @Test
+  @DisplayName("Should not compute p95 until there are enough samples")
+  void shouldReturnEmptyP95WithoutEnoughSamples() {
+    for (var i = 1; i < InMemoryHedgeStateManager.MIN_SAMPLES; i++) {
+      stateManager.recordLatency(HEDGE_NAME, Duration.ofMillis(i));
+    }
+    assertThat(stateManager.p95(HEDGE_NAME)).isEmpty();
+    assertThat(stateManager.p95(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should compute p95 from the latest samples")
+  void shouldComputeP95FromLatestSamples() {
+    // Old samples must be discarded by the sliding window
+    for (var i = 0; i < InMemoryHedgeStateManager.WINDOW_SIZE; i++) {
+      stateManager.recordLatency(HEDGE_NAME, Duration.ofSeconds(10));
+    }
+    for (var i = 1; i <= 100; i++) {
+      stateManager.recordLatency(HEDGE_NAME, Duration.ofMillis(i));
+    }
+    // 28 samples of 10s are still in the window, so p95 falls within them
+    assertThat(stateManager.p95(HEDGE_NAME)).contains(Duration.ofSeconds(10));
+
+    for (var i = 1; i <= InMemoryHedgeStateManager.WINDOW_SIZE; i++) {
+      stateManager.recordLatency(HEDGE_NAME, Duration.ofMillis(i));
+    }
+    assertThat(stateManager.p95(HEDGE_NAME)).contains(Duration.ofMillis(122));
+  }
+
+  @Test
+  @DisplayName("Should count hedges fired and won")
+  void shouldCountHedgesFiredAndWon() {
+    assertThat(stateManager.incrementFired(HEDGE_NAME)).isOne();
+    assertThat(stateManager.incrementFired(HEDGE_NAME)).isEqualTo(2);
+    assertThat(stateManager.incrementWon(HEDGE_NAME)).isOne();
+
+    assertThat(stateManager.fired(HEDGE_NAME)).isEqualTo(2);
+    assertThat(stateManager.won(HEDGE_NAME)).isOne();
+    assertThat(stateManager.fired("unknown")).isZero();
+    assertThat(stateManager.incrementFired(null)).isZero();
+  }
+}
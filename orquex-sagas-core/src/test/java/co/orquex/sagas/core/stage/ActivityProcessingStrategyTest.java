@@ -24,19 +24,24 @@ import co.orquex.sagas.domain.api.repository.TaskRepository;
 import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.stage.Activity;
+import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.MergePolicy;
 import co.orquex.sagas.domain.task.Task;
 import co.orquex.sagas.domain.transaction.Compensation;
+import java.io.Serializable;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -45,7 +50,8 @@ class ActivityProcessingStrategyTest {
 
   @Mock Registry<TaskExecutor> taskExecutorRegistry;
   @Mock TaskRepository taskRepository;
-  @Mock TaskExecutor taskExecutor;
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  TaskExecutor taskExecutor;
   @Mock RetryStateManager retryStateManager;
   @Mock CircuitBreakerStateManager circuitBreakerStateManager;
   @Mock Consumer<Compensation> compensationConsumer;
@@ -94,6 +100,24 @@ class ActivityProcessingStrategyTest {
     verify(compensationConsumer).accept(any(Compensation.class));
   }
 
+  @Test
+  void shouldNotHoldTheCallingThreadWhileAnAsyncTaskIsInFlight() {
+    final var singleTask = getTask("single-task");
+    when(taskExecutorRegistry.get(DEFAULT_EXECUTOR)).thenReturn(Optional.of(taskExecutor));
+    when(taskRepository.findById("single-task")).thenReturn(Optional.of(singleTask));
+    final var inFlight = new CompletableFuture<Map<String, Serializable>>();
+    when(taskExecutor.executeAsync(anyString(), eq(singleTask), any(ExecutionRequest.class)))
+        .thenReturn(inFlight);
+    final var activity = readValue("stage-activity-single-task.json", Activity.class);
+
+    final var stageResponse = strategy.processAsync(transactionId, activity, executionRequest);
+    assertThat(stageResponse).isNotDone();
+
+    inFlight.complete(Map.of("single", "task"));
+    assertThat(stageResponse.join().payload()).containsEntry("single", "task");
+    verify(taskExecutor, never()).execute(anyString(), any(Task.class), any());
+  }
+
   @Test
   void shouldThrowExceptionWhenTaskNotFound() {
     when(taskRepository.findById("single-task")).thenReturn(Optional.empty());
@@ -194,6 +218,61 @@ class ActivityProcessingStrategyTest {
         .containsEntry("task-4", "4");
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldKeepFirstValueWhenMergePolicyIsFirstWins(boolean parallel) {
+    when(taskExecutorRegistry.get(DEFAULT_EXECUTOR)).thenReturn(Optional.of(taskExecutor));
+    when(taskRepository.findById("task-1")).thenReturn(Optional.of(getTask("task-1")));
+    when(taskRepository.findById("task-2")).thenReturn(Optional.of(getTask("task-2")));
+    when(taskExecutor.execute(anyString(), eq(getTask("task-1")), any(ExecutionRequest.class)))
+        .thenReturn(Map.of("shared", "first", "task-1", "1"));
+    when(taskExecutor.execute(anyString(), eq(getTask("task-2")), any(ExecutionRequest.class)))
+        .thenReturn(Map.of("shared", "second", "task-2", "2"));
+    final var activity =
+        getSimpleActivity(
+            "activity-1",
+            List.of(getSimpleActivityTask("task-1"), getSimpleActivityTask("task-2")),
+            parallel,
+            true,
+            MergePolicy.FIRST_WINS);
+
+    final var stageResponse = strategy.process(transactionId, activity, executionRequest);
+
+    assertThat(stageResponse.payload())
+        .hasSize(3)
+        .containsEntry("shared", "first")
+        .containsEntry("task-1", "1")
+        .containsEntry("task-2", "2");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldNamespaceTaskResultsWhenMergePolicyIsNamespaced(boolean parallel) {
+    when(taskExecutorRegistry.get(DEFAULT_EXECUTOR)).thenReturn(Optional.of(taskExecutor));
+    when(taskRepository.findById("task-1")).thenReturn(Optional.of(getTask("task-1")));
+    when(taskRepository.findById("task-2")).thenReturn(Optional.of(getTask("task-2")));
+    when(taskExecutor.execute(anyString(), eq(getTask("task-1")), any(ExecutionRequest.class)))
+        .thenReturn(Map.of("shared", "first"));
+    when(taskExecutor.execute(anyString(), eq(getTask("task-2")), any(ExecutionRequest.class)))
+        .thenReturn(Map.of("shared", "second"));
+    final var activity =
+        getSimpleActivity(
+            "activity-1",
+            List.of(
+                new ActivityTask("task-1", null, "task-1", null, null, null, null),
+                new ActivityTask("task-2", null, "task-2", null, null, null, null)),
+            parallel,
+            true,
+            MergePolicy.NAMESPACED);
+
+    final var stageResponse = strategy.process(transactionId, activity, executionRequest);
+
+    assertThat(stageResponse.payload())
+        .hasSize(2)
+        .containsEntry("task-1", (Serializable) Map.of("shared", "first"))
+        .containsEntry("task-2", (Serializable) Map.of("shared", "second"));
+  }
+
   @Test
   void shouldExecuteTaskWithRetryConfiguration() {
     // Given - Task with retry configuration
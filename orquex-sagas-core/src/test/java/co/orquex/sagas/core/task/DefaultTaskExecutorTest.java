@@ -0,0 +1,93 @@
+package co.orquex.sagas.core.task;
+
+import static co.orquex.sagas.core.fixture.TaskFixture.getTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.api.AsyncTaskImplementation;
+import co.orquex.sagas.domain.api.TaskImplementation;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.TaskRequest;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class DefaultTaskExecutorTest {
+
+  final ExecutionRequest request =
+      new ExecutionRequest("flow-id", "correlation-id", Map.of("key", "value"), Map.of());
+
+  @Test
+  void shouldReturnTheFutureOfAnAsyncImplementationWithoutWaitingForIt() throws Exception {
+    final var future = new CompletableFuture<Map<String, Serializable>>();
+    final var implementation = new PendingTaskImplementation(future);
+    final var executor =
+        new DefaultTaskExecutor(InMemoryTaskImplementationRegistry.of(List.of(implementation)));
+
+    final var result = executor.executeAsync("transaction-id", getTask("async"), request);
+
+    assertThat(result).isNotDone();
+    assertThat(implementation.request.metadata()).containsEntry("key", "value");
+    future.complete(Map.of("result", "done"));
+    assertThat(result.get()).containsEntry("result", "done");
+  }
+
+  @Test
+  void shouldExecuteABlockingImplementationOnTheCallingThread() {
+    final TaskImplementation implementation =
+        new TaskImplementation() {
+          @Override
+          public Map<String, Serializable> execute(TaskRequest taskRequest) {
+            return Map.of("thread", Thread.currentThread().getName());
+          }
+
+          @Override
+          public String getKey() {
+            return "blocking";
+          }
+        };
+    final var executor =
+        new DefaultTaskExecutor(InMemoryTaskImplementationRegistry.of(List.of(implementation)));
+
+    final var result = executor.executeAsync("transaction-id", getTask("blocking"), request);
+
+    assertThat(result).isCompletedWithValue(Map.of("thread", Thread.currentThread().getName()));
+  }
+
+  @Test
+  void shouldFailTheFutureWhenTheImplementationIsNotFound() {
+    final var executor = new DefaultTaskExecutor(InMemoryTaskImplementationRegistry.of(List.of()));
+
+    final var result = executor.executeAsync("transaction-id", getTask("missing"), request);
+
+    assertThatThrownBy(result::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(WorkflowException.class)
+        .hasRootCauseMessage("Task 'missing' implementation not found");
+  }
+
+  private static final class PendingTaskImplementation implements AsyncTaskImplementation {
+
+    private final CompletableFuture<Map<String, Serializable>> future;
+    private TaskRequest request;
+
+    private PendingTaskImplementation(CompletableFuture<Map<String, Serializable>> future) {
+      this.future = future;
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Serializable>> executeAsync(TaskRequest taskRequest) {
+      this.request = taskRequest;
+      return future;
+    }
+
+    @Override
+    public String getKey() {
+      return "async";
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package co.orquex.sagas.core.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.task.TaskConfiguration;
+import co.orquex.sagas.domain.task.TaskMemoizationConfiguration;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskResultCacheTest {
+
+  TaskResultCache taskResultCache;
+  Task task;
+  AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    taskResultCache = new TaskResultCache();
+    final var configuration =
+        TaskConfiguration.builder()
+            .deterministic(true)
+            .memoization(new TaskMemoizationConfiguration(10, Duration.ofMinutes(1)))
+            .build();
+    task = new Task("pure-task", "pure-task", "pure-task", null, null, configuration);
+    executions = new AtomicInteger();
+  }
+
+  @Test
+  void shouldReturnMemoizedResultForEqualRequests() {
+    final Map<String, Serializable> payload = new HashMap<>();
+    payload.put("a", 1);
+    payload.put("b", new ArrayList<>(List.of("x", "y")));
+    final Map<String, Serializable> samePayloadOtherOrder = new LinkedHashMap<>();
+    samePayloadOtherOrder.put("b", new ArrayList<>(List.of("x", "y")));
+    samePayloadOtherOrder.put("a", 1);
+
+    final var first = taskResultCache.computeIfAbsent(task, request(payload), this::execute);
+    final var second =
+        taskResultCache.computeIfAbsent(task, request(samePayloadOtherOrder), this::execute);
+
+    assertThat(first).isEqualTo(second).containsEntry("execution", 1);
+    assertThat(executions).hasValue(1);
+    assertThat(taskResultCache.hits("pure-task")).isOne();
+    assertThat(taskResultCache.misses("pure-task")).isOne();
+    assertThat(taskResultCache.hitRatio("pure-task")).isEqualTo(0.5);
+  }
+
+  @Test
+  void shouldExecuteTaskForDifferentRequests() {
+    taskResultCache.computeIfAbsent(task, request(Map.of("a", 1)), this::execute);
+    taskResultCache.computeIfAbsent(task, request(Map.of("a", 2)), this::execute);
+
+    assertThat(executions).hasValue(2);
+    assertThat(taskResultCache.hitRatio("pure-task")).isZero();
+  }
+
+  @Test
+  void shouldNotBeAffectedByChangesOnTheRequestOrTheResult() {
+    final Map<String, Serializable> payload = new HashMap<>(Map.of("a", 1));
+    final var result = taskResultCache.computeIfAbsent(task, request(payload), this::execute);
+    // Modify the request and result after they were memoized
+    payload.put("a", 2);
+    result.put("execution", 100);
+
+    final var memoized =
+        taskResultCache.computeIfAbsent(task, request(Map.of("a", 1)), this::execute);
+
+    assertThat(memoized).containsEntry("execution", 1);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void shouldExecuteTaskAgainWhenInvalidated() {
+    taskResultCache.computeIfAbsent(task, request(Map.of("a", 1)), this::execute);
+    taskResultCache.invalidate("pure-task");
+    taskResultCache.computeIfAbsent(task, request(Map.of("a", 1)), this::execute);
+
+    assertThat(executions).hasValue(2);
+  }
+
+  @Test
+  void shouldComputeSameHashRegardlessOfMapOrder() {
+    final Map<String, Serializable> left = new LinkedHashMap<>();
+    left.put("x", new byte[] {1, 2});
+    left.put("y", (Serializable) Map.of("nested", List.of(1, 2)));
+    final Map<String, Serializable> right = new LinkedHashMap<>();
+    right.put("y", (Serializable) Map.of("nested", List.of(1, 2)));
+    right.put("x", new byte[] {1, 2});
+
+    assertThat(TaskInvocationKey.of("task", Map.of(), left).hash())
+        .isEqualTo(TaskInvocationKey.of("task", Map.of(), right).hash())
+        .isNotEqualTo(TaskInvocationKey.of("other-task", Map.of(), right).hash());
+  }
+
+  private ExecutionRequest request(Map<String, Serializable> payload) {
+    return new ExecutionRequest("flow-id", "correlation-id", Map.of("meta", "data"), payload);
+  }
+
+  private Map<String, Serializable> execute() {
+    return new HashMap<>(Map.of("execution", executions.incrementAndGet()));
+  }
+}
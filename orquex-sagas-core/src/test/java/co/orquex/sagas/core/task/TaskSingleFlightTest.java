@@ -0,0 +1,161 @@
+package co.orquex.sagas.core.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.task.Task;
+import co.orquex.sagas.domain.task.TaskConfiguration;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskSingleFlightTest {
+
+  static final int CALLERS = 8;
+
+  TaskSingleFlight taskSingleFlight;
+  Task task;
+  ExecutorService executor;
+  AtomicInteger executions;
+  CountDownLatch release;
+
+  @BeforeEach
+  void setUp() {
+    taskSingleFlight = new TaskSingleFlight();
+    final var configuration =
+        TaskConfiguration.builder().idempotent(true).singleFlight(true).build();
+    task = new Task("lookup-task", "lookup-task", "lookup-task", null, null, configuration);
+    executor = Executors.newFixedThreadPool(CALLERS);
+    executions = new AtomicInteger();
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldShareTheInFlightExecutionOfIdenticalRequests() throws Exception {
+    final var results = submit(request(Map.of("sku", "a")), this::blockingExecution);
+    await().atMost(Duration.ofSeconds(5)).until(() -> taskSingleFlight.coalesced() == CALLERS - 1);
+
+    release.countDown();
+
+    for (final var result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).containsEntry("execution", 1);
+    }
+    assertThat(executions).hasValue(1);
+    assertThat(taskSingleFlight.executions()).isOne();
+    assertThat(taskSingleFlight.inFlight()).isZero();
+  }
+
+  @Test
+  void shouldPropagateTheFailureToEveryWaitingExecution() throws Exception {
+    final Supplier<Map<String, Serializable>> failingExecution =
+        () -> {
+          blockingExecution();
+          throw new WorkflowException("Lookup failed");
+        };
+    final var results = submit(request(Map.of("sku", "a")), failingExecution);
+    await().atMost(Duration.ofSeconds(5)).until(() -> taskSingleFlight.coalesced() == CALLERS - 1);
+
+    release.countDown();
+
+    for (final var result : results) {
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(WorkflowException.class)
+          .hasRootCauseMessage("Lookup failed");
+    }
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void shouldExecuteDifferentRequestsIndependently() {
+    release.countDown();
+
+    taskSingleFlight.execute(task, request(Map.of("sku", "a")), this::blockingExecution);
+    taskSingleFlight.execute(task, request(Map.of("sku", "b")), this::blockingExecution);
+    taskSingleFlight.execute(task, request(Map.of("sku", "a")), this::blockingExecution);
+
+    assertThat(executions).hasValue(3);
+    assertThat(taskSingleFlight.coalesced()).isZero();
+  }
+
+  @Test
+  void shouldReturnACopyOfTheSharedResult() throws Exception {
+    final var results = submit(request(Map.of("sku", "a")), this::blockingExecution);
+    await().atMost(Duration.ofSeconds(5)).until(() -> taskSingleFlight.coalesced() == CALLERS - 1);
+
+    release.countDown();
+
+    final List<Map<String, Serializable>> received = new ArrayList<>();
+    for (final var result : results) {
+      received.add(result.get(5, TimeUnit.SECONDS));
+    }
+    received.getFirst().put("modified", true);
+    assertThat(received.subList(1, CALLERS)).allSatisfy(r -> assertThat(r).hasSize(1));
+  }
+
+  @Test
+  void shouldReleaseTheInvocationWhenTheLeaderModifiesItsPayload() {
+    final var leaderRequest = request(Map.of("sku", "a"));
+    final Supplier<Map<String, Serializable>> modifyingExecution =
+        () -> {
+          leaderRequest.payload().put("modified", true);
+          return Map.of("execution", executions.incrementAndGet());
+        };
+
+    taskSingleFlight.execute(task, leaderRequest, modifyingExecution);
+    final var result =
+        taskSingleFlight.execute(
+            task, request(Map.of("sku", "a")), () -> Map.of("execution", 2));
+
+    assertThat(taskSingleFlight.inFlight()).isZero();
+    assertThat(result).containsEntry("execution", 2);
+    assertThat(taskSingleFlight.executions()).isEqualTo(2);
+  }
+
+  private List<Future<Map<String, Serializable>>> submit(
+      ExecutionRequest request, Supplier<Map<String, Serializable>> execution) {
+    final List<Future<Map<String, Serializable>>> results = new ArrayList<>();
+    for (var i = 0; i < CALLERS; i++) {
+      results.add(executor.submit(() -> taskSingleFlight.execute(task, request, execution)));
+    }
+    return results;
+  }
+
+  private Map<String, Serializable> blockingExecution() {
+    final var execution = executions.incrementAndGet();
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final Map<String, Serializable> result = new HashMap<>();
+    result.put("execution", execution);
+    return result;
+  }
+
+  private static ExecutionRequest request(Map<String, Serializable> payload) {
+    return new ExecutionRequest(
+        "flow-id", "correlation-id", new HashMap<>(), new HashMap<>(payload));
+  }
+}
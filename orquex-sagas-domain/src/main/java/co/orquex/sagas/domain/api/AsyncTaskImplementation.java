@@ -0,0 +1,54 @@
+package co.orquex.sagas.domain.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.task.TaskRequest;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Task implementation that completes a future instead of blocking the calling thread while it
+ * waits, for example for the response of a remote service.
+ *
+ * <p>Executors that can continue the flow once the future completes use {@link
+ * #executeAsync(TaskRequest)}, the blocking {@link #execute(TaskRequest)} waits for it.
+ */
+public interface AsyncTaskImplementation extends TaskImplementation {
+
+  /**
+   * Starts the execution of the task.
+   *
+   * @param request the task request
+   * @return a future completed with the result of the task, or exceptionally if it fails
+   */
+  CompletableFuture<Map<String, Serializable>> executeAsync(TaskRequest request);
+
+  @Override
+  default Map<String, Serializable> execute(TaskRequest request) {
+    return join(executeAsync(request));
+  }
+
+  /**
+   * Waits for the future and returns its result, rethrowing the runtime exception it failed with.
+   *
+   * @param future the future to wait for
+   * @return the result of the future
+   * @param <T> result data type
+   * @throws WorkflowException if the future failed with a checked exception
+   */
+  static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      final var cause = e.getCause() == null ? e : e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new WorkflowException(cause.getMessage(), cause);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package co.orquex.sagas.domain.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+
+/**
+ * Store for the payload values offloaded by the claim-check, so they are kept once out of the
+ * requests, checkpoints and compensations that reference them.
+ *
+ * @see co.orquex.sagas.domain.execution.ClaimCheck
+ */
+public interface BlobStore {
+
+  /**
+   * Stores the content.
+   *
+   * @param content the content to store.
+   * @return the ID of the stored blob.
+   * @throws WorkflowException if the content cannot be stored.
+   */
+  String put(byte[] content);
+
+  /**
+   * Reads the content of a blob.
+   *
+   * @param id the blob ID.
+   * @return the stored content.
+   * @throws WorkflowException if the blob does not exist or cannot be read.
+   */
+  byte[] get(String id);
+
+  /**
+   * Deletes a blob, deleting a blob that does not exist has no effect.
+   *
+   * @param id the blob ID.
+   * @throws WorkflowException if the blob cannot be deleted.
+   */
+  void delete(String id);
+}
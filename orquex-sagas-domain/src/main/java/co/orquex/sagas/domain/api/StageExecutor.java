@@ -3,9 +3,28 @@ package co.orquex.sagas.domain.api;
 import co.orquex.sagas.domain.api.registry.Registrable;
 import co.orquex.sagas.domain.stage.StageRequest;
 import co.orquex.sagas.domain.stage.StageResponse;
+import java.util.concurrent.CompletableFuture;
 
 /** The StageExecutor interface extends Executable for handling StageRequest objects. */
 public interface StageExecutor extends Registrable {
 
   StageResponse execute(StageRequest stageRequest);
+
+  /**
+   * Starts the execution of the stage, without blocking the calling thread while its tasks are in
+   * flight when the executor supports it, see {@link StageProcessingStrategy#processAsync}.
+   *
+   * <p>The default implementation executes the stage on the calling thread and returns a completed
+   * future.
+   *
+   * @param stageRequest the stage request
+   * @return a future completed with the response of the stage, or exceptionally if it fails
+   */
+  default CompletableFuture<StageResponse> executeAsync(StageRequest stageRequest) {
+    try {
+      return CompletableFuture.completedFuture(execute(stageRequest));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
@@ -3,8 +3,31 @@ package co.orquex.sagas.domain.api;
 import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.stage.Stage;
 import co.orquex.sagas.domain.stage.StageResponse;
+import java.util.concurrent.CompletableFuture;
 
 public interface StageProcessingStrategy<S extends Stage> {
 
   StageResponse process(String transactionId, S stage, ExecutionRequest request);
+
+  /**
+   * Starts the processing of the stage, without blocking the calling thread while its tasks are in
+   * flight when the strategy and the task executors support it, see {@link
+   * TaskExecutor#executeAsync}.
+   *
+   * <p>The default implementation processes the stage on the calling thread and returns a
+   * completed future.
+   *
+   * @param transactionId the transaction ID
+   * @param stage the stage to process
+   * @param request the execution request
+   * @return a future completed with the response of the stage, or exceptionally if it fails
+   */
+  default CompletableFuture<StageResponse> processAsync(
+      String transactionId, S stage, ExecutionRequest request) {
+    try {
+      return CompletableFuture.completedFuture(process(transactionId, stage, request));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
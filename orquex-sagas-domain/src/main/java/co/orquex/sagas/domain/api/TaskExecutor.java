@@ -5,9 +5,31 @@ import co.orquex.sagas.domain.execution.ExecutionRequest;
 import co.orquex.sagas.domain.task.Task;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /** Every implementation defines the communication with all tasks */
 public interface TaskExecutor extends Registrable {
 
   Map<String, Serializable> execute(String transactionId, Task task, ExecutionRequest request);
+
+  /**
+   * Starts the execution of the task, without blocking the calling thread when the executor and
+   * the task implementation support it, see {@link AsyncTaskImplementation}.
+   *
+   * <p>The default implementation executes the task on the calling thread and returns a completed
+   * future.
+   *
+   * @param transactionId the transaction ID
+   * @param task the task to execute
+   * @param request the execution request
+   * @return a future completed with the result of the task, or exceptionally if it fails
+   */
+  default CompletableFuture<Map<String, Serializable>> executeAsync(
+      String transactionId, Task task, ExecutionRequest request) {
+    try {
+      return CompletableFuture.completedFuture(execute(transactionId, task, request));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
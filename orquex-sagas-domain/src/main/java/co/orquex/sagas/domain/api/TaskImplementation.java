@@ -9,4 +9,15 @@ import java.util.Map;
 public interface TaskImplementation extends Registrable {
 
   Map<String, Serializable> execute(TaskRequest request);
+
+  /**
+   * Prepares the implementation ahead of its first execution with the given request, for example
+   * by compiling the script it holds. Called at startup for every use of the task in a flow, the
+   * default implementation does nothing.
+   *
+   * @param request the metadata and parameters the task would be executed with, without the
+   *     metadata of the execution request, a transaction nor a payload
+   * @throws RuntimeException if the request would make the execution fail
+   */
+  default void precompile(TaskRequest request) {}
 }
@@ -0,0 +1,48 @@
+package co.orquex.sagas.domain.api.repository;
+
+import co.orquex.sagas.domain.transaction.CheckpointDelta;
+import java.util.List;
+
+/**
+ * Repository that keeps the history of checkpoints of each transaction as delta-encoded entries.
+ *
+ * @see CheckpointDelta
+ */
+public interface CheckpointHistoryRepository {
+
+  /**
+   * Append an entry to the history of its transaction.
+   *
+   * @param checkpointDelta the entry to append.
+   * @return the appended entry.
+   */
+  CheckpointDelta append(CheckpointDelta checkpointDelta);
+
+  /**
+   * Find the history of a transaction.
+   *
+   * @param transactionId the transaction ID.
+   * @return the entries ordered by sequence, or an empty list if there are none.
+   */
+  List<CheckpointDelta> findByTransactionId(String transactionId);
+
+  /**
+   * Find the entries of a transaction required to rebuild its last checkpoint, from the last
+   * snapshot onwards.
+   *
+   * <p>The default implementation filters {@link #findByTransactionId(String)}, implementations
+   * should override it when the store can query it directly.
+   *
+   * @param transactionId the transaction ID.
+   * @return the entries ordered by sequence, or an empty list if there are none.
+   */
+  default List<CheckpointDelta> findFromLastSnapshot(String transactionId) {
+    final var history = findByTransactionId(transactionId);
+    for (var i = history.size() - 1; i >= 0; i--) {
+      if (history.get(i).snapshot()) {
+        return history.subList(i, history.size());
+      }
+    }
+    return history;
+  }
+}
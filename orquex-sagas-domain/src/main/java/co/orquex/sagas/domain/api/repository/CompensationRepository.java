@@ -1,6 +1,7 @@
 package co.orquex.sagas.domain.api.repository;
 
 import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
 import java.util.List;
 
 /**
@@ -17,6 +18,20 @@ public interface CompensationRepository {
    */
   List<Compensation> findByTransactionId(String transactionId);
 
+  /**
+   * Find all compensations in the given status, regardless of their transaction.
+   *
+   * <p>Used to re-drive failed or stalled compensations. Optional operation, the default
+   * implementation throws {@link UnsupportedOperationException}.
+   *
+   * @param status The status of the compensations.
+   * @return The list of compensations.
+   */
+  default List<Compensation> findByStatus(Status status) {
+    throw new UnsupportedOperationException(
+        "%s does not support finding compensations by status".formatted(getClass().getName()));
+  }
+
   /**
    * Create or update a compensation.
    *
@@ -25,6 +40,27 @@ public interface CompensationRepository {
    */
   Compensation save(Compensation compensation);
 
+  /**
+   * Create or update a batch of compensations.
+   *
+   * <p>The default implementation saves each compensation one by one, implementations backed by a
+   * store that supports bulk writes should override it.
+   *
+   * @param compensations The compensations to be saved.
+   * @return The saved compensations.
+   */
+  default List<Compensation> saveAll(List<Compensation> compensations) {
+    return compensations.stream().map(this::save).toList();
+  }
+
+  /**
+   * Write the compensations buffered by the repository, if any, to the underlying store.
+   *
+   * <p>Called before the compensations of a transaction are executed. Repositories that write on
+   * every save do not need to override it.
+   */
+  default void flush() {}
+
   /**
    * Delete compensations by transaction ID.
    *
@@ -1,6 +1,7 @@
 package co.orquex.sagas.domain.api.repository;
 
 import co.orquex.sagas.domain.flow.Flow;
+import java.util.List;
 import java.util.Optional;
 
 /** Repository for managing flows. */
@@ -13,4 +14,17 @@ public interface FlowRepository {
    * @return the flow if found or empty otherwise.
    */
   Optional<Flow> findById(String id);
+
+  /**
+   * Find all the flows.
+   *
+   * <p>Used to warm up the flows at startup. Implementations are not required to support it, the
+   * default implementation throws {@link UnsupportedOperationException}.
+   *
+   * @return the list of flows.
+   */
+  default List<Flow> findAll() {
+    throw new UnsupportedOperationException(
+        "%s does not support finding all flows".formatted(getClass().getName()));
+  }
 }
@@ -1,6 +1,7 @@
 package co.orquex.sagas.domain.api.repository;
 
 import co.orquex.sagas.domain.transaction.Transaction;
+import java.util.List;
 import java.util.Optional;
 
 /** Repository for managing transactions. */
@@ -26,4 +27,24 @@ public interface TransactionRepository {
    * @return the saved transaction.
    */
   Transaction save(Transaction transaction);
+
+  /**
+   * Save or update a batch of transactions.
+   *
+   * <p>The default implementation saves each transaction one by one, implementations backed by a
+   * store that supports bulk writes should override it.
+   *
+   * @param transactions the transactions to save.
+   * @return the saved transactions.
+   */
+  default List<Transaction> saveAll(List<Transaction> transactions) {
+    return transactions.stream().map(this::save).toList();
+  }
+
+  /**
+   * Write the transactions buffered by the repository, if any, to the underlying store.
+   *
+   * <p>Repositories that write on every save do not need to override it.
+   */
+  default void flush() {}
 }
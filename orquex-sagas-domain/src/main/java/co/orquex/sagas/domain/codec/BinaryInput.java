@@ -0,0 +1,200 @@
+package co.orquex.sagas.domain.codec;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/** Reader of the primitive encodings written by {@link BinaryOutput}. */
+final class BinaryInput {
+
+  /** Upper bound of a collection size, used to detect corrupted input before allocating. */
+  private static final int MAX_SIZE = 64 * 1024 * 1024;
+
+  private final byte[] buffer;
+  private int position;
+
+  BinaryInput(byte[] buffer) {
+    this.buffer = buffer;
+  }
+
+  int readByte() {
+    if (position >= buffer.length) {
+      throw truncated();
+    }
+    return buffer[position++] & 0xFF;
+  }
+
+  boolean readBoolean() {
+    return readByte() != 0;
+  }
+
+  int readVarInt() {
+    var result = 0;
+    for (var shift = 0; shift < 35; shift += 7) {
+      final var b = readByte();
+      result |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new WorkflowException("Malformed variable-length integer");
+  }
+
+  long readVarLong() {
+    var result = 0L;
+    for (var shift = 0; shift < 70; shift += 7) {
+      final var b = readByte();
+      result |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+    throw new WorkflowException("Malformed variable-length long");
+  }
+
+  long readZigZagLong() {
+    final var value = readVarLong();
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  long readFixedLong() {
+    var result = 0L;
+    for (var i = 0; i < 8; i++) {
+      result = (result << 8) | readByte();
+    }
+    return result;
+  }
+
+  byte[] readByteArray() {
+    final var length = readSize();
+    if (length < 0) {
+      return null;
+    }
+    if (length > buffer.length - position) {
+      throw truncated();
+    }
+    final var bytes = Arrays.copyOfRange(buffer, position, position + length);
+    position += length;
+    return bytes;
+  }
+
+  String readString() {
+    final var length = readSize();
+    if (length < 0) {
+      return null;
+    }
+    if (length > buffer.length - position) {
+      throw truncated();
+    }
+    final var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+    position += length;
+    return value;
+  }
+
+  Instant readInstant() {
+    if (readByte() == 0) {
+      return null;
+    }
+    final var seconds = readZigZagLong();
+    return Instant.ofEpochSecond(seconds, readVarInt());
+  }
+
+  <E extends Enum<E>> E readEnum(Class<E> type) {
+    final var ordinal = readVarInt();
+    if (ordinal == 0) {
+      return null;
+    }
+    final var constants = type.getEnumConstants();
+    if (ordinal > constants.length) {
+      throw new WorkflowException(
+          "Unknown ordinal %d of '%s'".formatted(ordinal - 1, type.getSimpleName()));
+    }
+    return constants[ordinal - 1];
+  }
+
+  Map<String, Serializable> readMap() {
+    final var size = readSize();
+    return size < 0 ? null : readEntries(size);
+  }
+
+  Serializable readValue() {
+    final var tag = readByte();
+    return switch (tag) {
+      case ValueTag.NULL -> null;
+      case ValueTag.STRING -> readString();
+      case ValueTag.INTEGER -> (int) readZigZagLong();
+      case ValueTag.LONG -> readZigZagLong();
+      case ValueTag.DOUBLE -> Double.longBitsToDouble(readFixedLong());
+      case ValueTag.FLOAT -> Float.intBitsToFloat(readVarInt());
+      case ValueTag.TRUE -> true;
+      case ValueTag.FALSE -> false;
+      case ValueTag.BYTES -> readByteArray();
+      case ValueTag.BIG_DECIMAL -> {
+        final var scale = (int) readZigZagLong();
+        yield new BigDecimal(new BigInteger(readByteArray()), scale);
+      }
+      case ValueTag.BIG_INTEGER -> new BigInteger(readByteArray());
+      case ValueTag.INSTANT -> readInstant();
+      case ValueTag.UUID -> new UUID(readFixedLong(), readFixedLong());
+      case ValueTag.MAP -> readEntries(checkSize(readVarInt()));
+      case ValueTag.LIST -> {
+        final var size = checkSize(readVarInt());
+        final var list = new ArrayList<Serializable>(Math.min(size, 1024));
+        for (var i = 0; i < size; i++) {
+          list.add(readValue());
+        }
+        yield list;
+      }
+      case ValueTag.SERIALIZED -> deserialize(readByteArray());
+      default -> throw new WorkflowException("Unknown value tag %d".formatted(tag));
+    };
+  }
+
+  boolean hasRemaining() {
+    return position < buffer.length;
+  }
+
+  /** Reads a length written plus one, returning -1 for null. */
+  private int readSize() {
+    return checkSize(readVarInt()) - 1;
+  }
+
+  private HashMap<String, Serializable> readEntries(int size) {
+    final var map = HashMap.<String, Serializable>newHashMap(Math.min(size, 1024));
+    for (var i = 0; i < size; i++) {
+      final var key = readString();
+      map.put(key, readValue());
+    }
+    return map;
+  }
+
+  private static int checkSize(int size) {
+    if (size < 0 || size > MAX_SIZE) {
+      throw new WorkflowException("Invalid size %d".formatted(size));
+    }
+    return size;
+  }
+
+  private static Serializable deserialize(byte[] bytes) {
+    try (final var input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (Serializable) input.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new WorkflowException("Unable to deserialize value", e);
+    }
+  }
+
+  private static WorkflowException truncated() {
+    return new WorkflowException("Unexpected end of encoded value");
+  }
+}
@@ -0,0 +1,218 @@
+package co.orquex.sagas.domain.codec;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Growable buffer with the primitive encodings of the {@link BinarySagaCodec}. */
+final class BinaryOutput {
+
+  private byte[] buffer;
+  private int position;
+
+  BinaryOutput(int capacity) {
+    this.buffer = new byte[capacity];
+  }
+
+  void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  void writeBytes(byte[] bytes) {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  void writeBoolean(boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  /** Writes an unsigned variable-length integer, seven bits per byte. */
+  void writeVarInt(int value) {
+    ensureCapacity(5);
+    while ((value & ~0x7F) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  /** Writes an unsigned variable-length long, seven bits per byte. */
+  void writeVarLong(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  /** Writes a signed long with zig-zag encoding, so small negative values stay small. */
+  void writeZigZagLong(long value) {
+    writeVarLong((value << 1) ^ (value >> 63));
+  }
+
+  void writeFixedLong(long value) {
+    ensureCapacity(8);
+    for (var shift = 56; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  /** Writes a nullable byte array, prefixed by its length plus one, zero for null. */
+  void writeByteArray(byte[] bytes) {
+    if (bytes == null) {
+      writeVarInt(0);
+      return;
+    }
+    writeVarInt(bytes.length + 1);
+    writeBytes(bytes);
+  }
+
+  /** Writes a nullable string as UTF-8, prefixed by its length plus one, zero for null. */
+  void writeString(String value) {
+    writeByteArray(value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  void writeInstant(Instant instant) {
+    if (instant == null) {
+      writeByte(0);
+      return;
+    }
+    writeByte(1);
+    writeZigZagLong(instant.getEpochSecond());
+    writeVarInt(instant.getNano());
+  }
+
+  /** Writes a nullable enum constant as its ordinal plus one, zero for null. */
+  void writeEnum(Enum<?> value) {
+    writeVarInt(value == null ? 0 : value.ordinal() + 1);
+  }
+
+  /** Writes a nullable map with string keys and tagged values, prefixed by its size plus one. */
+  void writeMap(Map<String, ? extends Serializable> map) {
+    if (map == null) {
+      writeVarInt(0);
+      return;
+    }
+    writeVarInt(map.size() + 1);
+    for (final var entry : map.entrySet()) {
+      writeString(entry.getKey());
+      writeValue(entry.getValue());
+    }
+  }
+
+  /** Writes a value prefixed by its type tag. */
+  void writeValue(Object value) {
+    switch (value) {
+      case null -> writeByte(ValueTag.NULL);
+      case String string -> {
+        writeByte(ValueTag.STRING);
+        writeString(string);
+      }
+      case Integer number -> {
+        writeByte(ValueTag.INTEGER);
+        writeZigZagLong(number);
+      }
+      case Long number -> {
+        writeByte(ValueTag.LONG);
+        writeZigZagLong(number);
+      }
+      case Double number -> {
+        writeByte(ValueTag.DOUBLE);
+        writeFixedLong(Double.doubleToRawLongBits(number));
+      }
+      case Float number -> {
+        writeByte(ValueTag.FLOAT);
+        writeVarInt(Float.floatToRawIntBits(number));
+      }
+      case Boolean bool -> writeByte(bool ? ValueTag.TRUE : ValueTag.FALSE);
+      case byte[] bytes -> {
+        writeByte(ValueTag.BYTES);
+        writeByteArray(bytes);
+      }
+      case BigDecimal number -> {
+        writeByte(ValueTag.BIG_DECIMAL);
+        writeZigZagLong(number.scale());
+        writeByteArray(number.unscaledValue().toByteArray());
+      }
+      case BigInteger number -> {
+        writeByte(ValueTag.BIG_INTEGER);
+        writeByteArray(number.toByteArray());
+      }
+      case Instant instant -> {
+        writeByte(ValueTag.INSTANT);
+        writeInstant(instant);
+      }
+      case UUID uuid -> {
+        writeByte(ValueTag.UUID);
+        writeFixedLong(uuid.getMostSignificantBits());
+        writeFixedLong(uuid.getLeastSignificantBits());
+      }
+      case Map<?, ?> map when hasStringKeys(map) -> {
+        writeByte(ValueTag.MAP);
+        writeVarInt(map.size());
+        for (final var entry : map.entrySet()) {
+          writeString((String) entry.getKey());
+          writeValue(entry.getValue());
+        }
+      }
+      case List<?> list -> {
+        writeByte(ValueTag.LIST);
+        writeVarInt(list.size());
+        for (final var element : list) {
+          writeValue(element);
+        }
+      }
+      case Serializable serializable -> {
+        writeByte(ValueTag.SERIALIZED);
+        writeByteArray(serialize(serializable));
+      }
+      default ->
+          throw new WorkflowException(
+              "Value of type '%s' is not serializable".formatted(value.getClass().getName()));
+    }
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, position);
+  }
+
+  private void ensureCapacity(int length) {
+    if (position + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+    }
+  }
+
+  private static boolean hasStringKeys(Map<?, ?> map) {
+    for (final var key : map.keySet()) {
+      if (!(key instanceof String)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte[] serialize(Serializable value) {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    } catch (IOException e) {
+      throw new WorkflowException(
+          "Unable to serialize value of type '%s'".formatted(value.getClass().getName()), e);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,387 @@
+package co.orquex.sagas.domain.codec;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.stage.Activity;
+import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.Condition;
+import co.orquex.sagas.domain.stage.Evaluation;
+import co.orquex.sagas.domain.stage.EvaluationTask;
+import co.orquex.sagas.domain.stage.MergePolicy;
+import co.orquex.sagas.domain.stage.Stage;
+import co.orquex.sagas.domain.stage.StageConfiguration;
+import co.orquex.sagas.domain.stage.StageRequest;
+import co.orquex.sagas.domain.task.CompensationTask;
+import co.orquex.sagas.domain.task.TaskProcessor;
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary {@link SagaCodec} for {@link StageRequest}, {@link Checkpoint}, {@link
+ * Compensation} and {@link Transaction}. Any other value is encoded as a payload value.
+ *
+ * <p>Every encoded value starts with a header holding a magic byte, the {@link
+ * OrquexSagasVersion#SCHEMA_VERSION} of the writer and the type of the record. The fields of the
+ * records are written in declaration order, without names: lengths, sizes and integers as
+ * variable-length integers, strings as UTF-8 and enums as ordinals. Payload values are prefixed by
+ * a type tag; strings, numbers, booleans, byte arrays, instants, UUIDs, and maps with string keys
+ * and lists of those are written natively, any other value with Java serialization.
+ *
+ * <p>Values written with a different schema version are rejected, since the fields are read by
+ * position. Values falling back to Java serialization must only be decoded from trusted sources.
+ */
+public class BinarySagaCodec implements SagaCodec {
+
+  private static final int MAGIC = 0xA5;
+  private static final int INITIAL_CAPACITY = 256;
+
+  private static final int STAGE_REQUEST = 1;
+  private static final int CHECKPOINT = 2;
+  private static final int COMPENSATION = 3;
+  private static final int TRANSACTION = 4;
+  private static final int VALUE = 5;
+
+  private static final int ACTIVITY = 1;
+  private static final int EVALUATION = 2;
+
+  @Override
+  public byte[] encode(Serializable value) {
+    Preconditions.checkArgumentNotNull(value, "Value to encode cannot be null");
+    final var output = new BinaryOutput(INITIAL_CAPACITY);
+    output.writeByte(MAGIC);
+    output.writeVarInt(OrquexSagasVersion.SCHEMA_VERSION);
+    switch (value) {
+      case StageRequest stageRequest -> {
+        output.writeByte(STAGE_REQUEST);
+        writeStageRequest(output, stageRequest);
+      }
+      case Checkpoint checkpoint -> {
+        output.writeByte(CHECKPOINT);
+        writeCheckpoint(output, checkpoint);
+      }
+      case Compensation compensation -> {
+        output.writeByte(COMPENSATION);
+        writeCompensation(output, compensation);
+      }
+      case Transaction transaction -> {
+        output.writeByte(TRANSACTION);
+        writeTransaction(output, transaction);
+      }
+      default -> {
+        output.writeByte(VALUE);
+        output.writeValue(value);
+      }
+    }
+    return output.toByteArray();
+  }
+
+  @Override
+  public <T extends Serializable> T decode(byte[] bytes, Class<T> type) {
+    Preconditions.checkArgumentNotNull(bytes, "Bytes to decode cannot be null");
+    Preconditions.checkArgumentNotNull(type, "Type to decode cannot be null");
+    final var input = new BinaryInput(bytes);
+    if (input.readByte() != MAGIC) {
+      throw new WorkflowException("Invalid binary codec header");
+    }
+    final var schemaVersion = input.readVarInt();
+    if (!OrquexSagasVersion.isCompatible(schemaVersion)) {
+      throw new WorkflowException(
+          "Schema version %d is not compatible with version %s"
+              .formatted(schemaVersion, OrquexSagasVersion.getVersion()));
+    }
+    final var recordType = input.readByte();
+    final Object value =
+        switch (recordType) {
+          case STAGE_REQUEST -> readStageRequest(input);
+          case CHECKPOINT -> readCheckpoint(input);
+          case COMPENSATION -> readCompensation(input);
+          case TRANSACTION -> readTransaction(input);
+          case VALUE -> readNonNullValue(input);
+          default -> throw new WorkflowException("Unknown record type %d".formatted(recordType));
+        };
+    if (!type.isInstance(value)) {
+      throw new WorkflowException(
+          "Encoded '%s' cannot be decoded as '%s'"
+              .formatted(value.getClass().getSimpleName(), type.getSimpleName()));
+    }
+    if (input.hasRemaining()) {
+      throw new WorkflowException("Unexpected bytes after the encoded value");
+    }
+    return type.cast(value);
+  }
+
+  private static Serializable readNonNullValue(BinaryInput input) {
+    final var value = input.readValue();
+    if (value == null) {
+      throw new WorkflowException("Encoded value cannot be null");
+    }
+    return value;
+  }
+
+  private static void writeStageRequest(BinaryOutput output, StageRequest stageRequest) {
+    output.writeString(stageRequest.transactionId());
+    writeStage(output, stageRequest.stage());
+    final var executionRequest = stageRequest.executionRequest();
+    output.writeBoolean(executionRequest != null);
+    if (executionRequest != null) {
+      output.writeString(executionRequest.flowId());
+      output.writeString(executionRequest.correlationId());
+      output.writeMap(executionRequest.metadata());
+      output.writeMap(executionRequest.payload());
+    }
+  }
+
+  private static StageRequest readStageRequest(BinaryInput input) {
+    final var transactionId = input.readString();
+    final var stage = readStage(input);
+    final var executionRequest =
+        input.readBoolean()
+            ? new ExecutionRequest(
+                input.readString(), input.readString(), input.readMap(), input.readMap())
+            : null;
+    return new StageRequest(transactionId, stage, executionRequest);
+  }
+
+  private static void writeCheckpoint(BinaryOutput output, Checkpoint checkpoint) {
+    output.writeString(checkpoint.transactionId());
+    output.writeEnum(checkpoint.status());
+    output.writeString(checkpoint.flowId());
+    output.writeString(checkpoint.correlationId());
+    output.writeString(checkpoint.stageId());
+    output.writeMap(checkpoint.metadata());
+    output.writeMap(checkpoint.payload());
+    output.writeMap(checkpoint.response());
+    output.writeString(checkpoint.outgoing());
+    writeStage(output, checkpoint.incoming());
+    output.writeInstant(checkpoint.createdAt());
+    output.writeInstant(checkpoint.updatedAt());
+  }
+
+  private static Checkpoint readCheckpoint(BinaryInput input) {
+    return new Checkpoint(
+        input.readString(),
+        input.readEnum(Status.class),
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readMap(),
+        input.readMap(),
+        input.readMap(),
+        input.readString(),
+        readStage(input),
+        input.readInstant(),
+        input.readInstant());
+  }
+
+  private static void writeCompensation(BinaryOutput output, Compensation compensation) {
+    output.writeString(compensation.id());
+    output.writeString(compensation.transactionId());
+    output.writeString(compensation.flowId());
+    output.writeString(compensation.stageId());
+    output.writeString(compensation.correlationId());
+    output.writeString(compensation.task());
+    output.writeMap(compensation.metadata());
+    output.writeMap(compensation.request());
+    output.writeMap(compensation.response());
+    writeTaskProcessor(output, compensation.preProcessor());
+    writeTaskProcessor(output, compensation.postProcessor());
+    output.writeEnum(compensation.status());
+    output.writeInstant(compensation.createdAt());
+    output.writeInstant(compensation.updatedAt());
+  }
+
+  private static Compensation readCompensation(BinaryInput input) {
+    return new Compensation(
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readMap(),
+        input.readMap(),
+        input.readMap(),
+        readTaskProcessor(input),
+        readTaskProcessor(input),
+        input.readEnum(Status.class),
+        input.readInstant(),
+        input.readInstant());
+  }
+
+  private static void writeTransaction(BinaryOutput output, Transaction transaction) {
+    output.writeString(transaction.transactionId());
+    output.writeString(transaction.flowId());
+    output.writeString(transaction.correlationId());
+    output.writeValue(transaction.data());
+    output.writeEnum(transaction.status());
+    output.writeInstant(transaction.startedAt());
+    output.writeInstant(transaction.updatedAt());
+    output.writeInstant(transaction.expiresAt());
+  }
+
+  private static Transaction readTransaction(BinaryInput input) {
+    return new Transaction(
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        input.readValue(),
+        input.readEnum(Status.class),
+        input.readInstant(),
+        input.readInstant(),
+        input.readInstant());
+  }
+
+  private static void writeStage(BinaryOutput output, Stage stage) {
+    switch (stage) {
+      case null -> output.writeByte(0);
+      case Activity activity -> {
+        output.writeByte(ACTIVITY);
+        writeStageFields(output, activity);
+        output.writeVarInt(activity.getActivityTasks().size());
+        for (final var activityTask : activity.getActivityTasks()) {
+          writeActivityTask(output, activityTask);
+        }
+        output.writeBoolean(activity.isParallel());
+        output.writeString(activity.getOutgoing());
+        output.writeBoolean(activity.isAllOrNothing());
+        output.writeEnum(activity.getMergePolicy());
+      }
+      case Evaluation evaluation -> {
+        output.writeByte(EVALUATION);
+        writeStageFields(output, evaluation);
+        writeEvaluationTask(output, evaluation.getEvaluationTask());
+        output.writeVarInt(evaluation.getConditions().size());
+        for (final var condition : evaluation.getConditions()) {
+          output.writeString(condition.expression());
+          output.writeString(condition.outgoing());
+        }
+        output.writeString(evaluation.getDefaultOutgoing());
+      }
+      default ->
+          throw new WorkflowException(
+              "Stage type '%s' is not supported by the binary codec".formatted(stage.getType()));
+    }
+  }
+
+  private static Stage readStage(BinaryInput input) {
+    final var stageType = input.readByte();
+    if (stageType == 0) {
+      return null;
+    }
+    final var id = input.readString();
+    final var name = input.readString();
+    final var metadata = input.readMap();
+    final var configuration = new StageConfiguration(input.readString(), input.readMap());
+    return switch (stageType) {
+      case ACTIVITY -> {
+        final var size = input.readVarInt();
+        final var activityTasks = new ArrayList<ActivityTask>(Math.min(size, 1024));
+        for (var i = 0; i < size; i++) {
+          activityTasks.add(readActivityTask(input));
+        }
+        yield new Activity(
+            id,
+            name,
+            metadata,
+            configuration,
+            activityTasks,
+            input.readBoolean(),
+            input.readString(),
+            input.readBoolean(),
+            input.readEnum(MergePolicy.class));
+      }
+      case EVALUATION -> {
+        final var evaluationTask = readEvaluationTask(input);
+        final var size = input.readVarInt();
+        final List<Condition> conditions = new ArrayList<>(Math.min(size, 1024));
+        for (var i = 0; i < size; i++) {
+          conditions.add(new Condition(input.readString(), input.readString()));
+        }
+        yield new Evaluation(
+            id, name, metadata, configuration, evaluationTask, conditions, input.readString());
+      }
+      default -> throw new WorkflowException("Unknown stage type %d".formatted(stageType));
+    };
+  }
+
+  private static void writeStageFields(BinaryOutput output, Stage stage) {
+    output.writeString(stage.getId());
+    output.writeString(stage.getName());
+    output.writeMap(stage.getMetadata());
+    output.writeString(stage.getConfiguration().implementation());
+    output.writeMap(stage.getConfiguration().parameters());
+  }
+
+  private static void writeActivityTask(BinaryOutput output, ActivityTask activityTask) {
+    output.writeString(activityTask.id());
+    output.writeString(activityTask.name());
+    output.writeString(activityTask.task());
+    writeTaskProcessor(output, activityTask.preProcessor());
+    writeTaskProcessor(output, activityTask.postProcessor());
+    final var compensation = activityTask.compensation();
+    output.writeBoolean(compensation != null);
+    if (compensation != null) {
+      output.writeString(compensation.task());
+      output.writeString(compensation.name());
+      writeTaskProcessor(output, compensation.preProcessor());
+      writeTaskProcessor(output, compensation.postProcessor());
+      output.writeMap(compensation.metadata());
+    }
+    output.writeMap(activityTask.metadata());
+  }
+
+  private static ActivityTask readActivityTask(BinaryInput input) {
+    final var id = input.readString();
+    final var name = input.readString();
+    final var task = input.readString();
+    final var preProcessor = readTaskProcessor(input);
+    final var postProcessor = readTaskProcessor(input);
+    final var compensation =
+        input.readBoolean()
+            ? new CompensationTask(
+                input.readString(),
+                input.readString(),
+                readTaskProcessor(input),
+                readTaskProcessor(input),
+                input.readMap())
+            : null;
+    return new ActivityTask(
+        id, name, task, preProcessor, postProcessor, compensation, input.readMap());
+  }
+
+  private static void writeEvaluationTask(BinaryOutput output, EvaluationTask evaluationTask) {
+    output.writeString(evaluationTask.id());
+    output.writeString(evaluationTask.name());
+    output.writeString(evaluationTask.task());
+    writeTaskProcessor(output, evaluationTask.preProcessor());
+    output.writeMap(evaluationTask.metadata());
+  }
+
+  private static EvaluationTask readEvaluationTask(BinaryInput input) {
+    return new EvaluationTask(
+        input.readString(),
+        input.readString(),
+        input.readString(),
+        readTaskProcessor(input),
+        input.readMap());
+  }
+
+  private static void writeTaskProcessor(BinaryOutput output, TaskProcessor taskProcessor) {
+    output.writeBoolean(taskProcessor != null);
+    if (taskProcessor != null) {
+      output.writeString(taskProcessor.task());
+      output.writeMap(taskProcessor.metadata());
+    }
+  }
+
+  private static TaskProcessor readTaskProcessor(BinaryInput input) {
+    return input.readBoolean() ? new TaskProcessor(input.readString(), input.readMap()) : null;
+  }
+}
@@ -0,0 +1,33 @@
+package co.orquex.sagas.domain.codec;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.Serializable;
+
+/**
+ * Codec that converts the records exchanged by the sagas to bytes and back, to send them between
+ * services or to persist them.
+ *
+ * @see BinarySagaCodec
+ */
+public interface SagaCodec {
+
+  /**
+   * Encodes a value.
+   *
+   * @param value the value to encode.
+   * @return the encoded value.
+   * @throws WorkflowException if the type of the value is not supported or it cannot be encoded.
+   */
+  byte[] encode(Serializable value);
+
+  /**
+   * Decodes a value.
+   *
+   * @param bytes the encoded value.
+   * @param type the expected type of the value.
+   * @return the decoded value.
+   * @param <T> the type of the value.
+   * @throws WorkflowException if the bytes are not a valid encoding of the given type.
+   */
+  <T extends Serializable> T decode(byte[] bytes, Class<T> type);
+}
@@ -0,0 +1,31 @@
+package co.orquex.sagas.domain.codec;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Type tags of the payload values encoded by the {@link BinarySagaCodec}. Tags are part of the
+ * binary format, they must never be reassigned.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ValueTag {
+
+  static final int NULL = 0;
+  static final int STRING = 1;
+  static final int INTEGER = 2;
+  static final int LONG = 3;
+  static final int DOUBLE = 4;
+  static final int FLOAT = 5;
+  static final int TRUE = 6;
+  static final int FALSE = 7;
+  static final int BYTES = 8;
+  static final int BIG_DECIMAL = 9;
+  static final int BIG_INTEGER = 10;
+  static final int INSTANT = 11;
+  static final int UUID = 12;
+  static final int MAP = 13;
+  static final int LIST = 14;
+
+  /** Any other value, written with Java serialization. */
+  static final int SERIALIZED = 127;
+}
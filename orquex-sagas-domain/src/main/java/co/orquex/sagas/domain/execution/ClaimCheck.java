@@ -0,0 +1,71 @@
+package co.orquex.sagas.domain.execution;
+
+import co.orquex.sagas.domain.api.BlobStore;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reference to a payload value offloaded to a {@link BlobStore}.
+ *
+ * <p>Large payload values are replaced by a claim check, so the requests, checkpoints and
+ * compensations carry the reference instead of the value. The claim checks of a request payload
+ * are resolved when the task reads them, so task implementations receive the original values.
+ *
+ * <p>JSON representation:
+ *
+ * <pre>
+ * {
+ *   "blobId": "blob-id",
+ *   "kind": "TEXT",
+ *   "size": 2097152
+ * }
+ * </pre>
+ *
+ * @param blobId the ID of the blob holding the value
+ * @param kind how the value is encoded in the blob
+ * @param size the size of the blob in bytes
+ */
+public record ClaimCheck(String blobId, Kind kind, long size) implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  /** Encoding of the offloaded value. */
+  public enum Kind {
+    /** A byte array stored as is. */
+    BINARY,
+    /** A string stored as UTF-8. */
+    TEXT,
+    /** Any other value stored with Java serialization. */
+    OBJECT
+  }
+
+  /**
+   * Reads the offloaded value from the blob store.
+   *
+   * @param blobStore the blob store holding the value
+   * @return the original value
+   * @throws WorkflowException if the blob cannot be read or decoded
+   */
+  public Serializable resolve(BlobStore blobStore) {
+    final var content = blobStore.get(blobId);
+    return switch (kind) {
+      case BINARY -> content;
+      case TEXT -> new String(content, StandardCharsets.UTF_8);
+      case OBJECT -> deserialize(content);
+    };
+  }
+
+  private Serializable deserialize(byte[] content) {
+    try (final var input = new ObjectInputStream(new ByteArrayInputStream(content))) {
+      return (Serializable) input.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new WorkflowException("Unable to resolve claim check '%s'".formatted(blobId), e);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package co.orquex.sagas.domain.jackson;
 
 import co.orquex.sagas.domain.stage.ActivityTask;
+import co.orquex.sagas.domain.stage.MergePolicy;
 import co.orquex.sagas.domain.stage.StageConfiguration;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -19,5 +20,6 @@ abstract class ActivityMixin {
           @JsonProperty("activityTasks") List<ActivityTask> tasks,
           @JsonProperty("sync") boolean sync,
           @JsonProperty("outgoing") String outgoing,
-          @JsonProperty("allOrNothing") Boolean allOrNothing) {}
+          @JsonProperty("allOrNothing") Boolean allOrNothing,
+          @JsonProperty("mergePolicy") MergePolicy mergePolicy) {}
 }
@@ -0,0 +1,108 @@
+package co.orquex.sagas.domain.jackson;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable payload backed by a Jackson {@link ObjectNode}.
+ *
+ * <p>JSON-native tasks, like JSONata or HTTP, return their result as this map and read the tree of
+ * their input with {@link #asJsonNode(Map, ObjectMapper)}, so a payload passed between them is
+ * never converted. The tree is converted to plain maps and lists only the first time a task reads
+ * it as a map, and the conversion is kept. It is serialized with Jackson as the tree itself, and
+ * with Java serialization as a {@link HashMap}.
+ *
+ * <p>The tree must not be modified once it is wrapped.
+ */
+public final class JsonNodeMap extends AbstractMap<String, Serializable> implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  private static final TypeReference<HashMap<String, Serializable>> MAP_TYPE =
+      new TypeReference<>() {};
+
+  private final transient ObjectNode node;
+  private final transient ObjectMapper objectMapper;
+  private transient volatile Map<String, Serializable> map;
+
+  public JsonNodeMap(final ObjectNode node, final ObjectMapper objectMapper) {
+    this.node = Preconditions.checkArgumentNotNull(node, "JSON node cannot be null");
+    this.objectMapper =
+        Preconditions.checkArgumentNotNull(objectMapper, "Object mapper cannot be null");
+  }
+
+  /**
+   * Returns the tree of a payload, without conversion when it is a {@link JsonNodeMap}.
+   *
+   * @param payload the payload
+   * @param objectMapper the mapper used to convert any other map
+   * @return the tree of the payload, which must not be modified
+   */
+  public static JsonNode asJsonNode(
+      final Map<String, ? extends Serializable> payload, final ObjectMapper objectMapper) {
+    if (payload instanceof JsonNodeMap jsonNodeMap) {
+      return jsonNodeMap.node;
+    }
+    return objectMapper.valueToTree(payload);
+  }
+
+  /**
+   * @return the tree backing this map, which must not be modified
+   */
+  @JsonValue
+  public ObjectNode node() {
+    return node;
+  }
+
+  @Override
+  public Serializable get(Object key) {
+    return map().get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String name && node.has(name);
+  }
+
+  @Override
+  public int size() {
+    return node.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return node.isEmpty();
+  }
+
+  @Override
+  public Set<Entry<String, Serializable>> entrySet() {
+    return map().entrySet();
+  }
+
+  private Map<String, Serializable> map() {
+    var converted = map;
+    if (converted == null) {
+      // Concurrent readers may convert it twice, both conversions are equal
+      converted = Collections.unmodifiableMap(objectMapper.convertValue(node, MAP_TYPE));
+      map = converted;
+    }
+    return converted;
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return new HashMap<>(map());
+  }
+}
@@ -26,7 +26,8 @@ import lombok.*;
  *   "activityTasks": [],
  *   "parallel": true,
  *   "outgoing": "stage-id",
- *   "allOrNothing": true
+ *   "allOrNothing": true,
+ *   "mergePolicy": "LAST_WINS"
  * }
  * </pre>
  *
@@ -40,6 +41,7 @@ public final class Activity extends Stage {
   private final boolean parallel;
   private final String outgoing;
   private final boolean allOrNothing;
+  private final MergePolicy mergePolicy;
 
   public Activity(
       final String id,
@@ -50,6 +52,19 @@ public final class Activity extends Stage {
       final boolean parallel,
       final String outgoing,
       final Boolean allOrNothing) {
+    this(id, name, metadata, configuration, activityTasks, parallel, outgoing, allOrNothing, null);
+  }
+
+  public Activity(
+      final String id,
+      final String name,
+      final Map<String, Serializable> metadata,
+      final StageConfiguration configuration,
+      final List<ActivityTask> activityTasks,
+      final boolean parallel,
+      final String outgoing,
+      final Boolean allOrNothing,
+      final MergePolicy mergePolicy) {
     super(StageType.activity.name(), id, name, metadata, configuration);
     this.activityTasks =
         checkArgumentNotEmpty(
@@ -57,5 +72,6 @@ public final class Activity extends Stage {
     this.outgoing = outgoing; // null if is the last stage
     this.parallel = parallel;
     this.allOrNothing = checkArgumentNotNullOrElse(allOrNothing, true);
+    this.mergePolicy = checkArgumentNotNullOrElse(mergePolicy, MergePolicy.LAST_WINS);
   }
 }
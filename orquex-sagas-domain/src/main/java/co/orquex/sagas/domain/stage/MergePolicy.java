@@ -0,0 +1,22 @@
+package co.orquex.sagas.domain.stage;
+
+/**
+ * This enumeration defines how the payloads returned by the tasks of an {@link Activity} are
+ * combined into the stage response.
+ *
+ * <ul>
+ *   <li>`LAST_WINS`: All the keys are merged into one payload, when two tasks return the same key
+ *       the value of the task declared last is kept (default).
+ *   <li>`FIRST_WINS`: All the keys are merged into one payload, when two tasks return the same key
+ *       the value of the task declared first is kept.
+ *   <li>`NAMESPACED`: The payload of each task is kept under the ID of its activity task, so the
+ *       results never overwrite each other.
+ * </ul>
+ *
+ * @see Activity
+ */
+public enum MergePolicy {
+  LAST_WINS,
+  FIRST_WINS,
+  NAMESPACED
+}
@@ -19,15 +19,37 @@ import lombok.Builder;
  * {
  *   "executor": "executor-name",
  *   "resilience": {},
- *   "parameters": {}
+ *   "parameters": {},
+ *   "idempotent": false,
+ *   "deterministic": false,
+ *   "memoization": {},
+ *   "singleFlight": false
  * }
  * </pre>
  *
+ * <p>A task is {@code idempotent} when executing it more than once with the same request has the
+ * same effect as executing it once, which allows speculative strategies like hedging to be
+ * applied safely.
+ *
+ * <p>A task is {@code deterministic} when its response only depends on the metadata and payload of
+ * the request, which allows its results to be memoized when a {@code memoization} configuration is
+ * present.
+ *
+ * <p>When {@code singleFlight} is enabled on an idempotent task, concurrent executions with the
+ * same metadata and payload share a single in-flight execution and all receive its result.
+ *
  * @see TaskResilienceConfiguration
+ * @see TaskMemoizationConfiguration
  */
 @Builder
 public record TaskConfiguration(
-        String executor, TaskResilienceConfiguration resilience, Map<String, Serializable> parameters)
+        String executor,
+        TaskResilienceConfiguration resilience,
+        Map<String, Serializable> parameters,
+        boolean idempotent,
+        boolean deterministic,
+        TaskMemoizationConfiguration memoization,
+        boolean singleFlight)
     implements Serializable {
 
   @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
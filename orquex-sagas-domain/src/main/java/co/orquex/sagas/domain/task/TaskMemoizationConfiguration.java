@@ -0,0 +1,45 @@
+package co.orquex.sagas.domain.task;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Configuration record for the memoization of the results of a deterministic task.
+ *
+ * <p>The results are cached by the task ID and a hash of the metadata and payload of the request,
+ * so a task whose response only depends on its request is executed once per distinct request
+ * while the entry is alive.
+ *
+ * <p>JSON representation:
+ *
+ * <pre>
+ * {
+ *   "maxSize": 1000,
+ *   "ttl": "PT10M"
+ * }
+ * </pre>
+ *
+ * @param maxSize maximum number of results cached for the task. Must be greater than 0.
+ * @param ttl time to live of a cached result. Must not be null and must be positive.
+ * @since 1.0.0
+ * @see TaskConfiguration
+ */
+public record TaskMemoizationConfiguration(int maxSize, Duration ttl) implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public TaskMemoizationConfiguration {
+    Preconditions.checkArgument(maxSize > 0, "Memoization max size must be greater than 0");
+    Preconditions.checkArgumentNotNull(ttl, "Memoization TTL cannot be null");
+    Preconditions.checkArgument(
+        !ttl.isNegative() && !ttl.isZero(), "Memoization TTL must be positive");
+  }
+}
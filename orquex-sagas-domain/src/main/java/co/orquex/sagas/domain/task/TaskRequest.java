@@ -1,5 +1,7 @@
 package co.orquex.sagas.domain.task;
 
+import static co.orquex.sagas.domain.utils.Preconditions.checkArgumentNotNullOrElse;
+
 import java.io.Serializable;
 import java.util.Map;
 
@@ -9,6 +11,20 @@ import java.util.Map;
  * @param transactionId Unique identifier for the transaction associated with the task.
  * @param metadata Additional metadata related to the task, as key-value pairs.
  * @param payload The main data payload for the task, as key-value pairs.
+ * @param parameters The parameters of the task configuration, as key-value pairs.
  */
 public record TaskRequest(
-    String transactionId, Map<String, Serializable> metadata, Map<String, Serializable> payload) {}
+    String transactionId,
+    Map<String, Serializable> metadata,
+    Map<String, Serializable> payload,
+    Map<String, Serializable> parameters) {
+
+  public TaskRequest {
+    parameters = checkArgumentNotNullOrElse(parameters, Map.of());
+  }
+
+  public TaskRequest(
+      String transactionId, Map<String, Serializable> metadata, Map<String, Serializable> payload) {
+    this(transactionId, metadata, payload, null);
+  }
+}
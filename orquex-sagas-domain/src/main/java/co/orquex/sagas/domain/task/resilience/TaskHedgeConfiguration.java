@@ -0,0 +1,52 @@
+package co.orquex.sagas.domain.task.resilience;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Configuration record for task hedging, a speculative execution mechanism that reduces the tail
+ * latency of read-only tasks against replicated services.
+ *
+ * <p>When the task has not completed after the configured delay, a duplicate request is issued;
+ * whichever response arrives first is used and the other one is cancelled. When {@code
+ * adaptiveDelay} is enabled, the hedge is issued as soon as the call exceeds the observed p95
+ * latency of the task, bounded by the configured delay.
+ *
+ * <p>Hedging is only applied to tasks declared as idempotent in their {@code TaskConfiguration},
+ * since the task may be executed twice.
+ *
+ * <p>JSON representation:
+ *
+ * <pre>
+ * {
+ *   "delay": "PT0.2S",
+ *   "adaptiveDelay": true
+ * }
+ * </pre>
+ *
+ * @param delay time to wait for the first response before issuing the hedge. Must not be null and
+ *     must be positive.
+ * @param adaptiveDelay whether to issue the hedge once the call passes the observed p95 latency of
+ *     the task, if it is lower than the delay
+ * @since 1.0.0
+ * @see TaskResilienceConfiguration
+ */
+public record TaskHedgeConfiguration(Duration delay, boolean adaptiveDelay)
+    implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public TaskHedgeConfiguration {
+    Preconditions.checkArgumentNotNull(delay, "Hedge delay cannot be null");
+    Preconditions.checkArgument(
+        !delay.isNegative() && !delay.isZero(), "Hedge delay must be positive");
+  }
+}
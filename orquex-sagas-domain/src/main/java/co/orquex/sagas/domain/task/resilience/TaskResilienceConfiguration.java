@@ -8,8 +8,8 @@ import java.io.Serializable;
 import java.time.Duration;
 
 /**
- * This class represents the configuration for resilience in a task. It includes timeout, retry and
- * circuit breaker configurations.
+ * This class represents the configuration for resilience in a task. It includes timeout, retry,
+ * circuit breaker and hedge configurations.
  *
  * <p>JSON Representation:
  *
@@ -17,15 +17,20 @@ import java.time.Duration;
  * {
  *   "timeout": "PT1M",
  *   "retry": {},
- *   "circuitBreaker": {}
+ *   "circuitBreaker": {},
+ *   "hedge": {}
  * }
  * </pre>
  *
  * @see TaskRetryConfiguration
  * @see TaskCircuitBreakerConfiguration
+ * @see TaskHedgeConfiguration
  */
 public record TaskResilienceConfiguration(
-        Duration timeout, TaskRetryConfiguration retry, TaskCircuitBreakerConfiguration circuitBreaker)
+        Duration timeout,
+        TaskRetryConfiguration retry,
+        TaskCircuitBreakerConfiguration circuitBreaker,
+        TaskHedgeConfiguration hedge)
     implements Serializable {
 
   @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
@@ -34,4 +39,11 @@ public record TaskResilienceConfiguration(
   public TaskResilienceConfiguration {
     timeout = checkArgumentNotNullOrElse(timeout, DEFAULT_TIMEOUT);
   }
+
+  public TaskResilienceConfiguration(
+      Duration timeout,
+      TaskRetryConfiguration retry,
+      TaskCircuitBreakerConfiguration circuitBreaker) {
+    this(timeout, retry, circuitBreaker, null);
+  }
 }
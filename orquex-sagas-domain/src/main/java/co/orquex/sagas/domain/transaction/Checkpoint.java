@@ -16,6 +16,9 @@ import lombok.Builder;
  * metadata, request and response data, and timestamps. It also includes the outgoing stage
  * identifier and the incoming stage.
  *
+ * <p>The checkpoints published as events reference the stage by its ID only, their incoming stage
+ * is null. Repositories may set it when a checkpoint is looked up.
+ *
  * <p>Each execution of a stage generates multiple checkpoints with different statuses, allowing
  * for tracking and auditing of the workflow.
  *
@@ -0,0 +1,58 @@
+package co.orquex.sagas.domain.transaction;
+
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.Builder;
+
+/**
+ * Represents an entry of the checkpoint history of a transaction.
+ *
+ * <p>Instead of the full {@link Checkpoint}, an entry stores the changes of the metadata, payload
+ * and response relative to the previous entry of the same transaction, and references the stage by
+ * its ID instead of embedding it. A snapshot entry stores the full maps, so a checkpoint is rebuilt
+ * by applying the entries from the last snapshot onwards in sequence order.
+ *
+ * <p>JSON representation:
+ *
+ * <pre>
+ * {
+ *   "transactionId": "transaction-id",
+ *   "sequence": 0,
+ *   "snapshot": true,
+ *   "status": "status",
+ *   "flowId": "flow-id",
+ *   "correlationId": "correlation-id",
+ *   "stageId": "stage-id",
+ *   "metadata": {"changed": {}, "removed": []},
+ *   "payload": {"changed": {}, "removed": []},
+ *   "response": {"changed": {}, "removed": []},
+ *   "outgoing": "outgoing-stage-id",
+ *   "createdAt": "timestamp",
+ *   "updatedAt": "timestamp"
+ * }
+ * </pre>
+ *
+ * @see Checkpoint
+ * @see MapDelta
+ */
+@Builder
+public record CheckpointDelta(
+    String transactionId,
+    long sequence,
+    boolean snapshot,
+    Status status,
+    String flowId,
+    String correlationId,
+    String stageId,
+    MapDelta metadata,
+    MapDelta payload,
+    MapDelta response,
+    String outgoing,
+    Instant createdAt,
+    Instant updatedAt)
+    implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+}
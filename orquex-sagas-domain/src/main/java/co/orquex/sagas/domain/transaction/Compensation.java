@@ -14,6 +14,10 @@ import java.util.Map;
  * compensation task processor. It encapsulates the transaction identifier, task name, metadata,
  * request and response data, and the timestamp when it was created.
  *
+ * <p>The stage identifier references the activity that registered the compensation. Compensations
+ * sharing a stage depend on each other and must be rolled back in reverse order, while
+ * compensations of different stages are independent.
+ *
  * <p>This class is sent via an event for further processing.
  *
  * <p>JSON representation:
@@ -23,6 +27,7 @@ import java.util.Map;
  *   "id": "compensation-id",
  *   "transactionId": "transaction-id",
  *   "flowId": "flow-id",
+ *   "stageId": "stage-id",
  *   "correlationId": "correlation-id",
  *   "task": "task-name",
  *   "metadata": {},
@@ -40,6 +45,7 @@ public record Compensation(
     String id,
     String transactionId,
     String flowId,
+    String stageId,
     String correlationId,
     String task,
     Map<String, Serializable> metadata,
@@ -54,12 +60,44 @@ public record Compensation(
 
   @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
 
+  public Compensation(
+      String id,
+      String transactionId,
+      String flowId,
+      String correlationId,
+      String task,
+      Map<String, Serializable> metadata,
+      Map<String, Serializable> request,
+      Map<String, Serializable> response,
+      TaskProcessor preProcessor,
+      TaskProcessor postProcessor,
+      Status status,
+      Instant createdAt,
+      Instant updatedAt) {
+    this(
+        id,
+        transactionId,
+        flowId,
+        null,
+        correlationId,
+        task,
+        metadata,
+        request,
+        response,
+        preProcessor,
+        postProcessor,
+        status,
+        createdAt,
+        updatedAt);
+  }
+
   // Method to create a new Compensation instance with an updated status
   public Compensation withStatus(Status status) {
     return new Compensation(
         this.id,
         this.transactionId,
         this.flowId,
+        this.stageId,
         this.correlationId,
         this.task,
         this.metadata,
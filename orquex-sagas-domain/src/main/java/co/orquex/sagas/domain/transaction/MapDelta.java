@@ -0,0 +1,90 @@
+package co.orquex.sagas.domain.transaction;
+
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents the changes between two versions of a map.
+ *
+ * <p>The delta holds the entries that were added or whose value changed, and the keys that were
+ * removed. Applying the delta to the previous version rebuilds the current one, values are compared
+ * with {@link Object#equals(Object)}.
+ *
+ * @param changed the entries added or updated
+ * @param removed the keys removed
+ * @see CheckpointDelta
+ */
+public record MapDelta(Map<String, Serializable> changed, Set<String> removed)
+    implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  public MapDelta {
+    changed = changed == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(changed));
+    removed = removed == null ? Set.of() : Collections.unmodifiableSet(new HashSet<>(removed));
+  }
+
+  /**
+   * Computes the changes from the previous to the current version of a map.
+   *
+   * @param previous the previous version, null is handled as an empty map
+   * @param current the current version
+   * @return the delta, or null if the current version is null
+   */
+  public static MapDelta of(
+      final Map<String, Serializable> previous, final Map<String, Serializable> current) {
+    if (current == null) {
+      return null;
+    }
+    if (previous == null || previous.isEmpty()) {
+      return new MapDelta(current, null);
+    }
+    final Map<String, Serializable> changed = new HashMap<>();
+    for (final var entry : current.entrySet()) {
+      final var key = entry.getKey();
+      if (!previous.containsKey(key) || !Objects.equals(previous.get(key), entry.getValue())) {
+        changed.put(key, entry.getValue());
+      }
+    }
+    final Set<String> removed = new HashSet<>();
+    for (final var key : previous.keySet()) {
+      if (!current.containsKey(key)) {
+        removed.add(key);
+      }
+    }
+    return new MapDelta(changed, removed);
+  }
+
+  /**
+   * Applies the delta to the previous version of a map.
+   *
+   * @param delta the delta to apply, null means the current version is null
+   * @param previous the previous version, null is handled as an empty map
+   * @return a new map with the current version
+   */
+  public static Map<String, Serializable> apply(
+      final MapDelta delta, final Map<String, Serializable> previous) {
+    if (delta == null) {
+      return null;
+    }
+    final Map<String, Serializable> current =
+        previous == null ? new HashMap<>() : new HashMap<>(previous);
+    delta.removed().forEach(current::remove);
+    current.putAll(delta.changed());
+    return current;
+  }
+
+  /**
+   * @return true if the delta has no changes
+   */
+  public boolean isEmpty() {
+    return changed.isEmpty() && removed.isEmpty();
+  }
+}
@@ -0,0 +1,160 @@
+package co.orquex.sagas.domain.utils;
+
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mutable view of a map that copies its entries on the first modification.
+ *
+ * <p>Until it is modified the view reads the source map, and when the source is a {@link
+ * LayeredMap}, merging the view on top of another layered map shares its layers. The first
+ * modification copies the entries to a private {@link HashMap}, so the source map, and every map
+ * sharing its layers, is never modified. The source map must not be modified by its owner while
+ * the view reads it. It is serialized as a {@link HashMap}.
+ *
+ * <p>Not thread-safe, like the {@link HashMap} it replaces.
+ *
+ * @param <K> key data type
+ * @param <V> value data type
+ */
+final class CopyOnWriteMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  private transient Map<K, V> source;
+  private transient Map<K, V> copy;
+  private transient Set<Entry<K, V>> entrySet;
+
+  CopyOnWriteMap(Map<K, V> source) {
+    this.source = source;
+  }
+
+  /**
+   * @return the layered source map while this map has not been modified, {@code null} afterwards
+   *     or if the source is not a layered map
+   */
+  LayeredMap<K, V> layered() {
+    return source instanceof LayeredMap<K, V> layered ? layered : null;
+  }
+
+  @Override
+  public V get(Object key) {
+    return read().get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return read().containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return read().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return read().isEmpty();
+  }
+
+  @Override
+  public V put(K key, V value) {
+    return write().put(key, value);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return write().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map) {
+    write().putAll(map);
+  }
+
+  @Override
+  public void clear() {
+    write().clear();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private Map<K, V> read() {
+    return copy == null ? source : copy;
+  }
+
+  private Map<K, V> write() {
+    if (copy == null) {
+      copy = HashMap.newHashMap(source.size());
+      copy.putAll(source);
+      source = null;
+    }
+    return copy;
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return new HashMap<>(read());
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      if (copy != null) {
+        return copy.entrySet().iterator();
+      }
+      // The source map does not change, so it is iterated while the changes go to the copy
+      final var iterator = source.entrySet().iterator();
+      return new Iterator<>() {
+
+        private Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          final var entry = iterator.next();
+          last = entry;
+          return new SimpleEntry<>(entry) {
+            @Override
+            public V setValue(V value) {
+              super.setValue(value);
+              return write().put(entry.getKey(), value);
+            }
+          };
+        }
+
+        @Override
+        public void remove() {
+          if (last == null) {
+            throw new IllegalStateException();
+          }
+          write().remove(last.getKey());
+          last = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return CopyOnWriteMap.this.size();
+    }
+  }
+}
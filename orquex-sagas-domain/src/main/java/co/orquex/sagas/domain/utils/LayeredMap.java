@@ -0,0 +1,195 @@
+package co.orquex.sagas.domain.utils;
+
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable map made of layers, where every layer overrides the keys of the layers below it.
+ *
+ * <p>Merging a map on top of a layered map adds a layer holding only the merged entries, so the
+ * entries of the layers below are shared instead of copied, and a merge costs O(changed keys). A
+ * lookup walks the layers from the top, so the layers are flattened into a single one when there
+ * are too many of them or when they hold more entries than the bottom layer; the cost of the
+ * flattening is amortized over the merges that added those entries.
+ *
+ * <p>The map cannot be modified, the mutating methods throw {@link UnsupportedOperationException}.
+ * It is serialized as a {@link HashMap}.
+ *
+ * @param <K> key data type
+ * @param <V> value data type
+ */
+public final class LayeredMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  /** Maximum number of layers before they are flattened. */
+  static final int MAX_DEPTH = 16;
+
+  private static final LayeredMap<?, ?> EMPTY = new LayeredMap<>(Map.of(), null, 0, 0, 0, 1);
+
+  private final transient Map<K, V> layer;
+  private final transient LayeredMap<K, V> below;
+  private final transient int size;
+  private final transient int overlaid;
+  private final transient int bottom;
+  private final transient int depth;
+  private transient Set<Entry<K, V>> entrySet;
+
+  private LayeredMap(
+      Map<K, V> layer, LayeredMap<K, V> below, int size, int overlaid, int bottom, int depth) {
+    this.layer = layer;
+    this.below = below;
+    this.size = size;
+    this.overlaid = overlaid;
+    this.bottom = bottom;
+    this.depth = depth;
+  }
+
+  /**
+   * Returns an empty layered map.
+   *
+   * @return the empty map
+   * @param <K> key data type
+   * @param <V> value data type
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> LayeredMap<K, V> empty() {
+    return (LayeredMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Returns a layered map with the entries of the given map, the map itself if it is already a
+   * layered map or an unmodified view of one.
+   *
+   * @param map the map to copy
+   * @return a layered map with the same entries
+   * @param <K> key data type
+   * @param <V> value data type
+   */
+  public static <K, V> LayeredMap<K, V> of(Map<? extends K, ? extends V> map) {
+    Preconditions.checkArgumentNotNull(map, "Map cannot be null");
+    return LayeredMap.<K, V>empty().merge(map);
+  }
+
+  /**
+   * Returns a new layered map with the entries of the given map on top of the entries of this
+   * one. This map is not modified.
+   *
+   * @param map map that'd overwrite
+   * @return a new layered map with the entries of both maps, or this one if the map is empty
+   */
+  public LayeredMap<K, V> merge(Map<? extends K, ? extends V> map) {
+    Preconditions.checkArgumentNotNull(map, "Map cannot be null");
+    if (map.isEmpty()) {
+      return this;
+    }
+    final LayeredMap<K, V> layered = layered(map);
+    if (isEmpty() && layered != null) {
+      return layered;
+    }
+    // Layered maps are immutable so they can be shared, any other map is copied
+    final Map<K, V> top = layered != null ? layered : Collections.unmodifiableMap(copy(map));
+    if (isEmpty()) {
+      return new LayeredMap<>(top, null, top.size(), 0, top.size(), 1);
+    }
+    var added = 0;
+    for (final var key : top.keySet()) {
+      if (!containsKey(key)) {
+        added++;
+      }
+    }
+    final var topDepth = layered != null ? layered.depth : 1;
+    final var layeredMap =
+        new LayeredMap<>(
+            top, this, size + added, overlaid + top.size(), bottom, depth + topDepth);
+    return layeredMap.shouldFlatten() ? layeredMap.flatten() : layeredMap;
+  }
+
+  @Override
+  public V get(Object key) {
+    for (var current = this; current != null; current = current.below) {
+      final var value = current.layer.get(key);
+      if (value != null || current.layer.containsKey(key)) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    for (var current = this; current != null; current = current.below) {
+      if (current.layer.containsKey(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    if (entrySet == null) {
+      entrySet = below == null ? layer.entrySet() : flatten().layer.entrySet();
+    }
+    return entrySet;
+  }
+
+  /** Number of layers, used by the tests. */
+  int depth() {
+    return depth;
+  }
+
+  private boolean shouldFlatten() {
+    return depth > MAX_DEPTH || overlaid > bottom;
+  }
+
+  private LayeredMap<K, V> flatten() {
+    final Map<K, V> flattened = HashMap.newHashMap(size);
+    fill(flattened);
+    return new LayeredMap<>(Collections.unmodifiableMap(flattened), null, size, 0, size, 1);
+  }
+
+  private void fill(Map<K, V> map) {
+    if (below != null) {
+      below.fill(map);
+    }
+    map.putAll(layer);
+  }
+
+  /** Returns the layered map behind the given map, or {@code null} if it has none. */
+  @SuppressWarnings("unchecked")
+  private static <K, V> LayeredMap<K, V> layered(Map<? extends K, ? extends V> map) {
+    return switch (map) {
+      case LayeredMap<?, ?> layered -> (LayeredMap<K, V>) layered;
+      case CopyOnWriteMap<?, ?> view -> (LayeredMap<K, V>) view.layered();
+      default -> null;
+    };
+  }
+
+  private static <K, V> Map<K, V> copy(Map<? extends K, ? extends V> map) {
+    final Map<K, V> copy = HashMap.newHashMap(map.size());
+    copy.putAll(map);
+    return copy;
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return copy(this);
+  }
+}
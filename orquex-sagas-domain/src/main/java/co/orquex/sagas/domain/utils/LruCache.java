@@ -0,0 +1,235 @@
+package co.orquex.sagas.domain.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe least recently used cache bounded by a maximum number of entries, with an optional
+ * time to live after which the entries are discarded.
+ *
+ * <p>Once the cache is full, adding a new entry evicts the least recently accessed one. Expired
+ * entries are discarded lazily when they are accessed. The cache keeps the hit, miss and eviction
+ * counters so the callers can expose them as metrics.
+ *
+ * @param <K> key data type
+ * @param <V> value data type
+ */
+public final class LruCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlNanos;
+  private final LinkedHashMap<K, Entry<V>> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a cache without time to live.
+   *
+   * @param maxSize maximum number of entries, must be greater than 0
+   */
+  public LruCache(int maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxSize maximum number of entries, must be greater than 0
+   * @param ttl time to live of the entries since they are added, {@code null} for no expiration
+   */
+  public LruCache(int maxSize, Duration ttl) {
+    Preconditions.checkArgument(maxSize > 0, "Cache max size must be greater than 0");
+    Preconditions.checkArgument(
+        ttl == null || (!ttl.isNegative() && !ttl.isZero()), "Cache TTL must be positive");
+    this.maxSize = maxSize;
+    this.ttlNanos = ttl == null ? 0L : ttl.toNanos();
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            final var evict = size() > LruCache.this.maxSize;
+            if (evict) {
+              evictions.increment();
+            }
+            return evict;
+          }
+        };
+  }
+
+  /**
+   * Gets the value associated with the key if present and not expired.
+   *
+   * @param key the key
+   * @return the value, or empty if there is no entry or it expired
+   */
+  public Optional<V> get(K key) {
+    final V value;
+    synchronized (entries) {
+      final var entry = entries.get(key);
+      if (entry != null && entry.isExpired(System.nanoTime())) {
+        entries.remove(key);
+        evictions.increment();
+        value = null;
+      } else {
+        value = entry == null ? null : entry.value();
+      }
+    }
+    if (value == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(value);
+  }
+
+  /**
+   * Adds or replaces the value associated with the key.
+   *
+   * @param key the key
+   * @param value the value, must not be null
+   */
+  public void put(K key, V value) {
+    Preconditions.checkArgumentNotNull(value, "Cache value cannot be null");
+    final var expiresAt = expiresAt(System.nanoTime());
+    synchronized (entries) {
+      entries.put(key, new Entry<>(value, expiresAt));
+    }
+  }
+
+  /**
+   * Adds the value if there is no entry for the key or it expired. The check and the addition are
+   * atomic, so concurrent callers agree on a single value, such as a future completed by the caller
+   * that added it. Counts as a hit when the entry is present and as a miss otherwise.
+   *
+   * @param key the key
+   * @param value the value, must not be null
+   * @return the current value, or {@code null} if the given value was added
+   */
+  public V putIfAbsent(K key, V value) {
+    Preconditions.checkArgumentNotNull(value, "Cache value cannot be null");
+    final var now = System.nanoTime();
+    final V current;
+    synchronized (entries) {
+      final var entry = entries.get(key);
+      if (entry != null && !entry.isExpired(now)) {
+        current = entry.value();
+      } else {
+        if (entry != null) {
+          evictions.increment();
+        }
+        entries.put(key, new Entry<>(value, expiresAt(now)));
+        current = null;
+      }
+    }
+    if (current == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+    return current;
+  }
+
+  /**
+   * Gets the value associated with the key, computing and adding it when absent or expired. The
+   * value is computed outside the lock, so concurrent callers might compute it more than once.
+   *
+   * @param key the key
+   * @param mappingFunction function used to compute the value, it must not return null
+   * @return the current or the computed value
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    final var cached = get(key);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    final V value = mappingFunction.apply(key);
+    put(key, value);
+    return value;
+  }
+
+  /**
+   * Removes the entry associated with the key.
+   *
+   * @param key the key
+   */
+  public void remove(K key) {
+    synchronized (entries) {
+      entries.remove(key);
+    }
+  }
+
+  /**
+   * Removes the entry associated with the key only if it holds the given value.
+   *
+   * @param key the key
+   * @param value the expected value
+   * @return true if the entry was removed
+   */
+  public boolean remove(K key, V value) {
+    synchronized (entries) {
+      final var entry = entries.get(key);
+      if (entry == null || !entry.value().equals(value)) {
+        return false;
+      }
+      entries.remove(key);
+      return true;
+    }
+  }
+
+  /** Removes all the entries, the counters are kept. */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Gets the number of entries, including the expired ones not yet discarded.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the ratio of lookups that found a value.
+   *
+   * @return a value between 0 and 1, or 0 if there were no lookups
+   */
+  public double hitRatio() {
+    final var hitCount = hits.sum();
+    final var total = hitCount + misses.sum();
+    return total == 0 ? 0d : (double) hitCount / total;
+  }
+
+  private long expiresAt(long now) {
+    return ttlNanos == 0L ? 0L : now + ttlNanos;
+  }
+
+  private record Entry<V>(V value, long expiresAt) {
+
+    boolean isExpired(long now) {
+      return expiresAt != 0L && now - expiresAt >= 0;
+    }
+  }
+}
@@ -1,6 +1,5 @@
 package co.orquex.sagas.domain.utils;
 
-import java.util.HashMap;
 import java.util.Map;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -9,7 +8,24 @@ import lombok.NoArgsConstructor;
 public final class Maps {
 
   /**
-   * Merge two maps creating a new Map instance.
+   * Returns a mutable view of the map that copies its entries on the first modification, so a map
+   * that cannot be modified, or is shared, can be handed to code that writes to it without copying
+   * it upfront. The map itself is never modified, and must not be modified while the view reads it.
+   *
+   * @param map the map to read until the view is modified
+   * @return a copy-on-write view of the map
+   * @param <I> key data type
+   * @param <O> value data type
+   */
+  public static <I, O> Map<I, O> copyOnWrite(Map<I, O> map) {
+    Preconditions.checkArgumentNotNull(map, "Map cannot be null");
+    return new CopyOnWriteMap<>(map);
+  }
+
+  /**
+   * Merge two maps creating a new Map instance, backed by a {@link LayeredMap} until it is
+   * modified. When the left map was created by a merge only the entries of the right map are
+   * copied, and the first modification of the result copies its entries.
    *
    * @param left map to be overwritten
    * @param right map that'd overwrite
@@ -18,13 +34,13 @@ public final class Maps {
    * @param <O> value data type
    */
   public static <I, O> Map<I, O> merge(Map<I, O> left, Map<I, O> right) {
-    final Map<I, O> newMap = new HashMap<>(left);
-    newMap.putAll(right);
-    return newMap;
+    return new CopyOnWriteMap<>(LayeredMap.<I, O>of(left).merge(right));
   }
 
   /**
-   * Merge two or more maps creating a new Map instance.
+   * Merge two or more maps creating a new Map instance, backed by a {@link LayeredMap} until it is
+   * modified. When the left map was created by a merge only the entries of the other maps are
+   * copied, and the first modification of the result copies its entries.
    *
    * @param left map to be overwritten
    * @param others array of maps that'd overwrite
@@ -34,10 +50,10 @@ public final class Maps {
    */
   @SafeVarargs
   public static <I, O> Map<I, O> merge(Map<I, O> left, Map<I, O>... others) {
-    final Map<I, O> newMap = new HashMap<>(left);
+    var merged = LayeredMap.<I, O>of(left);
     for (Map<I, O> other : others) {
-      newMap.putAll(other);
+      merged = merged.merge(other);
     }
-    return newMap;
+    return new CopyOnWriteMap<>(merged);
   }
 }
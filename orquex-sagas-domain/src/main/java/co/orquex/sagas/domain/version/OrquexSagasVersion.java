@@ -8,6 +8,21 @@ public final class OrquexSagasVersion {
 
     public static final long SERIAL_VERSION = getVersion().hashCode();
 
+    /**
+     * Version of the layout written by the codecs, independent of the library version. It must be
+     * incremented whenever a field is added, removed or reordered in an encoded record.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    /**
+     * @param schemaVersion a schema version written by a codec
+     * @return true if it was written with the same layout, the fields are read by position so any
+     *     other version is rejected
+     */
+    public static boolean isCompatible(int schemaVersion) {
+        return schemaVersion == SCHEMA_VERSION;
+    }
+
     public static String getVersion() {
         return MAJOR + "." + MINOR + "." + PATCH;
     }
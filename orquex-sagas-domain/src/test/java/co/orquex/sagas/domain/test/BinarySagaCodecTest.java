@@ -0,0 +1,191 @@
+package co.orquex.sagas.domain.test;
+
+import static co.orquex.sagas.domain.test.JacksonFixture.readValue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.codec.BinarySagaCodec;
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.execution.ExecutionRequest;
+import co.orquex.sagas.domain.stage.Activity;
+import co.orquex.sagas.domain.stage.Evaluation;
+import co.orquex.sagas.domain.stage.StageRequest;
+import co.orquex.sagas.domain.task.TaskProcessor;
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.transaction.Compensation;
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BinarySagaCodecTest {
+
+  final BinarySagaCodec codec = new BinarySagaCodec();
+
+  @Test
+  void shouldEncodeAndDecodeStageRequest() {
+    final var stage = readValue("stage-activity-simple.json", Activity.class);
+    final var request =
+        new StageRequest(
+            UUID.randomUUID().toString(),
+            stage,
+            new ExecutionRequest("flow-id", "correlation-id", Map.of("user", "john"), payload()));
+
+    final var decoded = codec.decode(codec.encode(request), StageRequest.class);
+
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(request);
+    assertThat(decoded.stage()).isInstanceOf(Activity.class);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeCheckpointWithEvaluationStage() {
+    final var stage = readValue("stage-evaluation-simple.json", Evaluation.class);
+    final var checkpoint =
+        Checkpoint.builder()
+            .transactionId(UUID.randomUUID().toString())
+            .status(Status.COMPLETED)
+            .flowId("flow-id")
+            .correlationId("correlation-id")
+            .stageId(stage.getId())
+            .metadata(Map.of())
+            .payload(payload())
+            .response(null)
+            .outgoing("next-stage")
+            .incoming(stage)
+            .createdAt(Instant.now())
+            .updatedAt(Instant.now())
+            .build();
+
+    final var decoded = codec.decode(codec.encode(checkpoint), Checkpoint.class);
+
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(checkpoint);
+    assertThat(decoded.incoming()).isInstanceOf(Evaluation.class);
+  }
+
+  @Test
+  void shouldEncodeAndDecodeCompensationAndTransaction() {
+    final var compensation =
+        new Compensation(
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            "flow-id",
+            "stage-id",
+            "correlation-id",
+            "task",
+            Map.of("key", "value"),
+            payload(),
+            Map.of("id", 10L),
+            new TaskProcessor("pre-processor", Map.of("mode", "strict")),
+            null,
+            Status.CREATED,
+            Instant.now(),
+            null);
+    final var now = Instant.now();
+    final var transaction =
+        new Transaction(
+            UUID.randomUUID().toString(),
+            "flow-id",
+            "correlation-id",
+            new ExecutionRequest("flow-id", "correlation-id"),
+            Status.IN_PROGRESS,
+            now,
+            now,
+            now.plus(Duration.ofMinutes(1)));
+
+    assertThat(codec.decode(codec.encode(compensation), Compensation.class))
+        .usingRecursiveComparison()
+        .isEqualTo(compensation);
+    assertThat(codec.decode(codec.encode(transaction), Transaction.class)).isEqualTo(transaction);
+  }
+
+  @Test
+  void shouldBeSmallerThanJavaSerialization() throws IOException {
+    final var stage = readValue("stage-activity-simple.json", Activity.class);
+    final var request =
+        new StageRequest(
+            UUID.randomUUID().toString(),
+            stage,
+            new ExecutionRequest("flow-id", "correlation-id", Map.of(), payload()));
+
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(request);
+    }
+
+    assertThat(codec.encode(request).length).isLessThan(bytes.size() / 4);
+  }
+
+  @Test
+  void shouldEncodeAndDecodePayloadValue() {
+    final var value = new HashMap<String, Serializable>();
+    value.put("amount", new BigDecimal("10.50"));
+    value.put("items", new ArrayList<>(List.of("a", "b")));
+
+    assertThat(codec.decode(codec.encode(value), Serializable.class)).isEqualTo(value);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenDecodingAnotherType() {
+    final var transaction =
+        new Transaction("id", "flow-id", "correlation-id", null, Status.IN_PROGRESS, null, null, null);
+    final var bytes = codec.encode(transaction);
+
+    assertThatThrownBy(() -> codec.decode(bytes, Checkpoint.class))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Encoded 'Transaction' cannot be decoded as 'Checkpoint'");
+  }
+
+  @Test
+  void shouldThrowExceptionWhenSchemaVersionIsNotCompatible() {
+    // Magic byte followed by the next schema version as a variable-length integer
+    final var bytes = new byte[] {(byte) 0xA5, 0x02, 4};
+
+    assertThatThrownBy(() -> codec.decode(bytes, Transaction.class))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessageStartingWith("Schema version 2 is not compatible");
+  }
+
+  @Test
+  void shouldThrowExceptionWhenInputIsTruncated() {
+    final var transaction =
+        new Transaction("id", "flow-id", "correlation-id", null, Status.IN_PROGRESS, null, null, null);
+    final var bytes = codec.encode(transaction);
+    final var truncated = Arrays.copyOf(bytes, bytes.length - 2);
+
+    assertThatThrownBy(() -> codec.decode(truncated, Transaction.class))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Unexpected end of encoded value");
+  }
+
+  private static Map<String, Serializable> payload() {
+    final Map<String, Serializable> nested = new HashMap<>();
+    nested.put("amount", new BigDecimal("12.50"));
+    nested.put("nullable", null);
+    final Map<String, Serializable> payload = new HashMap<>();
+    payload.put("string", "value");
+    payload.put("int", -42);
+    payload.put("long", Long.MAX_VALUE);
+    payload.put("double", 3.14);
+    payload.put("float", -1.5f);
+    payload.put("boolean", true);
+    payload.put("bytes", new byte[] {1, 2, 3});
+    payload.put("instant", Instant.parse("2025-01-01T00:00:00.123456789Z"));
+    payload.put("uuid", UUID.randomUUID());
+    payload.put("nested", (Serializable) nested);
+    payload.put("list", new ArrayList<>(List.of("a", 1, false)));
+    payload.put("other", Duration.ofSeconds(5));
+    return payload;
+  }
+}
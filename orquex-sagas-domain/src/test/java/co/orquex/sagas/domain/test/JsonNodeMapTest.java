@@ -0,0 +1,67 @@
+package co.orquex.sagas.domain.test;
+
+import static co.orquex.sagas.domain.test.JacksonFixture.mapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonNodeMapTest {
+
+  static final String JSON =
+      """
+      {"name": "Fred", "age": 28, "phones": ["0203 544 1234"], "address": {"city": "Winchester"}}
+      """;
+
+  @Test
+  void shouldReadTreeAsMap() throws IOException {
+    final var payload = new JsonNodeMap((ObjectNode) mapper.readTree(JSON), mapper);
+
+    assertThat(payload)
+        .hasSize(4)
+        .containsEntry("name", "Fred")
+        .containsEntry("age", 28)
+        .containsEntry("phones", new ArrayList<>(List.of("0203 544 1234")))
+        .containsEntry("address", new HashMap<>(Map.of("city", "Winchester")));
+    assertThat(payload.containsKey("unknown")).isFalse();
+    assertThatThrownBy(() -> payload.put("key", "value"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void shouldReturnTreeWithoutConversion() throws IOException {
+    final var node = (ObjectNode) mapper.readTree(JSON);
+    final var payload = new JsonNodeMap(node, mapper);
+    final Map<String, Serializable> map = Map.of("name", "Fred");
+
+    assertThat(JsonNodeMap.asJsonNode(payload, mapper)).isSameAs(node);
+    assertThat(JsonNodeMap.asJsonNode(map, mapper)).isEqualTo(mapper.readTree("{\"name\":\"Fred\"}"));
+    assertThat(mapper.writeValueAsString(payload)).isEqualTo(mapper.writeValueAsString(node));
+  }
+
+  @Test
+  void shouldSerializeAsHashMap() throws IOException, ClassNotFoundException {
+    final var payload = new JsonNodeMap((ObjectNode) mapper.readTree(JSON), mapper);
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(payload);
+    }
+
+    try (final var input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(input.readObject()).isInstanceOf(HashMap.class).isEqualTo(payload);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package co.orquex.sagas.domain.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.orquex.sagas.domain.transaction.MapDelta;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class MapDeltaTest {
+
+  @Test
+  void shouldKeepOnlyChangedAndRemovedKeys() {
+    final Map<String, Serializable> previous = Map.of("kept", 1, "updated", "old", "removed", true);
+    final Map<String, Serializable> current = Map.of("kept", 1, "updated", "new", "added", 2L);
+
+    final var delta = MapDelta.of(previous, current);
+
+    assertThat(delta.changed()).isEqualTo(Map.of("updated", "new", "added", 2L));
+    assertThat(delta.removed()).isEqualTo(Set.of("removed"));
+    assertThat(MapDelta.apply(delta, previous)).isEqualTo(current);
+  }
+
+  @Test
+  void shouldRebuildNullValuesAndNullMaps() {
+    final Map<String, Serializable> current = new HashMap<>();
+    current.put("nullable", null);
+
+    assertThat(MapDelta.apply(MapDelta.of(null, current), null)).isEqualTo(current);
+    assertThat(MapDelta.of(current, null)).isNull();
+    assertThat(MapDelta.apply(null, current)).isNull();
+  }
+
+  @Test
+  void shouldBeEmptyWhenMapsAreEqual() {
+    final Map<String, Serializable> map = Map.of("key", "value");
+
+    assertThat(MapDelta.of(map, Map.of("key", "value")).isEmpty()).isTrue();
+  }
+}
@@ -0,0 +1,122 @@
+package co.orquex.sagas.domain.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LayeredMapTest {
+
+  @Test
+  void shouldOverrideKeysOfTheLowerLayers() {
+    final var base = LayeredMap.of(Map.of("key1", "value1", "key2", "value2"));
+
+    final var merged = base.merge(Map.of("key2", "value3", "key3", "value4"));
+
+    assertThat(merged)
+        .hasSize(3)
+        .containsEntry("key1", "value1")
+        .containsEntry("key2", "value3")
+        .containsEntry("key3", "value4")
+        .isEqualTo(Map.of("key1", "value1", "key2", "value3", "key3", "value4"));
+    assertThat(base).hasSize(2).containsEntry("key2", "value2");
+  }
+
+  @Test
+  void shouldSupportNullValues() {
+    final var merged =
+        LayeredMap.of(Map.of("key1", "value1")).merge(Collections.singletonMap("key1", null));
+
+    assertThat(merged.containsKey("key1")).isTrue();
+    assertThat(merged.get("key1")).isNull();
+    assertThat(merged).hasSize(1);
+  }
+
+  @Test
+  void shouldNotBeAffectedByChangesOfTheMergedMaps() {
+    final var left = new HashMap<String, String>(Map.of("key1", "value1"));
+    final var right = new HashMap<String, String>(Map.of("key2", "value2"));
+    final var merged = Maps.merge(left, right);
+
+    left.put("key1", "changed");
+    right.put("key3", "value3");
+
+    assertThat(merged).isEqualTo(Map.of("key1", "value1", "key2", "value2"));
+  }
+
+  @Test
+  void shouldBeImmutable() {
+    final var merged = LayeredMap.of(Map.of("key1", "value1")).merge(Map.of("key2", "value2"));
+
+    assertThatThrownBy(() -> merged.put("key3", "value3"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> merged.remove("key1"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void shouldCopyTheMergedEntriesOnTheFirstModification() {
+    final var base = Maps.merge(Map.of("key1", "value1"), Map.of("key2", "value2"));
+    final var merged = Maps.merge(base, Map.of("key3", "value3"));
+
+    merged.put("key4", "value4");
+    merged.remove("key1");
+    merged.entrySet().removeIf(entry -> entry.getKey().equals("key2"));
+
+    assertThat(merged).isEqualTo(Map.of("key3", "value3", "key4", "value4"));
+    assertThat(base).isEqualTo(Map.of("key1", "value1", "key2", "value2"));
+  }
+
+  @Test
+  void shouldShareTheLayersOfAnUnmodifiedMerge() {
+    final var entries = new HashMap<String, Integer>();
+    IntStream.range(0, 10).forEach(i -> entries.put("key" + i, i));
+    final var base = Maps.merge(entries, Map.of("key0", -1));
+
+    final var merged = Maps.merge(base, Map.of("key1", -1));
+    base.put("key2", -1);
+
+    assertThat(LayeredMap.of(merged).depth()).isEqualTo(3);
+    assertThat(merged).hasSize(10).containsEntry("key0", -1).containsEntry("key2", 2);
+    assertThat(LayeredMap.of(base).depth()).isOne();
+  }
+
+  @Test
+  void shouldShareLowerLayersAndFlattenWhenTooDeep() {
+    final var entries = new HashMap<String, Integer>();
+    IntStream.range(0, 100).forEach(i -> entries.put("key" + i, i));
+    var merged = LayeredMap.of(entries);
+
+    for (var i = 0; i < LayeredMap.MAX_DEPTH - 1; i++) {
+      merged = merged.merge(Map.of("key0", i));
+    }
+    assertThat(merged.depth()).isEqualTo(LayeredMap.MAX_DEPTH);
+
+    merged = merged.merge(Map.of("key1", -1));
+    assertThat(merged.depth()).isEqualTo(1);
+    assertThat(merged).hasSize(100).containsEntry("key0", 14).containsEntry("key1", -1);
+  }
+
+  @Test
+  void shouldSerializeAsHashMap() throws IOException, ClassNotFoundException {
+    final var merged = Maps.merge(Map.of("key1", "value1"), Map.of("key2", "value2"));
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(merged);
+    }
+
+    try (final var input =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(input.readObject()).isInstanceOf(HashMap.class).isEqualTo(merged);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package co.orquex.sagas.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntry() {
+    // Given
+    final var cache = new LruCache<String, String>(2);
+    cache.put("key1", "value1");
+    cache.put("key2", "value2");
+    cache.get("key1");
+
+    // When
+    cache.put("key3", "value3");
+
+    // Then
+    assertEquals(2, cache.size());
+    assertEquals(Optional.of("value1"), cache.get("key1"));
+    assertEquals(Optional.empty(), cache.get("key2"));
+    assertEquals(Optional.of("value3"), cache.get("key3"));
+    assertEquals(1, cache.evictions());
+  }
+
+  @Test
+  void shouldExpireEntriesAfterTtl() throws InterruptedException {
+    // Given
+    final var cache = new LruCache<String, String>(10, Duration.ofMillis(20));
+    cache.put("key1", "value1");
+
+    // When
+    Thread.sleep(50);
+
+    // Then
+    assertEquals(Optional.empty(), cache.get("key1"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void shouldComputeValueOnlyWhenAbsent() {
+    // Given
+    final var cache = new LruCache<String, String>(10);
+
+    // When
+    final var first = cache.computeIfAbsent("key1", key -> "value1");
+    final var second = cache.computeIfAbsent("key1", key -> fail("should not compute"));
+
+    // Then
+    assertEquals("value1", first);
+    assertEquals("value1", second);
+    assertEquals(1, cache.hits());
+    assertEquals(1, cache.misses());
+    assertEquals(0.5, cache.hitRatio());
+  }
+
+  @Test
+  void shouldAddValueOnlyWhenAbsent() {
+    // Given
+    final var cache = new LruCache<String, String>(10);
+
+    // When
+    final var added = cache.putIfAbsent("key1", "value1");
+    final var current = cache.putIfAbsent("key1", "value2");
+
+    // Then
+    assertNull(added);
+    assertEquals("value1", current);
+    assertEquals(1, cache.hits());
+    assertEquals(1, cache.misses());
+    assertFalse(cache.remove("key1", "value2"));
+    assertTrue(cache.remove("key1", "value1"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  void shouldValidateArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    assertThrows(
+        IllegalArgumentException.class, () -> new LruCache<String, String>(1, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(1).put("k", null));
+  }
+}
@@ -39,4 +39,19 @@ class MapsTest {
     assertEquals("value2", result.get("key2"));
     assertEquals("value3", result.get("key3"));
   }
+
+  @Test
+  void shouldCopyOnWriteWithoutModifyingTheMap() {
+    // Given
+    final var map = Map.of("key1", "value1");
+
+    // When
+    final var result = Maps.copyOnWrite(map);
+    result.put("key2", "value2");
+    result.remove("key1");
+
+    // Then
+    assertEquals(Map.of("key2", "value2"), result);
+    assertEquals(Map.of("key1", "value1"), map);
+  }
 }
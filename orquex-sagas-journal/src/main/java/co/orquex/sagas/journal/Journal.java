@@ -0,0 +1,317 @@
+package co.orquex.sagas.journal;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal backed by a single file.
+ *
+ * <p>Every entry is written as {@code [length:int][crc32c:int][type:byte][payload]}, where the
+ * length covers the payload only and the checksum covers the type and the payload. Appends are
+ * handed to a dedicated writer thread that groups all the pending entries in a single write and a
+ * single {@link FileChannel#force(boolean)}, so concurrent writers share the cost of the fsync
+ * (group commit). {@link #append(JournalRecordType, byte[])} returns once its entry is durable.
+ *
+ * <p>When the journal is opened it is scanned up to the first incomplete or corrupted entry, which
+ * is the tail of a write interrupted by a crash, and the file is truncated at that point so new
+ * entries are appended after the last valid one. The recovered entries can then be replayed with
+ * {@link #replay(BiConsumer)} to rebuild the state of the repositories.
+ *
+ * <p>When a group of entries cannot be written, the file is truncated back to the position where
+ * the group started, so a partial write never precedes the entries appended afterwards. If the
+ * file cannot be truncated either, the journal is failed and rejects every further append.
+ *
+ * <p>The journal is never compacted, every saved version of an entry is kept in the file.
+ */
+@Slf4j
+public class Journal implements AutoCloseable {
+
+  static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+  /** Upper bound of a single payload, used to detect corrupted lengths during replay. */
+  static final int MAX_PAYLOAD_SIZE = 64 * 1024 * 1024;
+
+  /** Marker queued by {@link #close()} to stop the writer thread. */
+  private static final PendingEntry CLOSE = new PendingEntry(null, new byte[0], null);
+
+  private final JournalConfiguration configuration;
+  private final FileChannel channel;
+  private final BlockingQueue<PendingEntry> queue = new LinkedBlockingQueue<>();
+  private final Thread writer;
+  private boolean closed;
+  private volatile JournalException failure;
+  private long recoveredSize;
+
+  private Journal(JournalConfiguration configuration, FileChannel channel) {
+    this.configuration = configuration;
+    this.channel = channel;
+    this.writer = Thread.ofPlatform().name("journal-writer").daemon().unstarted(this::writeLoop);
+  }
+
+  /**
+   * Opens the journal file, creating it if it does not exist.
+   *
+   * @param configuration the journal configuration
+   * @return the opened journal
+   * @throws JournalException if the file cannot be opened
+   */
+  public static Journal open(JournalConfiguration configuration) {
+    Preconditions.checkArgumentNotNull(configuration, "Journal configuration cannot be null");
+    try {
+      final var parent = configuration.file().toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      final var channel =
+          FileChannel.open(
+              configuration.file(),
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      final var journal = new Journal(configuration, channel);
+      journal.recover();
+      journal.writer.start();
+      return journal;
+    } catch (IOException e) {
+      throw new JournalException(
+          "Unable to open journal '%s'".formatted(configuration.file()), e);
+    }
+  }
+
+  /**
+   * Reads every entry that was in the journal when it was opened, in the order they were
+   * appended. Entries appended afterwards are not replayed.
+   *
+   * @param consumer receives the type and payload of each entry
+   * @return the number of entries replayed
+   * @throws JournalException if the file cannot be read
+   */
+  public int replay(BiConsumer<JournalRecordType, byte[]> consumer) {
+    Preconditions.checkArgumentNotNull(consumer, "Journal consumer cannot be null");
+    try {
+      final var scan = scan(recoveredSize, consumer);
+      log.debug("Journal '{}' replayed {} entries", configuration.file(), scan.count());
+      return scan.count();
+    } catch (IOException e) {
+      throw new JournalException(
+          "Unable to replay journal '%s'".formatted(configuration.file()), e);
+    }
+  }
+
+  /**
+   * Appends an entry to the journal and waits until it is written, and forced to disk when fsync
+   * is enabled.
+   *
+   * @param type the type of the entry
+   * @param payload the serialized entry
+   * @throws JournalException if the journal is closed or failed, or the entry cannot be written
+   */
+  public void append(JournalRecordType type, byte[] payload) {
+    Preconditions.checkArgumentNotNull(type, "Journal record type cannot be null");
+    Preconditions.checkArgumentNotNull(payload, "Journal payload cannot be null");
+    Preconditions.checkArgument(
+        payload.length <= MAX_PAYLOAD_SIZE, "Journal payload exceeds the maximum size");
+    final var entry = new PendingEntry(type, payload, new CompletableFuture<>());
+    synchronized (queue) {
+      if (closed) {
+        throw new JournalException("Journal '%s' is closed".formatted(configuration.file()));
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      queue.add(entry);
+    }
+    try {
+      entry.written().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof JournalException journalException) {
+        throw journalException;
+      }
+      throw new JournalException(
+          "Unable to append to journal '%s'".formatted(configuration.file()), e.getCause());
+    }
+  }
+
+  /** Writes the pending entries and closes the journal file. */
+  @Override
+  public void close() {
+    synchronized (queue) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      // The writer thread is not interrupted, an interrupted FileChannel closes itself
+      queue.add(CLOSE);
+    }
+    try {
+      writer.join();
+      channel.close();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      throw new JournalException(
+          "Unable to close journal '%s'".formatted(configuration.file()), e);
+    }
+  }
+
+  private void recover() throws IOException {
+    final var size = channel.size();
+    final var scan = scan(size, null);
+    if (scan.position() < size) {
+      log.warn(
+          "Journal '{}' has {} bytes of incomplete or corrupted entries after position {}, truncating",
+          configuration.file(),
+          size - scan.position(),
+          scan.position());
+      channel.truncate(scan.position());
+      channel.force(true);
+    }
+    recoveredSize = scan.position();
+    channel.position(recoveredSize);
+  }
+
+  /**
+   * Reads the entries up to the given size, stopping at the first incomplete or corrupted one.
+   */
+  private Scan scan(long size, BiConsumer<JournalRecordType, byte[]> consumer) throws IOException {
+    final var header = ByteBuffer.allocate(HEADER_SIZE);
+    final var crc = new CRC32C();
+    var position = 0L;
+    var count = 0;
+    while (position + HEADER_SIZE <= size) {
+      header.clear();
+      readFully(header, position);
+      header.flip();
+      final var length = header.getInt();
+      final var checksum = header.getInt();
+      final var code = header.get();
+      if (length < 0 || length > MAX_PAYLOAD_SIZE || position + HEADER_SIZE + length > size) {
+        break;
+      }
+      final var payload = ByteBuffer.allocate(length);
+      readFully(payload, position + HEADER_SIZE);
+      crc.reset();
+      crc.update(code);
+      crc.update(payload.array());
+      final var type = JournalRecordType.of(code);
+      if ((int) crc.getValue() != checksum || type == null) {
+        break;
+      }
+      if (consumer != null) {
+        consumer.accept(type, payload.array());
+      }
+      position += HEADER_SIZE + length;
+      count++;
+    }
+    return new Scan(position, count);
+  }
+
+  private void writeLoop() {
+    final List<PendingEntry> batch = new ArrayList<>(configuration.maxBatchSize());
+    var running = true;
+    while (running) {
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      queue.drainTo(batch, configuration.maxBatchSize() - 1);
+      // Nothing is queued after the close marker
+      running = batch.getLast() != CLOSE;
+      batch.remove(CLOSE);
+      if (!batch.isEmpty()) {
+        commit(batch);
+      }
+      batch.clear();
+    }
+  }
+
+  private void commit(List<PendingEntry> batch) {
+    if (failure != null) {
+      batch.forEach(entry -> entry.written().completeExceptionally(failure));
+      return;
+    }
+    var start = -1L;
+    try {
+      start = channel.position();
+      var size = 0;
+      for (final var entry : batch) {
+        size += HEADER_SIZE + entry.payload().length;
+      }
+      final var buffer = ByteBuffer.allocate(size);
+      final var crc = new CRC32C();
+      for (final var entry : batch) {
+        crc.reset();
+        crc.update(entry.type().getCode());
+        crc.update(entry.payload());
+        buffer.putInt(entry.payload().length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(entry.type().getCode());
+        buffer.put(entry.payload());
+      }
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      if (configuration.fsync()) {
+        channel.force(false);
+      }
+      batch.forEach(entry -> entry.written().complete(null));
+    } catch (IOException e) {
+      log.error("Unable to write {} entries to journal '{}'", batch.size(), configuration.file(), e);
+      final var exception =
+          new JournalException(
+              "Unable to write to journal '%s'".formatted(configuration.file()), e);
+      batch.forEach(entry -> entry.written().completeExceptionally(exception));
+      rollback(start, exception);
+    }
+  }
+
+  /** Discards the partial write of a group, failing the journal if the file cannot be restored. */
+  private void rollback(long start, JournalException cause) {
+    try {
+      if (start < 0) {
+        throw new IOException("Unknown start position of the failed write");
+      }
+      channel.truncate(start);
+      channel.position(start);
+    } catch (IOException e) {
+      log.error("Unable to roll back journal '{}', rejecting appends", configuration.file(), e);
+      cause.addSuppressed(e);
+      failure =
+          new JournalException(
+              "Journal '%s' failed and no longer accepts appends".formatted(configuration.file()),
+              cause);
+    }
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    var offset = position;
+    while (buffer.hasRemaining()) {
+      final var read = channel.read(buffer, offset);
+      if (read < 0) {
+        throw new IOException("Unexpected end of journal at position %d".formatted(offset));
+      }
+      offset += read;
+    }
+  }
+
+  private record PendingEntry(
+      JournalRecordType type, byte[] payload, CompletableFuture<Void> written) {}
+
+  private record Scan(long position, int count) {}
+}
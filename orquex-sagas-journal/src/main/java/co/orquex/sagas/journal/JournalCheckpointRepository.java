@@ -0,0 +1,57 @@
+package co.orquex.sagas.journal;
+
+import co.orquex.sagas.core.repository.StripedLock;
+import co.orquex.sagas.domain.api.repository.CheckpointRepository;
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CheckpointRepository} persisted in a {@link Journal}.
+ *
+ * <p>Every saved checkpoint is appended to the journal and the last checkpoint of each transaction
+ * is kept in memory. The append and the index update of a save run under a lock striped by
+ * transaction ID, so the index always holds the checkpoint appended last. The index is rebuilt from
+ * the journal when the repository is created, which allows a node to resume its transactions from
+ * the last checkpoint after a restart.
+ */
+@Slf4j
+public class JournalCheckpointRepository implements CheckpointRepository {
+
+  private final Journal journal;
+  private final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+  private final StripedLock lock = new StripedLock();
+
+  public JournalCheckpointRepository(final Journal journal) {
+    this.journal = Preconditions.checkArgumentNotNull(journal, "Journal cannot be null");
+    journal.replay(
+        (type, payload) -> {
+          if (type == JournalRecordType.CHECKPOINT) {
+            final var checkpoint = JournalSerializer.deserialize(payload, Checkpoint.class);
+            checkpoints.put(checkpoint.transactionId(), checkpoint);
+          }
+        });
+    log.debug("Checkpoint repository recovered {} checkpoints", checkpoints.size());
+  }
+
+  @Override
+  public Checkpoint save(Checkpoint checkpoint) {
+    Preconditions.checkArgumentNotNull(checkpoint, "Checkpoint cannot be null");
+    final var payload = JournalSerializer.serialize(checkpoint);
+    lock.run(
+        checkpoint.transactionId(),
+        () -> {
+          journal.append(JournalRecordType.CHECKPOINT, payload);
+          checkpoints.put(checkpoint.transactionId(), checkpoint);
+        });
+    return checkpoint;
+  }
+
+  @Override
+  public Optional<Checkpoint> findByTransactionId(String transactionId) {
+    return Optional.ofNullable(checkpoints.get(transactionId));
+  }
+}
@@ -0,0 +1,40 @@
+package co.orquex.sagas.journal;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.nio.file.Path;
+
+/**
+ * Configuration record for the {@link Journal}.
+ *
+ * @param file the path of the journal file, it is created if it does not exist
+ * @param maxBatchSize maximum number of records written and forced to disk in a single group
+ *     commit
+ * @param fsync whether each group commit forces the written records to the storage device. When
+ *     disabled the records are handed to the operating system only, which is faster but may lose
+ *     the last records on a power failure
+ * @see Journal
+ */
+public record JournalConfiguration(Path file, int maxBatchSize, boolean fsync) {
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public JournalConfiguration {
+    Preconditions.checkArgumentNotNull(file, "Journal file cannot be null");
+    Preconditions.checkArgument(maxBatchSize > 0, "Max batch size must be greater than zero");
+  }
+
+  /**
+   * Creates a configuration with the default batch size and fsync enabled.
+   *
+   * @param file the path of the journal file
+   * @return the journal configuration
+   */
+  public static JournalConfiguration of(Path file) {
+    return new JournalConfiguration(file, DEFAULT_MAX_BATCH_SIZE, true);
+  }
+}
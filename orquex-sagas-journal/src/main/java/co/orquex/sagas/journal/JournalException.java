@@ -0,0 +1,20 @@
+package co.orquex.sagas.journal;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+
+/** Exception thrown when the journal cannot be read or written. */
+public class JournalException extends WorkflowException {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  public JournalException(String message) {
+    super(message);
+  }
+
+  public JournalException(String message, Throwable cause) {
+    super(message);
+    initCause(cause);
+  }
+}
@@ -0,0 +1,29 @@
+package co.orquex.sagas.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** Type of the entries stored in the {@link Journal}. */
+@Getter
+@RequiredArgsConstructor
+public enum JournalRecordType {
+  TRANSACTION((byte) 1),
+  CHECKPOINT((byte) 2);
+
+  private final byte code;
+
+  /**
+   * Resolves the record type of the given code.
+   *
+   * @param code the code written in the journal
+   * @return the record type, or null if the code is unknown
+   */
+  public static JournalRecordType of(byte code) {
+    for (final var type : values()) {
+      if (type.code == code) {
+        return type;
+      }
+    }
+    return null;
+  }
+}
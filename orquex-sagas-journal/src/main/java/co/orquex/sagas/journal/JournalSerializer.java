@@ -0,0 +1,28 @@
+package co.orquex.sagas.journal;
+
+import java.io.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/** Serializes the journal entries with the Java serialization of the domain records. */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class JournalSerializer {
+
+  static byte[] serialize(Serializable value) {
+    final var bytes = new ByteArrayOutputStream(512);
+    try (final var output = new ObjectOutputStream(bytes)) {
+      output.writeObject(value);
+    } catch (IOException e) {
+      throw new JournalException("Unable to serialize journal entry", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static <T> T deserialize(byte[] payload, Class<T> type) {
+    try (final var input = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+      return type.cast(input.readObject());
+    } catch (IOException | ClassNotFoundException | ClassCastException e) {
+      throw new JournalException("Unable to deserialize journal entry", e);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package co.orquex.sagas.journal;
+
+import co.orquex.sagas.core.repository.StripedLock;
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import co.orquex.sagas.domain.transaction.Transaction;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link TransactionRepository} persisted in a {@link Journal}.
+ *
+ * <p>Every saved transaction is appended to the journal before it is visible in the in-memory
+ * indexes, one by transaction ID and one by flow ID and correlation ID, so lookups never touch the
+ * file. The append and the index update of a save run under a lock striped by transaction ID, so
+ * the indexes always hold the version appended last. The indexes are rebuilt from the journal when
+ * the repository is created, the last saved version of each transaction wins.
+ */
+@Slf4j
+public class JournalTransactionRepository implements TransactionRepository {
+
+  private final Journal journal;
+  private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+  private final Map<FlowCorrelationKey, String> transactionIds = new ConcurrentHashMap<>();
+  private final StripedLock lock = new StripedLock();
+
+  public JournalTransactionRepository(final Journal journal) {
+    this.journal = Preconditions.checkArgumentNotNull(journal, "Journal cannot be null");
+    journal.replay(
+        (type, payload) -> {
+          if (type == JournalRecordType.TRANSACTION) {
+            index(JournalSerializer.deserialize(payload, Transaction.class));
+          }
+        });
+    log.debug("Transaction repository recovered {} transactions", transactions.size());
+  }
+
+  @Override
+  public Optional<Transaction> findById(String id) {
+    return Optional.ofNullable(transactions.get(id));
+  }
+
+  @Override
+  public boolean existsByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    return transactionIds.containsKey(new FlowCorrelationKey(flowId, correlationId));
+  }
+
+  @Override
+  public Optional<Transaction> findByFlowIdAndCorrelationId(String flowId, String correlationId) {
+    return Optional.ofNullable(transactionIds.get(new FlowCorrelationKey(flowId, correlationId)))
+        .map(transactions::get);
+  }
+
+  @Override
+  public Transaction save(Transaction transaction) {
+    Preconditions.checkArgumentNotNull(transaction, "Transaction cannot be null");
+    final var payload = JournalSerializer.serialize(transaction);
+    lock.run(
+        transaction.transactionId(),
+        () -> {
+          journal.append(JournalRecordType.TRANSACTION, payload);
+          index(transaction);
+        });
+    return transaction;
+  }
+
+  private void index(Transaction transaction) {
+    transactions.put(transaction.transactionId(), transaction);
+    transactionIds.put(
+        new FlowCorrelationKey(transaction.flowId(), transaction.correlationId()),
+        transaction.transactionId());
+  }
+
+  private record FlowCorrelationKey(String flowId, String correlationId) {}
+}
@@ -0,0 +1,94 @@
+package co.orquex.sagas.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.orquex.sagas.domain.transaction.Checkpoint;
+import co.orquex.sagas.domain.transaction.Status;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalCheckpointRepositoryTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldRecoverLastCheckpointOfEachTransaction() {
+    final var transactionId = UUID.randomUUID().toString();
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalCheckpointRepository(journal);
+      repository.save(getCheckpoint(transactionId, "stage-1", Status.COMPLETED));
+      repository.save(getCheckpoint(transactionId, "stage-2", Status.IN_PROGRESS));
+      assertThat(repository.findByTransactionId(transactionId))
+          .get()
+          .extracting(Checkpoint::stageId)
+          .isEqualTo("stage-2");
+    }
+
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalCheckpointRepository(journal);
+      final var checkpoint = repository.findByTransactionId(transactionId);
+      assertThat(checkpoint).isPresent();
+      assertThat(checkpoint.get().stageId()).isEqualTo("stage-2");
+      assertThat(checkpoint.get().status()).isEqualTo(Status.IN_PROGRESS);
+      assertThat(checkpoint.get().payload()).containsEntry("key", "value");
+    }
+  }
+
+  @Test
+  void shouldKeepTheIndexConsistentWithTheJournalOnConcurrentSaves() throws Exception {
+    final var transactionId = UUID.randomUUID().toString();
+    final String lastSaved;
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalCheckpointRepository(journal);
+      try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        final var futures =
+            IntStream.range(0, 200)
+                .mapToObj(
+                    i ->
+                        executor.submit(
+                            () ->
+                                repository.save(
+                                    getCheckpoint(
+                                        transactionId, "stage-" + i, Status.IN_PROGRESS))))
+                .toList();
+        for (final var future : futures) {
+          future.get();
+        }
+      }
+      lastSaved = repository.findByTransactionId(transactionId).orElseThrow().stageId();
+    }
+
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalCheckpointRepository(journal);
+      assertThat(repository.findByTransactionId(transactionId))
+          .get()
+          .extracting(Checkpoint::stageId)
+          .isEqualTo(lastSaved);
+    }
+  }
+
+  private JournalConfiguration configuration() {
+    return JournalConfiguration.of(directory.resolve("checkpoints.journal"));
+  }
+
+  private static Checkpoint getCheckpoint(String transactionId, String stageId, Status status) {
+    return Checkpoint.builder()
+        .transactionId(transactionId)
+        .status(status)
+        .flowId("flow-id")
+        .correlationId("correlation-id")
+        .stageId(stageId)
+        .metadata(Map.of())
+        .payload(Map.of("key", "value"))
+        .response(Map.of())
+        .createdAt(Instant.now())
+        .updatedAt(Instant.now())
+        .build();
+  }
+}
@@ -0,0 +1,121 @@
+package co.orquex.sagas.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldReplayAppendedEntriesInOrder() {
+    final var file = directory.resolve("sagas.journal");
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.append(JournalRecordType.TRANSACTION, bytes("first"));
+      journal.append(JournalRecordType.CHECKPOINT, bytes("second"));
+    }
+
+    final var entries = new ArrayList<String>();
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      final var count = journal.replay((type, payload) -> entries.add(type + ":" + text(payload)));
+      assertThat(count).isEqualTo(2);
+    }
+    assertThat(entries).containsExactly("TRANSACTION:first", "CHECKPOINT:second");
+  }
+
+  @Test
+  void shouldGroupConcurrentAppends() throws Exception {
+    final var file = directory.resolve("sagas.journal");
+    try (final var journal = Journal.open(JournalConfiguration.of(file));
+        final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var futures =
+          IntStream.range(0, 500)
+              .mapToObj(
+                  i ->
+                      executor.submit(
+                          () -> journal.append(JournalRecordType.TRANSACTION, bytes("entry-" + i))))
+              .toList();
+      for (final var future : futures) {
+        future.get();
+      }
+    }
+
+    final var entries = Collections.synchronizedList(new ArrayList<String>());
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.replay((type, payload) -> entries.add(text(payload)));
+    }
+    assertThat(entries).hasSize(500).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldTruncateIncompleteEntriesOnRecovery() throws IOException {
+    final var file = directory.resolve("sagas.journal");
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.append(JournalRecordType.TRANSACTION, bytes("committed"));
+    }
+    final var validSize = Files.size(file);
+    // Simulate a crash in the middle of a write
+    Files.write(file, new byte[] {0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+    final List<String> entries = new ArrayList<>();
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      assertThat(Files.size(file)).isEqualTo(validSize);
+      journal.append(JournalRecordType.TRANSACTION, bytes("after-recovery"));
+    }
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.replay((type, payload) -> entries.add(text(payload)));
+    }
+    assertThat(entries).containsExactly("committed", "after-recovery");
+  }
+
+  @Test
+  void shouldStopReplayAtCorruptedEntry() throws IOException {
+    final var file = directory.resolve("sagas.journal");
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.append(JournalRecordType.TRANSACTION, bytes("valid"));
+      journal.append(JournalRecordType.TRANSACTION, bytes("corrupted"));
+    }
+    // Flip the last byte of the second payload
+    final var content = Files.readAllBytes(file);
+    content[content.length - 1] ^= 0x7F;
+    Files.write(file, content);
+
+    final List<String> entries = new ArrayList<>();
+    try (final var journal = Journal.open(JournalConfiguration.of(file))) {
+      journal.replay((type, payload) -> entries.add(text(payload)));
+    }
+    assertThat(entries).containsExactly("valid");
+  }
+
+  @Test
+  void shouldRejectAppendsWhenClosed() {
+    final var journal = Journal.open(JournalConfiguration.of(directory.resolve("sagas.journal")));
+    journal.close();
+
+    final var payload = bytes("late");
+    assertThatThrownBy(() -> journal.append(JournalRecordType.TRANSACTION, payload))
+        .isInstanceOf(JournalException.class)
+        .hasMessageContaining("is closed");
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String text(byte[] payload) {
+    return new String(payload, StandardCharsets.UTF_8);
+  }
+}
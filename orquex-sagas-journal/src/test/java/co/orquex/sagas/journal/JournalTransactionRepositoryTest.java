@@ -0,0 +1,86 @@
+package co.orquex.sagas.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.orquex.sagas.domain.transaction.Status;
+import co.orquex.sagas.domain.transaction.Transaction;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalTransactionRepositoryTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldFindSavedTransactionByIdAndFlowCorrelation() {
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalTransactionRepository(journal);
+      final var transaction = getTransaction("flow-id", "correlation-id");
+
+      repository.save(transaction);
+
+      assertThat(repository.findById(transaction.transactionId())).contains(transaction);
+      assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "correlation-id")).isTrue();
+      assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id"))
+          .contains(transaction);
+      assertThat(repository.existsByFlowIdAndCorrelationId("flow-id", "other")).isFalse();
+    }
+  }
+
+  @Test
+  void shouldRecoverLastVersionOfTransactionsAfterRestart() {
+    final var transaction = getTransaction("flow-id", "correlation-id");
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalTransactionRepository(journal);
+      repository.save(transaction);
+      repository.save(transaction.withStatus(Status.COMPLETED));
+    }
+
+    try (final var journal = Journal.open(configuration())) {
+      final var repository = new JournalTransactionRepository(journal);
+      assertThat(repository.findById(transaction.transactionId()))
+          .get()
+          .extracting(Transaction::status)
+          .isEqualTo(Status.COMPLETED);
+      assertThat(repository.findByFlowIdAndCorrelationId("flow-id", "correlation-id")).isPresent();
+    }
+  }
+
+  @Test
+  void shouldShareJournalWithCheckpointRepository() {
+    final var transaction = getTransaction("flow-id", "correlation-id");
+    try (final var journal = Journal.open(configuration())) {
+      new JournalTransactionRepository(journal).save(transaction);
+      new JournalCheckpointRepository(journal);
+    }
+
+    try (final var journal = Journal.open(configuration())) {
+      final var checkpointRepository = new JournalCheckpointRepository(journal);
+      final var transactionRepository = new JournalTransactionRepository(journal);
+      assertThat(checkpointRepository.findByTransactionId(transaction.transactionId())).isEmpty();
+      assertThat(transactionRepository.findById(transaction.transactionId())).isPresent();
+    }
+  }
+
+  private JournalConfiguration configuration() {
+    return JournalConfiguration.of(directory.resolve("transactions.journal"));
+  }
+
+  private static Transaction getTransaction(String flowId, String correlationId) {
+    final var data = new HashMap<String, String>();
+    data.put("key", "value");
+    return new Transaction(
+        UUID.randomUUID().toString(),
+        flowId,
+        correlationId,
+        data,
+        Status.IN_PROGRESS,
+        Instant.now(),
+        Instant.now(),
+        Instant.now().plusSeconds(60));
+  }
+}
@@ -3,10 +3,14 @@ package co.orquex.sagas.spring.framework.config;
 import co.orquex.sagas.core.event.WorkflowEventPublisher;
 import co.orquex.sagas.core.event.impl.EventMessage;
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
 import co.orquex.sagas.core.stage.DefaultAsyncStageExecutor;
 import co.orquex.sagas.core.stage.strategy.impl.ActivityProcessingStrategy;
 import co.orquex.sagas.core.stage.strategy.impl.EvaluationProcessingStrategy;
+import co.orquex.sagas.core.task.TaskExecutorService;
+import co.orquex.sagas.core.task.TaskResultCache;
+import co.orquex.sagas.core.task.TaskSingleFlight;
 import co.orquex.sagas.domain.api.StageExecutor;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.registry.Registry;
@@ -29,18 +33,24 @@ public class SagasAsyncStageConfiguration {
       WorkflowEventPublisher workflowEventPublisher,
       AsyncCompensationHandler asyncCompensationHandler,
       RetryStateManager retryStateManager,
-      CircuitBreakerStateManager circuitBreakerStateManager) {
+      CircuitBreakerStateManager circuitBreakerStateManager,
+      HedgeStateManager hedgeStateManager,
+      TaskResultCache taskResultCache,
+      TaskSingleFlight taskSingleFlight) {
     // Decorate the strategies' implementations with an event handler
+    final var taskExecutorService =
+        TaskExecutorService.builder()
+            .taskExecutorRegistry(taskExecutorRegistry)
+            .taskRepository(taskRepository)
+            .retryStateManager(retryStateManager)
+            .circuitBreakerStateManager(circuitBreakerStateManager)
+            .hedgeStateManager(hedgeStateManager)
+            .taskResultCache(taskResultCache)
+            .taskSingleFlight(taskSingleFlight)
+            .build();
     final var activityStrategy =
-        new ActivityProcessingStrategy(
-            taskExecutorRegistry,
-            taskRepository,
-            retryStateManager,
-            circuitBreakerStateManager,
-            asyncCompensationHandler);
-    final var evaluationStrategy =
-        new EvaluationProcessingStrategy(
-            taskExecutorRegistry, taskRepository, retryStateManager, circuitBreakerStateManager);
+        new ActivityProcessingStrategy(taskExecutorService, asyncCompensationHandler);
+    final var evaluationStrategy = new EvaluationProcessingStrategy(taskExecutorService);
 
     return new DefaultAsyncStageExecutor(
         activityStrategy, evaluationStrategy, workflowEventPublisher);
@@ -2,16 +2,22 @@ package co.orquex.sagas.spring.framework.config;
 
 import co.orquex.sagas.core.event.EventListener;
 import co.orquex.sagas.core.event.manager.EventManagerFactory;
+import co.orquex.sagas.core.flow.FlowWarmUp;
 import co.orquex.sagas.domain.stage.StageRequest;
 import co.orquex.sagas.domain.transaction.Checkpoint;
 import co.orquex.sagas.domain.transaction.Compensation;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.lang.NonNull;
 
-/** Loads the listeners after the context has been loaded. */
+/**
+ * Loads the listeners after the context has been loaded, then warms up the flows when a {@link
+ * FlowWarmUp} is configured. The warm-up runs before the refresh completes, so the application is
+ * not reported ready until it is done.
+ */
 @RequiredArgsConstructor
 public class SagasContextRefreshedListener implements ApplicationListener<ContextRefreshedEvent> {
 
@@ -19,6 +25,7 @@ public class SagasContextRefreshedListener implements ApplicationListener<Contex
   private final List<EventListener<Checkpoint>> checkpointEventListeners;
   private final List<EventListener<StageRequest>> stageRequestEventListeners;
   private final List<EventListener<Compensation>> compensationEventListeners;
+  private final ObjectProvider<FlowWarmUp> flowWarmUp;
 
   @Override
   public void onApplicationEvent(@NonNull ContextRefreshedEvent event) {
@@ -42,5 +49,13 @@ public class SagasContextRefreshedListener implements ApplicationListener<Contex
             eventManagerFactory
                 .getEventManager(Compensation.class)
                 .addListener(compensationEventListener));
+
+    // Warming up the flows once, a refresh of a child context does not repeat it
+    flowWarmUp.ifAvailable(
+        warmUp -> {
+          if (!warmUp.isReady()) {
+            warmUp.run();
+          }
+        });
   }
 }
@@ -1,22 +1,55 @@
 package co.orquex.sagas.spring.framework.config;
 
 import co.orquex.sagas.core.context.DefaultGlobalContext;
+import co.orquex.sagas.core.context.ExpiringGlobalContext;
+import co.orquex.sagas.core.context.ExpiringGlobalContextConfiguration;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.domain.api.context.TransactionContext;
+import co.orquex.sagas.domain.api.repository.TransactionRepository;
+import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 
 import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnMissingBean;
+import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-/** Configure the {@link DefaultGlobalContext} implementation as a bean. */
+/**
+ * Configure the {@link DefaultGlobalContext} implementation as a bean, or the {@link
+ * ExpiringGlobalContext} when {@code orquex.sagas.spring.global-context.expiring.enabled} is true.
+ */
 @Configuration
 public class SagasGlobalContextConfiguration {
 
+  private static final String EXPIRING_PREFIX = "orquex.sagas.spring.global-context.expiring.";
+
   @ConditionalOnMissingBean(name = { "globalContext" })
+  @ConditionalOnProperty(
+      name = "orquex.sagas.spring.global-context.expiring.enabled",
+      havingValue = "false",
+      matchIfMissing = true)
   @Bean
   public GlobalContext globalContext() {
     final var globalContextMap = new ConcurrentHashMap<String, TransactionContext>();
     return new DefaultGlobalContext(globalContextMap);
   }
+
+  @ConditionalOnMissingBean(name = { "globalContext" })
+  @ConditionalOnProperty(
+      name = "orquex.sagas.spring.global-context.expiring.enabled",
+      havingValue = "true")
+  @Bean(name = "globalContext", initMethod = "start", destroyMethod = "close")
+  public ExpiringGlobalContext expiringGlobalContext(
+      final TransactionRepository transactionRepository, final Environment environment) {
+    final var configuration =
+        new ExpiringGlobalContextConfiguration(
+            environment.getProperty(EXPIRING_PREFIX + "max-entries", Integer.class, 100_000),
+            Duration.ofMillis(
+                environment.getProperty(EXPIRING_PREFIX + "default-ttl-ms", Long.class, 3_600_000L)),
+            Duration.ofMillis(environment.getProperty(EXPIRING_PREFIX + "grace-ms", Long.class, 300_000L)),
+            Duration.ofMillis(
+                environment.getProperty(EXPIRING_PREFIX + "expiry-interval-ms", Long.class, 30_000L)));
+    return new ExpiringGlobalContext(transactionRepository, configuration);
+  }
 }
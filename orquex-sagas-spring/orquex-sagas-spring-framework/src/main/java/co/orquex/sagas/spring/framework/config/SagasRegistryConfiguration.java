@@ -1,21 +1,34 @@
 package co.orquex.sagas.spring.framework.config;
 
+import co.orquex.sagas.core.claimcheck.ClaimCheckOffloader;
+import co.orquex.sagas.core.claimcheck.ClaimCheckTaskExecutor;
+import co.orquex.sagas.core.claimcheck.FileSystemBlobStore;
 import co.orquex.sagas.core.stage.InMemoryStageExecutorRegistry;
 import co.orquex.sagas.core.task.DefaultTaskExecutor;
 import co.orquex.sagas.core.task.InMemoryTaskExecutorRegistry;
 import co.orquex.sagas.core.task.InMemoryTaskImplementationRegistry;
+import co.orquex.sagas.domain.api.BlobStore;
 import co.orquex.sagas.domain.api.StageExecutor;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.registry.Registry;
 import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnMissingBean;
+import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnProperty;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 @Configuration
 public class SagasRegistryConfiguration {
 
+  private static final String CLAIM_CHECK_PREFIX = "orquex.sagas.spring.claim-check.";
+  private static final long DEFAULT_CLAIM_CHECK_THRESHOLD = 256 * 1024L;
+  private static final long DEFAULT_CLAIM_CHECK_RETENTION_MS = 7 * 24 * 60 * 60 * 1000L;
+
   @Bean
   @ConditionalOnMissingBean(
       name = {"defaultTaskImplementationRegistry", "taskImplementationRegistry"})
@@ -27,10 +40,35 @@ public class SagasRegistryConfiguration {
   @Bean
   @ConditionalOnMissingBean(name = {"defaultTaskExecutorRegistry", "taskExecutorRegistry"})
   public Registry<TaskExecutor> defaultTaskExecutorRegistry(
-      Registry<TaskImplementation> taskImplementationRegistry) {
-    final var taskExecutorList =
-        List.<TaskExecutor>of(new DefaultTaskExecutor(taskImplementationRegistry));
-    return InMemoryTaskExecutorRegistry.of(taskExecutorList);
+      Registry<TaskImplementation> taskImplementationRegistry,
+      ObjectProvider<BlobStore> blobStore,
+      Environment environment) {
+    TaskExecutor taskExecutor = new DefaultTaskExecutor(taskImplementationRegistry);
+    final var claimCheckEnabled =
+        environment.getProperty(CLAIM_CHECK_PREFIX + "enabled", Boolean.class, false);
+    if (claimCheckEnabled && blobStore.getIfAvailable() != null) {
+      final var threshold =
+          environment.getProperty(
+              CLAIM_CHECK_PREFIX + "threshold-bytes", Long.class, DEFAULT_CLAIM_CHECK_THRESHOLD);
+      taskExecutor =
+          new ClaimCheckTaskExecutor(
+              taskExecutor, new ClaimCheckOffloader(blobStore.getObject(), threshold));
+    }
+    return InMemoryTaskExecutorRegistry.of(List.of(taskExecutor));
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "close")
+  @ConditionalOnProperty(name = "orquex.sagas.spring.claim-check.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(name = {"blobStore"})
+  public FileSystemBlobStore blobStore(Environment environment) {
+    final var directory =
+        environment.getProperty(
+            CLAIM_CHECK_PREFIX + "directory",
+            Path.of(System.getProperty("java.io.tmpdir"), "orquex-sagas-blobs").toString());
+    final var retention =
+        environment.getProperty(
+            CLAIM_CHECK_PREFIX + "retention-ms", Long.class, DEFAULT_CLAIM_CHECK_RETENTION_MS);
+    return new FileSystemBlobStore(Path.of(directory), Duration.ofMillis(retention));
   }
 
   @Bean
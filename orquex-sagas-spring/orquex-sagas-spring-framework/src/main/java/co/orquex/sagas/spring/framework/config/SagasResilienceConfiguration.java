@@ -1,15 +1,19 @@
 package co.orquex.sagas.spring.framework.config;
 
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
 import co.orquex.sagas.core.resilience.impl.InMemoryCircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.impl.InMemoryHedgeStateManager;
 import co.orquex.sagas.core.resilience.impl.InMemoryRetryStateManager;
+import co.orquex.sagas.core.task.TaskResultCache;
+import co.orquex.sagas.core.task.TaskSingleFlight;
 import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnMissingBean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-/** Default resilience state managers for sagas. */
+/** Default resilience state managers, task result cache and task single-flight for sagas. */
 @Slf4j
 @Configuration
 public class SagasResilienceConfiguration {
@@ -28,4 +32,25 @@ public class SagasResilienceConfiguration {
   CircuitBreakerStateManager defaultCircuitBreakerStateManager() {
     return new InMemoryCircuitBreakerStateManager();
   }
+
+  /** Default hedge state manager. */
+  @Bean
+  @ConditionalOnMissingBean(name = {"defaultHedgeStateManager", "hedgeStateManager"})
+  HedgeStateManager defaultHedgeStateManager() {
+    return new InMemoryHedgeStateManager();
+  }
+
+  /** Default cache for the memoized results of deterministic tasks. */
+  @Bean
+  @ConditionalOnMissingBean(name = {"defaultTaskResultCache", "taskResultCache"})
+  TaskResultCache defaultTaskResultCache() {
+    return new TaskResultCache();
+  }
+
+  /** Default coalescer of the concurrent executions of idempotent tasks. */
+  @Bean
+  @ConditionalOnMissingBean(name = {"defaultTaskSingleFlight", "taskSingleFlight"})
+  TaskSingleFlight defaultTaskSingleFlight() {
+    return new TaskSingleFlight();
+  }
 }
@@ -1,10 +1,14 @@
 package co.orquex.sagas.spring.framework.config;
 
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
 import co.orquex.sagas.core.stage.DefaultStageExecutor;
 import co.orquex.sagas.core.stage.strategy.impl.ActivityProcessingStrategy;
 import co.orquex.sagas.core.stage.strategy.impl.EvaluationProcessingStrategy;
+import co.orquex.sagas.core.task.TaskExecutorService;
+import co.orquex.sagas.core.task.TaskResultCache;
+import co.orquex.sagas.core.task.TaskSingleFlight;
 import co.orquex.sagas.domain.api.StageExecutor;
 import co.orquex.sagas.domain.api.TaskExecutor;
 import co.orquex.sagas.domain.api.registry.Registry;
@@ -29,17 +33,23 @@ public class SagasStageConfiguration {
       TaskRepository taskRepository,
       CompensationHandler compensationHandler,
       RetryStateManager retryStateManager,
-      CircuitBreakerStateManager circuitBreakerStateManager) {
+      CircuitBreakerStateManager circuitBreakerStateManager,
+      HedgeStateManager hedgeStateManager,
+      TaskResultCache taskResultCache,
+      TaskSingleFlight taskSingleFlight) {
+    final var taskExecutorService =
+        TaskExecutorService.builder()
+            .taskExecutorRegistry(taskExecutorRegistry)
+            .taskRepository(taskRepository)
+            .retryStateManager(retryStateManager)
+            .circuitBreakerStateManager(circuitBreakerStateManager)
+            .hedgeStateManager(hedgeStateManager)
+            .taskResultCache(taskResultCache)
+            .taskSingleFlight(taskSingleFlight)
+            .build();
     final var activityStrategy =
-        new ActivityProcessingStrategy(
-            taskExecutorRegistry,
-            taskRepository,
-            retryStateManager,
-            circuitBreakerStateManager,
-            compensationHandler);
-    final var evaluationStrategy =
-        new EvaluationProcessingStrategy(
-            taskExecutorRegistry, taskRepository, retryStateManager, circuitBreakerStateManager);
+        new ActivityProcessingStrategy(taskExecutorService, compensationHandler);
+    final var evaluationStrategy = new EvaluationProcessingStrategy(taskExecutorService);
 
     return new DefaultStageExecutor(activityStrategy, evaluationStrategy);
   }
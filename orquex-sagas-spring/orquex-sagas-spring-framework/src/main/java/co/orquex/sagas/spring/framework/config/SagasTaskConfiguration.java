@@ -4,9 +4,11 @@ import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.task.groovy.GroovyActivity;
 import co.orquex.sagas.task.groovy.GroovyEvaluation;
+import co.orquex.sagas.task.groovy.GroovyScriptCache;
 import co.orquex.sagas.task.http.api.HttpClientProvider;
 import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
 import co.orquex.sagas.task.jsonata.JSONata4JActivity;
+import co.orquex.sagas.task.jsonata.JSONataExpressionCache;
 import co.orquex.sagas.task.okhttp.OkHttpDeleteActivity;
 import co.orquex.sagas.task.okhttp.OkHttpGetActivity;
 import co.orquex.sagas.task.okhttp.OkHttpInMemoryClientProviderRegistry;
@@ -17,19 +19,31 @@ import java.util.List;
 import okhttp3.OkHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /** Configure default tasks implementations. */
 @Configuration
 public class SagasTaskConfiguration {
 
   @Bean
-  public TaskImplementation groovyActivity(GlobalContext globalContext) {
-    return new GroovyActivity(globalContext);
+  public GroovyScriptCache groovyScriptCache(Environment environment) {
+    return new GroovyScriptCache(
+        environment.getProperty(
+            "orquex.sagas.spring.groovy.script-cache.max-size",
+            Integer.class,
+            GroovyScriptCache.DEFAULT_MAX_SIZE));
   }
 
   @Bean
-  public TaskImplementation groovyEvaluation(GlobalContext globalContext) {
-    return new GroovyEvaluation(globalContext);
+  public TaskImplementation groovyActivity(
+      GlobalContext globalContext, GroovyScriptCache groovyScriptCache) {
+    return new GroovyActivity(globalContext, groovyScriptCache);
+  }
+
+  @Bean
+  public TaskImplementation groovyEvaluation(
+      GlobalContext globalContext, GroovyScriptCache groovyScriptCache) {
+    return new GroovyEvaluation(globalContext, groovyScriptCache);
   }
 
   @Bean
@@ -62,9 +76,20 @@ public class SagasTaskConfiguration {
     return OkHttpInMemoryClientProviderRegistry.of(okHttpClientProviders);
   }
 
+  @Bean
+  public JSONataExpressionCache jsonataExpressionCache(Environment environment) {
+    return new JSONataExpressionCache(
+        environment.getProperty(
+            "orquex.sagas.spring.jsonata.expression-cache.max-size",
+            Integer.class,
+            JSONataExpressionCache.DEFAULT_MAX_SIZE));
+  }
+
   @Bean
   public TaskImplementation jSONata4JActivity(
-      GlobalContext globalContext, ObjectMapper objectMapper) {
-    return new JSONata4JActivity(globalContext, objectMapper);
+      GlobalContext globalContext,
+      ObjectMapper objectMapper,
+      JSONataExpressionCache jsonataExpressionCache) {
+    return new JSONata4JActivity(globalContext, objectMapper, jsonataExpressionCache);
   }
 }
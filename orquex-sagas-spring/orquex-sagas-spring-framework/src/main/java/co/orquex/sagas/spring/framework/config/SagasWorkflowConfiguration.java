@@ -1,10 +1,20 @@
 package co.orquex.sagas.spring.framework.config;
 
+import co.orquex.sagas.core.compensation.CompensationReDriver;
+import co.orquex.sagas.core.compensation.CompensationReDriverConfiguration;
 import co.orquex.sagas.core.compensation.DefaultCompensationExecutor;
+import co.orquex.sagas.core.compensation.ParallelCompensationExecutor;
+import co.orquex.sagas.core.flow.FlowWarmUp;
+import co.orquex.sagas.core.flow.FlowWarmUpConfiguration;
 import co.orquex.sagas.core.flow.WorkflowExecutor;
+import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
+import co.orquex.sagas.core.resilience.RetryStateManager;
+import co.orquex.sagas.core.task.TaskExecutorService;
 import co.orquex.sagas.domain.api.CompensationExecutor;
 import co.orquex.sagas.domain.api.StageExecutor;
 import co.orquex.sagas.domain.api.TaskExecutor;
+import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.domain.api.registry.Registry;
 import co.orquex.sagas.domain.api.repository.CompensationRepository;
@@ -12,15 +22,20 @@ import co.orquex.sagas.domain.api.repository.FlowRepository;
 import co.orquex.sagas.domain.api.repository.TaskRepository;
 import co.orquex.sagas.domain.api.repository.TransactionRepository;
 import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnMissingBean;
+import co.orquex.sagas.spring.framework.config.annotation.ConditionalOnProperty;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.*;
+import org.springframework.core.env.Environment;
 
 /** Configure the required {@link WorkflowExecutor} beans. */
 @Configuration
 public class SagasWorkflowConfiguration {
 
+  private static final int DEFAULT_COMPENSATION_MAX_CONCURRENCY = 10;
+
   @Bean
   @ConditionalOnMissingBean(name = {"workflowExecutor"})
   public WorkflowExecutor workflowExecutor(
@@ -40,13 +55,107 @@ public class SagasWorkflowConfiguration {
   }
 
   @Bean
-  public CompensationExecutor defaultCompensationExecutor(
+  @ConditionalOnProperty(
+      name = "orquex.sagas.spring.compensation.mode",
+      havingValue = "sequential",
+      matchIfMissing = true)
+  public DefaultCompensationExecutor defaultCompensationExecutor(
       final Registry<TaskExecutor> taskExecutorRegistry,
       final TaskRepository taskRepository,
       final CompensationRepository compensationRepository,
-      final GlobalContext globalContext) {
+      final GlobalContext globalContext,
+      final RetryStateManager retryStateManager,
+      final CircuitBreakerStateManager circuitBreakerStateManager,
+      final HedgeStateManager hedgeStateManager) {
+    final var taskExecutorService =
+        compensationTaskExecutorService(
+            taskExecutorRegistry,
+            taskRepository,
+            retryStateManager,
+            circuitBreakerStateManager,
+            hedgeStateManager);
     return new DefaultCompensationExecutor(
-        taskExecutorRegistry, taskRepository, compensationRepository, globalContext);
+        taskExecutorService, compensationRepository, globalContext);
+  }
+
+  @Bean("defaultCompensationExecutor")
+  @ConditionalOnProperty(name = "orquex.sagas.spring.compensation.mode", havingValue = "parallel")
+  public DefaultCompensationExecutor parallelCompensationExecutor(
+      final Registry<TaskExecutor> taskExecutorRegistry,
+      final TaskRepository taskRepository,
+      final CompensationRepository compensationRepository,
+      final GlobalContext globalContext,
+      final RetryStateManager retryStateManager,
+      final CircuitBreakerStateManager circuitBreakerStateManager,
+      final HedgeStateManager hedgeStateManager,
+      final Environment environment) {
+    final var maxConcurrency =
+        environment.getProperty(
+            "orquex.sagas.spring.compensation.max-concurrency",
+            Integer.class,
+            DEFAULT_COMPENSATION_MAX_CONCURRENCY);
+    final var taskExecutorService =
+        compensationTaskExecutorService(
+            taskExecutorRegistry,
+            taskRepository,
+            retryStateManager,
+            circuitBreakerStateManager,
+            hedgeStateManager);
+    return new ParallelCompensationExecutor(
+        taskExecutorService, compensationRepository, globalContext, maxConcurrency);
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "close")
+  @ConditionalOnProperty(
+      name = "orquex.sagas.spring.compensation.re-drive.enabled",
+      havingValue = "true")
+  @ConditionalOnMissingBean(name = {"compensationReDriver"})
+  public CompensationReDriver compensationReDriver(
+      final DefaultCompensationExecutor defaultCompensationExecutor,
+      final CompensationRepository compensationRepository,
+      final Environment environment) {
+    final var prefix = "orquex.sagas.spring.compensation.re-drive.";
+    final var configuration =
+        new CompensationReDriverConfiguration(
+            Duration.ofMillis(environment.getProperty(prefix + "interval-ms", Long.class, 30_000L)),
+            Duration.ofMillis(
+                environment.getProperty(prefix + "stall-timeout-ms", Long.class, 300_000L)),
+            environment.getProperty(prefix + "max-attempts", Integer.class, 5),
+            Duration.ofMillis(
+                environment.getProperty(prefix + "initial-backoff-ms", Long.class, 1_000L)),
+            Duration.ofMillis(
+                environment.getProperty(prefix + "max-backoff-ms", Long.class, 300_000L)));
+    return new CompensationReDriver(
+        defaultCompensationExecutor, compensationRepository, configuration);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "orquex.sagas.spring.warm-up.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(name = {"flowWarmUp"})
+  public FlowWarmUp flowWarmUp(
+      final FlowRepository flowRepository,
+      final Registry<TaskExecutor> taskExecutorRegistry,
+      final TaskRepository taskRepository,
+      final Registry<TaskImplementation> taskImplementationRegistry,
+      final GlobalContext globalContext,
+      final Environment environment) {
+    final var prefix = "orquex.sagas.spring.warm-up.";
+    final var configuration =
+        new FlowWarmUpConfiguration(
+            environment.getProperty(prefix + "dry-run-iterations", Integer.class, 0),
+            environment.getProperty(prefix + "fail-on-error", Boolean.class, false));
+    // Synthetic executions must not go through the resilience patterns nor be memoized
+    final var taskExecutorService =
+        TaskExecutorService.builder()
+            .taskExecutorRegistry(taskExecutorRegistry)
+            .taskRepository(taskRepository)
+            .build();
+    return new FlowWarmUp(
+        flowRepository,
+        taskExecutorService,
+        taskImplementationRegistry,
+        globalContext,
+        configuration);
   }
 
   @Bean
@@ -55,4 +164,23 @@ public class SagasWorkflowConfiguration {
     final var threadFactory = Thread.ofPlatform().name("workflow-executor-", 0).factory();
     return Executors.newFixedThreadPool(10, threadFactory);
   }
+
+  /**
+   * Compensation tasks are executed with the task resilience configuration, but never memoized nor
+   * coalesced since rolling back must always reach the target service.
+   */
+  private static TaskExecutorService compensationTaskExecutorService(
+      final Registry<TaskExecutor> taskExecutorRegistry,
+      final TaskRepository taskRepository,
+      final RetryStateManager retryStateManager,
+      final CircuitBreakerStateManager circuitBreakerStateManager,
+      final HedgeStateManager hedgeStateManager) {
+    return TaskExecutorService.builder()
+        .taskExecutorRegistry(taskExecutorRegistry)
+        .taskRepository(taskRepository)
+        .retryStateManager(retryStateManager)
+        .circuitBreakerStateManager(circuitBreakerStateManager)
+        .hedgeStateManager(hedgeStateManager)
+        .build();
+  }
 }
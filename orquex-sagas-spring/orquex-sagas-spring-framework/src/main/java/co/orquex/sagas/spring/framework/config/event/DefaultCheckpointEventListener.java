@@ -20,7 +20,7 @@ public class DefaultCheckpointEventListener implements EventListener<Checkpoint>
         "Received checkpoint for '{}' and correlation ID '{}' at stage '{}' with status '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName(),
+        checkpoint.stageId(),
         checkpoint.status());
     handler.handle(checkpoint);
   }
@@ -32,7 +32,7 @@ public class DefaultCheckpointEventListener implements EventListener<Checkpoint>
         "Error received for '{}' with correlation ID '{}' at stage '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName());
+        checkpoint.stageId());
     handler.handle(checkpoint);
   }
 }
@@ -36,7 +36,7 @@ public class DefaultCheckpointEventListenerHandler implements CheckpointEventLis
         "Listener Handler received checkpoint for '{}' and correlation ID '{}' at stage '{}' with status '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName(),
+        checkpoint.stageId(),
         checkpoint.status());
     switch (checkpoint.status()) {
       case COMPLETED -> handleCheckpointCompleted(checkpoint);
@@ -77,7 +77,7 @@ public class DefaultCheckpointEventListenerHandler implements CheckpointEventLis
           "Flow '{}' with correlation ID '{}' has been completed with error at stage '{}'",
           checkpoint.flowId(),
           checkpoint.correlationId(),
-          checkpoint.incoming().getName());
+          checkpoint.stageId());
       compensationExecutor.execute(checkpoint.transactionId());
     } else {
       /* If it is not all or nothing and there is outgoing, then it will be executed by the next stage */
@@ -93,7 +93,7 @@ public class DefaultCheckpointEventListenerHandler implements CheckpointEventLis
         "Flow '{}' with correlation ID '{}' has been cancelled by stage '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName());
+        checkpoint.stageId());
     compensationExecutor.execute(checkpoint.transactionId());
   }
 
@@ -105,7 +105,7 @@ public class DefaultCheckpointEventListenerHandler implements CheckpointEventLis
     return "Handling checkpoint '%s' for '%s' in '%s' with correlation ID '%s'"
         .formatted(
             checkpoint.status().name(),
-            checkpoint.incoming().getName(),
+            checkpoint.stageId(),
             checkpoint.flowId(),
             checkpoint.correlationId());
   }
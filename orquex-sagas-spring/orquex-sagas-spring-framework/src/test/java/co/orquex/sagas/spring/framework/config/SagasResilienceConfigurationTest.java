@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import co.orquex.sagas.core.resilience.CircuitBreakerState;
 import co.orquex.sagas.core.resilience.CircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.HedgeStateManager;
 import co.orquex.sagas.core.resilience.RetryStateManager;
 import co.orquex.sagas.core.resilience.impl.InMemoryCircuitBreakerStateManager;
+import co.orquex.sagas.core.resilience.impl.InMemoryHedgeStateManager;
 import co.orquex.sagas.core.resilience.impl.InMemoryRetryStateManager;
 import java.time.Instant;
 import java.util.HashMap;
@@ -33,6 +35,8 @@ class SagasResilienceConfigurationTest {
 
     @Autowired private CircuitBreakerStateManager circuitBreakerStateManager;
 
+    @Autowired private HedgeStateManager hedgeStateManager;
+
     @Test
     @DisplayName("Should load default retry state manager when none exists")
     void shouldLoadDefaultRetryStateManager() {
@@ -46,6 +50,12 @@ class SagasResilienceConfigurationTest {
           .isNotNull()
           .isInstanceOf(InMemoryCircuitBreakerStateManager.class);
     }
+
+    @Test
+    @DisplayName("Should load default hedge state manager when none exists")
+    void shouldLoadDefaultHedgeStateManager() {
+      assertThat(hedgeStateManager).isNotNull().isInstanceOf(InMemoryHedgeStateManager.class);
+    }
   }
 
   @Nested
@@ -2,6 +2,7 @@ package co.orquex.sagas.spring.framework.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import co.orquex.sagas.core.compensation.DefaultCompensationExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,5 +32,7 @@ class SagasWorkflowConfigurationTest {
     assertThat(applicationContext.getBean("flowRepository")).isNotNull();
     assertThat(applicationContext.getBean("transactionRepository")).isNotNull();
     assertThat(applicationContext.getBean("workflowExecutorService")).isNotNull();
+    assertThat(applicationContext.getBean("defaultCompensationExecutor"))
+        .isExactlyInstanceOf(DefaultCompensationExecutor.class);
   }
 }
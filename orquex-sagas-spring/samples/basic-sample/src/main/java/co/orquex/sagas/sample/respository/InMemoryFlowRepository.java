@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -55,4 +56,9 @@ public class InMemoryFlowRepository implements FlowRepository {
   public Optional<Flow> findById(String id) {
     return Optional.ofNullable(flows.get(id));
   }
+
+  @Override
+  public List<Flow> findAll() {
+    return List.copyOf(flows.values());
+  }
 }
@@ -30,7 +30,7 @@ public class CheckpointKafkaListener {
         "Received checkpoint for '{}' with correlation ID '{}' in stage '{}' and status '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName(),
+        checkpoint.stageId(),
         checkpoint.status());
     eventPublisher.publishEvent(new CheckpointEventMessage(eventMessage));
   }
@@ -22,7 +22,7 @@ public class CheckpointListener implements EventListener<Checkpoint> {
         "Received checkpoint for '{}' with correlation ID '{}' in stage '{}' and status '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName(),
+        checkpoint.stageId(),
         checkpoint.status());
     eventPublisher.publishEvent(new CheckpointEventMessage(eventMessage));
   }
@@ -34,7 +34,7 @@ public class CheckpointListener implements EventListener<Checkpoint> {
         "Error received for '{}' with correlation ID '{}' in stage '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName());
+        checkpoint.stageId());
     eventPublisher.publishEvent(new CheckpointEventMessage(eventMessage));
   }
 }
@@ -2,10 +2,11 @@ package co.orquex.sagas.sample.cs.api.respository;
 
 import co.orquex.sagas.domain.api.repository.CompensationRepository;
 import co.orquex.sagas.domain.transaction.Compensation;
-import java.util.ArrayList;
+import co.orquex.sagas.domain.transaction.Status;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,11 +19,30 @@ public class InMemoryCompensationRepository implements CompensationRepository {
     return compensations.getOrDefault(transactionId, List.of());
   }
 
+  @Override
+  public List<Compensation> findByStatus(Status status) {
+    return compensations.values().stream()
+        .flatMap(List::stream)
+        .filter(compensation -> compensation.status() == status)
+        .toList();
+  }
+
   @Override
   public Compensation save(Compensation compensation) {
-    compensations
-        .computeIfAbsent(compensation.transactionId(), k -> new ArrayList<>())
-        .add(compensation);
+    compensations.compute(
+        compensation.transactionId(),
+        (transactionId, stack) -> {
+          final var updated = stack == null ? new CopyOnWriteArrayList<Compensation>() : stack;
+          // Update the compensation in place if it is already registered
+          for (var i = 0; i < updated.size(); i++) {
+            if (updated.get(i).id().equals(compensation.id())) {
+              updated.set(i, compensation);
+              return updated;
+            }
+          }
+          updated.add(compensation);
+          return updated;
+        });
     return compensation;
   }
 
@@ -4,6 +4,7 @@ import co.orquex.sagas.domain.flow.Flow;
 import co.orquex.sagas.domain.api.repository.FlowRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -26,4 +27,9 @@ public class InMemoryFlowRepository implements FlowRepository {
   public Optional<Flow> findById(String id) {
     return Optional.ofNullable(flows.get(id));
   }
+
+  @Override
+  public List<Flow> findAll() {
+    return List.copyOf(flows.values());
+  }
 }
@@ -24,7 +24,7 @@ public class CheckpointListener implements EventListener<Checkpoint> {
         "Received checkpoint for '{}' with correlation ID '{}' in stage '{}' and status '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName(),
+        checkpoint.stageId(),
         checkpoint.status());
     kafkaTemplate.send(CHECKPOINT_TOPIC, message);
   }
@@ -36,7 +36,7 @@ public class CheckpointListener implements EventListener<Checkpoint> {
         "Error received for '{}' with correlation ID '{}' in stage '{}'",
         checkpoint.flowId(),
         checkpoint.correlationId(),
-        checkpoint.incoming().getName());
+        checkpoint.stageId());
     kafkaTemplate.send(ERROR_TOPIC, message);
   }
 }
@@ -6,6 +6,7 @@ import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.domain.utils.Maps;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -13,35 +14,46 @@ import java.util.HashMap;
 import java.util.Map;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 
-/** This Groovy implementation class execute scripts. */
+/**
+ * This Groovy implementation class execute scripts, compiled once and cached with the {@link
+ * GroovyScriptLimits} of the task parameters.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class GroovyActivity implements TaskImplementation {
 
-  private final GroovyScriptEngineImpl groovyScriptEngine = new GroovyScriptEngineImpl();
   public static final String SCRIPT = "__script";
 
   private final GlobalContext globalContext;
+  private final GroovyScriptCache scriptCache;
+
+  public GroovyActivity(GlobalContext globalContext) {
+    this(globalContext, new GroovyScriptCache());
+  }
+
+  public GroovyActivity(GlobalContext globalContext, GroovyScriptCache scriptCache) {
+    this.globalContext = globalContext;
+    this.scriptCache = scriptCache;
+  }
 
   @Override
   public Map<String, Serializable> execute(TaskRequest taskRequest) {
 
+    final var limits = GroovyScriptLimits.of(taskRequest.parameters());
     try {
       final var transactionContext = this.globalContext.get(taskRequest.transactionId());
       final var metadata = taskRequest.metadata();
-      final var payload = taskRequest.payload();
+      // The payload can be shared or immutable, the script writes to a copy-on-write view of it
+      final var payload = Maps.copyOnWrite(taskRequest.payload());
 
       if (!metadata.containsKey(SCRIPT)) {
         throw new WorkflowException("script not found");
       }
 
       final var response = new HashMap<String, Serializable>();
-      final var decode = Base64.getDecoder().decode(metadata.get(SCRIPT).toString());
-      final var script = new String(decode, StandardCharsets.UTF_8);
+      final var script =
+          scriptCache.get(metadata.get(SCRIPT).toString(), GroovyActivity::decode, limits);
       final var context =
           new SimpleBindings(
               Map.of(
@@ -49,18 +61,54 @@ public class GroovyActivity implements TaskImplementation {
                   PAYLOAD, payload,
                   CONTEXT, transactionContext,
                   RESPONSE, response));
-      groovyScriptEngine.eval(script, context);
+      try {
+        script.eval(context);
+      } finally {
+        GroovyScriptGuard.reset();
+      }
       return response;
     } catch (IllegalArgumentException e) {
       log.error(e.getMessage());
       throw new WorkflowException("Base64 script is invalid");
     } catch (ScriptException e) {
       final var rootCause = getRootCause(e);
+      scriptCache.recordFailure(rootCause);
       log.error(rootCause.getMessage());
       throw new WorkflowException(rootCause.getMessage());
     }
   }
 
+  /**
+   * Compiles the Base64 script and caches it.
+   *
+   * @param script the Base64 script, as found in the task metadata
+   * @throws WorkflowException if the script is not valid Base64 or cannot be compiled
+   */
+  public void precompile(String script) {
+    precompile(script, GroovyScriptLimits.DEFAULT);
+  }
+
+  @Override
+  public void precompile(TaskRequest request) {
+    if (request.metadata().get(SCRIPT) instanceof String script) {
+      precompile(script, GroovyScriptLimits.of(request.parameters()));
+    }
+  }
+
+  private void precompile(String script, GroovyScriptLimits limits) {
+    try {
+      scriptCache.precompile(script, GroovyActivity::decode, limits);
+    } catch (IllegalArgumentException e) {
+      throw new WorkflowException("Base64 script is invalid");
+    } catch (ScriptException e) {
+      throw new WorkflowException(getRootCause(e).getMessage());
+    }
+  }
+
+  private static String decode(String script) {
+    return new String(Base64.getDecoder().decode(script), StandardCharsets.UTF_8);
+  }
+
   public static Throwable getRootCause(Throwable throwable) {
     Throwable rootCause = throwable;
     while (rootCause.getCause() != null) {
@@ -6,32 +6,45 @@ import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.domain.exception.WorkflowException;
 import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.domain.utils.Maps;
 import java.io.Serializable;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 
-/** This Groovy implementation class, evaluates a boolean expression. */
+/**
+ * This Groovy implementation class, evaluates a boolean expression compiled once and cached with
+ * the {@link GroovyScriptLimits} of the task parameters.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public final class GroovyEvaluation implements TaskImplementation {
 
-  private final GroovyScriptEngineImpl groovyScriptEngine = new GroovyScriptEngineImpl();
   public static final String EXPRESSION = "__expression";
   public static final String RESULT = "__result";
 
   private final GlobalContext globalContext;
+  private final GroovyScriptCache scriptCache;
+
+  public GroovyEvaluation(GlobalContext globalContext) {
+    this(globalContext, new GroovyScriptCache());
+  }
+
+  public GroovyEvaluation(GlobalContext globalContext, GroovyScriptCache scriptCache) {
+    this.globalContext = globalContext;
+    this.scriptCache = scriptCache;
+  }
 
   @Override
   public Map<String, Serializable> execute(TaskRequest taskRequest) {
 
+    final var limits = GroovyScriptLimits.of(taskRequest.parameters());
     try {
       final var transactionContext = this.globalContext.get(taskRequest.transactionId());
       final var metadata = taskRequest.metadata();
-      final var payload = taskRequest.payload();
+      // The payload can be shared or immutable, the script writes to a copy-on-write view of it
+      final var payload = Maps.copyOnWrite(taskRequest.payload());
 
       if (!metadata.containsKey(EXPRESSION)) throw new WorkflowException("expression not found");
 
@@ -39,15 +52,47 @@ public final class GroovyEvaluation implements TaskImplementation {
       final var context =
           new SimpleBindings(
               Map.of(METADATA, metadata, PAYLOAD, payload, CONTEXT, transactionContext));
-      if (groovyScriptEngine.eval(expression, context) instanceof Boolean result)
-        return Map.of(RESULT, result);
+      final var script = scriptCache.get(expression, UnaryOperator.identity(), limits);
+      final Object evaluated;
+      try {
+        evaluated = script.eval(context);
+      } finally {
+        GroovyScriptGuard.reset();
+      }
+      if (evaluated instanceof Boolean result) return Map.of(RESULT, result);
       throw new WorkflowException("expression is not boolean");
     } catch (ScriptException e) {
+      scriptCache.recordFailure(GroovyActivity.getRootCause(e));
       log.error(e.getMessage());
       throw new WorkflowException(e.getMessage());
     }
   }
 
+  /**
+   * Compiles the expression and caches it.
+   *
+   * @param expression the expression, as found in the task metadata
+   * @throws WorkflowException if the expression cannot be compiled
+   */
+  public void precompile(String expression) {
+    precompile(expression, GroovyScriptLimits.DEFAULT);
+  }
+
+  @Override
+  public void precompile(TaskRequest request) {
+    if (request.metadata().get(EXPRESSION) instanceof String expression) {
+      precompile(expression, GroovyScriptLimits.of(request.parameters()));
+    }
+  }
+
+  private void precompile(String expression, GroovyScriptLimits limits) {
+    try {
+      scriptCache.precompile(expression, UnaryOperator.identity(), limits);
+    } catch (ScriptException e) {
+      throw new WorkflowException(e.getMessage());
+    }
+  }
+
   @Override
   public String getKey() {
     return "groovy-eval";
@@ -0,0 +1,199 @@
+package co.orquex.sagas.task.groovy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.LruCache;
+import co.orquex.sagas.domain.utils.Preconditions;
+import groovy.lang.GroovyClassLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+import lombok.extern.slf4j.Slf4j;
+import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
+
+/**
+ * Bounded LRU cache of compiled Groovy scripts, keyed by their source and limits.
+ *
+ * <p>Every script is compiled once by its own class loader, so the classes generated for a script
+ * can be unloaded from Metaspace once it is evicted. Concurrent requests of a script that is being
+ * compiled wait for that compilation instead of compiling it again. Scripts that fail to compile
+ * are not cached.
+ *
+ * <p>The {@link GroovyScriptLimits} are compiled into the script, so the same source compiled with
+ * different limits is cached once per limits. The source is kept as the key instead of a digest,
+ * so a lookup only hashes a source the first time, since a string caches its hash code.
+ */
+@Slf4j
+public class GroovyScriptCache {
+
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private final LruCache<ScriptKey, CompletableFuture<CompiledScript>> scripts;
+  private final AtomicLong compileTimeNanos = new AtomicLong();
+  private final AtomicLong terminations = new AtomicLong();
+
+  public GroovyScriptCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public GroovyScriptCache(final int maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "Max size must be greater than zero");
+    this.scripts = new LruCache<>(maxSize);
+  }
+
+  /**
+   * Returns the compiled script of the source with the default limits, compiling it if it is not
+   * cached.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the script text, only called when it is compiled
+   * @return the compiled script, which can be evaluated concurrently
+   * @throws ScriptException if the script cannot be compiled
+   */
+  public CompiledScript get(final String source, final UnaryOperator<String> decoder)
+      throws ScriptException {
+    return get(source, decoder, GroovyScriptLimits.DEFAULT);
+  }
+
+  /**
+   * Returns the compiled script of the source with the given limits, compiling it if it is not
+   * cached.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the script text, only called when it is compiled
+   * @param limits the limits compiled into the script
+   * @return the compiled script, which can be evaluated concurrently
+   * @throws ScriptException if the script cannot be compiled
+   */
+  public CompiledScript get(
+      final String source, final UnaryOperator<String> decoder, final GroovyScriptLimits limits)
+      throws ScriptException {
+    final var key = new ScriptKey(source, limits);
+    final var future = new CompletableFuture<CompiledScript>();
+    final var cached = scripts.putIfAbsent(key, future);
+    final var compiled = cached == null ? future : cached;
+    if (cached == null) {
+      compile(key, decoder, compiled);
+    }
+    try {
+      return compiled.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WorkflowException("Interrupted while waiting for the script compilation");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof ScriptException scriptException) {
+        throw scriptException;
+      }
+      throw new ScriptException(e.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Compiles the script and caches it, so its first execution does not pay for the compilation.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the script text
+   * @throws ScriptException if the script cannot be compiled
+   */
+  public void precompile(final String source, final UnaryOperator<String> decoder)
+      throws ScriptException {
+    get(source, decoder);
+  }
+
+  /**
+   * Compiles the script with the given limits and caches it.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the script text
+   * @param limits the limits compiled into the script
+   * @throws ScriptException if the script cannot be compiled
+   */
+  public void precompile(
+      final String source, final UnaryOperator<String> decoder, final GroovyScriptLimits limits)
+      throws ScriptException {
+    get(source, decoder, limits);
+  }
+
+  /**
+   * @return the number of compiled scripts currently cached
+   */
+  public int size() {
+    return scripts.size();
+  }
+
+  /**
+   * @return the number of requests served by an already compiled script
+   */
+  public long hits() {
+    return scripts.hits();
+  }
+
+  /**
+   * @return the number of requests that compiled the script
+   */
+  public long misses() {
+    return scripts.misses();
+  }
+
+  /**
+   * @return the number of scripts evicted because the cache was full
+   */
+  public long evictions() {
+    return scripts.evictions();
+  }
+
+  /**
+   * @return the total time spent compiling scripts, in nanoseconds
+   */
+  public long compileTimeNanos() {
+    return compileTimeNanos.get();
+  }
+
+  /**
+   * @return the number of evaluations terminated early by the limits of their script
+   */
+  public long terminations() {
+    return terminations.get();
+  }
+
+  /**
+   * Counts the failed evaluation as terminated if one of the limits of the script stopped it.
+   *
+   * @param rootCause the root cause of the failure
+   */
+  void recordFailure(Throwable rootCause) {
+    if (rootCause instanceof GroovyScriptLimitException
+        || rootCause instanceof TimeoutException
+        || rootCause instanceof InterruptedException) {
+      terminations.incrementAndGet();
+    }
+  }
+
+  private void compile(
+      ScriptKey key, UnaryOperator<String> decoder, CompletableFuture<CompiledScript> compiled) {
+    final var start = System.nanoTime();
+    try {
+      final var script = decoder.apply(key.source());
+      final var classLoader =
+          new GroovyClassLoader(
+              GroovyScriptCache.class.getClassLoader(), key.limits().compilerConfiguration());
+      compiled.complete(new GroovyScriptEngineImpl(classLoader).compile(script));
+      final var elapsed = System.nanoTime() - start;
+      compileTimeNanos.addAndGet(elapsed);
+      final var length = key.source().length();
+      log.debug("Groovy script of {} characters compiled in {}µs", length, elapsed / 1_000);
+    } catch (ScriptException | RuntimeException e) {
+      scripts.remove(key, compiled);
+      compiled.completeExceptionally(e);
+    }
+  }
+
+  /** The limits are compiled into the script, so they are part of the key. */
+  private record ScriptKey(String source, GroovyScriptLimits limits) {}
+}
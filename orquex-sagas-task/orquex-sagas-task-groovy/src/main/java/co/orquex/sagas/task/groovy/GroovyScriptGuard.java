@@ -0,0 +1,33 @@
+package co.orquex.sagas.task.groovy;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Counts the loop iterations of the script evaluated by the current thread. Called by the scripts
+ * compiled with a {@link GroovyScriptLimits#maxIterations()}, not meant to be called directly.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroovyScriptGuard {
+
+  private static final ThreadLocal<long[]> ITERATIONS = ThreadLocal.withInitial(() -> new long[1]);
+
+  /**
+   * Counts a loop iteration of the current evaluation.
+   *
+   * @param maxIterations maximum number of iterations of the evaluation
+   * @throws GroovyScriptLimitException if the evaluation exceeded the maximum
+   */
+  public static void iterate(final long maxIterations) {
+    final var iterations = ITERATIONS.get();
+    if (++iterations[0] > maxIterations) {
+      throw new GroovyScriptLimitException(
+          "Script exceeded the maximum of %d loop iterations".formatted(maxIterations));
+    }
+  }
+
+  /** Resets the count of the current thread once its evaluation is done. */
+  static void reset() {
+    ITERATIONS.remove();
+  }
+}
@@ -0,0 +1,15 @@
+package co.orquex.sagas.task.groovy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import java.io.Serial;
+
+/** Exception thrown when a script exceeds one of its {@link GroovyScriptLimits}. */
+public class GroovyScriptLimitException extends WorkflowException {
+
+  @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+
+  public GroovyScriptLimitException(String message) {
+    super(message);
+  }
+}
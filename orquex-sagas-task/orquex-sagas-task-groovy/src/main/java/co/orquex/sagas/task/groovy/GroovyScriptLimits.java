@@ -0,0 +1,127 @@
+package co.orquex.sagas.task.groovy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.Preconditions;
+import groovy.transform.ThreadInterrupt;
+import groovy.transform.TimedInterrupt;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.codehaus.groovy.ast.ClassHelper;
+import org.codehaus.groovy.ast.expr.ClassExpression;
+import org.codehaus.groovy.ast.expr.PropertyExpression;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+
+/**
+ * Execution limits compiled into a Groovy script, read from the parameters of the task
+ * configuration.
+ *
+ * <ul>
+ *   <li>{@value #TIMEOUT_MILLIS}: time after which the evaluation fails with a {@link
+ *       java.util.concurrent.TimeoutException}, applied with {@link TimedInterrupt}.
+ *   <li>{@value #MAX_ITERATIONS}: maximum number of loop iterations of an evaluation, counting all
+ *       its loops, closure calls and method calls together, after which it fails with a {@link
+ *       GroovyScriptLimitException}. Closure calls bound the iteration methods such as {@code
+ *       each} or {@code times}, and method calls bound the recursion. The iterations done inside
+ *       the Groovy and Java libraries, such as {@code sum()} or {@code join()}, are not counted and
+ *       are only bounded by the timeout.
+ *   <li>{@value #THREAD_INTERRUPT}: whether the evaluation fails with an {@link
+ *       InterruptedException} when its thread is interrupted, applied with {@link ThreadInterrupt}.
+ *       Enabled by default.
+ * </ul>
+ *
+ * <p>The checks are added to every loop, method and closure of the script, so a script that does
+ * not loop is not slowed down by them.
+ *
+ * @param timeout maximum duration of an evaluation, or {@code null} for no timeout
+ * @param maxIterations maximum number of loop iterations of an evaluation, or zero for no limit
+ * @param threadInterrupt whether the evaluation stops when its thread is interrupted
+ */
+public record GroovyScriptLimits(Duration timeout, long maxIterations, boolean threadInterrupt) {
+
+  public static final String TIMEOUT_MILLIS = "scriptTimeoutMillis";
+  public static final String MAX_ITERATIONS = "scriptMaxIterations";
+  public static final String THREAD_INTERRUPT = "scriptThreadInterrupt";
+
+  /** Limits of the scripts whose task does not configure any. */
+  public static final GroovyScriptLimits DEFAULT = new GroovyScriptLimits(null, 0, true);
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public GroovyScriptLimits {
+    Preconditions.checkArgument(
+        timeout == null || (!timeout.isNegative() && !timeout.isZero()),
+        "Script timeout must be positive");
+    Preconditions.checkArgument(maxIterations >= 0, "Script max iterations cannot be negative");
+  }
+
+  /**
+   * Reads the limits from the parameters of the task configuration.
+   *
+   * @param parameters the parameters of the task configuration
+   * @return the limits, {@link #DEFAULT} if none is configured
+   * @throws WorkflowException if a parameter is not valid
+   */
+  public static GroovyScriptLimits of(final Map<String, Serializable> parameters) {
+    if (parameters == null
+        || !(parameters.containsKey(TIMEOUT_MILLIS)
+            || parameters.containsKey(MAX_ITERATIONS)
+            || parameters.containsKey(THREAD_INTERRUPT))) {
+      return DEFAULT;
+    }
+    final var timeoutMillis = readLong(parameters, TIMEOUT_MILLIS);
+    final var maxIterations = readLong(parameters, MAX_ITERATIONS);
+    if (timeoutMillis < 0 || maxIterations < 0) {
+      throw new WorkflowException("Script limits cannot be negative");
+    }
+    final var threadInterrupt = parameters.get(THREAD_INTERRUPT);
+    return new GroovyScriptLimits(
+        timeoutMillis == 0 ? null : Duration.ofMillis(timeoutMillis),
+        maxIterations,
+        threadInterrupt == null || Boolean.parseBoolean(threadInterrupt.toString()));
+  }
+
+  /**
+   * @return the compiler configuration that adds these limits to the scripts
+   */
+  CompilerConfiguration compilerConfiguration() {
+    final var configuration = new CompilerConfiguration();
+    if (threadInterrupt) {
+      configuration.addCompilationCustomizers(
+          new ASTTransformationCustomizer(ThreadInterrupt.class));
+    }
+    if (timeout != null) {
+      final var unit =
+          new PropertyExpression(
+              new ClassExpression(ClassHelper.make(TimeUnit.class)), TimeUnit.MILLISECONDS.name());
+      configuration.addCompilationCustomizers(
+          new ASTTransformationCustomizer(
+              Map.of("value", timeout.toMillis(), "unit", unit), TimedInterrupt.class));
+    }
+    if (maxIterations > 0) {
+      configuration.addCompilationCustomizers(new LoopIterationCustomizer(maxIterations));
+    }
+    return configuration;
+  }
+
+  private static long readLong(final Map<String, Serializable> parameters, final String name) {
+    final var value = parameters.get(name);
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof Number number) {
+      return number.longValue();
+    }
+    try {
+      return Long.parseLong(value.toString());
+    } catch (NumberFormatException e) {
+      throw new WorkflowException(
+          "Invalid value '%s' of the parameter '%s'".formatted(value, name));
+    }
+  }
+}
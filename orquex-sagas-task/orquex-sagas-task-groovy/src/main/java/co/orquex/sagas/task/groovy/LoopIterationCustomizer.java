@@ -0,0 +1,113 @@
+package co.orquex.sagas.task.groovy;
+
+import org.codehaus.groovy.ast.ClassCodeVisitorSupport;
+import org.codehaus.groovy.ast.ClassHelper;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.MethodNode;
+import org.codehaus.groovy.ast.expr.ArgumentListExpression;
+import org.codehaus.groovy.ast.expr.ClosureExpression;
+import org.codehaus.groovy.ast.expr.ConstantExpression;
+import org.codehaus.groovy.ast.expr.StaticMethodCallExpression;
+import org.codehaus.groovy.ast.stmt.BlockStatement;
+import org.codehaus.groovy.ast.stmt.DoWhileStatement;
+import org.codehaus.groovy.ast.stmt.ExpressionStatement;
+import org.codehaus.groovy.ast.stmt.ForStatement;
+import org.codehaus.groovy.ast.stmt.LoopingStatement;
+import org.codehaus.groovy.ast.stmt.Statement;
+import org.codehaus.groovy.ast.stmt.WhileStatement;
+import org.codehaus.groovy.classgen.GeneratorContext;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+
+/**
+ * Adds a call to {@link GroovyScriptGuard#iterate(long)} at the start of the body of every {@code
+ * for}, {@code while} and {@code do-while} loop, closure and method of a script.
+ *
+ * <p>Guarding the closures bounds the iteration methods such as {@code each}, {@code times} or
+ * {@code collect}, which call their closure once per element, and guarding the methods bounds the
+ * recursion. The body of the script itself is not guarded.
+ */
+final class LoopIterationCustomizer extends CompilationCustomizer {
+
+  private final long maxIterations;
+
+  LoopIterationCustomizer(final long maxIterations) {
+    super(CompilePhase.SEMANTIC_ANALYSIS);
+    this.maxIterations = maxIterations;
+  }
+
+  @Override
+  public void call(SourceUnit source, GeneratorContext context, ClassNode classNode) {
+    new ClassCodeVisitorSupport() {
+      @Override
+      protected SourceUnit getSourceUnit() {
+        return source;
+      }
+
+      @Override
+      public void visitForLoop(ForStatement loop) {
+        guard(loop);
+        super.visitForLoop(loop);
+      }
+
+      @Override
+      public void visitWhileLoop(WhileStatement loop) {
+        guard(loop);
+        super.visitWhileLoop(loop);
+      }
+
+      @Override
+      public void visitDoWhileLoop(DoWhileStatement loop) {
+        guard(loop);
+        super.visitDoWhileLoop(loop);
+      }
+
+      @Override
+      public void visitClosureExpression(ClosureExpression closure) {
+        closure.setCode(guarded(closure.getCode()));
+        super.visitClosureExpression(closure);
+      }
+
+      @Override
+      protected void visitConstructorOrMethod(MethodNode method, boolean isConstructor) {
+        if (!isConstructor && isDeclared(method) && method.getCode() != null) {
+          method.setCode(guarded(method.getCode()));
+        }
+        super.visitConstructorOrMethod(method, isConstructor);
+      }
+    }.visitClass(classNode);
+  }
+
+  /** Whether the method was written in the script, not its body or the generated main method. */
+  private static boolean isDeclared(MethodNode method) {
+    return !method.isScriptBody()
+        && !method.isSynthetic()
+        && !(method.getDeclaringClass().isScript() && method.getName().equals("main"));
+  }
+
+  private void guard(LoopingStatement loop) {
+    loop.setLoopBlock(guarded(loop.getLoopBlock()));
+  }
+
+  private Statement guarded(Statement body) {
+    if (body instanceof BlockStatement block) {
+      block.getStatements().addFirst(check());
+      return block;
+    }
+    final var block = new BlockStatement();
+    block.addStatement(check());
+    if (body != null) {
+      block.addStatement(body);
+    }
+    return block;
+  }
+
+  private Statement check() {
+    return new ExpressionStatement(
+        new StaticMethodCallExpression(
+            ClassHelper.make(GroovyScriptGuard.class),
+            "iterate",
+            new ArgumentListExpression(new ConstantExpression(maxIterations, true))));
+  }
+}
@@ -3,9 +3,12 @@ package co.orquex.sagas.task.groovy.test;
 import static co.orquex.sagas.task.groovy.GroovyActivity.SCRIPT;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
 import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.domain.utils.Maps;
 import co.orquex.sagas.task.groovy.GroovyActivity;
 import co.orquex.sagas.task.groovy.test.fixture.TestGroovyGlobalContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.Serializable;
 import java.util.Base64;
 import java.util.List;
@@ -57,6 +60,45 @@ class GroovyActivityTest {
     assertThat(globalContext.get(transactionId).get("c")).isEqualTo(List.of(1, 2, 3));
   }
 
+  @Test
+  void shouldAllowScriptsToModifyTheMergedMetadata() {
+    var expression =
+        """
+          metadata.step = "validated"
+          metadata.remove("owner")
+          response.step = metadata.step
+          response.owner = metadata.owner
+        """;
+    final Map<String, Serializable> flowMetadata = Map.of("owner", "flow");
+    final Map<String, Serializable> taskMetadata = Map.of(SCRIPT, toBase64(expression));
+    final var metadata = Maps.merge(flowMetadata, taskMetadata);
+    final var taskRequest =
+        new TaskRequest(UUID.randomUUID().toString(), metadata, Map.<String, Serializable>of());
+    final var response = groovyActivity.execute(taskRequest);
+    assertThat(response).containsEntry("step", "validated").containsEntry("owner", null);
+    assertThat(flowMetadata).containsOnlyKeys("owner");
+  }
+
+  @Test
+  void shouldAllowScriptsToModifyTheJsonPayloadOfAPreviousTask() {
+    var expression =
+        """
+          payload.total = payload.items.sum()
+          payload.remove("items")
+          response.putAll(payload)
+        """;
+    final Map<String, Serializable> metadata = Map.of(SCRIPT, toBase64(expression));
+    // A JSON-native task, like JSONata, returns its result as an immutable JSON node map
+    final var objectMapper = new ObjectMapper();
+    final var node = objectMapper.createObjectNode();
+    node.putArray("items").add(1).add(2).add(3);
+    final var payload = new JsonNodeMap(node, objectMapper);
+    final var taskRequest = new TaskRequest(UUID.randomUUID().toString(), metadata, payload);
+    final var response = groovyActivity.execute(taskRequest);
+    assertThat(response).hasSize(1).containsEntry("total", 6);
+    assertThat(payload).containsOnlyKeys("items");
+  }
+
   private String toBase64(String str) {
     return Base64.getEncoder().encodeToString(str.getBytes());
   }
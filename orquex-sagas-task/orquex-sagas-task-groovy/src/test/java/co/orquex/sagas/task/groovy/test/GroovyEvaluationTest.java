@@ -35,6 +35,17 @@ class GroovyEvaluationTest {
     assertThat(response).hasSize(1).containsEntry(RESULT, true);
   }
 
+  @Test
+  void shouldAllowExpressionsToWriteToAnImmutablePayload() {
+    final Map<String, Serializable> metadata =
+        Map.of(EXPRESSION, "payload.total = payload.a + payload.b; payload.total == 2");
+    final Map<String, Serializable> payload = Map.of("a", 1, "b", 1);
+    final var taskRequest = new TaskRequest(UUID.randomUUID().toString(), metadata, payload);
+    final var response = groovyEvaluation.execute(taskRequest);
+    assertThat(response).hasSize(1).containsEntry(RESULT, true);
+    assertThat(payload).containsOnlyKeys("a", "b");
+  }
+
   @Test
   void shouldThrowExceptionWhenExpressionNotBoolean() {
     final Map<String, Serializable> metadata = Map.of(EXPRESSION, "println \"hello\"");
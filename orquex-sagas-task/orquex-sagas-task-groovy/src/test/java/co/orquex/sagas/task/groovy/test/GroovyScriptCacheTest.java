@@ -0,0 +1,80 @@
+package co.orquex.sagas.task.groovy.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.task.groovy.GroovyEvaluation;
+import co.orquex.sagas.task.groovy.GroovyScriptCache;
+import co.orquex.sagas.task.groovy.test.fixture.TestGroovyGlobalContext;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import org.junit.jupiter.api.Test;
+
+class GroovyScriptCacheTest {
+
+  @Test
+  void shouldCompileScriptOnce() throws ScriptException {
+    final var cache = new GroovyScriptCache();
+
+    final var compiled = cache.get("1 + 1", UnaryOperator.identity());
+
+    assertThat(cache.get("1 + 1", UnaryOperator.identity())).isSameAs(compiled);
+    assertThat(compiled.eval(new SimpleBindings())).isEqualTo(2);
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.hits()).isEqualTo(1);
+    assertThat(cache.compileTimeNanos()).isPositive();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedScript() throws ScriptException {
+    final var cache = new GroovyScriptCache(2);
+    final var first = cache.get("1", UnaryOperator.identity());
+    cache.get("2", UnaryOperator.identity());
+    // The first script becomes the most recently used
+    cache.get("1", UnaryOperator.identity());
+
+    cache.get("3", UnaryOperator.identity());
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.evictions()).isEqualTo(1);
+    assertThat(cache.get("1", UnaryOperator.identity())).isSameAs(first);
+  }
+
+  @Test
+  void shouldNotCacheScriptsThatFailToCompile() {
+    final var cache = new GroovyScriptCache();
+
+    assertThatThrownBy(() -> cache.get("def (", UnaryOperator.identity()))
+        .isInstanceOf(ScriptException.class);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldPrecompileEvaluationExpressionFromMetadata() {
+    final var cache = new GroovyScriptCache();
+    final var evaluation = new GroovyEvaluation(new TestGroovyGlobalContext(), cache);
+
+    evaluation.precompile(request(Map.of(GroovyEvaluation.EXPRESSION, "payload.size() > 0")));
+    evaluation.precompile(request(Map.of()));
+
+    assertThat(cache.size()).isEqualTo(1);
+    final var invalid = request(Map.of(GroovyEvaluation.EXPRESSION, "def ("));
+    assertThatThrownBy(() -> evaluation.precompile(invalid)).isInstanceOf(WorkflowException.class);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxSizeIsNotPositive() {
+    assertThatThrownBy(() -> new GroovyScriptCache(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max size must be greater than zero");
+  }
+
+  private static TaskRequest request(Map<String, Serializable> metadata) {
+    return new TaskRequest(null, metadata, Map.of());
+  }
+}
@@ -0,0 +1,147 @@
+package co.orquex.sagas.task.groovy.test;
+
+import static co.orquex.sagas.task.groovy.GroovyActivity.SCRIPT;
+import static co.orquex.sagas.task.groovy.GroovyScriptLimits.MAX_ITERATIONS;
+import static co.orquex.sagas.task.groovy.GroovyScriptLimits.THREAD_INTERRUPT;
+import static co.orquex.sagas.task.groovy.GroovyScriptLimits.TIMEOUT_MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.task.groovy.GroovyActivity;
+import co.orquex.sagas.task.groovy.GroovyEvaluation;
+import co.orquex.sagas.task.groovy.GroovyScriptCache;
+import co.orquex.sagas.task.groovy.GroovyScriptLimits;
+import co.orquex.sagas.task.groovy.test.fixture.TestGroovyGlobalContext;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GroovyScriptLimitsTest {
+
+  GroovyScriptCache cache;
+  GroovyActivity groovyActivity;
+
+  @BeforeEach
+  void setUp() {
+    cache = new GroovyScriptCache();
+    groovyActivity = new GroovyActivity(new TestGroovyGlobalContext(), cache);
+  }
+
+  @Test
+  void shouldTerminateScriptExceedingMaxIterations() {
+    final var request = request("while (true) { response.a = 1 }", Map.of(MAX_ITERATIONS, 1000));
+
+    assertThatThrownBy(() -> groovyActivity.execute(request))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Script exceeded the maximum of 1000 loop iterations");
+    assertThat(cache.terminations()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTerminateClosureIterationsAndRecursionExceedingMaxIterations() {
+    final var scripts =
+        List.of(
+            "(1..1_000_000).each { response.a = it }",
+            "1_000_000.times { response.a = it }",
+            "response.a = (1..1_000_000).collect { it * 2 }.size()",
+            "def count(n) { n == 0 ? 0 : 1 + count(n - 1) }; response.a = count(100_000)");
+
+    for (final var script : scripts) {
+      assertThatThrownBy(() -> groovyActivity.execute(request(script, Map.of(MAX_ITERATIONS, 100))))
+          .isInstanceOf(WorkflowException.class)
+          .hasMessage("Script exceeded the maximum of 100 loop iterations");
+    }
+    assertThat(cache.terminations()).isEqualTo(scripts.size());
+  }
+
+  @Test
+  void shouldCountIterationsPerEvaluation() {
+    final var request =
+        request("for (i in 0..<10) { response.a = i }", Map.of(MAX_ITERATIONS, "10"));
+
+    for (var i = 0; i < 3; i++) {
+      assertThat(groovyActivity.execute(request)).containsEntry("a", 9);
+    }
+    assertThat(cache.terminations()).isZero();
+  }
+
+  @Test
+  void shouldTerminateScriptExceedingTimeout() {
+    final var request = request("while (true) { }", Map.of(TIMEOUT_MILLIS, 100));
+
+    assertThatThrownBy(() -> groovyActivity.execute(request))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessageStartingWith("Execution timed out after 100 milliseconds");
+    assertThat(cache.terminations()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTerminateEvaluationWhenThreadIsInterrupted() throws Exception {
+    final var evaluation = new GroovyEvaluation(new TestGroovyGlobalContext(), cache);
+    final Map<String, Serializable> metadata =
+        Map.of(GroovyEvaluation.EXPRESSION, "while (true) { }; true");
+    final var request =
+        new TaskRequest(UUID.randomUUID().toString(), metadata, Map.of(), Map.of());
+    try (final var executor = Executors.newSingleThreadExecutor()) {
+      final var future = new CompletableFuture<Thread>();
+      final var execution =
+          executor.submit(
+              () -> {
+                future.complete(Thread.currentThread());
+                return evaluation.execute(request);
+              });
+      future.get().interrupt();
+
+      assertThatThrownBy(() -> execution.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(WorkflowException.class);
+    }
+    assertThat(cache.terminations()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheScriptOncePerLimits() {
+    final var script = "response.a = 1";
+
+    groovyActivity.execute(request(script, Map.of()));
+    groovyActivity.execute(request(script, Map.of(THREAD_INTERRUPT, true)));
+    groovyActivity.execute(request(script, Map.of(MAX_ITERATIONS, 10)));
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReadLimitsFromParameters() {
+    final var limits =
+        GroovyScriptLimits.of(
+            Map.of(TIMEOUT_MILLIS, "250", MAX_ITERATIONS, 100L, THREAD_INTERRUPT, "false"));
+
+    assertThat(limits)
+        .isEqualTo(new GroovyScriptLimits(Duration.ofMillis(250), 100, false));
+    assertThat(GroovyScriptLimits.of(Map.of())).isSameAs(GroovyScriptLimits.DEFAULT);
+    assertThatThrownBy(() -> GroovyScriptLimits.of(Map.of(TIMEOUT_MILLIS, "soon")))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Invalid value 'soon' of the parameter 'scriptTimeoutMillis'");
+    assertThatThrownBy(() -> GroovyScriptLimits.of(Map.of(MAX_ITERATIONS, -1)))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Script limits cannot be negative");
+  }
+
+  private static TaskRequest request(String script, Map<String, Serializable> parameters) {
+    final Map<String, Serializable> metadata =
+        Map.of(SCRIPT, Base64.getEncoder().encodeToString(script.getBytes(StandardCharsets.UTF_8)));
+    return new TaskRequest(UUID.randomUUID().toString(), metadata, Map.of(), parameters);
+  }
+}
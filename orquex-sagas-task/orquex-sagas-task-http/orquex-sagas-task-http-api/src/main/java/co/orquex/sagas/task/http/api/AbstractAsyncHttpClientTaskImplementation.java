@@ -0,0 +1,54 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.api.AsyncTaskImplementation;
+import co.orquex.sagas.domain.task.TaskRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Abstract class that provides the basic implementation for an HTTP client task that does not block
+ * a thread while the request is in flight.
+ *
+ * <p>The request is built and sent by the calling thread, the response is converted by the thread
+ * that completes the future of the client. No thread waits while the request is in flight when the
+ * task is started with {@link #executeAsync(TaskRequest)}, as the {@code executeAsync} of the
+ * default task executor does; the blocking {@link #execute(TaskRequest)} waits for the response.
+ */
+public abstract class AbstractAsyncHttpClientTaskImplementation<C>
+    extends AbstractHttpClientTaskImplementation<C> implements AsyncTaskImplementation {
+
+  protected AbstractAsyncHttpClientTaskImplementation(
+      HttpClientProviderRegistry<C> registry, ObjectMapper objectMapper) {
+    super(registry, objectMapper);
+  }
+
+  @Override
+  public Map<String, Serializable> execute(TaskRequest taskRequest) {
+    return AsyncTaskImplementation.join(executeAsync(taskRequest));
+  }
+
+  @Override
+  public CompletableFuture<Map<String, Serializable>> executeAsync(TaskRequest taskRequest) {
+    final var activityRequest = toActivityRequest(taskRequest);
+    final var client = getHttpClient(activityRequest.metadata().clientProvider());
+    return doRequestAsync(client, activityRequest).thenApply(this::convertValue);
+  }
+
+  @Override
+  protected final HttpActivityResponse doRequest(C client, HttpActivityRequest activityRequest) {
+    return AsyncTaskImplementation.join(doRequestAsync(client, activityRequest));
+  }
+
+  /**
+   * Method that should be implemented by the concrete class to send the HTTP request without
+   * waiting for the response.
+   *
+   * @param activityRequest The activity request object
+   * @return a future completed with the HttpActivityResponse, or exceptionally if the request
+   *     fails.
+   */
+  protected abstract CompletableFuture<HttpActivityResponse> doRequestAsync(
+      C client, HttpActivityRequest activityRequest);
+}
@@ -2,8 +2,9 @@ package co.orquex.sagas.task.http.api;
 
 import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
 import co.orquex.sagas.domain.task.TaskRequest;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.Serializable;
 import java.util.Map;
@@ -21,17 +22,20 @@ public abstract class AbstractHttpClientTaskImplementation<C> implements TaskImp
 
   @Override
   public Map<String, Serializable> execute(TaskRequest taskRequest) {
-    final var activityMetadata = convertValue(taskRequest.metadata(), HttpActivityMetadata.class);
-    final var activityPayload = convertValue(taskRequest.payload(), HttpActivityPayload.class);
-    final var client = getHttpClient(activityMetadata.clientProvider());
-    final var activityRequest =
-        new HttpActivityRequest(taskRequest.transactionId(), activityMetadata, activityPayload);
+    final var activityRequest = toActivityRequest(taskRequest);
+    final var client = getHttpClient(activityRequest.metadata().clientProvider());
 
     final var response = doRequest(client, activityRequest);
 
     return convertValue(response);
   }
 
+  protected HttpActivityRequest toActivityRequest(TaskRequest taskRequest) {
+    final var activityMetadata = convertValue(taskRequest.metadata(), HttpActivityMetadata.class);
+    final var activityPayload = convertValue(taskRequest.payload(), HttpActivityPayload.class);
+    return new HttpActivityRequest(taskRequest.transactionId(), activityMetadata, activityPayload);
+  }
+
   protected C getHttpClient(String clientProvider) {
     return registry
         .get(clientProvider)
@@ -40,16 +44,38 @@ public abstract class AbstractHttpClientTaskImplementation<C> implements TaskImp
         .getClient();
   }
 
+  /**
+   * Returns the reader of the response body, configured by the response settings of the request
+   * metadata.
+   */
+  protected HttpResponseBodyReader bodyReader(HttpActivityRequest activityRequest) {
+    return HttpResponseBodyReader.of(objectMapper, activityRequest.metadata());
+  }
+
+  /**
+   * Converts the response to a payload backed by its JSON tree, it is only converted to a map if
+   * the next task reads it as a map. A body read by the {@link HttpResponseBodyReader} is added to
+   * the tree as it is, without being copied.
+   */
   @NonNull
   protected Map<String, Serializable> convertValue(HttpActivityResponse httpActivityResponse) {
-    return objectMapper.convertValue(httpActivityResponse, new TypeReference<>() {});
+    final var node = objectMapper.createObjectNode();
+    node.put("code", httpActivityResponse.code());
+    final var body = httpActivityResponse.body();
+    node.set("body", body == null ? null : JsonNodeMap.asJsonNode(body, objectMapper));
+    node.set("headers", objectMapper.valueToTree(httpActivityResponse.headers()));
+    return new JsonNodeMap(node, objectMapper);
   }
 
   @NonNull
   protected <T> T convertValue(@NonNull Map<String, ? extends Serializable> object, @NonNull Class<T> clazz) {
     try {
+      // A payload returned by a JSON-native task is read from its tree
+      if (object instanceof JsonNodeMap jsonNodeMap) {
+        return objectMapper.treeToValue(jsonNodeMap.node(), clazz);
+      }
       return objectMapper.convertValue(object, clazz);
-    } catch (IllegalArgumentException e) {
+    } catch (IllegalArgumentException | JsonProcessingException e) {
       log.error(e.getMessage(), e);
       throw new WorkflowException(
           clazz.getSimpleName() + " deserialization error, check required fields");
@@ -2,6 +2,7 @@ package co.orquex.sagas.task.http.api;
 
 import co.orquex.sagas.domain.exception.WorkflowException;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -11,25 +12,44 @@ import java.util.Map;
  * {
  *   "__client_provider": "",
  *   "__url": "",
+ *   "__path_params": {
+ *     "": ""
+ *   },
  *   "__params": {
  *     "": ""
  *   },
  *   "__headers": {
  *    "": ""
- *   }
+ *   },
+ *   "__response_max_size": 0,
+ *   "__response_pointers": [""]
  * }
  * </pre>
+ *
+ * <p>The URL is a {@link UrlTemplate}, whose path variables, like {@code {orderId}}, are replaced
+ * by the encoded values of the path parameters.
+ *
+ * <p>The response body is read as a stream and fails when it is larger than {@code
+ * __response_max_size} bytes, {@link HttpResponseBodyReader#DEFAULT_MAX_SIZE} by default. When
+ * {@code __response_pointers} is set, only the values selected by those JSON pointers are kept,
+ * with their paths, and the rest of the response body is skipped while it is read.
  */
 public record HttpActivityMetadata(
     @JsonProperty(METADATA_CLIENT_PROVIDER) String clientProvider,
     @JsonProperty(METADATA_URL) String url,
     @JsonProperty(METADATA_HEADERS) Map<String, String> headers,
-    @JsonProperty(METADATA_PARAMS) Map<String, String> params) {
+    @JsonProperty(METADATA_PARAMS) Map<String, String> params,
+    @JsonProperty(METADATA_PATH_PARAMS) Map<String, String> pathParams,
+    @JsonProperty(METADATA_RESPONSE_MAX_SIZE) Long responseMaxSize,
+    @JsonProperty(METADATA_RESPONSE_POINTERS) List<String> responsePointers) {
 
   public static final String METADATA_CLIENT_PROVIDER = "__client_provider";
   public static final String METADATA_URL = "__url";
   public static final String METADATA_HEADERS = "__headers";
   public static final String METADATA_PARAMS = "__params";
+  public static final String METADATA_PATH_PARAMS = "__path_params";
+  public static final String METADATA_RESPONSE_MAX_SIZE = "__response_max_size";
+  public static final String METADATA_RESPONSE_POINTERS = "__response_pointers";
 
   public HttpActivityMetadata {
     if (clientProvider == null) {
@@ -10,6 +10,9 @@ import java.util.Map;
  * <pre>
  * {
  *   "url": "",
+ *   "path_params": {
+ *     "": ""
+ *   },
  *   "params": {
  *     "": ""
  *   },
@@ -22,16 +25,18 @@ import java.util.Map;
  */
 public record HttpActivityPayload(
     @JsonProperty(PAYLOAD_URL) String url,
+    @JsonProperty(PAYLOAD_PATH_PARAMS) Map<String, String> pathParams,
     @JsonProperty(PAYLOAD_PARAMS) Map<String, String> params,
     @JsonProperty(PAYLOAD_HEADERS) Map<String, String> headers,
     @JsonProperty(PAYLOAD_BODY) Map<String, Serializable> body) {
 
   public static final String PAYLOAD_URL = "url";
+  public static final String PAYLOAD_PATH_PARAMS = "path_params";
   public static final String PAYLOAD_PARAMS = "params";
   public static final String PAYLOAD_HEADERS = "headers";
   public static final String PAYLOAD_BODY = "body";
 
   public HttpActivityPayload() {
-    this(null, null, null, null);
+    this(null, null, null, null, null);
   }
 }
@@ -1,11 +1,9 @@
 package co.orquex.sagas.task.http.api;
 
-import co.orquex.sagas.domain.exception.WorkflowException;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Represents an HTTP request to be executed by the client activity implementation.
@@ -24,38 +22,17 @@ public record HttpActivityRequest(
   }
 
   /**
-   * Returns the URL to be used in the HTTP request by merging the metadata and payload URL fields
-   * and setting the query parameters accordingly if they're present in the metadata or payload of
-   * the request.
+   * Returns the URL to be used in the HTTP request by expanding the {@link UrlTemplate} of the
+   * payload, or of the metadata if the payload has none, with the path and query parameters of the
+   * metadata and payload, the ones of the payload taking precedence.
    *
    * @return The formatted URL to be used in the HTTP request.
    */
   public String url() {
-
-    StringBuilder urlBuilder = new StringBuilder();
-    if (payload.url() != null) {
-      urlBuilder.append(payload.url());
-    } else {
-      urlBuilder.append(metadata.url());
-    }
-
-    if (urlBuilder.isEmpty()) {
-      throw new WorkflowException("URL is required");
-    }
-    setQueryParams(urlBuilder, merge(metadata.params(), payload.params()));
-
-    return urlBuilder.toString();
-  }
-
-  private void setQueryParams(StringBuilder urlBuilder, Map<String, String> queryParams) {
-    if (queryParams != null) {
-      urlBuilder.append("?");
-      final var params =
-              queryParams.entrySet().stream()
-                      .map(entry -> entry.getKey() + "=" + entry.getValue())
-                      .collect(Collectors.joining("&"));
-      urlBuilder.append(params);
-    }
+    final var template = UrlTemplate.of(payload.url() != null ? payload.url() : metadata.url());
+    return template.expand(
+        merge(metadata.pathParams(), payload.pathParams()),
+        merge(metadata.params(), payload.params()));
   }
 
   /**
@@ -77,19 +54,15 @@ public record HttpActivityRequest(
   }
 
   private Map<String, String> merge(Map<String, String> metadata, Map<String, String> payload) {
-    if (metadata == null && payload == null) {
-      return Collections.emptyMap();
+    if (payload == null || payload.isEmpty()) {
+      return metadata == null ? Collections.emptyMap() : metadata;
     }
-
-    if (metadata == null) {
+    if (metadata == null || metadata.isEmpty()) {
       return payload;
     }
 
-    if (payload == null) {
-      return metadata;
-    }
-
-    final Map<String, String> merged = new HashMap<>(metadata);
+    final Map<String, String> merged = HashMap.newHashMap(metadata.size() + payload.size());
+    merged.putAll(metadata);
     merged.putAll(payload);
 
     return merged;
@@ -4,6 +4,19 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 
-/** Represents the response of an HTTP operation using some client. */
+/**
+ * Represents the response of an HTTP operation using some client.
+ *
+ * @param code the status code
+ * @param body the body of the response, {@code null} if it has none
+ * @param headers the headers of the response
+ * @param bodySize the number of bytes of the body read by the client, negative if unknown
+ */
 public record HttpActivityResponse(
-    int code, Map<String, Serializable> body, Map<String, List<String>> headers) {}
+    int code, Map<String, Serializable> body, Map<String, List<String>> headers, long bodySize) {
+
+  public HttpActivityResponse(
+      int code, Map<String, Serializable> body, Map<String, List<String>> headers) {
+    this(code, body, headers, -1);
+  }
+}
@@ -0,0 +1,37 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.time.Duration;
+
+/**
+ * Configuration record for the {@link HttpRequestBatcher}.
+ *
+ * @param maxBatchSize number of collected requests that triggers a bulk request
+ * @param maxDelay maximum time a request waits for other requests before the bulk request is sent
+ */
+public record HttpBatchConfiguration(int maxBatchSize, Duration maxDelay) {
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+  public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(10);
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public HttpBatchConfiguration {
+    Preconditions.checkArgument(maxBatchSize > 0, "Max batch size must be greater than zero");
+    Preconditions.checkArgumentNotNull(maxDelay, "Max delay cannot be null");
+    Preconditions.checkArgument(
+        !maxDelay.isNegative() && !maxDelay.isZero(), "Max delay must be positive");
+  }
+
+  /**
+   * Creates a configuration with the default batch size and delay.
+   *
+   * @return the default configuration
+   */
+  public static HttpBatchConfiguration defaults() {
+    return new HttpBatchConfiguration(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY);
+  }
+}
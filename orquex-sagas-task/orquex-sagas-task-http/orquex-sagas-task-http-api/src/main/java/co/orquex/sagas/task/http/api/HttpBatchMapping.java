@@ -0,0 +1,66 @@
+package co.orquex.sagas.task.http.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the requests collected by the {@link HttpRequestBatcher} to the body of a bulk request, and
+ * the response of the bulk request back to a response per request.
+ */
+public interface HttpBatchMapping {
+
+  /**
+   * Builds the body of the bulk request.
+   *
+   * @param requests the collected requests, in the order they were received
+   * @param objectMapper the mapper of the task
+   * @return the body of the bulk request
+   */
+  Map<String, Serializable> toBulkBody(
+      List<HttpActivityRequest> requests, ObjectMapper objectMapper);
+
+  /**
+   * Splits the response of the bulk request.
+   *
+   * @param requests the collected requests, in the order they were received
+   * @param response the response of the bulk request
+   * @param objectMapper the mapper of the task
+   * @return the response of every request, in the order of the requests, with {@code null} for a
+   *     request without result in the bulk response
+   */
+  List<HttpActivityResponse> toResponses(
+      List<HttpActivityRequest> requests, HttpActivityResponse response, ObjectMapper objectMapper);
+
+  /**
+   * Creates a mapping that sends the bodies of the requests as a JSON array, and reads the results
+   * from a JSON array in the same order.
+   *
+   * <pre>
+   * request:  { "items": [ {body 1}, {body 2} ] }
+   * response: { "results": [ {result 1}, {result 2} ] }
+   * </pre>
+   *
+   * @param requestField the field of the bulk request with the bodies of the requests
+   * @param responseField the field of the bulk response with the results
+   * @return the mapping
+   */
+  static HttpBatchMapping jsonArray(String requestField, String responseField) {
+    return new JsonArrayBatchMapping(requestField, responseField, null);
+  }
+
+  /**
+   * Creates a mapping that sends the bodies of the requests as a JSON array, and matches the
+   * results of the JSON array to the requests by the value of an ID field, so the bulk response
+   * may return them in any order or leave some out.
+   *
+   * @param requestField the field of the bulk request with the bodies of the requests
+   * @param responseField the field of the bulk response with the results
+   * @param idField the field with the ID, in the body of the requests and in the results
+   * @return the mapping
+   */
+  static HttpBatchMapping jsonArray(String requestField, String responseField, String idField) {
+    return new JsonArrayBatchMapping(requestField, responseField, idField);
+  }
+}
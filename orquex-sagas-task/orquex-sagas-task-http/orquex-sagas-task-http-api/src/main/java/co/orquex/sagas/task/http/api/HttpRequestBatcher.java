@@ -0,0 +1,233 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects the concurrent requests to the same bulk endpoint and sends them as a single bulk
+ * request.
+ *
+ * <p>The requests submitted with the same key are collected in a batch, which is sent when it
+ * reaches the maximum batch size, by the thread of the request that filled it, or by a background
+ * thread once the maximum delay since its first request has elapsed. The responses of the bulk
+ * request are routed back to the futures of the requests, by their position in the batch, and a
+ * failure of the bulk request fails every request of the batch.
+ *
+ * <p>Submitting a request never blocks, but a caller that waits for the returned future holds its
+ * thread until the batch is sent, which may take up to the maximum delay.
+ *
+ * <p>Thread-safe and supports concurrent access from multiple threads.
+ *
+ * @see HttpBatchMapping
+ */
+@Slf4j
+public class HttpRequestBatcher implements AutoCloseable {
+
+  private final HttpBatchConfiguration configuration;
+  private final ScheduledExecutorService scheduler;
+  private final Map<String, Batch> batches = new HashMap<>();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong bulkRequests = new AtomicLong();
+  private boolean closed;
+
+  public HttpRequestBatcher() {
+    this(HttpBatchConfiguration.defaults());
+  }
+
+  public HttpRequestBatcher(final HttpBatchConfiguration configuration) {
+    this.configuration =
+        Preconditions.checkArgumentNotNull(configuration, "Batch configuration cannot be null");
+    final var threadFactory = Thread.ofPlatform().name("http-request-batcher").daemon().factory();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+  }
+
+  /**
+   * Adds the request to the batch of its key, sending the batch when it is full.
+   *
+   * @param key the key of the bulk endpoint, requests with the same key are sent together
+   * @param request the request
+   * @param sender sends the requests of the batch, the sender of the first request of a batch sends
+   *     the whole batch
+   * @return a future completed with the response of the request
+   * @throws WorkflowException if the batcher is closed
+   */
+  public CompletableFuture<HttpActivityResponse> submit(
+      final String key, final HttpActivityRequest request, final BulkSender sender) {
+    final var response = new CompletableFuture<HttpActivityResponse>();
+    Batch full = null;
+    synchronized (batches) {
+      if (closed) {
+        throw new WorkflowException("HTTP request batcher is closed");
+      }
+      var batch = batches.get(key);
+      final var created = batch == null;
+      if (created) {
+        batch = new Batch(key, sender);
+        batches.put(key, batch);
+      }
+      batch.add(request, response);
+      if (batch.size() >= configuration.maxBatchSize()) {
+        batches.remove(key);
+        if (batch.timer != null) {
+          batch.timer.cancel(false);
+        }
+        full = batch;
+      } else if (created) {
+        final var scheduled = batch;
+        batch.timer =
+            scheduler.schedule(
+                () -> flush(scheduled),
+                configuration.maxDelay().toNanos(),
+                TimeUnit.NANOSECONDS);
+      }
+    }
+    requests.incrementAndGet();
+    if (full != null) {
+      send(full);
+    }
+    return response;
+  }
+
+  /**
+   * @return the number of requests submitted
+   */
+  public long requests() {
+    return requests.get();
+  }
+
+  /**
+   * @return the number of bulk requests sent
+   */
+  public long bulkRequests() {
+    return bulkRequests.get();
+  }
+
+  /**
+   * @return the number of requests waiting for their batch to be sent
+   */
+  public int pending() {
+    synchronized (batches) {
+      return batches.values().stream().mapToInt(Batch::size).sum();
+    }
+  }
+
+  /** Stops the background sends and sends the pending batches. */
+  @Override
+  public void close() {
+    final List<Batch> pending;
+    synchronized (batches) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      pending = List.copyOf(batches.values());
+      batches.clear();
+    }
+    scheduler.shutdownNow();
+    pending.forEach(this::send);
+  }
+
+  private void flush(Batch batch) {
+    synchronized (batches) {
+      if (!batches.remove(batch.key, batch)) {
+        return;
+      }
+    }
+    send(batch);
+  }
+
+  private void send(Batch batch) {
+    bulkRequests.incrementAndGet();
+    // The key holds the request headers, only the client provider and URL template are logged
+    final var metadata = batch.requests.getFirst().metadata();
+    log.debug(
+        "Sending bulk request of {} requests to '{}' with client provider '{}'",
+        batch.size(),
+        metadata.url(),
+        metadata.clientProvider());
+    CompletableFuture<List<HttpActivityResponse>> sent;
+    try {
+      sent = batch.sender.send(List.copyOf(batch.requests));
+    } catch (RuntimeException e) {
+      sent = CompletableFuture.failedFuture(e);
+    }
+    sent.whenComplete(batch::complete);
+  }
+
+  /** Sends the requests of a batch as a single bulk request. */
+  @FunctionalInterface
+  public interface BulkSender {
+
+    /**
+     * @param requests the requests of the batch, in the order they were submitted
+     * @return a future completed with the response of every request, in the order of the batch, or
+     *     {@code null} for a request without response
+     */
+    CompletableFuture<List<HttpActivityResponse>> send(List<HttpActivityRequest> requests);
+  }
+
+  private static final class Batch {
+
+    private final String key;
+    private final BulkSender sender;
+    private final List<HttpActivityRequest> requests = new ArrayList<>();
+    private final List<CompletableFuture<HttpActivityResponse>> responses = new ArrayList<>();
+    private ScheduledFuture<?> timer;
+
+    private Batch(String key, BulkSender sender) {
+      this.key = key;
+      this.sender = sender;
+    }
+
+    private void add(
+        HttpActivityRequest request, CompletableFuture<HttpActivityResponse> response) {
+      requests.add(request);
+      responses.add(response);
+    }
+
+    private int size() {
+      return requests.size();
+    }
+
+    private void complete(List<HttpActivityResponse> results, Throwable error) {
+      if (error != null) {
+        final var cause = error instanceof CompletionException ? error.getCause() : error;
+        responses.forEach(response -> response.completeExceptionally(cause));
+        return;
+      }
+      if (results == null || results.size() != responses.size()) {
+        final var exception =
+            new WorkflowException(
+                "Bulk request of %d requests returned %d responses"
+                    .formatted(responses.size(), results == null ? 0 : results.size()));
+        responses.forEach(response -> response.completeExceptionally(exception));
+        return;
+      }
+      for (var i = 0; i < responses.size(); i++) {
+        final var result = results.get(i);
+        if (result == null) {
+          responses
+              .get(i)
+              .completeExceptionally(
+                  new WorkflowException(
+                      "Bulk response has no result for the request of transaction '%s'"
+                          .formatted(requests.get(i).transactionId())));
+        } else {
+          responses.get(i).complete(result);
+        }
+      }
+    }
+  }
+}
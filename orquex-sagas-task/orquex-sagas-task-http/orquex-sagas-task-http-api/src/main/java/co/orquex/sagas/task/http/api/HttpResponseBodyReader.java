@@ -0,0 +1,182 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.domain.version.OrquexSagasVersion;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Reads the JSON body of an HTTP response as a stream of tokens, without materializing more than
+ * needed.
+ *
+ * <p>The body fails to be read as soon as it is larger than the maximum size, so a misbehaving
+ * upstream cannot exhaust the memory. When JSON pointers are given, only the values they select are
+ * read into the tree, with the properties and elements of their path; the rest of the body is
+ * skipped by the parser. The result is a {@link JsonNodeMap}, which is only converted to a map if
+ * the next task reads it as a map.
+ */
+public class HttpResponseBodyReader {
+
+  /** Default maximum size of a response body, in bytes. */
+  public static final long DEFAULT_MAX_SIZE = 16L * 1024 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final long maxSize;
+  private final TokenFilter filter;
+
+  public HttpResponseBodyReader(
+      final ObjectMapper objectMapper, final long maxSize, final List<String> pointers) {
+    this.objectMapper =
+        Preconditions.checkArgumentNotNull(objectMapper, "Object mapper cannot be null");
+    Preconditions.checkArgument(maxSize > 0, "Max size must be greater than zero");
+    this.maxSize = maxSize;
+    this.filter = pointers == null || pointers.isEmpty() ? null : filter(pointers);
+  }
+
+  /**
+   * Returns the reader configured by the response settings of the activity metadata.
+   *
+   * @param objectMapper the mapper used to read the body
+   * @param metadata the activity metadata
+   * @return the reader of the response body
+   */
+  public static HttpResponseBodyReader of(
+      final ObjectMapper objectMapper, final HttpActivityMetadata metadata) {
+    final var maxSize =
+        Preconditions.checkArgumentNotNullOrElse(metadata.responseMaxSize(), DEFAULT_MAX_SIZE);
+    return new HttpResponseBodyReader(objectMapper, maxSize, metadata.responsePointers());
+  }
+
+  /**
+   * @return the maximum size of a response body, in bytes
+   */
+  public long maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Fails if a body of the given size is larger than the maximum size, so a body whose length is
+   * declared or buffered by the client can be rejected before it is read.
+   *
+   * @param size the size of the body in bytes, negative if unknown
+   * @throws WorkflowException if the body is too large
+   */
+  public void checkSize(final long size) {
+    if (size > maxSize) {
+      throw tooLarge();
+    }
+  }
+
+  /**
+   * Reads the body of the response, the stream is closed once it is read.
+   *
+   * @param body the body of the response
+   * @return the body, or only the values selected by the pointers, {@code null} if it is empty
+   * @throws WorkflowException if the body is too large or is not a JSON object
+   */
+  public JsonNodeMap read(final InputStream body) {
+    try (final var parser = parser(new LimitedInputStream(body, maxSize))) {
+      final JsonNode node = objectMapper.readTree(parser);
+      if (node == null || node.isMissingNode()) {
+        // The body is empty, or nothing was selected by the pointers
+        return filter == null
+            ? null
+            : new JsonNodeMap(objectMapper.createObjectNode(), objectMapper);
+      }
+      if (!(node instanceof ObjectNode objectNode)) {
+        throw new WorkflowException("HTTP response body is not a JSON object");
+      }
+      return new JsonNodeMap(objectNode, objectMapper);
+    } catch (BodyTooLargeException e) {
+      throw tooLarge();
+    } catch (IOException e) {
+      throw new WorkflowException("HTTP response body is not a JSON object", e);
+    }
+  }
+
+  private JsonParser parser(InputStream body) throws IOException {
+    final var parser = objectMapper.createParser(body);
+    if (filter == null) {
+      return parser;
+    }
+    return new FilteringParserDelegate(
+        parser, filter, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+  }
+
+  private WorkflowException tooLarge() {
+    return new WorkflowException(
+        "HTTP response body exceeds the maximum size of %d bytes".formatted(maxSize));
+  }
+
+  private static TokenFilter filter(List<String> pointers) {
+    try {
+      final var compiled = pointers.stream().map(JsonPointer::compile).toList();
+      return compiled.stream().anyMatch(JsonPointer::matches)
+          ? TokenFilter.INCLUDE_ALL
+          : new JsonPointersFilter(compiled);
+    } catch (IllegalArgumentException e) {
+      throw new WorkflowException("Invalid response JSON pointer: " + e.getMessage(), e);
+    }
+  }
+
+  private static final class BodyTooLargeException extends IOException {
+
+    @Serial private static final long serialVersionUID = OrquexSagasVersion.SERIAL_VERSION;
+  }
+
+  /** Stream that fails once more than the maximum number of bytes are read from it. */
+  private static final class LimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long count;
+
+    LimitedInputStream(InputStream in, long maxSize) {
+      super(in);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final var read = super.read();
+      if (read >= 0) {
+        count(1);
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      final var read = super.read(buffer, offset, length);
+      if (read > 0) {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      final var skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    private void count(long read) throws BodyTooLargeException {
+      count += read;
+      if (count > maxSize) {
+        throw new BodyTooLargeException();
+      }
+    }
+  }
+}
@@ -0,0 +1,330 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.utils.LruCache;
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded LRU cache of the responses of GET requests, keyed by the final URL of the request and a
+ * SHA-256 digest of the values of a selected set of request headers, so credentials like the
+ * {@code Authorization} header are never kept in the clear.
+ *
+ * <p>Only successful responses are cached, following their {@code Cache-Control} and {@code
+ * Expires} headers: a response is served from the cache while it is fresh, and once it is stale it
+ * is revalidated with {@code If-None-Match} and {@code If-Modified-Since} using its {@code ETag}
+ * and {@code Last-Modified} headers, so a {@code 304 Not Modified} response refreshes it without
+ * transferring the body again. Responses with {@code no-store}, or without freshness information
+ * nor validators, are not cached; responses with {@code no-cache} are revalidated on every request.
+ *
+ * <p>Both the number of responses and the size of each cached body are bounded: responses whose
+ * body read by the client exceeds the max body size are not cached, so the cache holds at most
+ * {@code maxSize * maxBodyBytes} bytes of bodies. When the client does not report the bytes it
+ * read, the declared {@code Content-Length} is used instead, and a response without it is not
+ * cached.
+ *
+ * <p>Concurrent requests of a response that is not cached are all sent.
+ */
+@Slf4j
+public class HttpResponseCache {
+
+  public static final int DEFAULT_MAX_SIZE = 1024;
+  public static final long DEFAULT_MAX_BODY_BYTES = 64 * 1024;
+  public static final Set<String> DEFAULT_KEY_HEADERS =
+      Set.of("Accept", "Accept-Language", "Authorization");
+
+  static final String IF_NONE_MATCH = "If-None-Match";
+  static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+  private static final int NOT_MODIFIED = 304;
+
+  private final long maxBodyBytes;
+  private final Set<String> keyHeaders;
+  private final Clock clock;
+  private final LruCache<String, Entry> responses;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong revalidations = new AtomicLong();
+
+  public HttpResponseCache() {
+    this(DEFAULT_MAX_SIZE, DEFAULT_KEY_HEADERS);
+  }
+
+  public HttpResponseCache(final int maxSize, final Set<String> keyHeaders) {
+    this(maxSize, DEFAULT_MAX_BODY_BYTES, keyHeaders);
+  }
+
+  public HttpResponseCache(
+      final int maxSize, final long maxBodyBytes, final Set<String> keyHeaders) {
+    this(maxSize, maxBodyBytes, keyHeaders, Clock.systemUTC());
+  }
+
+  HttpResponseCache(
+      final int maxSize, final long maxBodyBytes, final Set<String> keyHeaders, final Clock clock) {
+    Preconditions.checkArgument(maxSize > 0, "Max size must be greater than zero");
+    Preconditions.checkArgument(maxBodyBytes > 0, "Max body bytes must be greater than zero");
+    Preconditions.checkArgumentNotNull(keyHeaders, "Key headers cannot be null");
+    this.maxBodyBytes = maxBodyBytes;
+    this.keyHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    this.keyHeaders.addAll(keyHeaders);
+    this.clock = clock;
+    this.responses = new LruCache<>(maxSize);
+  }
+
+  /**
+   * Returns the cached response of the request while it is fresh, otherwise sends the request,
+   * conditionally if the cached response can be revalidated, and caches its response.
+   *
+   * @param activityRequest the GET request
+   * @param send sends the request with the given additional headers, empty for an unconditional
+   *     request, and returns a future of its response
+   * @return a future of the response, completed if it is served from the cache
+   */
+  public CompletableFuture<HttpActivityResponse> execute(
+      final HttpActivityRequest activityRequest,
+      final Function<Map<String, String>, CompletableFuture<HttpActivityResponse>> send) {
+    final var key = key(activityRequest);
+    final var cached = responses.get(key).orElse(null);
+    if (cached != null && clock.instant().isBefore(cached.expiresAt())) {
+      hits.incrementAndGet();
+      return CompletableFuture.completedFuture(cached.response());
+    }
+    final var conditionalHeaders = cached == null ? Map.<String, String>of() : cached.validators();
+    if (conditionalHeaders.isEmpty()) {
+      misses.incrementAndGet();
+    }
+    return send.apply(conditionalHeaders)
+        .thenApply(
+            response ->
+                update(key, activityRequest.url(), cached, conditionalHeaders, response));
+  }
+
+  /**
+   * @return the number of responses currently cached
+   */
+  public int size() {
+    return responses.size();
+  }
+
+  /**
+   * @return the number of requests served by a fresh cached response, without being sent
+   */
+  public long hits() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of requests sent unconditionally, because their response was not cached
+   */
+  public long misses() {
+    return misses.get();
+  }
+
+  /**
+   * @return the number of stale cached responses confirmed by a {@code 304 Not Modified} response
+   */
+  public long revalidations() {
+    return revalidations.get();
+  }
+
+  /**
+   * @return the number of responses evicted because the cache was full
+   */
+  public long evictions() {
+    return responses.evictions();
+  }
+
+  String key(HttpActivityRequest activityRequest) {
+    final var url = activityRequest.url();
+    final var headers = activityRequest.headers();
+    MessageDigest digest = null;
+    for (final var name : keyHeaders) {
+      final var value = requestHeader(headers, name);
+      if (value != null) {
+        if (digest == null) {
+          digest = sha256();
+        }
+        digest.update(
+            (name.toLowerCase(Locale.ROOT) + ':' + value + '\n').getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    return digest == null ? url : url + '\n' + HexFormat.of().formatHex(digest.digest());
+  }
+
+  private HttpActivityResponse update(
+      String key,
+      String url,
+      Entry cached,
+      Map<String, String> conditionalHeaders,
+      HttpActivityResponse response) {
+    final var now = clock.instant();
+    if (response.code() == NOT_MODIFIED && cached != null && !conditionalHeaders.isEmpty()) {
+      revalidations.incrementAndGet();
+      // The 304 response carries the new freshness of the cached response
+      final var refreshed = cached.refresh(expiresAt(response.headers(), now));
+      responses.put(key, refreshed);
+      log.debug("HTTP response of '{}' revalidated", url);
+      return refreshed.response();
+    }
+    final var entry = entry(response, now);
+    if (entry != null) {
+      responses.put(key, entry);
+    } else if (cached != null) {
+      responses.remove(key, cached);
+    }
+    return response;
+  }
+
+  private Entry entry(HttpActivityResponse response, Instant now) {
+    if (response.code() != 200) {
+      return null;
+    }
+    final var headers = response.headers();
+    final var bodySize =
+        response.bodySize() >= 0
+            ? Long.valueOf(response.bodySize())
+            : parseLong(header(headers, "Content-Length"));
+    if (bodySize == null || bodySize > maxBodyBytes) {
+      // Bodies of unknown size could exceed the bound
+      return null;
+    }
+    final var cacheControl = cacheControl(headers);
+    if (cacheControl.containsKey("no-store")) {
+      return null;
+    }
+    final var eTag = header(headers, "ETag");
+    final var lastModified = header(headers, "Last-Modified");
+    final var expiresAt = expiresAt(headers, now);
+    if (expiresAt == null && eTag == null && lastModified == null) {
+      return null;
+    }
+    // Without freshness information the response is revalidated on every request
+    return new Entry(response, eTag, lastModified, expiresAt == null ? now : expiresAt);
+  }
+
+  /**
+   * Returns the instant until which the response is fresh, {@code null} if the headers have no
+   * freshness information.
+   */
+  private static Instant expiresAt(Map<String, List<String>> headers, Instant now) {
+    final var cacheControl = cacheControl(headers);
+    if (cacheControl.containsKey("no-cache")) {
+      return now;
+    }
+    final var maxAge = cacheControl.get("max-age");
+    if (maxAge != null) {
+      final var seconds = parseLong(maxAge);
+      if (seconds == null) {
+        return now;
+      }
+      final var age = parseLong(header(headers, "Age"));
+      return now.plus(Duration.ofSeconds(age == null ? seconds : seconds - age));
+    }
+    final var expires = header(headers, "Expires");
+    if (expires != null) {
+      try {
+        return ZonedDateTime.parse(expires, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+      } catch (DateTimeParseException e) {
+        // An invalid date means the response is already expired
+        return now;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, String> cacheControl(Map<String, List<String>> headers) {
+    final var directives = new LinkedHashMap<String, String>();
+    final var values = headers(headers, "Cache-Control");
+    for (final var value : values) {
+      for (final var directive : value.split(",")) {
+        final var separator = directive.indexOf('=');
+        if (separator < 0) {
+          directives.put(directive.trim().toLowerCase(Locale.ROOT), "");
+        } else {
+          final var name = directive.substring(0, separator).trim().toLowerCase(Locale.ROOT);
+          directives.put(name, directive.substring(separator + 1).trim().replace("\"", ""));
+        }
+      }
+    }
+    return directives;
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static Long parseLong(String value) {
+    try {
+      return value == null ? null : Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static List<String> headers(Map<String, List<String>> headers, String name) {
+    if (headers == null) {
+      return List.of();
+    }
+    for (final var header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+        return header.getValue();
+      }
+    }
+    return List.of();
+  }
+
+  private static String header(Map<String, List<String>> headers, String name) {
+    final var values = headers(headers, name);
+    return values.isEmpty() ? null : values.getFirst();
+  }
+
+  private static String requestHeader(Map<String, String> headers, String name) {
+    for (final var header : headers.entrySet()) {
+      if (name.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  private record Entry(
+      HttpActivityResponse response, String eTag, String lastModified, Instant expiresAt) {
+
+    Map<String, String> validators() {
+      final var validators = new LinkedHashMap<String, String>();
+      if (eTag != null) {
+        validators.put(IF_NONE_MATCH, eTag);
+      }
+      if (lastModified != null) {
+        validators.put(IF_MODIFIED_SINCE, lastModified);
+      }
+      return validators;
+    }
+
+    Entry refresh(Instant refreshedExpiresAt) {
+      final var at = refreshedExpiresAt == null ? expiresAt : refreshedExpiresAt;
+      return new Entry(response, eTag, lastModified, at);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
+import co.orquex.sagas.domain.utils.Preconditions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch mapping that sends the bodies of the requests as a JSON array, and reads the results from
+ * a JSON array, matched to the requests by position or by the value of an ID field.
+ *
+ * <p>A bulk response that is not successful is the response of every request, so each saga sees
+ * the error of the bulk endpoint as the error of its own request.
+ */
+record JsonArrayBatchMapping(String requestField, String responseField, String idField)
+    implements HttpBatchMapping {
+
+  JsonArrayBatchMapping {
+    Preconditions.checkArgumentNotEmpty(requestField, "Request field cannot be empty");
+    Preconditions.checkArgumentNotEmpty(responseField, "Response field cannot be empty");
+  }
+
+  @Override
+  public Map<String, Serializable> toBulkBody(
+      List<HttpActivityRequest> requests, ObjectMapper objectMapper) {
+    final var body = objectMapper.createObjectNode();
+    final var items = body.putArray(requestField);
+    for (final var request : requests) {
+      final var item = request.body();
+      items.add(item == null ? null : JsonNodeMap.asJsonNode(item, objectMapper));
+    }
+    return new JsonNodeMap(body, objectMapper);
+  }
+
+  @Override
+  public List<HttpActivityResponse> toResponses(
+      List<HttpActivityRequest> requests,
+      HttpActivityResponse response,
+      ObjectMapper objectMapper) {
+    if (response.code() < 200 || response.code() > 299) {
+      return Collections.nCopies(requests.size(), response);
+    }
+    final var results =
+        response.body() == null
+            ? null
+            : JsonNodeMap.asJsonNode(response.body(), objectMapper).get(responseField);
+    if (results == null || !results.isArray()) {
+      throw new WorkflowException(
+          "Bulk response has no '%s' array of results".formatted(responseField));
+    }
+    if (idField == null) {
+      if (results.size() != requests.size()) {
+        throw new WorkflowException(
+            "Bulk response has %d results for %d requests"
+                .formatted(results.size(), requests.size()));
+      }
+      final List<HttpActivityResponse> responses = new ArrayList<>(requests.size());
+      for (final var result : results) {
+        responses.add(itemResponse(response, result, objectMapper));
+      }
+      return responses;
+    }
+    final Map<String, JsonNode> resultsById = HashMap.newHashMap(results.size());
+    for (final var result : results) {
+      final var id = id(result.get(idField));
+      if (id != null) {
+        resultsById.put(id, result);
+      }
+    }
+    final List<HttpActivityResponse> responses = new ArrayList<>(requests.size());
+    for (final var request : requests) {
+      final var id =
+          request.body() == null
+              ? null
+              : id(JsonNodeMap.asJsonNode(request.body(), objectMapper).get(idField));
+      final var result = id == null ? null : resultsById.get(id);
+      responses.add(result == null ? null : itemResponse(response, result, objectMapper));
+    }
+    return responses;
+  }
+
+  private static HttpActivityResponse itemResponse(
+      HttpActivityResponse response, JsonNode result, ObjectMapper objectMapper) {
+    if (!(result instanceof ObjectNode objectNode)) {
+      throw new WorkflowException("Bulk response result is not a JSON object");
+    }
+    return new HttpActivityResponse(
+        response.code(), new JsonNodeMap(objectNode, objectMapper), response.headers());
+  }
+
+  private static String id(JsonNode id) {
+    if (id == null || id.isNull()) {
+      return null;
+    }
+    return id.isValueNode() ? id.asText() : id.toString();
+  }
+}
@@ -0,0 +1,50 @@
+package co.orquex.sagas.task.http.api;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Token filter that includes the values selected by any of the given JSON pointers, so the values
+ * that are not selected are skipped by the parser without being read into a tree.
+ */
+final class JsonPointersFilter extends TokenFilter {
+
+  private final List<JsonPointer> pointers;
+
+  JsonPointersFilter(final List<JsonPointer> pointers) {
+    this.pointers = pointers;
+  }
+
+  @Override
+  public TokenFilter includeProperty(String name) {
+    return next(pointer -> pointer.matchProperty(name));
+  }
+
+  @Override
+  public TokenFilter includeElement(int index) {
+    return next(pointer -> pointer.matchElement(index));
+  }
+
+  @Override
+  protected boolean _includeScalar() {
+    return false;
+  }
+
+  private TokenFilter next(UnaryOperator<JsonPointer> match) {
+    final List<JsonPointer> next = new ArrayList<>(pointers.size());
+    for (final var pointer : pointers) {
+      final var tail = match.apply(pointer);
+      if (tail == null) {
+        continue;
+      }
+      if (tail.matches()) {
+        return TokenFilter.INCLUDE_ALL;
+      }
+      next.add(tail);
+    }
+    return next.isEmpty() ? null : new JsonPointersFilter(next);
+  }
+}
@@ -0,0 +1,172 @@
+package co.orquex.sagas.task.http.api;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.utils.LruCache;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * URL with path variables, like {@code https://example.com/orders/{orderId}/items}, compiled once
+ * into its literal parts and variable names.
+ *
+ * <p>Expanding a template only appends its parts to a builder: the path variables are encoded as
+ * path segments and the query parameters as query components, both following RFC 3986, so a value
+ * can never change the structure of the URL. The compiled templates are kept in a bounded cache
+ * shared by all the requests, so a template of the task metadata is only parsed once.
+ */
+public final class UrlTemplate {
+
+  static final int CACHE_MAX_SIZE = 1024;
+  private static final LruCache<String, UrlTemplate> CACHE = new LruCache<>(CACHE_MAX_SIZE);
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private final String template;
+  private final String[] literals;
+  private final String[] variables;
+  private final boolean hasQuery;
+
+  private UrlTemplate(String template, String[] literals, String[] variables) {
+    this.template = template;
+    this.literals = literals;
+    this.variables = variables;
+    this.hasQuery = template.indexOf('?') >= 0;
+  }
+
+  /**
+   * Returns the compiled template, compiling it only if it is not cached.
+   *
+   * @param template the URL template
+   * @return the compiled template
+   * @throws WorkflowException if a path variable is not closed or has no name
+   */
+  public static UrlTemplate of(final String template) {
+    if (template == null || template.isEmpty()) {
+      throw new WorkflowException("URL is required");
+    }
+    final var cached = CACHE.get(template);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    // Concurrent misses of the same template may compile it twice, both results are equal
+    final var compiled = compile(template);
+    CACHE.put(template, compiled);
+    return compiled;
+  }
+
+  /**
+   * @return the names of the path variables, in the order they appear in the template
+   */
+  public List<String> variables() {
+    return List.of(variables);
+  }
+
+  /**
+   * Expands the template.
+   *
+   * @param pathParams the values of the path variables
+   * @param queryParams the query parameters appended to the URL, may be null
+   * @return the URL
+   * @throws WorkflowException if a path variable has no value
+   */
+  public String expand(
+      final Map<String, String> pathParams, final Map<String, String> queryParams) {
+    if (variables.length == 0 && (queryParams == null || queryParams.isEmpty())) {
+      return template;
+    }
+    final var url = new StringBuilder(template.length() + 32);
+    url.append(literals[0]);
+    for (var i = 0; i < variables.length; i++) {
+      final var value = pathParams == null ? null : pathParams.get(variables[i]);
+      if (value == null) {
+        throw new WorkflowException("Path variable '%s' is required".formatted(variables[i]));
+      }
+      encode(url, value, false);
+      url.append(literals[i + 1]);
+    }
+    if (queryParams != null && !queryParams.isEmpty()) {
+      var separator = hasQuery ? '&' : '?';
+      for (final var param : queryParams.entrySet()) {
+        url.append(separator);
+        encode(url, param.getKey(), true);
+        url.append('=');
+        if (param.getValue() != null) {
+          encode(url, param.getValue(), true);
+        }
+        separator = '&';
+      }
+    }
+    return url.toString();
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+
+  private static UrlTemplate compile(String template) {
+    final List<String> literals = new ArrayList<>();
+    final List<String> variables = new ArrayList<>();
+    var start = 0;
+    var open = template.indexOf('{');
+    while (open >= 0) {
+      final var close = template.indexOf('}', open);
+      if (close < 0) {
+        throw new WorkflowException("Path variable not closed in URL '%s'".formatted(template));
+      }
+      final var name = template.substring(open + 1, close).trim();
+      if (name.isEmpty()) {
+        throw new WorkflowException("Path variable without name in URL '%s'".formatted(template));
+      }
+      literals.add(template.substring(start, open));
+      variables.add(name);
+      start = close + 1;
+      open = template.indexOf('{', start);
+    }
+    literals.add(template.substring(start));
+    return new UrlTemplate(
+        template, literals.toArray(String[]::new), variables.toArray(String[]::new));
+  }
+
+  /**
+   * Percent-encodes the value as UTF-8, keeping only the unreserved characters of RFC 3986, and the
+   * sub-delimiters allowed in a path segment when it is not a query component.
+   */
+  private static void encode(StringBuilder url, String value, boolean query) {
+    for (var i = 0; i < value.length(); i++) {
+      final var c = value.charAt(i);
+      if (isUnreserved(c) || (!query && isPathSafe(c))) {
+        url.append(c);
+      } else if (c < 0x80) {
+        appendEscaped(url, c);
+      } else {
+        // Encode the whole code point, which may be a surrogate pair
+        final var end = Character.isHighSurrogate(c) && i + 1 < value.length() ? i + 2 : i + 1;
+        for (final var b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+          appendEscaped(url, b);
+        }
+        i = end - 1;
+      }
+    }
+  }
+
+  private static boolean isUnreserved(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '-'
+        || c == '.'
+        || c == '_'
+        || c == '~';
+  }
+
+  private static boolean isPathSafe(char c) {
+    return c == '!' || c == '$' || c == '\'' || c == '(' || c == ')' || c == '*' || c == ','
+        || c == ';' || c == '=' || c == ':' || c == '@';
+  }
+
+  private static void appendEscaped(StringBuilder url, int b) {
+    url.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+  }
+}
@@ -7,6 +7,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
 import co.orquex.sagas.domain.task.TaskRequest;
 import co.orquex.sagas.task.http.api.TestHttpClient.TestHttpResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,6 +45,18 @@ class AbstractHttpClientTaskImplementationTest {
     assertThat(response).isNotEmpty().hasSize(3);
   }
 
+  @Test
+  void shouldReadJsonNodePayloadAndReturnJsonNodeResponse() {
+    final var postTask = new TestHttpPostTask(registry, objectMapper);
+    final Map<String, Serializable> metadata = getMetadata(HTTP_CLIENT_PROVIDER_TEST);
+    final var node = objectMapper.createObjectNode();
+    node.putObject(PAYLOAD_BODY).put("key", "value");
+    final var payload = new JsonNodeMap(node, objectMapper);
+    final var taskRequest = new TaskRequest(TRANSACTION_ID, metadata, payload);
+    final var response = postTask.execute(taskRequest);
+    assertThat(response).isInstanceOf(JsonNodeMap.class).hasSize(3);
+  }
+
   @Test
   void shouldThrowExceptionWhenInvalidMetadata() {
     final var postTask = new TestHttpPostTask(registry, objectMapper);
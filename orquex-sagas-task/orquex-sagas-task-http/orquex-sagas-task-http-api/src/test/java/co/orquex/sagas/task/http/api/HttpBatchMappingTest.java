@@ -0,0 +1,90 @@
+package co.orquex.sagas.task.http.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class HttpBatchMappingTest {
+
+  static final ObjectMapper objectMapper = new ObjectMapper();
+
+  final List<HttpActivityRequest> requests = List.of(request("a"), request("b"), request("c"));
+
+  @Test
+  void shouldSendTheBodiesAsAnArray() {
+    final var mapping = HttpBatchMapping.jsonArray("items", "results");
+
+    final var body = mapping.toBulkBody(requests, objectMapper);
+
+    assertThat(body).isInstanceOf(JsonNodeMap.class);
+    assertThat(((JsonNodeMap) body).node().toString())
+        .isEqualTo("{\"items\":[{\"sku\":\"a\"},{\"sku\":\"b\"},{\"sku\":\"c\"}]}");
+  }
+
+  @Test
+  void shouldMatchTheResultsByPosition() {
+    final var mapping = HttpBatchMapping.jsonArray("items", "results");
+    final var response =
+        response(200, "{\"results\":[{\"stock\":1},{\"stock\":2},{\"stock\":3}]}");
+
+    final var responses = mapping.toResponses(requests, response, objectMapper);
+
+    assertThat(responses)
+        .extracting(itemResponse -> itemResponse.body().get("stock"))
+        .containsExactly(1, 2, 3);
+
+    final var incomplete = response(200, "{\"results\":[{\"stock\":1}]}");
+    assertThatThrownBy(() -> mapping.toResponses(requests, incomplete, objectMapper))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Bulk response has 1 results for 3 requests");
+  }
+
+  @Test
+  void shouldMatchTheResultsById() {
+    final var mapping = HttpBatchMapping.jsonArray("items", "results", "sku");
+    final var response =
+        response(200, "{\"results\":[{\"sku\":\"c\",\"stock\":3},{\"sku\":\"a\",\"stock\":1}]}");
+
+    final var responses = mapping.toResponses(requests, response, objectMapper);
+
+    assertThat(responses.get(0).body()).containsEntry("stock", 1);
+    assertThat(responses.get(1)).isNull();
+    assertThat(responses.get(2).body()).containsEntry("stock", 3);
+  }
+
+  @Test
+  void shouldRouteAnUnsuccessfulResponseToEveryRequest() {
+    final var mapping = HttpBatchMapping.jsonArray("items", "results");
+    final var response = response(503, "{\"error\":\"unavailable\"}");
+
+    final var responses = mapping.toResponses(requests, response, objectMapper);
+
+    assertThat(responses).hasSize(3).containsOnly(response);
+  }
+
+  private static HttpActivityRequest request(String sku) {
+    final var metadata =
+        new HttpActivityMetadata("test", "https://example.com/bulk", null, null, null, null, null);
+    final Map<String, Serializable> body = Map.of("sku", sku);
+    return new HttpActivityRequest(
+        sku, metadata, new HttpActivityPayload(null, null, null, null, body));
+  }
+
+  private static HttpActivityResponse response(int code, String body) {
+    try {
+      final var node = (ObjectNode) objectMapper.readTree(body);
+      return new HttpActivityResponse(code, new JsonNodeMap(node, objectMapper), Map.of());
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
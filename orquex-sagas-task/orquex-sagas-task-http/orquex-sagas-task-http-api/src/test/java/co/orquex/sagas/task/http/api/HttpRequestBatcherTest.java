@@ -0,0 +1,148 @@
+package co.orquex.sagas.task.http.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class HttpRequestBatcherTest {
+
+  final List<List<HttpActivityRequest>> sent = new CopyOnWriteArrayList<>();
+  HttpRequestBatcher batcher;
+
+  @AfterEach
+  void tearDown() {
+    batcher.close();
+  }
+
+  @Test
+  void shouldSendTheBatchWhenItIsFull() {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(3, Duration.ofSeconds(5)));
+
+    final var futures = submit("bulk", "a", "b", "c");
+
+    assertThat(sent).hasSize(1);
+    assertThat(sent.getFirst())
+        .extracting(HttpActivityRequest::transactionId)
+        .containsExactly("a", "b", "c");
+    assertThat(futures)
+        .extracting(future -> future.join().body().get("transactionId"))
+        .containsExactly("a", "b", "c");
+    assertThat(batcher.requests()).isEqualTo(3);
+    assertThat(batcher.bulkRequests()).isOne();
+  }
+
+  @Test
+  void shouldSendTheBatchOnceTheMaxDelayHasElapsed() throws Exception {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(10, Duration.ofMillis(20)));
+
+    final var futures = submit("bulk", "a", "b");
+
+    for (final var future : futures) {
+      assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+    assertThat(sent).hasSize(1);
+    assertThat(batcher.pending()).isZero();
+  }
+
+  @Test
+  void shouldBatchTheRequestsOfEachKeySeparately() {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(2, Duration.ofSeconds(5)));
+
+    submit("bulk-1", "a");
+    submit("bulk-2", "b");
+    submit("bulk-1", "c");
+
+    assertThat(sent).hasSize(1);
+    assertThat(sent.getFirst())
+        .extracting(HttpActivityRequest::transactionId)
+        .containsExactly("a", "c");
+    assertThat(batcher.pending()).isOne();
+  }
+
+  @Test
+  void shouldFailEveryRequestWhenTheBulkRequestFails() {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(2, Duration.ofSeconds(5)));
+    final HttpRequestBatcher.BulkSender failing =
+        requests -> CompletableFuture.failedFuture(new WorkflowException("Bulk endpoint is down"));
+
+    final var first = batcher.submit("bulk", request("a"), failing);
+    final var second = batcher.submit("bulk", request("b"), failing);
+
+    for (final var future : List.of(first, second)) {
+      assertThatThrownBy(future::get)
+          .isInstanceOf(ExecutionException.class)
+          .hasCauseInstanceOf(WorkflowException.class)
+          .hasRootCauseMessage("Bulk endpoint is down");
+    }
+  }
+
+  @Test
+  void shouldFailTheRequestsWithoutResponse() {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(2, Duration.ofSeconds(5)));
+    final HttpRequestBatcher.BulkSender partial =
+        requests -> {
+          final List<HttpActivityResponse> responses = new ArrayList<>();
+          responses.add(new HttpActivityResponse(200, Map.of(), Map.of()));
+          responses.add(null);
+          return CompletableFuture.completedFuture(responses);
+        };
+
+    final var first = batcher.submit("bulk", request("a"), partial);
+    final var second = batcher.submit("bulk", request("b"), partial);
+
+    assertThat(first.join().code()).isEqualTo(200);
+    assertThatThrownBy(second::get)
+        .hasCauseInstanceOf(WorkflowException.class)
+        .hasRootCauseMessage("Bulk response has no result for the request of transaction 'b'");
+  }
+
+  @Test
+  void shouldSendThePendingBatchesWhenClosed() {
+    batcher = new HttpRequestBatcher(new HttpBatchConfiguration(10, Duration.ofSeconds(5)));
+    final var futures = submit("bulk", "a");
+
+    batcher.close();
+
+    assertThat(futures.getFirst()).isCompleted();
+    assertThatThrownBy(() -> submit("bulk", "b"))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP request batcher is closed");
+  }
+
+  private List<CompletableFuture<HttpActivityResponse>> submit(
+      String key, String... transactionIds) {
+    final List<CompletableFuture<HttpActivityResponse>> futures = new ArrayList<>();
+    for (final var transactionId : transactionIds) {
+      futures.add(batcher.submit(key, request(transactionId), this::send));
+    }
+    return futures;
+  }
+
+  private CompletableFuture<List<HttpActivityResponse>> send(List<HttpActivityRequest> requests) {
+    sent.add(requests);
+    final List<HttpActivityResponse> responses = new ArrayList<>();
+    for (final var request : requests) {
+      final Map<String, Serializable> body = Map.of("transactionId", request.transactionId());
+      responses.add(new HttpActivityResponse(200, body, Map.of()));
+    }
+    return CompletableFuture.completedFuture(responses);
+  }
+
+  private static HttpActivityRequest request(String transactionId) {
+    final var metadata =
+        new HttpActivityMetadata("test", "https://example.com/bulk", null, null, null, null, null);
+    return new HttpActivityRequest(transactionId, metadata, null);
+  }
+}
@@ -0,0 +1,119 @@
+package co.orquex.sagas.task.http.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HttpResponseBodyReaderTest {
+
+  static final ObjectMapper objectMapper = new ObjectMapper();
+  static final String BODY =
+      """
+      {
+        "id": "order-1",
+        "customer": {"name": "orquex", "address": {"city": "Bogota"}},
+        "items": [{"sku": "a", "price": 10}, {"sku": "b", "price": 20}],
+        "total": 30
+      }
+      """;
+
+  @Test
+  void shouldReadTheWholeBody() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, null);
+
+    final var body = reader.read(stream(BODY));
+
+    assertThat(body).containsOnlyKeys("id", "customer", "items", "total");
+    assertThat(body.node().path("customer").path("address").path("city").asText())
+        .isEqualTo("Bogota");
+  }
+
+  @Test
+  void shouldKeepOnlyTheValuesSelectedByThePointers() {
+    final var reader =
+        new HttpResponseBodyReader(
+            objectMapper, 1024, List.of("/id", "/customer/name", "/items/1/price"));
+
+    final var body = reader.read(stream(BODY));
+
+    assertThat(body.node())
+        .hasToString("{\"id\":\"order-1\",\"customer\":{\"name\":\"orquex\"},"
+            + "\"items\":[{\"price\":20}]}");
+  }
+
+  @Test
+  void shouldReturnAnEmptyBodyWhenNothingIsSelected() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, List.of("/missing"));
+
+    assertThat(reader.read(stream(BODY))).isEmpty();
+  }
+
+  @Test
+  void shouldReturnNullWhenTheBodyIsEmpty() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, null);
+
+    assertThat(reader.read(stream(""))).isNull();
+  }
+
+  @Test
+  void shouldFailAsSoonAsTheBodyExceedsTheMaxSize() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, List.of("/id"));
+    // An endless array, that would never fit in memory
+    final var prefix = "{\"values\": [".getBytes(StandardCharsets.UTF_8);
+    final var endless =
+        new InputStream() {
+          long position;
+
+          @Override
+          public int read() {
+            final var index = position++;
+            return index < prefix.length ? prefix[(int) index] : index % 2 == 0 ? '1' : ',';
+          }
+        };
+
+    assertThatThrownBy(() -> reader.read(endless))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body exceeds the maximum size of 1024 bytes");
+  }
+
+  @Test
+  void shouldFailWhenTheDeclaredSizeExceedsTheMaxSize() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, null);
+
+    reader.checkSize(-1);
+    reader.checkSize(1024);
+    assertThatThrownBy(() -> reader.checkSize(1025))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body exceeds the maximum size of 1024 bytes");
+  }
+
+  @Test
+  void shouldFailWhenTheBodyIsNotAJsonObject() {
+    final var reader = new HttpResponseBodyReader(objectMapper, 1024, null);
+
+    assertThatThrownBy(() -> reader.read(stream("[1, 2]")))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body is not a JSON object");
+    assertThatThrownBy(() -> reader.read(stream("plain text")))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body is not a JSON object");
+  }
+
+  @Test
+  void shouldFailWhenAPointerIsInvalid() {
+    assertThatThrownBy(() -> new HttpResponseBodyReader(objectMapper, 1024, List.of("id")))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessageStartingWith("Invalid response JSON pointer");
+  }
+
+  private static InputStream stream(String value) {
+    return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
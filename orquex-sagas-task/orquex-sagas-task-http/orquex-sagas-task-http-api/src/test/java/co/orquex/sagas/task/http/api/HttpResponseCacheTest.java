@@ -0,0 +1,223 @@
+package co.orquex.sagas.task.http.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HttpResponseCacheTest {
+
+  static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+  static final Map<String, Serializable> BODY = Map.of("price", 10);
+
+  @Mock Clock clock;
+  HttpResponseCache cache;
+  final List<Map<String, String>> sent = new ArrayList<>();
+  final List<HttpActivityResponse> responses = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    when(clock.instant()).thenReturn(NOW);
+    cache = new HttpResponseCache(2, 100, Set.of("Accept"), clock);
+  }
+
+  @Test
+  void shouldServeFreshResponsesFromTheCache() {
+    responses.add(response(200, Map.of("Cache-Control", List.of("public, max-age=60"))));
+
+    final var first = execute("https://example.com/prices", Map.of());
+    final var second = execute("https://example.com/prices", Map.of());
+
+    assertThat(second).isSameAs(first);
+    assertThat(sent).hasSize(1);
+    assertThat(cache.hits()).isOne();
+    assertThat(cache.misses()).isOne();
+  }
+
+  @Test
+  void shouldRevalidateStaleResponsesWithTheirValidators() {
+    final var headers =
+        Map.of(
+            "Cache-Control", List.of("max-age=60"),
+            "ETag", List.of("\"v1\""),
+            "Last-Modified", List.of("Wed, 01 Jan 2025 00:00:00 GMT"));
+    responses.add(response(200, headers));
+    responses.add(response(304, Map.of("Cache-Control", List.of("max-age=120"))));
+    final var first = execute("https://example.com/prices", Map.of());
+
+    when(clock.instant()).thenReturn(NOW.plusSeconds(61));
+    final var revalidated = execute("https://example.com/prices", Map.of());
+    when(clock.instant()).thenReturn(NOW.plusSeconds(180));
+    final var refreshed = execute("https://example.com/prices", Map.of());
+
+    assertThat(revalidated).isSameAs(first);
+    assertThat(refreshed).isSameAs(first);
+    assertThat(sent.get(1))
+        .containsEntry(HttpResponseCache.IF_NONE_MATCH, "\"v1\"")
+        .containsEntry(HttpResponseCache.IF_MODIFIED_SINCE, "Wed, 01 Jan 2025 00:00:00 GMT");
+    assertThat(sent).hasSize(2);
+    assertThat(cache.revalidations()).isOne();
+    assertThat(cache.hits()).isOne();
+  }
+
+  @Test
+  void shouldRevalidateNoCacheResponsesOnEveryRequest() {
+    final var headers = Map.of("Cache-Control", List.of("no-cache"), "ETag", List.of("\"v1\""));
+    responses.add(response(200, headers));
+    responses.add(response(304, Map.of()));
+    responses.add(response(304, Map.of()));
+
+    execute("https://example.com/prices", Map.of());
+    execute("https://example.com/prices", Map.of());
+    execute("https://example.com/prices", Map.of());
+
+    assertThat(sent).hasSize(3);
+    assertThat(cache.revalidations()).isEqualTo(2);
+    assertThat(cache.hits()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheNoStoreErrorsNorResponsesWithoutFreshnessOrValidators() {
+    responses.add(response(200, Map.of("Cache-Control", List.of("no-store"))));
+    responses.add(response(500, Map.of("Cache-Control", List.of("max-age=60"))));
+    responses.add(response(200, Map.of()));
+
+    execute("https://example.com/a", Map.of());
+    execute("https://example.com/b", Map.of());
+    execute("https://example.com/c", Map.of());
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.misses()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldKeyTheResponsesByUrlAndSelectedHeaders() {
+    final var maxAge = Map.of("Cache-Control", List.of("max-age=60"));
+    responses.add(response(200, maxAge));
+    responses.add(response(200, maxAge));
+
+    execute("https://example.com/prices", Map.of("Accept", "application/json", "X-Id", "1"));
+    execute("https://example.com/prices", Map.of("accept", "application/json", "X-Id", "2"));
+    execute("https://example.com/prices", Map.of("Accept", "application/xml"));
+
+    assertThat(sent).hasSize(2);
+    assertThat(cache.hits()).isOne();
+  }
+
+  @Test
+  void shouldEvictTheLeastRecentlyUsedResponse() {
+    final var maxAge = Map.of("Cache-Control", List.of("max-age=60"));
+    for (var i = 0; i < 4; i++) {
+      responses.add(response(200, maxAge));
+    }
+
+    execute("https://example.com/a", Map.of());
+    execute("https://example.com/b", Map.of());
+    execute("https://example.com/a", Map.of());
+    execute("https://example.com/c", Map.of());
+    execute("https://example.com/b", Map.of());
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.evictions()).isEqualTo(2);
+    assertThat(sent).hasSize(4);
+  }
+
+  @Test
+  void shouldNotCacheBodiesReadLargerThanTheMaxBodySizeNorOfUnknownSize() {
+    final var maxAge = Map.of("Cache-Control", List.of("max-age=60"));
+    final var declared =
+        Map.of("Cache-Control", List.of("max-age=60"), "Content-Length", List.of("100"));
+    responses.add(response(200, maxAge, 101));
+    responses.add(response(200, maxAge, -1));
+    responses.add(response(200, declared, -1));
+    responses.add(response(200, maxAge, 100));
+
+    execute("https://example.com/large", Map.of());
+    execute("https://example.com/unknown", Map.of());
+    // The declared length is used when the client does not report the bytes read
+    execute("https://example.com/declared", Map.of());
+    // A body without Content-Length is bounded by the bytes read
+    execute("https://example.com/chunked", Map.of());
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(sent).hasSize(4);
+    execute("https://example.com/declared", Map.of());
+    execute("https://example.com/chunked", Map.of());
+    assertThat(cache.hits()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldKeyTheResponsesByADigestOfTheHeaderValues() {
+    final var defaultCache = new HttpResponseCache();
+    final var metadata =
+        new HttpActivityMetadata(
+            "test",
+            "https://example.com/prices",
+            Map.of("Authorization", "Bearer secret"),
+            null,
+            null,
+            null,
+            null);
+    final var request = new HttpActivityRequest("transaction", metadata, null);
+    final var otherMetadata =
+        new HttpActivityMetadata(
+            "test",
+            "https://example.com/prices",
+            Map.of("Authorization", "Bearer other"),
+            null,
+            null,
+            null,
+            null);
+    final var otherRequest = new HttpActivityRequest("transaction", otherMetadata, null);
+
+    assertThat(defaultCache.key(request))
+        .startsWith("https://example.com/prices\n")
+        .doesNotContain("secret")
+        .isNotEqualTo(defaultCache.key(otherRequest));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenMaxBodyBytesIsNotPositive() {
+    assertThatThrownBy(() -> new HttpResponseCache(2, 0, Set.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max body bytes must be greater than zero");
+  }
+
+  private HttpActivityResponse execute(String url, Map<String, String> headers) {
+    final var metadata = new HttpActivityMetadata("test", url, headers, null, null, null, null);
+    final var request = new HttpActivityRequest("transaction", metadata, null);
+    final Function<Map<String, String>, CompletableFuture<HttpActivityResponse>> send =
+        conditionalHeaders -> {
+          sent.add(conditionalHeaders);
+          return CompletableFuture.completedFuture(responses.removeFirst());
+        };
+    return cache.execute(request, send).join();
+  }
+
+  private static HttpActivityResponse response(int code, Map<String, List<String>> headers) {
+    return code == 304 ? response(code, headers, -1) : response(code, headers, 12);
+  }
+
+  private static HttpActivityResponse response(
+      int code, Map<String, List<String>> headers, long bodySize) {
+    return new HttpActivityResponse(code, code == 304 ? null : BODY, headers, bodySize);
+  }
+}
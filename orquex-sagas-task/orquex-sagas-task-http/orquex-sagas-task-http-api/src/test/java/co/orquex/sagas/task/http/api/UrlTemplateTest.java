@@ -0,0 +1,76 @@
+package co.orquex.sagas.task.http.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class UrlTemplateTest {
+
+  @Test
+  void shouldExpandAndEncodePathVariables() {
+    final var template = UrlTemplate.of("https://example.com/users/{userId}/files/{name}");
+
+    final var url = template.expand(Map.of("userId", "a/b&c", "name", "résumé v1.pdf"), null);
+
+    assertThat(template.variables()).containsExactly("userId", "name");
+    assertThat(url)
+        .isEqualTo("https://example.com/users/a%2Fb%26c/files/r%C3%A9sum%C3%A9%20v1.pdf");
+  }
+
+  @Test
+  void shouldAppendEncodedQueryParameters() {
+    final Map<String, String> params = new LinkedHashMap<>();
+    params.put("q", "a&b=c d");
+    params.put("lang", "es");
+
+    final var url = UrlTemplate.of("https://example.com/search").expand(null, params);
+
+    assertThat(url).isEqualTo("https://example.com/search?q=a%26b%3Dc%20d&lang=es");
+  }
+
+  @Test
+  void shouldAppendQueryParametersToAnExistingQuery() {
+    final var url =
+        UrlTemplate.of("https://example.com/search?page=1").expand(null, Map.of("size", "10"));
+
+    assertThat(url).isEqualTo("https://example.com/search?page=1&size=10");
+  }
+
+  @Test
+  void shouldReturnTheTemplateWhenThereIsNothingToExpand() {
+    final var url = UrlTemplate.of("https://example.com/health").expand(Map.of(), Map.of());
+
+    assertThat(url).isEqualTo("https://example.com/health");
+  }
+
+  @Test
+  void shouldCompileATemplateOnlyOnce() {
+    final var template = "https://example.com/orders/{orderId}";
+
+    assertThat(UrlTemplate.of(template)).isSameAs(UrlTemplate.of(template));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenPathVariableIsMissing() {
+    final var template = UrlTemplate.of("https://example.com/orders/{orderId}");
+    final Map<String, String> pathParams = Map.of("id", "1");
+
+    assertThatThrownBy(() -> template.expand(pathParams, null))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Path variable 'orderId' is required");
+  }
+
+  @Test
+  void shouldThrowExceptionWhenTemplateIsInvalid() {
+    assertThatThrownBy(() -> UrlTemplate.of("https://example.com/orders/{orderId"))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Path variable not closed in URL 'https://example.com/orders/{orderId'");
+    assertThatThrownBy(() -> UrlTemplate.of("https://example.com/orders/{}"))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("Path variable without name in URL 'https://example.com/orders/{}'");
+  }
+}
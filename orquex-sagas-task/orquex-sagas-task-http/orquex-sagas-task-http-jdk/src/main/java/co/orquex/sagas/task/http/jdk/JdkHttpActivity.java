@@ -0,0 +1,119 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.task.http.api.AbstractAsyncHttpClientTaskImplementation;
+import co.orquex.sagas.task.http.api.HttpActivityRequest;
+import co.orquex.sagas.task.http.api.HttpActivityResponse;
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import co.orquex.sagas.task.http.api.HttpResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP task sent with the JDK {@link java.net.http.HttpClient}.
+ *
+ * <p>The request is sent with {@link java.net.http.HttpClient#sendAsync}, so when the task is
+ * started with {@link #executeAsync} no thread waits for the response: the future of the task is
+ * completed by the executor of the client once the response is received. The resilient execution
+ * of the flows calls the blocking {@link #execute}, which waits for that future. The request body
+ * is sent as JSON and the response body is read as a JSON object by the {@link
+ * co.orquex.sagas.task.http.api.HttpResponseBodyReader} once it is received.
+ */
+@Slf4j
+public abstract class JdkHttpActivity
+    extends AbstractAsyncHttpClientTaskImplementation<JdkHttpClient> {
+
+  private static final String CONTENT_TYPE = "Content-Type";
+  private static final String APPLICATION_JSON = "application/json";
+
+  private final String method;
+  private final HttpResponseCache responseCache;
+
+  protected JdkHttpActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry,
+      ObjectMapper objectMapper,
+      String method) {
+    this(registry, objectMapper, method, null);
+  }
+
+  /**
+   * @param responseCache cache of the responses, or {@code null} to send every request
+   */
+  protected JdkHttpActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry,
+      ObjectMapper objectMapper,
+      String method,
+      HttpResponseCache responseCache) {
+    super(registry, objectMapper);
+    this.method = method;
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  protected CompletableFuture<HttpActivityResponse> doRequestAsync(
+      JdkHttpClient client, HttpActivityRequest activityRequest) {
+    if (responseCache != null) {
+      return responseCache.execute(
+          activityRequest, headers -> send(client, activityRequest, headers));
+    }
+    return send(client, activityRequest, Map.of());
+  }
+
+  private CompletableFuture<HttpActivityResponse> send(
+      JdkHttpClient client, HttpActivityRequest activityRequest, Map<String, String> headers) {
+    final var request = buildRequest(client, activityRequest, headers);
+    log.debug(
+        "Sending {} '{}' for transaction '{}'",
+        method,
+        request.uri(),
+        activityRequest.transactionId());
+    final var bodyHandler = JsonBodySubscriber.handler(bodyReader(activityRequest));
+    return client
+        .httpClient()
+        .sendAsync(request, bodyHandler)
+        .thenApply(
+            response ->
+                new HttpActivityResponse(
+                    response.statusCode(),
+                    response.body().map(),
+                    response.headers().map(),
+                    response.body().size()));
+  }
+
+  private HttpRequest buildRequest(
+      JdkHttpClient client, HttpActivityRequest activityRequest, Map<String, String> extraHeaders) {
+    try {
+      final var builder =
+          HttpRequest.newBuilder(URI.create(activityRequest.url()))
+              .timeout(client.requestTimeout())
+              .method(method, bodyPublisher(activityRequest));
+      final var headers = activityRequest.headers();
+      headers.forEach(builder::header);
+      extraHeaders.forEach(builder::setHeader);
+      if (activityRequest.body() != null
+          && headers.keySet().stream().noneMatch(CONTENT_TYPE::equalsIgnoreCase)) {
+        builder.header(CONTENT_TYPE, APPLICATION_JSON);
+      }
+      return builder.build();
+    } catch (IllegalArgumentException e) {
+      throw new WorkflowException("Invalid HTTP request: " + e.getMessage(), e);
+    }
+  }
+
+  private HttpRequest.BodyPublisher bodyPublisher(HttpActivityRequest activityRequest) {
+    if (activityRequest.body() == null) {
+      return HttpRequest.BodyPublishers.noBody();
+    }
+    try {
+      return HttpRequest.BodyPublishers.ofByteArray(
+          objectMapper.writeValueAsBytes(activityRequest.body()));
+    } catch (JsonProcessingException e) {
+      throw new WorkflowException("HTTP request body serialization error", e);
+    }
+  }
+}
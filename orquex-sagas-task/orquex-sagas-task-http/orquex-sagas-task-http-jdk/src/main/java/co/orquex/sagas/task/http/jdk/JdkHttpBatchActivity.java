@@ -0,0 +1,79 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpActivityMetadata;
+import co.orquex.sagas.task.http.api.HttpActivityPayload;
+import co.orquex.sagas.task.http.api.HttpActivityRequest;
+import co.orquex.sagas.task.http.api.HttpActivityResponse;
+import co.orquex.sagas.task.http.api.HttpBatchMapping;
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import co.orquex.sagas.task.http.api.HttpRequestBatcher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends the concurrent requests to the same bulk endpoint as a single POST request with the JDK
+ * HTTP client.
+ *
+ * <p>The URL of the task is the bulk endpoint and the body of the payload is the item of the bulk
+ * request. The requests with the same client provider, URL and headers are collected by the {@link
+ * HttpRequestBatcher}, the {@link HttpBatchMapping} builds the bulk body from their bodies and
+ * splits the bulk response into the response of each request. The response settings of the first
+ * request of a batch apply to the bulk response, except the response pointers, which are ignored.
+ *
+ * <p>The activity stages start their tasks with {@link #executeAsync}, so a request does not hold
+ * a thread of the flow while its batch is collected. A task configured with a retry, circuit
+ * breaker, hedge, single-flight or memoization runs those patterns synchronously and calls the
+ * blocking {@link #execute}, which holds the calling thread for up to the maximum delay of the
+ * batcher, so the batched tasks should not use them.
+ */
+public class JdkHttpBatchActivity extends JdkHttpActivity {
+
+  private final HttpBatchMapping mapping;
+  private final HttpRequestBatcher batcher;
+
+  public JdkHttpBatchActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry,
+      ObjectMapper objectMapper,
+      HttpBatchMapping mapping,
+      HttpRequestBatcher batcher) {
+    super(registry, objectMapper, "POST");
+    this.mapping = mapping;
+    this.batcher = batcher;
+  }
+
+  @Override
+  public String getKey() {
+    return "jdk-http-batch";
+  }
+
+  @Override
+  protected CompletableFuture<HttpActivityResponse> doRequestAsync(
+      JdkHttpClient client, HttpActivityRequest activityRequest) {
+    final var url = activityRequest.url();
+    final var headers = activityRequest.headers();
+    final var clientProvider = activityRequest.metadata().clientProvider();
+    final var key = "%s %s %s".formatted(clientProvider, url, new TreeMap<>(headers));
+    return batcher.submit(
+        key,
+        activityRequest,
+        requests -> {
+          final var first = requests.getFirst();
+          final var metadata =
+              new HttpActivityMetadata(
+                  clientProvider,
+                  url,
+                  headers,
+                  null,
+                  null,
+                  first.metadata().responseMaxSize(),
+                  null);
+          final var payload =
+              new HttpActivityPayload(
+                  null, null, null, null, mapping.toBulkBody(requests, objectMapper));
+          final var bulkRequest = new HttpActivityRequest(first.transactionId(), metadata, payload);
+          return super.doRequestAsync(client, bulkRequest)
+              .thenApply(response -> mapping.toResponses(requests, response, objectMapper));
+        });
+  }
+}
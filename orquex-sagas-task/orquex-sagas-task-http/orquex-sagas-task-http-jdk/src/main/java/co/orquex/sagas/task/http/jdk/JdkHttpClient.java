@@ -0,0 +1,12 @@
+package co.orquex.sagas.task.http.jdk;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * JDK HTTP client provided to the tasks, with the timeout of the requests sent with it.
+ *
+ * @param httpClient the shared client
+ * @param requestTimeout time to wait for the response of a request
+ */
+public record JdkHttpClient(HttpClient httpClient, Duration requestTimeout) {}
@@ -0,0 +1,55 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration record for a JDK HTTP client provider.
+ *
+ * <p>The JDK client keeps a pool of connections per client, sized and expired by the {@code
+ * jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout} system
+ * properties. With HTTP/2 the requests to the same host are multiplexed over a single connection.
+ *
+ * @param version preferred protocol version, HTTP/2 is negotiated and falls back to HTTP/1.1
+ * @param connectTimeout time to wait for a connection to be established
+ * @param requestTimeout time to wait for the response of a request, once it is sent
+ * @param redirect redirection policy
+ * @param executor executor of the client, that completes the futures of the responses, or {@code
+ *     null} to use the default executor of the client
+ * @see JdkHttpClientProvider
+ */
+public record JdkHttpClientConfiguration(
+    HttpClient.Version version,
+    Duration connectTimeout,
+    Duration requestTimeout,
+    HttpClient.Redirect redirect,
+    Executor executor) {
+
+  public static final JdkHttpClientConfiguration DEFAULT =
+      new JdkHttpClientConfiguration(
+          HttpClient.Version.HTTP_2,
+          Duration.ofSeconds(10),
+          Duration.ofSeconds(30),
+          HttpClient.Redirect.NORMAL,
+          null);
+
+  /**
+   * Validates all required parameters using Preconditions.
+   *
+   * @throws IllegalArgumentException if any validation fails
+   */
+  public JdkHttpClientConfiguration {
+    Preconditions.checkArgumentNotNull(version, "HTTP version cannot be null");
+    Preconditions.checkArgumentNotNull(connectTimeout, "Connect timeout cannot be null");
+    Preconditions.checkArgument(
+        !connectTimeout.isNegative() && !connectTimeout.isZero(),
+        "Connect timeout must be positive");
+    Preconditions.checkArgumentNotNull(requestTimeout, "Request timeout cannot be null");
+    Preconditions.checkArgument(
+        !requestTimeout.isNegative() && !requestTimeout.isZero(),
+        "Request timeout must be positive");
+    Preconditions.checkArgumentNotNull(redirect, "Redirect policy cannot be null");
+  }
+}
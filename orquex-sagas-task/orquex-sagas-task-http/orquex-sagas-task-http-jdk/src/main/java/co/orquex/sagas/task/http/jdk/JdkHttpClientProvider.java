@@ -0,0 +1,49 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.domain.utils.Preconditions;
+import co.orquex.sagas.task.http.api.HttpClientProvider;
+import java.net.http.HttpClient;
+
+/**
+ * Provides a JDK {@link HttpClient} built once from its {@link JdkHttpClientConfiguration}, so all
+ * the tasks using the provider share its connections.
+ */
+public class JdkHttpClientProvider implements HttpClientProvider<JdkHttpClient>, AutoCloseable {
+
+  private final String key;
+  private final JdkHttpClient client;
+
+  public JdkHttpClientProvider(final String key) {
+    this(key, JdkHttpClientConfiguration.DEFAULT);
+  }
+
+  public JdkHttpClientProvider(final String key, final JdkHttpClientConfiguration configuration) {
+    this.key = Preconditions.checkArgumentNotNull(key, "Client provider key cannot be null");
+    Preconditions.checkArgumentNotNull(configuration, "Configuration cannot be null");
+    final var builder =
+        HttpClient.newBuilder()
+            .version(configuration.version())
+            .connectTimeout(configuration.connectTimeout())
+            .followRedirects(configuration.redirect());
+    if (configuration.executor() != null) {
+      builder.executor(configuration.executor());
+    }
+    this.client = new JdkHttpClient(builder.build(), configuration.requestTimeout());
+  }
+
+  @Override
+  public JdkHttpClient getClient() {
+    return client;
+  }
+
+  @Override
+  public String getKey() {
+    return key;
+  }
+
+  /** Closes the client, the requests in flight are completed before it is closed. */
+  @Override
+  public void close() {
+    client.httpClient().close();
+  }
+}
@@ -0,0 +1,18 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Sends a DELETE request with the JDK HTTP client. */
+public class JdkHttpDeleteActivity extends JdkHttpActivity {
+
+  public JdkHttpDeleteActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry, ObjectMapper objectMapper) {
+    super(registry, objectMapper, "DELETE");
+  }
+
+  @Override
+  public String getKey() {
+    return "jdk-http-delete";
+  }
+}
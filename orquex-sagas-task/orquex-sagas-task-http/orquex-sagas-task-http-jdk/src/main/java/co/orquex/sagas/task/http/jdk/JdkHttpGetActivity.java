@@ -0,0 +1,30 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import co.orquex.sagas.task.http.api.HttpResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Sends a GET request with the JDK HTTP client. */
+public class JdkHttpGetActivity extends JdkHttpActivity {
+
+  public JdkHttpGetActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry, ObjectMapper objectMapper) {
+    super(registry, objectMapper, "GET");
+  }
+
+  /**
+   * Creates the activity serving the responses from the cache while they are fresh and
+   * revalidating them once they are stale.
+   */
+  public JdkHttpGetActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry,
+      ObjectMapper objectMapper,
+      HttpResponseCache responseCache) {
+    super(registry, objectMapper, "GET", responseCache);
+  }
+
+  @Override
+  public String getKey() {
+    return "jdk-http-get";
+  }
+}
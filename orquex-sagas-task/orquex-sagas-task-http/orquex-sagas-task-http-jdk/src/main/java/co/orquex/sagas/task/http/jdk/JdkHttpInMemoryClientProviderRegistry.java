@@ -0,0 +1,35 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpClientProvider;
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class JdkHttpInMemoryClientProviderRegistry
+    implements HttpClientProviderRegistry<JdkHttpClient> {
+
+  private final Map<String, HttpClientProvider<JdkHttpClient>> registry;
+
+  private JdkHttpInMemoryClientProviderRegistry() {
+    this.registry = new ConcurrentHashMap<>();
+  }
+
+  public static JdkHttpInMemoryClientProviderRegistry of(
+      final List<HttpClientProvider<JdkHttpClient>> providers) {
+    final var instance = new JdkHttpInMemoryClientProviderRegistry();
+    providers.forEach(instance::add);
+    return instance;
+  }
+
+  @Override
+  public void add(HttpClientProvider<JdkHttpClient> provider) {
+    this.registry.put(provider.getKey(), provider);
+  }
+
+  @Override
+  public Optional<HttpClientProvider<JdkHttpClient>> get(String key) {
+    return Optional.ofNullable(this.registry.get(key));
+  }
+}
@@ -0,0 +1,18 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Sends a POST request with the JDK HTTP client. */
+public class JdkHttpPostActivity extends JdkHttpActivity {
+
+  public JdkHttpPostActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry, ObjectMapper objectMapper) {
+    super(registry, objectMapper, "POST");
+  }
+
+  @Override
+  public String getKey() {
+    return "jdk-http-post";
+  }
+}
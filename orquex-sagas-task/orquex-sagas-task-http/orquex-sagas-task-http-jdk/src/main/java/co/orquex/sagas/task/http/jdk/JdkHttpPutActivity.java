@@ -0,0 +1,18 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.task.http.api.HttpClientProviderRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/** Sends a PUT request with the JDK HTTP client. */
+public class JdkHttpPutActivity extends JdkHttpActivity {
+
+  public JdkHttpPutActivity(
+      HttpClientProviderRegistry<JdkHttpClient> registry, ObjectMapper objectMapper) {
+    super(registry, objectMapper, "PUT");
+  }
+
+  @Override
+  public String getKey() {
+    return "jdk-http-put";
+  }
+}
@@ -0,0 +1,155 @@
+package co.orquex.sagas.task.http.jdk;
+
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
+import co.orquex.sagas.task.http.api.HttpResponseBodyReader;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Body subscriber that keeps the buffers received by the client until the response is complete and
+ * reads them with the {@link HttpResponseBodyReader}.
+ *
+ * <p>The subscription is cancelled as soon as the declared or received body is larger than the
+ * maximum size of the reader, so it never holds more than that. The body is read once it is
+ * complete, so no thread of the client waits for the network while it is parsed. The number of
+ * bytes received is returned with the body.
+ */
+final class JsonBodySubscriber implements HttpResponse.BodySubscriber<JsonBodySubscriber.JsonBody> {
+
+  private final HttpResponseBodyReader reader;
+  private final long contentLength;
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  private final CompletableFuture<JsonBody> body = new CompletableFuture<>();
+  private Flow.Subscription subscription;
+  private long size;
+
+  JsonBodySubscriber(HttpResponseBodyReader reader, long contentLength) {
+    this.reader = reader;
+    this.contentLength = contentLength;
+  }
+
+  /**
+   * Returns a handler that reads the body of every response with the given reader.
+   *
+   * @param reader the reader of the response body
+   * @return the body handler
+   */
+  static HttpResponse.BodyHandler<JsonBody> handler(HttpResponseBodyReader reader) {
+    return responseInfo ->
+        new JsonBodySubscriber(
+            reader, responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1L));
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    this.subscription = subscription;
+    try {
+      reader.checkSize(contentLength);
+    } catch (RuntimeException e) {
+      subscription.cancel();
+      body.completeExceptionally(e);
+      return;
+    }
+    subscription.request(Long.MAX_VALUE);
+  }
+
+  @Override
+  public void onNext(List<ByteBuffer> items) {
+    if (body.isDone()) {
+      return;
+    }
+    for (final var item : items) {
+      size += item.remaining();
+      buffers.add(item);
+    }
+    try {
+      reader.checkSize(size);
+    } catch (RuntimeException e) {
+      subscription.cancel();
+      buffers.clear();
+      body.completeExceptionally(e);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    buffers.clear();
+    body.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (body.isDone()) {
+      return;
+    }
+    try {
+      final var map = reader.read(new ByteBuffersInputStream(buffers.iterator()));
+      body.complete(new JsonBody(map, size));
+    } catch (RuntimeException e) {
+      body.completeExceptionally(e);
+    } finally {
+      buffers.clear();
+    }
+  }
+
+  @Override
+  public CompletionStage<JsonBody> getBody() {
+    return body;
+  }
+
+  /**
+   * Body of a response.
+   *
+   * @param map the body read, {@code null} if it is empty
+   * @param size the number of bytes received
+   */
+  record JsonBody(JsonNodeMap map, long size) {}
+
+  /** Stream over the received buffers, without copying them. */
+  private static final class ByteBuffersInputStream extends InputStream {
+
+    private final Iterator<ByteBuffer> buffers;
+    private ByteBuffer current;
+
+    ByteBuffersInputStream(Iterator<ByteBuffer> buffers) {
+      this.buffers = buffers;
+    }
+
+    @Override
+    public int read() {
+      final var buffer = current();
+      return buffer == null ? -1 : buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      final var buffer = current();
+      if (buffer == null) {
+        return -1;
+      }
+      final var read = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, read);
+      return read;
+    }
+
+    private ByteBuffer current() {
+      while (current == null || !current.hasRemaining()) {
+        if (!buffers.hasNext()) {
+          return null;
+        }
+        current = buffers.next();
+      }
+      return current;
+    }
+  }
+}
@@ -0,0 +1,325 @@
+package co.orquex.sagas.task.http.jdk;
+
+import static co.orquex.sagas.task.http.api.HttpActivityMetadata.*;
+import static co.orquex.sagas.task.http.api.HttpActivityPayload.PAYLOAD_BODY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.task.TaskRequest;
+import co.orquex.sagas.task.http.api.HttpBatchConfiguration;
+import co.orquex.sagas.task.http.api.HttpBatchMapping;
+import co.orquex.sagas.task.http.api.HttpRequestBatcher;
+import co.orquex.sagas.task.http.api.HttpResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JdkHttpActivityTest {
+
+  static final String CLIENT_PROVIDER = "jdk-client-provider-test";
+  static final String SHORT_TIMEOUT_CLIENT_PROVIDER = "jdk-short-timeout-client-provider-test";
+  static final String TRANSACTION_ID = UUID.randomUUID().toString();
+  static final ObjectMapper objectMapper = new ObjectMapper();
+
+  HttpServer server;
+  ExecutorService serverExecutor;
+  JdkHttpClientProvider provider;
+  JdkHttpClientProvider shortTimeoutProvider;
+  JdkHttpInMemoryClientProviderRegistry registry;
+  final AtomicReference<RecordedRequest> recorded = new AtomicReference<>();
+  final CountDownLatch release = new CountDownLatch(1);
+  final List<String> catalogValidators = new CopyOnWriteArrayList<>();
+  final AtomicInteger bulkRequests = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.createContext("/echo", this::echo);
+    server.createContext("/empty", exchange -> respond(exchange, 404, ""));
+    server.createContext("/text", exchange -> respond(exchange, 200, "plain text"));
+    server.createContext("/large", JdkHttpActivityTest::large);
+    server.createContext("/catalog", this::catalog);
+    server.createContext("/bulk", this::bulk);
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            release.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200, "{\"slow\":true}");
+        });
+    server.start();
+    provider =
+        new JdkHttpClientProvider(
+            CLIENT_PROVIDER,
+            new JdkHttpClientConfiguration(
+                HttpClient.Version.HTTP_2,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                HttpClient.Redirect.NORMAL,
+                null));
+    shortTimeoutProvider =
+        new JdkHttpClientProvider(
+            SHORT_TIMEOUT_CLIENT_PROVIDER,
+            new JdkHttpClientConfiguration(
+                HttpClient.Version.HTTP_2,
+                Duration.ofSeconds(2),
+                Duration.ofMillis(200),
+                HttpClient.Redirect.NORMAL,
+                null));
+    registry = JdkHttpInMemoryClientProviderRegistry.of(List.of(provider, shortTimeoutProvider));
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    provider.close();
+    shortTimeoutProvider.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void shouldPostJsonBodyAndReadJsonResponse() {
+    final var task = new JdkHttpPostActivity(registry, objectMapper);
+    final var metadata = getMetadata("/echo");
+    metadata.put(METADATA_PARAMS, new HashMap<>(Map.of("key", "value")));
+    final var body = new HashMap<String, Serializable>(Map.of("name", "orquex"));
+    final Map<String, Serializable> payload = new HashMap<>(Map.of(PAYLOAD_BODY, body));
+
+    final var response = task.execute(new TaskRequest(TRANSACTION_ID, metadata, payload));
+
+    assertThat(response).containsEntry("code", 200).containsKeys("body", "headers");
+    assertThat(response.get("body")).isEqualTo(Map.of("name", "orquex"));
+    final var request = recorded.get();
+    assertThat(request.method()).isEqualTo("POST");
+    assertThat(request.query()).isEqualTo("key=value");
+    assertThat(request.contentType()).isEqualTo("application/json");
+    assertThat(request.testHeader()).isEqualTo("test");
+  }
+
+  @Test
+  void shouldSendGetWithoutBodyAndReadEmptyResponse() {
+    final var task = new JdkHttpGetActivity(registry, objectMapper);
+    final var response =
+        task.execute(new TaskRequest(TRANSACTION_ID, getMetadata("/empty"), new HashMap<>()));
+
+    assertThat(response).containsEntry("code", 404);
+    assertThat(response.get("body")).isNull();
+  }
+
+  @Test
+  void shouldNotBlockWhileTheRequestIsInFlight() {
+    final var task = new JdkHttpGetActivity(registry, objectMapper);
+    final var future =
+        task.executeAsync(new TaskRequest(TRANSACTION_ID, getMetadata("/slow"), new HashMap<>()));
+
+    assertThat(future).isNotDone();
+    release.countDown();
+    assertThat(future.join()).containsEntry("code", 200);
+  }
+
+  @Test
+  void shouldFailWhenTheResponseTimesOut() {
+    final var task = new JdkHttpGetActivity(registry, objectMapper);
+    final var metadata = getMetadata("/slow");
+    metadata.put(METADATA_CLIENT_PROVIDER, SHORT_TIMEOUT_CLIENT_PROVIDER);
+    final var request = new TaskRequest(TRANSACTION_ID, metadata, new HashMap<>());
+
+    assertThatThrownBy(() -> task.execute(request))
+        .isInstanceOf(WorkflowException.class)
+        .hasCauseInstanceOf(HttpTimeoutException.class);
+  }
+
+  @Test
+  void shouldKeepOnlyTheSelectedFieldsOfTheResponse() {
+    final var task = new JdkHttpPostActivity(registry, objectMapper);
+    final var metadata = getMetadata("/echo");
+    metadata.put(METADATA_RESPONSE_POINTERS, new ArrayList<>(List.of("/customer/name")));
+    final var customer = new HashMap<String, Serializable>(Map.of("name", "orquex", "id", 1));
+    final var body = new HashMap<String, Serializable>(Map.of("customer", customer, "total", 30));
+    final Map<String, Serializable> payload = new HashMap<>(Map.of(PAYLOAD_BODY, body));
+
+    final var response = task.execute(new TaskRequest(TRANSACTION_ID, metadata, payload));
+
+    assertThat(response.get("body")).isEqualTo(Map.of("customer", Map.of("name", "orquex")));
+  }
+
+  @Test
+  void shouldFailWhenTheResponseExceedsTheMaxSize() {
+    final var task = new JdkHttpGetActivity(registry, objectMapper);
+    final var metadata = getMetadata("/large");
+    metadata.put(METADATA_RESPONSE_MAX_SIZE, 1024L);
+    final var request = new TaskRequest(TRANSACTION_ID, metadata, new HashMap<>());
+
+    assertThatThrownBy(() -> task.execute(request))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body exceeds the maximum size of 1024 bytes");
+  }
+
+  @Test
+  void shouldFailWhenTheResponseIsNotJson() {
+    final var task = new JdkHttpGetActivity(registry, objectMapper);
+    final var request = new TaskRequest(TRANSACTION_ID, getMetadata("/text"), new HashMap<>());
+
+    assertThatThrownBy(() -> task.execute(request))
+        .isInstanceOf(WorkflowException.class)
+        .hasMessage("HTTP response body is not a JSON object");
+  }
+
+  @Test
+  void shouldBuildTheClientFromTheConfiguration() {
+    final var client = provider.getClient();
+
+    assertThat(client.httpClient().version()).isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(client.httpClient().connectTimeout()).contains(Duration.ofSeconds(2));
+    assertThat(client.requestTimeout()).isEqualTo(Duration.ofSeconds(5));
+    assertThatThrownBy(
+            () ->
+                new JdkHttpClientConfiguration(
+                    HttpClient.Version.HTTP_2,
+                    Duration.ZERO,
+                    Duration.ofSeconds(1),
+                    HttpClient.Redirect.NORMAL,
+                    null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Connect timeout must be positive");
+  }
+
+  @Test
+  void shouldRevalidateCachedGetResponses() {
+    final var cache = new HttpResponseCache();
+    final var task = new JdkHttpGetActivity(registry, objectMapper, cache);
+    final var request = new TaskRequest(TRANSACTION_ID, getMetadata("/catalog"), new HashMap<>());
+
+    final var first = task.execute(request);
+    final var second = task.execute(request);
+
+    assertThat(second.get("code")).isEqualTo(200);
+    assertThat(second.get("body")).isEqualTo(first.get("body")).isEqualTo(Map.of("items", 3));
+    assertThat(catalogValidators).containsExactly("", "\"v1\"");
+    assertThat(cache.revalidations()).isOne();
+  }
+
+  @Test
+  void shouldSendConcurrentRequestsAsOneBulkRequest() {
+    final var mapping = HttpBatchMapping.jsonArray("items", "results", "sku");
+    try (final var batcher =
+        new HttpRequestBatcher(new HttpBatchConfiguration(3, Duration.ofSeconds(5)))) {
+      final var task = new JdkHttpBatchActivity(registry, objectMapper, mapping, batcher);
+      final List<CompletableFuture<Map<String, Serializable>>> futures = new ArrayList<>();
+      for (final var sku : List.of("a", "b", "c")) {
+        final var body = new HashMap<String, Serializable>(Map.of("sku", sku));
+        final Map<String, Serializable> payload = new HashMap<>(Map.of(PAYLOAD_BODY, body));
+        futures.add(task.executeAsync(new TaskRequest(sku, getMetadata("/bulk"), payload)));
+      }
+
+      for (var i = 0; i < futures.size(); i++) {
+        final var response = futures.get(i).join();
+        assertThat(response).containsEntry("code", 200);
+        assertThat(response.get("body"))
+            .isEqualTo(Map.of("sku", List.of("a", "b", "c").get(i), "reserved", true));
+      }
+      assertThat(bulkRequests).hasValue(1);
+      assertThat(batcher.bulkRequests()).isOne();
+    }
+  }
+
+  private Map<String, Serializable> getMetadata(String path) {
+    final Map<String, Serializable> metadata = new HashMap<>();
+    metadata.put(METADATA_CLIENT_PROVIDER, CLIENT_PROVIDER);
+    metadata.put(
+        METADATA_URL, "http://localhost:%d%s".formatted(server.getAddress().getPort(), path));
+    metadata.put(METADATA_HEADERS, new HashMap<>(Map.of("X-Test", "test")));
+    return metadata;
+  }
+
+  private void echo(HttpExchange exchange) throws IOException {
+    final var headers = exchange.getRequestHeaders();
+    recorded.set(
+        new RecordedRequest(
+            exchange.getRequestMethod(),
+            exchange.getRequestURI().getQuery(),
+            headers.getFirst("Content-Type"),
+            headers.getFirst("X-Test")));
+    final var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    respond(exchange, 200, body);
+  }
+
+  private void catalog(HttpExchange exchange) throws IOException {
+    final var validator = exchange.getRequestHeaders().getFirst("If-None-Match");
+    catalogValidators.add(validator == null ? "" : validator);
+    exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+    exchange.getResponseHeaders().add("ETag", "\"v1\"");
+    if ("\"v1\"".equals(validator)) {
+      respond(exchange, 304, "");
+    } else {
+      respond(exchange, 200, "{\"items\":3}");
+    }
+  }
+
+  private void bulk(HttpExchange exchange) throws IOException {
+    bulkRequests.incrementAndGet();
+    final var items = objectMapper.readTree(exchange.getRequestBody()).get("items");
+    // The results are returned in reverse order, they are matched by SKU
+    final var results = objectMapper.createArrayNode();
+    for (var i = items.size() - 1; i >= 0; i--) {
+      results.addObject().put("sku", items.get(i).get("sku").asText()).put("reserved", true);
+    }
+    final var body = objectMapper.createObjectNode().set("results", results);
+    respond(exchange, 200, body.toString());
+  }
+
+  private static void large(HttpExchange exchange) throws IOException {
+    // Chunked response without a declared length
+    exchange.sendResponseHeaders(200, 0);
+    try (final var responseBody = exchange.getResponseBody()) {
+      responseBody.write("{\"values\":[0".getBytes(StandardCharsets.UTF_8));
+      for (var i = 1; i < 10_000; i++) {
+        responseBody.write((",%d".formatted(i)).getBytes(StandardCharsets.UTF_8));
+      }
+      responseBody.write("]}".getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      // The client cancelled the response
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+    final var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+    try (final var responseBody = exchange.getResponseBody()) {
+      responseBody.write(bytes);
+    }
+  }
+
+  record RecordedRequest(String method, String query, String contentType, String testHeader) {}
+}
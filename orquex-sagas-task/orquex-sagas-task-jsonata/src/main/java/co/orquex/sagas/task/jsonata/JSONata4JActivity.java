@@ -5,25 +5,26 @@ import static java.util.Objects.isNull;
 import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
 import co.orquex.sagas.domain.exception.WorkflowException;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
 import co.orquex.sagas.domain.task.TaskRequest;
 import com.api.jsonata4java.expressions.EvaluateException;
-import com.api.jsonata4java.expressions.Expressions;
 import com.api.jsonata4java.expressions.FrameEnvironment;
 import com.api.jsonata4java.expressions.ParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/** JSONata implementation class, with the parsed expressions cached. */
 @Slf4j
-@RequiredArgsConstructor
 public class JSONata4JActivity implements TaskImplementation {
 
   public static final String EXPRESSION = "__expression";
@@ -32,29 +33,40 @@ public class JSONata4JActivity implements TaskImplementation {
   public static final String PAYLOAD_INPUT_KEY = "payload";
   private final GlobalContext globalContext;
   private final ObjectMapper objectMapper;
+  private final JSONataExpressionCache expressionCache;
+
+  public JSONata4JActivity(GlobalContext globalContext, ObjectMapper objectMapper) {
+    this(globalContext, objectMapper, new JSONataExpressionCache());
+  }
+
+  public JSONata4JActivity(
+      GlobalContext globalContext,
+      ObjectMapper objectMapper,
+      JSONataExpressionCache expressionCache) {
+    this.globalContext = globalContext;
+    this.objectMapper = objectMapper;
+    this.expressionCache = expressionCache;
+  }
 
   @Override
   public Map<String, Serializable> execute(TaskRequest taskRequest) {
     try {
       final var transactionContext = this.globalContext.get(taskRequest.transactionId());
       final var metadata = new HashMap<>(taskRequest.metadata());
-      final var payload = new HashMap<>(taskRequest.payload());
 
       // Checks if the metadata contains the key "__expression"
       if (!metadata.containsKey(EXPRESSION)) {
         throw new WorkflowException("JSONata expression not found");
       }
       final var base64Expression = metadata.remove(EXPRESSION);
-      final var expression =
-          new String(
-              java.util.Base64.getDecoder()
-                  .decode(base64Expression.toString().getBytes(StandardCharsets.UTF_8)));
-      final var input = Map.of(METADATA_INPUT_KEY, metadata, PAYLOAD_INPUT_KEY, payload);
-      // Converts the payload to a JsonNode
-      final var jsonNode = objectMapper.convertValue(input, JsonNode.class);
-      // Parses the JSONata expression
-      final var jsonata = Expressions.parse(expression);
-      // Sets the context function
+      // Builds the input tree, a payload that is already a tree is not converted
+      final var jsonNode = objectMapper.createObjectNode();
+      jsonNode.set(METADATA_INPUT_KEY, objectMapper.valueToTree(metadata));
+      jsonNode.set(PAYLOAD_INPUT_KEY, JsonNodeMap.asJsonNode(taskRequest.payload(), objectMapper));
+      // Gets the parsed JSONata expression, with a new environment
+      final var jsonata =
+          expressionCache.get(base64Expression.toString(), JSONata4JActivity::decode);
+      // Sets the context function of the transaction
       final FrameEnvironment environment = jsonata.getEnvironment();
       environment.setJsonataFunction(
           ContextFunction.FUNCTION_NAME, new ContextFunction(transactionContext, objectMapper));
@@ -74,13 +86,43 @@ public class JSONata4JActivity implements TaskImplementation {
     }
   }
 
+  /**
+   * Parses the Base64 expression and caches it.
+   *
+   * @param expression the Base64 expression, as found in the task metadata
+   * @throws WorkflowException if the expression cannot be decoded or parsed
+   */
+  public void precompile(String expression) {
+    try {
+      expressionCache.precompile(expression, JSONata4JActivity::decode);
+    } catch (IllegalArgumentException e) {
+      throw new WorkflowException("An error occurred while decoding the JSONata expression");
+    } catch (IOException | ParseException e) {
+      throw new WorkflowException("An error occurred while parsing the JSONata expression");
+    }
+  }
+
+  @Override
+  public void precompile(TaskRequest request) {
+    if (request.metadata().get(EXPRESSION) instanceof String expression) {
+      precompile(expression);
+    }
+  }
+
+  private static String decode(String expression) {
+    return new String(
+        Base64.getDecoder().decode(expression.getBytes(StandardCharsets.UTF_8)),
+        StandardCharsets.UTF_8);
+  }
+
   private Map<String, Serializable> processResult(JsonNode result) {
     if (isNull(result) || result.isNull()) {
       final Map<String, Serializable> resultMap = HashMap.newHashMap(1);
       resultMap.put(RESULT, null);
       return resultMap;
-    } else if (result.isObject()) {
-      return objectMapper.convertValue(result, new TypeReference<>() {});
+    } else if (result instanceof ObjectNode objectNode) {
+      // Converted lazily, only if the next task reads it as a map
+      return new JsonNodeMap(objectNode, objectMapper);
     } else if (result.isArray()) {
       final var list =
           objectMapper.convertValue(result, new TypeReference<ArrayList<Serializable>>() {});
@@ -0,0 +1,118 @@
+package co.orquex.sagas.task.jsonata;
+
+import co.orquex.sagas.domain.utils.LruCache;
+import co.orquex.sagas.domain.utils.Preconditions;
+import com.api.jsonata4java.expressions.Expressions;
+import com.api.jsonata4java.expressions.ParseException;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Bounded LRU cache of parsed JSONata expressions, keyed by their source.
+ *
+ * <p>Parsing runs the ANTLR grammar and is far more expensive than the evaluation. The parse tree
+ * is immutable, while an {@link Expressions} keeps the variables and functions of an evaluation in
+ * its environment, so the cache keeps the parsed expression and every {@link #get(String,
+ * UnaryOperator)} returns a new {@link Expressions} over the same parse tree, with an empty
+ * environment where the functions of the evaluation can be bound.
+ */
+@Slf4j
+public class JSONataExpressionCache {
+
+  public static final int DEFAULT_MAX_SIZE = 256;
+
+  private final LruCache<String, Parsed> expressions;
+  private final AtomicLong parseTimeNanos = new AtomicLong();
+
+  public JSONataExpressionCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public JSONataExpressionCache(final int maxSize) {
+    Preconditions.checkArgument(maxSize > 0, "Max size must be greater than zero");
+    this.expressions = new LruCache<>(maxSize);
+  }
+
+  /**
+   * Returns a new expression for the source, parsing it only if it is not cached.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the expression text, only called when it is parsed
+   * @return a new expression, that must be evaluated by a single thread
+   * @throws ParseException if the expression is not valid
+   * @throws IOException if the expression cannot be read
+   */
+  public Expressions get(final String source, final UnaryOperator<String> decoder)
+      throws ParseException, IOException {
+    var parsed = expressions.get(source).orElse(null);
+    if (parsed == null) {
+      // Concurrent misses of the same expression may parse it twice, both results are equal
+      parsed = parse(decoder.apply(source));
+      expressions.put(source, parsed);
+    }
+    return new Expressions(parsed.tree(), parsed.expression());
+  }
+
+  /**
+   * Parses the expression and caches it, so its first evaluation does not pay for the parsing.
+   *
+   * @param source the source as found in the task metadata
+   * @param decoder converts the source to the expression text
+   * @throws ParseException if the expression is not valid
+   * @throws IOException if the expression cannot be read
+   */
+  public void precompile(final String source, final UnaryOperator<String> decoder)
+      throws ParseException, IOException {
+    get(source, decoder);
+  }
+
+  /**
+   * @return the number of parsed expressions currently cached
+   */
+  public int size() {
+    return expressions.size();
+  }
+
+  /**
+   * @return the number of requests served by an already parsed expression
+   */
+  public long hits() {
+    return expressions.hits();
+  }
+
+  /**
+   * @return the number of requests that parsed the expression
+   */
+  public long misses() {
+    return expressions.misses();
+  }
+
+  /**
+   * @return the number of expressions evicted because the cache was full
+   */
+  public long evictions() {
+    return expressions.evictions();
+  }
+
+  /**
+   * @return the total time spent parsing expressions, in nanoseconds
+   */
+  public long parseTimeNanos() {
+    return parseTimeNanos.get();
+  }
+
+  private Parsed parse(String expression) throws ParseException, IOException {
+    final var start = System.nanoTime();
+    final var parsed = new Parsed(Expressions.parse(expression).getTree(), expression);
+    final var elapsed = System.nanoTime() - start;
+    parseTimeNanos.addAndGet(elapsed);
+    final var length = expression.length();
+    log.debug("JSONata expression of {} characters parsed in {}µs", length, elapsed / 1_000);
+    return parsed;
+  }
+
+  private record Parsed(ParseTree tree, String expression) {}
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import co.orquex.sagas.domain.api.TaskImplementation;
 import co.orquex.sagas.domain.api.context.GlobalContext;
+import co.orquex.sagas.domain.jackson.JsonNodeMap;
 import co.orquex.sagas.domain.task.TaskRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -88,6 +89,17 @@ class JSONata4JActivityTest {
     assertThat(result).containsKey(RESULT).containsValue(expected);
   }
 
+  @Test
+  void shouldChainObjectResultsWithoutConversion() {
+    // Given
+    final var address = test("payload.Address");
+    // When
+    final var result = test(TRANSACTION_ID, "payload.City", Collections.emptyMap(), address);
+    // Then
+    assertThat(address).isInstanceOf(JsonNodeMap.class).containsEntry("City", "Winchester");
+    assertThat(result).containsEntry(RESULT, "Winchester");
+  }
+
   @Test
   void shouldTransformWithTransactionContext() {
     // Given
@@ -168,6 +180,24 @@ class JSONata4JActivityTest {
         .hasMessage("JSONata expression not found");
   }
 
+  @Test
+  void shouldPrecompileExpressionFromMetadata() {
+    // Given
+    final var cache = new JSONataExpressionCache();
+    final var activity = new JSONata4JActivity(globalContext, new ObjectMapper(), cache);
+    final var expression = Base64.getEncoder().encodeToString("payload.Age".getBytes());
+    // When
+    activity.precompile(new TaskRequest(null, Map.of(EXPRESSION, expression), Map.of()));
+    activity.execute(new TaskRequest(TRANSACTION_ID, Map.of(EXPRESSION, expression), payload));
+    // Then
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.hits()).isEqualTo(1);
+    final var invalid = new TaskRequest(null, Map.of(EXPRESSION, "invalid-base64"), Map.of());
+    assertThatThrownBy(() -> activity.precompile(invalid))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("An error occurred while decoding the JSONata expression");
+  }
+
   @Test
   void shouldReturnTaskImplementationKey() {
     // When
@@ -0,0 +1,75 @@
+package co.orquex.sagas.task.jsonata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.api.jsonata4java.expressions.ParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.Test;
+
+class JSONataExpressionCacheTest {
+
+  static final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void shouldParseExpressionOnceAndReturnNewExpressions() throws Exception {
+    final var cache = new JSONataExpressionCache();
+
+    final var first = cache.get("($x := value; $x * 2)", UnaryOperator.identity());
+    final var second = cache.get("($x := value; $x * 2)", UnaryOperator.identity());
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getTree()).isSameAs(first.getTree());
+    assertThat(second.getEnvironment()).isNotSameAs(first.getEnvironment());
+    assertThat(first.evaluate(objectMapper.readTree("{\"value\": 2}")).intValue()).isEqualTo(4);
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.hits()).isEqualTo(1);
+    assertThat(cache.parseTimeNanos()).isPositive();
+  }
+
+  @Test
+  void shouldEvaluateSameExpressionConcurrently() throws Exception {
+    final var cache = new JSONataExpressionCache();
+    try (final var executor = Executors.newFixedThreadPool(8)) {
+      final var results = new ArrayList<Future<Integer>>();
+      for (var i = 0; i < 200; i++) {
+        final var value = i;
+        results.add(
+            executor.submit(
+                () ->
+                    cache
+                        .get("($x := value; $x + 1)", UnaryOperator.identity())
+                        .evaluate(objectMapper.readTree("{\"value\": " + value + "}"))
+                        .intValue()));
+      }
+      for (var i = 0; i < results.size(); i++) {
+        assertThat(results.get(i).get()).isEqualTo(i + 1);
+      }
+    }
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedExpression() throws Exception {
+    final var cache = new JSONataExpressionCache(1);
+    cache.get("a", UnaryOperator.identity());
+
+    cache.get("b", UnaryOperator.identity());
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.evictions()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotCacheInvalidExpressions() {
+    final var cache = new JSONataExpressionCache();
+
+    assertThatThrownBy(() -> cache.get("payload..", UnaryOperator.identity()))
+        .isInstanceOf(ParseException.class);
+    assertThat(cache.size()).isZero();
+  }
+}